@@ -4,33 +4,82 @@ import dev.langchain4j.data.document.BlankDocumentException;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
 import dev.langchain4j.data.document.Metadata;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDDocumentInformation;
 import org.apache.pdfbox.text.PDFTextStripper;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.isNullOrBlank;
+import static dev.langchain4j.internal.Utils.join;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
 
 /**
  * Parses PDF file into a {@link Document} using Apache PDFBox library
+ * <p>
+ * Large PDF files can be parsed page by page with {@link #parsePages(InputStream)},
+ * which lazily emits one {@link Document} per page (or per range of pages, see {@link Builder#pagesPerDocument(Integer)}),
+ * optionally extracting the text of several pages in parallel (see {@link Builder#executor(Executor)}).
  */
 public class ApachePdfBoxDocumentParser implements DocumentParser {
 
+    /**
+     * Metadata key for the number of the first page (starting from 1) a document was extracted from.
+     */
+    public static final String START_PAGE = "start_page";
+    /**
+     * Metadata key for the number of the last page (starting from 1) a document was extracted from.
+     */
+    public static final String END_PAGE = "end_page";
+
     private final boolean includeMetadata;
+    private final MemoryUsageSetting memoryUsageSetting;
+    private final int pagesPerDocument;
+    private final Executor executor;
+    private final int parallelism;
 
     public ApachePdfBoxDocumentParser() {
         this(false);
     }
 
     public ApachePdfBoxDocumentParser(boolean includeMetadata) {
-        this.includeMetadata = includeMetadata;
+        this(builder().includeMetadata(includeMetadata));
+    }
+
+    private ApachePdfBoxDocumentParser(Builder builder) {
+        this.includeMetadata = builder.includeMetadata;
+        this.memoryUsageSetting = builder.memoryUsageSetting;
+        this.pagesPerDocument = ensureGreaterThanZero(getOrDefault(builder.pagesPerDocument, 1), "pagesPerDocument");
+        this.executor = builder.executor;
+        this.parallelism = ensureGreaterThanZero(
+                getOrDefault(builder.parallelism, Runtime.getRuntime().availableProcessors()), "parallelism");
     }
 
     @Override
     public Document parse(InputStream inputStream) {
-        try (PDDocument pdfDocument = PDDocument.load(inputStream)) {
+        try (PDDocument pdfDocument = load(inputStream, getOrDefault(memoryUsageSetting, MemoryUsageSetting::setupMainMemoryOnly))) {
             PDFTextStripper stripper = new PDFTextStripper();
             String text = stripper.getText(pdfDocument);
             if (isNullOrBlank(text)) {
@@ -44,6 +93,53 @@ public class ApachePdfBoxDocumentParser implements DocumentParser {
         }
     }
 
+    /**
+     * Parses a given {@link InputStream} into a lazily populated stream of {@link Document}s,
+     * one per page or range of pages. Blank pages are skipped.
+     * Each document has the {@value #START_PAGE} and {@value #END_PAGE} metadata keys.
+     * <p>
+     * Unless configured otherwise (see {@link Builder#memoryUsageSetting(MemoryUsageSetting)}),
+     * the PDF file is buffered in a temporary file instead of the heap.
+     * If an executor is configured, the PDF file is buffered in a temporary file in any case,
+     * and the pages are extracted in parallel, each worker reading its own copy of the PDF file.
+     * <p>
+     * The returned stream must be closed (e.g. using try-with-resources) to release the PDF file.
+     * <p>
+     * Note: This method does not close the provided {@link InputStream}.
+     *
+     * @param inputStream The {@link InputStream} that contains the content of the PDF file.
+     * @return The stream of documents.
+     */
+    public Stream<Document> parsePages(InputStream inputStream) {
+        MemoryUsageSetting setting = getOrDefault(memoryUsageSetting, MemoryUsageSetting::setupTempFileOnly);
+        PageIterator pages;
+        try {
+            pages = executor == null
+                    ? new PageIterator(load(inputStream, setting), setting)
+                    : parallelPageIterator(inputStream, setting);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(pages, ORDERED | NONNULL), false)
+                .onClose(pages::close);
+    }
+
+    private static PDDocument load(InputStream inputStream, MemoryUsageSetting memoryUsageSetting) throws IOException {
+        return PDDocument.load(inputStream, memoryUsageSetting);
+    }
+
+    private ParallelPageIterator parallelPageIterator(InputStream inputStream, MemoryUsageSetting memoryUsageSetting)
+            throws IOException {
+        Path file = copyToTempFile(inputStream);
+        try {
+            return new ParallelPageIterator(file, PDDocument.load(file.toFile(), memoryUsageSetting), memoryUsageSetting);
+        } catch (IOException | RuntimeException e) {
+            // the document itself is closed by the iterator if it fails to read it
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
     private Metadata toMetadata(PDDocument pdDocument) {
         PDDocumentInformation documentInformation = pdDocument.getDocumentInformation();
         Metadata metadata = new Metadata();
@@ -53,4 +149,246 @@ public class ApachePdfBoxDocumentParser implements DocumentParser {
         }
         return metadata;
     }
+
+    /**
+     * Extracts the pages of a PDF file on demand.
+     */
+    private class PageIterator implements Iterator<Document> {
+
+        final PDDocument pdfDocument;
+        final MemoryUsageSetting memoryUsageSetting;
+        final Metadata metadata;
+        final int pageCount;
+        int nextPage = 1;
+        private Document next;
+
+        PageIterator(PDDocument pdfDocument, MemoryUsageSetting memoryUsageSetting) {
+            this.pdfDocument = pdfDocument;
+            this.memoryUsageSetting = memoryUsageSetting;
+            try {
+                this.metadata = includeMetadata ? toMetadata(pdfDocument) : new Metadata();
+                this.pageCount = pdfDocument.getNumberOfPages();
+            } catch (RuntimeException e) {
+                try {
+                    pdfDocument.close();
+                } catch (IOException closeFailure) {
+                    e.addSuppressed(closeFailure);
+                }
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && hasMorePages()) {
+                next = nextDocument();
+            }
+            return next != null;
+        }
+
+        @Override
+        public Document next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Document document = next;
+            next = null;
+            return document;
+        }
+
+        boolean hasMorePages() {
+            return nextPage <= pageCount;
+        }
+
+        /**
+         * Returns the document of the next range of pages, or {@code null} if these pages are blank.
+         */
+        Document nextDocument() {
+            int startPage = nextPage;
+            nextPage = Math.min(startPage + pagesPerDocument, pageCount + 1);
+            return extract(pdfDocument, startPage, nextPage - 1);
+        }
+
+        Document extract(PDDocument pdfDocument, int startPage, int endPage) {
+            try {
+                PDFTextStripper stripper = new PDFTextStripper();
+                stripper.setStartPage(startPage);
+                stripper.setEndPage(endPage);
+                String text = stripper.getText(pdfDocument);
+                if (isNullOrBlank(text)) {
+                    return null;
+                }
+                return Document.from(text, metadata.copy().put(START_PAGE, startPage).put(END_PAGE, endPage));
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        void close() {
+            try {
+                pdfDocument.close();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    /**
+     * Extracts up to {@code parallelism} ranges of pages ahead, in parallel.
+     * As a {@link PDDocument} is not thread-safe, each worker loads its own copy of the PDF file,
+     * which is buffered in a temporary file for that purpose.
+     */
+    private class ParallelPageIterator extends PageIterator {
+
+        private final Path file;
+        private final Queue<PDDocument> idleCopies = new ConcurrentLinkedQueue<>();
+        private final Queue<PDDocument> allCopies = new ConcurrentLinkedQueue<>();
+        private final Deque<CompletableFuture<Document>> inFlight = new ArrayDeque<>();
+
+        ParallelPageIterator(Path file, PDDocument pdfDocument, MemoryUsageSetting memoryUsageSetting) {
+            super(pdfDocument, memoryUsageSetting);
+            this.file = file;
+            idleCopies.add(pdfDocument);
+            allCopies.add(pdfDocument);
+        }
+
+        @Override
+        boolean hasMorePages() {
+            return !inFlight.isEmpty() || nextPage <= pageCount;
+        }
+
+        @Override
+        Document nextDocument() {
+            while (inFlight.size() < parallelism && nextPage <= pageCount) {
+                int startPage = nextPage;
+                nextPage = Math.min(startPage + pagesPerDocument, pageCount + 1);
+                int endPage = nextPage - 1;
+                inFlight.add(CompletableFuture.supplyAsync(() -> extractWithIdleCopy(startPage, endPage), executor));
+            }
+            return join(inFlight.poll());
+        }
+
+        private Document extractWithIdleCopy(int startPage, int endPage) {
+            PDDocument copy = idleCopies.poll();
+            if (copy == null) {
+                try {
+                    copy = PDDocument.load(file.toFile(), memoryUsageSetting);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+                allCopies.add(copy);
+            }
+            try {
+                return extract(copy, startPage, endPage);
+            } finally {
+                idleCopies.add(copy);
+            }
+        }
+
+        @Override
+        void close() {
+            // the copies are still in use by the pages being extracted
+            for (CompletableFuture<Document> future : inFlight) {
+                future.exceptionally(e -> null).join();
+            }
+            inFlight.clear();
+            List<IOException> failures = new ArrayList<>();
+            for (PDDocument copy : allCopies) {
+                try {
+                    copy.close();
+                } catch (IOException e) {
+                    failures.add(e);
+                }
+            }
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                failures.add(e);
+            }
+            if (!failures.isEmpty()) {
+                throw new RuntimeException(failures.get(0));
+            }
+        }
+    }
+
+    private static Path copyToTempFile(InputStream inputStream) throws IOException {
+        Path file = Files.createTempFile("langchain4j-pdfbox-", ".pdf");
+        try {
+            Files.copy(inputStream, file, REPLACE_EXISTING);
+            return file;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private boolean includeMetadata;
+        private MemoryUsageSetting memoryUsageSetting;
+        private Integer pagesPerDocument;
+        private Executor executor;
+        private Integer parallelism;
+
+        /**
+         * @param includeMetadata Whether to include the metadata of the PDF file in the parsed documents.
+         *                        Default: {@code false}
+         * @return builder
+         */
+        public Builder includeMetadata(boolean includeMetadata) {
+            this.includeMetadata = includeMetadata;
+            return this;
+        }
+
+        /**
+         * @param memoryUsageSetting How PDFBox buffers the PDF file, e.g. {@link MemoryUsageSetting#setupTempFileOnly()}
+         *                           or {@link MemoryUsageSetting#setupMixed(long)}.
+         *                           Default: main memory only for {@link #parse(InputStream)},
+         *                           temporary file only for {@link #parsePages(InputStream)}.
+         * @return builder
+         */
+        public Builder memoryUsageSetting(MemoryUsageSetting memoryUsageSetting) {
+            this.memoryUsageSetting = memoryUsageSetting;
+            return this;
+        }
+
+        /**
+         * @param pagesPerDocument The number of pages per document emitted by {@link #parsePages(InputStream)}.
+         *                         Default: 1
+         * @return builder
+         */
+        public Builder pagesPerDocument(Integer pagesPerDocument) {
+            this.pagesPerDocument = pagesPerDocument;
+            return this;
+        }
+
+        /**
+         * @param executor The executor used by {@link #parsePages(InputStream)} to extract pages in parallel.
+         *                 Default: none, pages are extracted sequentially by the thread consuming the stream.
+         * @return builder
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * @param parallelism The maximum number of ranges of pages extracted in parallel when an executor is set.
+         *                    Each of them needs its own copy of the PDF file loaded.
+         *                    Default: the number of available processors
+         * @return builder
+         */
+        public Builder parallelism(Integer parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        public ApachePdfBoxDocumentParser build() {
+            return new ApachePdfBoxDocumentParser(this);
+        }
+    }
 }
@@ -3,11 +3,24 @@ package dev.langchain4j.data.document.parser.apache.pdfbox;
 import dev.langchain4j.data.document.BlankDocumentException;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
 
+import static dev.langchain4j.data.document.parser.apache.pdfbox.ApachePdfBoxDocumentParser.END_PAGE;
+import static dev.langchain4j.data.document.parser.apache.pdfbox.ApachePdfBoxDocumentParser.START_PAGE;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -53,4 +66,92 @@ class ApachePdfBoxDocumentParserTest {
             throw new RuntimeException(e);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_parse_pdf_file_page_by_page() throws IOException {
+        ApachePdfBoxDocumentParser parser = ApachePdfBoxDocumentParser.builder().build();
+
+        List<Document> documents;
+        try (Stream<Document> pages = parser.parsePages(new ByteArrayInputStream(pdfWithPages(4)))) {
+            documents = pages.collect(toList());
+        }
+
+        // the blank third page is skipped
+        assertThat(documents).hasSize(3);
+        assertThat(documents.get(0).text()).isEqualToIgnoringWhitespace("page 1");
+        assertThat(documents.get(2).text()).isEqualToIgnoringWhitespace("page 4");
+        assertThat(documents.get(2).metadata().getInteger(START_PAGE)).isEqualTo(4);
+        assertThat(documents.get(2).metadata().getInteger(END_PAGE)).isEqualTo(4);
+    }
+
+    @Test
+    void should_parse_pdf_file_page_ranges_in_parallel() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            ApachePdfBoxDocumentParser parser = ApachePdfBoxDocumentParser.builder()
+                    .pagesPerDocument(2)
+                    .executor(executor)
+                    .parallelism(3)
+                    .build();
+
+            List<Document> documents;
+            try (Stream<Document> pages = parser.parsePages(new ByteArrayInputStream(pdfWithPages(9)))) {
+                documents = pages.collect(toList());
+            }
+
+            // the last range holds only the blank ninth page and is skipped
+            assertThat(documents).hasSize(4);
+            assertThat(documents.get(1).text()).isEqualToIgnoringWhitespace("page 4");
+            assertThat(documents.get(1).metadata().getInteger(START_PAGE)).isEqualTo(3);
+            assertThat(documents.get(1).metadata().getInteger(END_PAGE)).isEqualTo(4);
+            assertThat(documents.get(3).text()).isEqualToIgnoringWhitespace("page 7 page 8");
+            assertThat(documents.get(3).metadata().getInteger(START_PAGE)).isEqualTo(7);
+            assertThat(documents.get(3).metadata().getInteger(END_PAGE)).isEqualTo(8);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void should_parse_pdf_file_page_by_page_include_metadata() throws IOException {
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("test-file.pdf")) {
+            ApachePdfBoxDocumentParser parser = ApachePdfBoxDocumentParser.builder().includeMetadata(true).build();
+
+            List<Document> documents;
+            try (Stream<Document> pages = parser.parsePages(inputStream)) {
+                documents = pages.collect(toList());
+            }
+
+            assertThat(documents).hasSize(1);
+            assertThat(documents.get(0).text()).isEqualToIgnoringWhitespace("test content");
+            assertThat(documents.get(0).metadata().toMap())
+                    .containsEntry("Author", "ljuba")
+                    .containsEntry(START_PAGE, 1);
+        }
+    }
+
+    /**
+     * A PDF file whose pages contain "page N", except every third page, which is blank.
+     */
+    private static byte[] pdfWithPages(int pageCount) throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            for (int i = 1; i <= pageCount; i++) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                if (i % 3 == 0) {
+                    continue;
+                }
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(PDType1Font.HELVETICA, 12);
+                    content.newLineAtOffset(100, 700);
+                    content.showText("page " + i);
+                    content.endText();
+                }
+            }
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            document.save(outputStream);
+            return outputStream.toByteArray();
+        }
+    }
+}
@@ -6,6 +6,7 @@ import static dev.langchain4j.internal.Utils.isNullOrBlank;
 import dev.langchain4j.data.document.BlankDocumentException;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
+import dev.langchain4j.data.document.StreamingDocument;
 import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
@@ -15,6 +16,7 @@ import org.apache.tika.metadata.Metadata;
 import org.apache.tika.parser.AutoDetectParser;
 import org.apache.tika.parser.ParseContext;
 import org.apache.tika.parser.Parser;
+import org.apache.tika.parser.ParsingReader;
 import org.apache.tika.sax.BodyContentHandler;
 import org.xml.sax.ContentHandler;
 
@@ -150,6 +152,34 @@ public class ApacheTikaDocumentParser implements DocumentParser {
         }
     }
 
+    /**
+     * Parses the provided {@link InputStream} in a background thread,
+     * and returns a {@link StreamingDocument} whose text is read as Tika extracts it,
+     * so that the whole text never needs to be held in memory.
+     * <p>
+     * The text is extracted with a {@link BodyContentHandler} (see {@link ParsingReader}),
+     * the content handler supplier is not used.
+     * If metadata is included, only the metadata extracted before the first characters of text is available.
+     * Parsing failures are reported when the text is read.
+     * The returned {@link StreamingDocument} should be closed, so that the background parsing is stopped.
+     */
+    @Override
+    public StreamingDocument parseStreaming(InputStream inputStream) {
+        try {
+            Parser parser = parserSupplier.get();
+            Metadata metadata = metadataSupplier.get();
+            ParseContext parseContext = parseContextSupplier.get();
+
+            ParsingReader reader = new ParsingReader(parser, inputStream, metadata, parseContext);
+
+            return includeMetadata
+                    ? StreamingDocument.from(reader, convert(metadata))
+                    : StreamingDocument.from(reader);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     /**
      * Converts a Tika {@link Metadata} object into a {@link dev.langchain4j.data.document.Metadata} object.
      *
@@ -6,6 +6,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import dev.langchain4j.data.document.BlankDocumentException;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
+import dev.langchain4j.data.document.StreamingDocument;
 import java.io.InputStream;
 import java.util.Map;
 import org.apache.tika.parser.AutoDetectParser;
@@ -28,6 +29,20 @@ class ApacheTikaDocumentParserTest {
         assertThat(document.metadata().toMap()).isEmpty();
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"test-file.doc", "test-file.docx", "test-file.ppt", "test-file.pptx", "test-file.pdf"})
+    void should_parse_doc_ppt_and_pdf_files_streaming(String fileName) {
+
+        DocumentParser parser = new ApacheTikaDocumentParser();
+        InputStream inputStream = getClass().getClassLoader().getResourceAsStream(fileName);
+
+        try (StreamingDocument document = parser.parseStreaming(inputStream)) {
+
+            assertThat(document.toDocument().text()).isEqualToIgnoringWhitespace("test content");
+            assertThat(document.metadata().toMap()).isEmpty();
+        }
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"test-file.doc", "test-file.docx", "test-file.ppt", "test-file.pptx", "test-file.pdf"})
     void should_parse_doc_ppt_and_pdf_files_with_metadata(String fileName) {
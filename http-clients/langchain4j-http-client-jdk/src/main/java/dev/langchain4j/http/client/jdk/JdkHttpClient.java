@@ -7,6 +7,7 @@ import dev.langchain4j.http.client.HttpRequest;
 import dev.langchain4j.http.client.SuccessfulHttpResponse;
 import dev.langchain4j.http.client.sse.ServerSentEventListener;
 import dev.langchain4j.http.client.sse.ServerSentEventParser;
+import dev.langchain4j.internal.RetryUtils;
 
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -18,6 +19,7 @@ import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpResponse.BodyHandlers;
 import java.net.http.HttpTimeoutException;
 import java.time.Duration;
+import java.util.Optional;
 
 import static dev.langchain4j.http.client.sse.ServerSentEventListenerUtils.ignoringExceptions;
 import static dev.langchain4j.internal.Utils.getOrDefault;
@@ -50,7 +52,7 @@ public class JdkHttpClient implements HttpClient {
             java.net.http.HttpResponse<String> jdkResponse = delegate.send(jdkRequest, BodyHandlers.ofString());
 
             if (!isSuccessful(jdkResponse)) {
-                throw new HttpException(jdkResponse.statusCode(), jdkResponse.body());
+                throw new HttpException(jdkResponse.statusCode(), jdkResponse.body(), retryAfter(jdkResponse));
             }
 
             return fromJdkResponse(jdkResponse, jdkResponse.body());
@@ -69,7 +71,8 @@ public class JdkHttpClient implements HttpClient {
                 .thenAccept(jdkResponse -> {
 
                     if (!isSuccessful(jdkResponse)) {
-                        HttpException exception = new HttpException(jdkResponse.statusCode(), readBody(jdkResponse));
+                        HttpException exception = new HttpException(
+                                jdkResponse.statusCode(), readBody(jdkResponse), retryAfter(jdkResponse));
                         ignoringExceptions(() -> listener.onError(exception));
                         return;
                     }
@@ -132,6 +135,20 @@ public class JdkHttpClient implements HttpClient {
         return statusCode >= 200 && statusCode < 300;
     }
 
+    private static Duration retryAfter(java.net.http.HttpResponse<?> response) {
+        Optional<String> retryAfterMs = response.headers().firstValue("retry-after-ms");
+        if (retryAfterMs.isPresent()) {
+            try {
+                return Duration.ofMillis(Long.parseLong(retryAfterMs.get().trim()));
+            } catch (NumberFormatException ignored) {
+                // fall back to Retry-After
+            }
+        }
+        return response.headers().firstValue("retry-after")
+                .map(RetryUtils::parseRetryAfter)
+                .orElse(null);
+    }
+
     private static String readBody(java.net.http.HttpResponse<InputStream> response) {
         try (InputStream inputStream = response.body();
              BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
@@ -20,4 +20,22 @@ public interface DocumentParser {
      * @throws BlankDocumentException when the parsed {@link Document} is blank/empty.
      */
     Document parse(InputStream inputStream);
+
+    /**
+     * Parses a given {@link InputStream} into a {@link StreamingDocument},
+     * whose text is read lazily from the {@link InputStream} instead of being held in memory.
+     * <p>
+     * Parsers that can extract text incrementally should override this method.
+     * By default, the whole {@link Document} is parsed with {@link #parse(InputStream)} and wrapped.
+     * <p>
+     * Note: This method does not close the provided {@link InputStream}, but the returned {@link StreamingDocument}
+     * may read from it, so it must stay open until the {@link StreamingDocument} has been consumed.
+     *
+     * @param inputStream The {@link InputStream} that contains the content of the {@link Document}.
+     * @return The parsed {@link StreamingDocument}.
+     * @throws BlankDocumentException when it is known upfront that the parsed {@link Document} is blank/empty.
+     */
+    default StreamingDocument parseStreaming(InputStream inputStream) {
+        return StreamingDocument.from(parse(inputStream));
+    }
 }
@@ -2,8 +2,13 @@ package dev.langchain4j.data.document;
 
 import dev.langchain4j.data.segment.TextSegment;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
+import static dev.langchain4j.internal.Utils.join;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -37,4 +42,43 @@ public interface DocumentSplitter {
                 .flatMap(document -> split(document).stream())
                 .collect(toList());
     }
+
+    /**
+     * Splits a list of Documents into a list of TextSegment objects, splitting the documents in parallel.
+     * The segments are returned in the same order as {@link #splitAll(List)} would return them,
+     * so the segment-specific metadata (e.g. the index of a segment in its document) is the same as well.
+     * <p>
+     * This splitter must be thread-safe.
+     *
+     * @param documents The list of Documents to be split.
+     * @param executor  The executor used to split the documents,
+     *                  e.g. {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+     * @return A list of TextSegment objects derived from the input Documents.
+     */
+    default List<TextSegment> splitAll(List<Document> documents, Executor executor) {
+        List<CompletableFuture<List<TextSegment>>> futures = documents.stream()
+                .map(document -> CompletableFuture.supplyAsync(() -> split(document), executor))
+                .collect(toList());
+        List<TextSegment> segments = new ArrayList<>();
+        for (CompletableFuture<List<TextSegment>> future : futures) {
+            segments.addAll(join(future));
+        }
+        return segments;
+    }
+
+    /**
+     * Splits a {@link StreamingDocument} into a lazily populated stream of TextSegment objects.
+     * <p>
+     * Splitters that can consume the text incrementally should override this method,
+     * so that segments are emitted as the text is read, without holding the whole text in memory.
+     * By default, the whole text is read and split with {@link #split(Document)}.
+     * <p>
+     * The returned stream does not close the provided {@link StreamingDocument}.
+     *
+     * @param document The StreamingDocument to be split.
+     * @return A stream of TextSegment objects derived from the input StreamingDocument.
+     */
+    default Stream<TextSegment> splitStreaming(StreamingDocument document) {
+        return split(document.toDocument()).stream();
+    }
 }
@@ -1,8 +1,12 @@
 package dev.langchain4j.data.document;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
+import static dev.langchain4j.internal.Utils.join;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -31,4 +35,29 @@ public interface DocumentTransformer {
                 .filter(Objects::nonNull)
                 .collect(toList());
     }
+
+    /**
+     * Transforms all the provided documents in parallel.
+     * The transformed documents are returned in the same order as {@link #transformAll(List)} would return them.
+     * <p>
+     * This transformer must be thread-safe.
+     *
+     * @param documents A list of documents to be transformed.
+     * @param executor  The executor used to transform the documents,
+     *                  e.g. {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+     * @return A list of transformed documents. Returns an empty list if all documents were filtered out.
+     */
+    default List<Document> transformAll(List<Document> documents, Executor executor) {
+        List<CompletableFuture<Document>> futures = documents.stream()
+                .map(document -> CompletableFuture.supplyAsync(() -> transform(document), executor))
+                .collect(toList());
+        List<Document> transformed = new ArrayList<>(futures.size());
+        for (CompletableFuture<Document> future : futures) {
+            Document document = join(future);
+            if (document != null) {
+                transformed.add(document);
+            }
+        }
+        return transformed;
+    }
 }
@@ -0,0 +1,124 @@
+package dev.langchain4j.data.document;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * A {@link Document} whose text is not held in memory, but read lazily from a {@link Reader}.
+ * <p>
+ * It allows very large files (e.g. multi-gigabyte log exports) to be parsed and split
+ * without ever materializing their whole text as a single {@link String}.
+ * See {@link DocumentParser#parseStreaming(java.io.InputStream)} and
+ * {@link DocumentSplitter#splitStreaming(StreamingDocument)}.
+ * <p>
+ * The text can be read only once. This class is not thread-safe.
+ */
+public class StreamingDocument implements Closeable {
+
+    private final Reader reader;
+    private final Metadata metadata;
+
+    /**
+     * Creates a new streaming document with empty metadata.
+     *
+     * @param reader The reader of the text of the document.
+     */
+    public StreamingDocument(Reader reader) {
+        this(reader, new Metadata());
+    }
+
+    /**
+     * Creates a new streaming document.
+     *
+     * @param reader   The reader of the text of the document.
+     * @param metadata The metadata of the document.
+     */
+    public StreamingDocument(Reader reader, Metadata metadata) {
+        this.reader = ensureNotNull(reader, "reader");
+        this.metadata = ensureNotNull(metadata, "metadata");
+    }
+
+    /**
+     * Returns the reader of the text of this document.
+     *
+     * @return the reader.
+     */
+    public Reader reader() {
+        return reader;
+    }
+
+    /**
+     * Returns the metadata associated with this document.
+     *
+     * @return the metadata.
+     */
+    public Metadata metadata() {
+        return metadata;
+    }
+
+    /**
+     * Reads the (remaining) text of this document into memory.
+     *
+     * @return a {@link Document} with the text and the metadata of this document.
+     */
+    public Document toDocument() {
+        StringBuilder text = new StringBuilder();
+        char[] buffer = new char[8192];
+        try {
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                text.append(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return Document.from(text.toString(), metadata);
+    }
+
+    /**
+     * Closes the underlying reader.
+     */
+    @Override
+    public void close() {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Creates a new streaming document with empty metadata.
+     *
+     * @param reader The reader of the text of the document.
+     * @return a new streaming document.
+     */
+    public static StreamingDocument from(Reader reader) {
+        return new StreamingDocument(reader);
+    }
+
+    /**
+     * Creates a new streaming document.
+     *
+     * @param reader   The reader of the text of the document.
+     * @param metadata The metadata of the document.
+     * @return a new streaming document.
+     */
+    public static StreamingDocument from(Reader reader, Metadata metadata) {
+        return new StreamingDocument(reader, metadata);
+    }
+
+    /**
+     * Creates a new streaming document reading the text of the provided {@link Document}.
+     *
+     * @param document The document.
+     * @return a new streaming document.
+     */
+    public static StreamingDocument from(Document document) {
+        return new StreamingDocument(new StringReader(document.text()), document.metadata());
+    }
+}
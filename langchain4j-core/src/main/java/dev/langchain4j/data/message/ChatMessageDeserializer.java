@@ -2,6 +2,7 @@ package dev.langchain4j.data.message;
 
 import java.util.List;
 
+import static dev.langchain4j.data.message.ChatMessageSerializer.BINARY_CODEC;
 import static dev.langchain4j.data.message.ChatMessageSerializer.CODEC;
 
 /**
@@ -31,4 +32,28 @@ public class ChatMessageDeserializer {
     public static List<ChatMessage> messagesFromJson(String json) {
         return CODEC.messagesFromJson(json);
     }
+
+    /**
+     * Deserializes bytes produced by {@link ChatMessageSerializer#messageToBytes(ChatMessage)} into a {@link ChatMessage}.
+     * For compatibility, UTF-8 encoded JSON is accepted as well.
+     *
+     * @param bytes The bytes representing a chat message.
+     * @return A {@link ChatMessage} deserialized from the provided bytes.
+     * @see ChatMessageSerializer For details on serialization.
+     */
+    public static ChatMessage messageFromBytes(byte[] bytes) {
+        return BINARY_CODEC.messageFromBytes(bytes);
+    }
+
+    /**
+     * Deserializes bytes produced by {@link ChatMessageSerializer#messagesToBytes(List)} into a list of {@link ChatMessage}.
+     * For compatibility, UTF-8 encoded JSON is accepted as well.
+     *
+     * @param bytes The bytes representing chat messages.
+     * @return A list of {@link ChatMessage} deserialized from the provided bytes.
+     * @see ChatMessageSerializer For details on serialization.
+     */
+    public static List<ChatMessage> messagesFromBytes(byte[] bytes) {
+        return BINARY_CODEC.messagesFromBytes(bytes);
+    }
 }
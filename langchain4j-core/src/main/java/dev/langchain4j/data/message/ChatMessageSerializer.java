@@ -1,5 +1,6 @@
 package dev.langchain4j.data.message;
 
+import dev.langchain4j.spi.data.message.ChatMessageBinaryCodecFactory;
 import dev.langchain4j.spi.data.message.ChatMessageJsonCodecFactory;
 
 import java.util.List;
@@ -17,6 +18,15 @@ public class ChatMessageSerializer {
         return new JacksonChatMessageJsonCodec();
     }
 
+    static final ChatMessageBinaryCodec BINARY_CODEC = loadBinaryCodec();
+
+    private static ChatMessageBinaryCodec loadBinaryCodec() {
+        for (ChatMessageBinaryCodecFactory factory : loadFactories(ChatMessageBinaryCodecFactory.class)) {
+            return factory.create();
+        }
+        return new CompactChatMessageBinaryCodec(CODEC);
+    }
+
     /**
      * Serializes a chat message into a JSON string.
      *
@@ -38,4 +48,28 @@ public class ChatMessageSerializer {
     public static String messagesToJson(List<ChatMessage> messages) {
         return CODEC.messagesToJson(messages);
     }
+
+    /**
+     * Serializes a chat message into a compact binary form.
+     * This is more compact and faster to read than JSON, especially for messages with images or PDF files.
+     *
+     * @param message Chat message to be serialized.
+     * @return The bytes representing the message.
+     * @see ChatMessageDeserializer For details on deserialization.
+     */
+    public static byte[] messageToBytes(ChatMessage message) {
+        return BINARY_CODEC.messageToBytes(message);
+    }
+
+    /**
+     * Serializes a list of chat messages into a compact binary form.
+     * This is more compact and faster to read than JSON, especially for messages with images or PDF files.
+     *
+     * @param messages The list of chat messages to be serialized.
+     * @return The bytes representing provided chat messages.
+     * @see ChatMessageDeserializer For details on deserialization.
+     */
+    public static byte[] messagesToBytes(List<ChatMessage> messages) {
+        return BINARY_CODEC.messagesToBytes(messages);
+    }
 }
@@ -0,0 +1,475 @@
+package dev.langchain4j.data.message;
+
+import dev.langchain4j.Internal;
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.audio.Audio;
+import dev.langchain4j.data.image.Image;
+import dev.langchain4j.data.pdf.PdfFile;
+import dev.langchain4j.data.video.Video;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A compact binary {@link ChatMessageBinaryCodec}.
+ * <p>
+ * The format starts with a 3-byte header (2 magic bytes and a version), followed by a single message
+ * or by the number of messages and the messages. Each message and content starts with a 1-byte type tag,
+ * followed by its fields. Numbers are unsigned varints, strings are length-prefixed UTF-8.
+ * Repeated short strings (names, tool names, MIME types, detail levels) are interned:
+ * only their first occurrence is written, later ones refer to it by index.
+ * Base64 data of images, audio, video and PDF files is written as raw bytes.
+ * <p>
+ * Messages that this format does not cover (e.g. {@link CustomMessage}) are embedded as JSON.
+ * Bytes that do not start with the header are read as UTF-8 JSON, so that chat memories
+ * persisted with {@link ChatMessageSerializer#messagesToJson(List)} can still be read.
+ */
+@Internal
+class CompactChatMessageBinaryCodec implements ChatMessageBinaryCodec {
+
+    private static final byte MAGIC_0 = (byte) 0xC4;
+    private static final byte MAGIC_1 = (byte) 0x4D;
+    private static final byte VERSION = 1;
+
+    private static final byte SYSTEM_MESSAGE = 1;
+    private static final byte USER_MESSAGE = 2;
+    private static final byte AI_MESSAGE = 3;
+    private static final byte TOOL_EXECUTION_RESULT_MESSAGE = 4;
+    private static final byte JSON_MESSAGE = 127;
+
+    private static final byte TEXT_CONTENT = 1;
+    private static final byte IMAGE_CONTENT = 2;
+    private static final byte AUDIO_CONTENT = 3;
+    private static final byte VIDEO_CONTENT = 4;
+    private static final byte PDF_FILE_CONTENT = 5;
+
+    private static final byte NO_DATA = 0;
+    private static final byte RAW_DATA = 1;
+    private static final byte BASE64_DATA = 2;
+
+    private final ChatMessageJsonCodec jsonCodec;
+
+    CompactChatMessageBinaryCodec(ChatMessageJsonCodec jsonCodec) {
+        this.jsonCodec = jsonCodec;
+    }
+
+    @Override
+    public ChatMessage messageFromBytes(byte[] bytes) {
+        if (!hasHeader(bytes)) {
+            return jsonCodec.messageFromJson(new String(bytes, UTF_8));
+        }
+        Reader reader = new Reader(bytes);
+        ChatMessage message = readMessage(reader);
+        reader.ensureFullyRead();
+        return message;
+    }
+
+    @Override
+    public List<ChatMessage> messagesFromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return List.of();
+        }
+        if (!hasHeader(bytes)) {
+            return jsonCodec.messagesFromJson(new String(bytes, UTF_8));
+        }
+        Reader reader = new Reader(bytes);
+        int count = reader.readVarint();
+        List<ChatMessage> messages = new ArrayList<>(Math.min(count, reader.remaining()));
+        for (int i = 0; i < count; i++) {
+            messages.add(readMessage(reader));
+        }
+        reader.ensureFullyRead();
+        return messages;
+    }
+
+    @Override
+    public byte[] messageToBytes(ChatMessage message) {
+        Writer writer = new Writer(256);
+        writeMessage(writer, message);
+        return writer.toByteArray();
+    }
+
+    @Override
+    public byte[] messagesToBytes(List<ChatMessage> messages) {
+        Writer writer = new Writer(256 * Math.max(messages.size(), 1));
+        writer.writeVarint(messages.size());
+        for (ChatMessage message : messages) {
+            writeMessage(writer, message);
+        }
+        return writer.toByteArray();
+    }
+
+    private static boolean hasHeader(byte[] bytes) {
+        return bytes.length >= 3 && bytes[0] == MAGIC_0 && bytes[1] == MAGIC_1;
+    }
+
+    private void writeMessage(Writer writer, ChatMessage message) {
+        if (message instanceof SystemMessage systemMessage) {
+            writer.writeByte(SYSTEM_MESSAGE);
+            writer.writeString(systemMessage.text());
+        } else if (message instanceof UserMessage userMessage && isSupported(userMessage.contents())) {
+            writer.writeByte(USER_MESSAGE);
+            writer.writeSymbol(userMessage.name());
+            writer.writeVarint(userMessage.contents().size());
+            for (Content content : userMessage.contents()) {
+                writeContent(writer, content);
+            }
+        } else if (message instanceof AiMessage aiMessage) {
+            writer.writeByte(AI_MESSAGE);
+            writer.writeString(aiMessage.text());
+            List<ToolExecutionRequest> toolExecutionRequests = aiMessage.toolExecutionRequests();
+            writer.writeVarint(toolExecutionRequests.size());
+            for (ToolExecutionRequest toolExecutionRequest : toolExecutionRequests) {
+                writer.writeString(toolExecutionRequest.id());
+                writer.writeSymbol(toolExecutionRequest.name());
+                writer.writeString(toolExecutionRequest.arguments());
+            }
+        } else if (message instanceof ToolExecutionResultMessage toolExecutionResultMessage) {
+            writer.writeByte(TOOL_EXECUTION_RESULT_MESSAGE);
+            writer.writeString(toolExecutionResultMessage.id());
+            writer.writeSymbol(toolExecutionResultMessage.toolName());
+            writer.writeString(toolExecutionResultMessage.text());
+        } else {
+            writer.writeByte(JSON_MESSAGE);
+            writer.writeString(jsonCodec.messageToJson(message));
+        }
+    }
+
+    private ChatMessage readMessage(Reader reader) {
+        byte tag = reader.readByte();
+        switch (tag) {
+            case SYSTEM_MESSAGE:
+                return SystemMessage.from(reader.readString());
+            case USER_MESSAGE: {
+                String name = reader.readSymbol();
+                int count = reader.readVarint();
+                List<Content> contents = new ArrayList<>(Math.min(count, reader.remaining()));
+                for (int i = 0; i < count; i++) {
+                    contents.add(readContent(reader));
+                }
+                return UserMessage.from(name, contents);
+            }
+            case AI_MESSAGE: {
+                String text = reader.readString();
+                int count = reader.readVarint();
+                List<ToolExecutionRequest> toolExecutionRequests = new ArrayList<>(Math.min(count, reader.remaining()));
+                for (int i = 0; i < count; i++) {
+                    toolExecutionRequests.add(ToolExecutionRequest.builder()
+                            .id(reader.readString())
+                            .name(reader.readSymbol())
+                            .arguments(reader.readString())
+                            .build());
+                }
+                return AiMessage.from(text, toolExecutionRequests);
+            }
+            case TOOL_EXECUTION_RESULT_MESSAGE:
+                return ToolExecutionResultMessage.from(reader.readString(), reader.readSymbol(), reader.readString());
+            case JSON_MESSAGE:
+                return jsonCodec.messageFromJson(reader.readString());
+            default:
+                throw new IllegalArgumentException("Unknown message type tag: " + tag);
+        }
+    }
+
+    private static boolean isSupported(List<Content> contents) {
+        for (Content content : contents) {
+            if (!(content instanceof TextContent
+                    || content instanceof ImageContent
+                    || content instanceof AudioContent
+                    || content instanceof VideoContent
+                    || content instanceof PdfFileContent)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeContent(Writer writer, Content content) {
+        if (content instanceof TextContent textContent) {
+            writer.writeByte(TEXT_CONTENT);
+            writer.writeString(textContent.text());
+        } else if (content instanceof ImageContent imageContent) {
+            Image image = imageContent.image();
+            writer.writeByte(IMAGE_CONTENT);
+            writeMedia(writer, image.url(), image.base64Data(), image.mimeType());
+            writer.writeString(image.revisedPrompt());
+            writer.writeSymbol(imageContent.detailLevel().name());
+        } else if (content instanceof AudioContent audioContent) {
+            Audio audio = audioContent.audio();
+            writer.writeByte(AUDIO_CONTENT);
+            writeMedia(writer, audio.url(), audio.base64Data(), audio.mimeType());
+        } else if (content instanceof VideoContent videoContent) {
+            Video video = videoContent.video();
+            writer.writeByte(VIDEO_CONTENT);
+            writeMedia(writer, video.url(), video.base64Data(), video.mimeType());
+        } else {
+            PdfFile pdfFile = ((PdfFileContent) content).pdfFile();
+            writer.writeByte(PDF_FILE_CONTENT);
+            writeMedia(writer, pdfFile.url(), pdfFile.base64Data(), pdfFile.mimeType());
+        }
+    }
+
+    private static Content readContent(Reader reader) {
+        byte tag = reader.readByte();
+        switch (tag) {
+            case TEXT_CONTENT:
+                return TextContent.from(reader.readString());
+            case IMAGE_CONTENT: {
+                Image image = Image.builder()
+                        .url(readUri(reader))
+                        .base64Data(readData(reader))
+                        .mimeType(reader.readSymbol())
+                        .revisedPrompt(reader.readString())
+                        .build();
+                return ImageContent.from(image, ImageContent.DetailLevel.valueOf(reader.readSymbol()));
+            }
+            case AUDIO_CONTENT:
+                return AudioContent.from(Audio.builder()
+                        .url(readUri(reader))
+                        .base64Data(readData(reader))
+                        .mimeType(reader.readSymbol())
+                        .build());
+            case VIDEO_CONTENT:
+                return VideoContent.from(Video.builder()
+                        .url(readUri(reader))
+                        .base64Data(readData(reader))
+                        .mimeType(reader.readSymbol())
+                        .build());
+            case PDF_FILE_CONTENT:
+                return PdfFileContent.from(PdfFile.builder()
+                        .url(readUri(reader))
+                        .base64Data(readData(reader))
+                        .mimeType(reader.readSymbol())
+                        .build());
+            default:
+                throw new IllegalArgumentException("Unknown content type tag: " + tag);
+        }
+    }
+
+    private static void writeMedia(Writer writer, URI url, String base64Data, String mimeType) {
+        writer.writeString(url == null ? null : url.toString());
+        writeData(writer, base64Data);
+        writer.writeSymbol(mimeType);
+    }
+
+    private static void writeData(Writer writer, String base64Data) {
+        if (base64Data == null) {
+            writer.writeByte(NO_DATA);
+            return;
+        }
+        byte[] data = decodeCanonicalBase64(base64Data);
+        if (data != null) {
+            writer.writeByte(RAW_DATA);
+            writer.writeBytes(data);
+        } else {
+            writer.writeByte(BASE64_DATA);
+            writer.writeString(base64Data);
+        }
+    }
+
+    /**
+     * @return the decoded bytes, or {@code null} if the data is not in the canonical form
+     * produced by {@link Base64#getEncoder()} and thus would not be restored as-is.
+     */
+    private static byte[] decodeCanonicalBase64(String base64Data) {
+        if (base64Data.length() % 4 != 0) {
+            return null;
+        }
+        try {
+            byte[] data = Base64.getDecoder().decode(base64Data);
+            return Base64.getEncoder().encodeToString(data).equals(base64Data) ? data : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String readData(Reader reader) {
+        byte kind = reader.readByte();
+        switch (kind) {
+            case NO_DATA:
+                return null;
+            case RAW_DATA:
+                return Base64.getEncoder().encodeToString(reader.readBytes());
+            case BASE64_DATA:
+                return reader.readString();
+            default:
+                throw new IllegalArgumentException("Unknown data kind: " + kind);
+        }
+    }
+
+    private static URI readUri(Reader reader) {
+        String url = reader.readString();
+        return url == null ? null : URI.create(url);
+    }
+
+    private static final class Writer {
+
+        private final Map<String, Integer> symbols = new HashMap<>();
+        private byte[] buffer;
+        private int size;
+
+        private Writer(int initialCapacity) {
+            this.buffer = new byte[Math.max(initialCapacity, 16)];
+            buffer[size++] = MAGIC_0;
+            buffer[size++] = MAGIC_1;
+            buffer[size++] = VERSION;
+        }
+
+        private void writeByte(byte b) {
+            ensureCapacity(1);
+            buffer[size++] = b;
+        }
+
+        private void writeVarint(int value) {
+            ensureCapacity(5);
+            while ((value & ~0x7F) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        private void writeBytes(byte[] bytes) {
+            writeVarint(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        /**
+         * Writes the length + 1 (0 stands for {@code null}) and the UTF-8 bytes.
+         */
+        private void writeString(String string) {
+            if (string == null) {
+                writeVarint(0);
+                return;
+            }
+            byte[] bytes = string.getBytes(UTF_8);
+            writeVarint(bytes.length + 1);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        /**
+         * Writes 0 for {@code null}, 1 followed by the string for its first occurrence,
+         * or the index of its first occurrence + 2.
+         */
+        private void writeSymbol(String symbol) {
+            if (symbol == null) {
+                writeVarint(0);
+                return;
+            }
+            Integer index = symbols.get(symbol);
+            if (index != null) {
+                writeVarint(index + 2);
+                return;
+            }
+            symbols.put(symbol, symbols.size());
+            writeVarint(1);
+            writeString(symbol);
+        }
+
+        private void ensureCapacity(int additional) {
+            if (size + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+            }
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+    }
+
+    private static final class Reader {
+
+        private final List<String> symbols = new ArrayList<>();
+        private final byte[] bytes;
+        private int position;
+
+        private Reader(byte[] bytes) {
+            if (bytes[2] != VERSION) {
+                throw new IllegalArgumentException("Unsupported format version: " + bytes[2]);
+            }
+            this.bytes = bytes;
+            this.position = 3;
+        }
+
+        private byte readByte() {
+            ensureAvailable(1);
+            return bytes[position++];
+        }
+
+        private int readVarint() {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                byte b = readByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint at position " + position);
+        }
+
+        private byte[] readBytes() {
+            int length = readVarint();
+            ensureAvailable(length);
+            byte[] result = Arrays.copyOfRange(bytes, position, position + length);
+            position += length;
+            return result;
+        }
+
+        private String readString() {
+            int lengthPlusOne = readVarint();
+            if (lengthPlusOne == 0) {
+                return null;
+            }
+            int length = lengthPlusOne - 1;
+            ensureAvailable(length);
+            String string = new String(bytes, position, length, UTF_8);
+            position += length;
+            return string;
+        }
+
+        private String readSymbol() {
+            int reference = readVarint();
+            if (reference == 0) {
+                return null;
+            }
+            if (reference == 1) {
+                String symbol = readString();
+                symbols.add(symbol);
+                return symbol;
+            }
+            int index = reference - 2;
+            if (index >= symbols.size()) {
+                throw new IllegalArgumentException("Unknown symbol reference: " + index);
+            }
+            return symbols.get(index);
+        }
+
+        private void ensureAvailable(int length) {
+            if (length < 0 || position + length > bytes.length) {
+                throw new IllegalArgumentException("Unexpected end of data at position " + position);
+            }
+        }
+
+        private int remaining() {
+            return bytes.length - position;
+        }
+
+        private void ensureFullyRead() {
+            if (position != bytes.length) {
+                throw new IllegalArgumentException("Unexpected trailing data at position " + position);
+            }
+        }
+    }
+}
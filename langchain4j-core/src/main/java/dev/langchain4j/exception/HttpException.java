@@ -1,15 +1,36 @@
 package dev.langchain4j.exception;
 
+import java.time.Duration;
+
 public class HttpException extends LangChain4jException {
 
     private final int statusCode;
+    private final Duration retryAfter;
 
     public HttpException(int statusCode, String message) {
+        this(statusCode, message, null);
+    }
+
+    /**
+     * @param statusCode the HTTP status code
+     * @param message    the response body or error message
+     * @param retryAfter the delay the server asked the client to wait before retrying
+     *                   (e.g. parsed from the {@code Retry-After} header), or {@code null} if unknown
+     */
+    public HttpException(int statusCode, String message, Duration retryAfter) {
         super(message);
         this.statusCode = statusCode;
+        this.retryAfter = retryAfter;
     }
 
     public int statusCode() {
         return statusCode;
     }
+
+    /**
+     * @return the delay the server asked the client to wait before retrying, or {@code null} if not provided.
+     */
+    public Duration retryAfter() {
+        return retryAfter;
+    }
 }
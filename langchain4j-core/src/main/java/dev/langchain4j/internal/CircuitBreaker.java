@@ -0,0 +1,125 @@
+package dev.langchain4j.internal;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.Internal;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * A simple consecutive-failures circuit breaker.
+ * <p>
+ * The breaker starts {@link State#CLOSED CLOSED}. After {@code failureThreshold} consecutive failures
+ * it becomes {@link State#OPEN OPEN} and rejects all calls for {@code openDuration}.
+ * After that, it becomes {@link State#HALF_OPEN HALF_OPEN} and lets a single probe call through:
+ * if the probe succeeds, the breaker closes again, otherwise it re-opens.
+ * <p>
+ * A single instance is meant to be shared by all calls to the same model.
+ * This class is thread-safe.
+ */
+@Internal
+public final class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private boolean probeInFlight;
+    private Throwable lastFailure;
+
+    /**
+     * Creates a new circuit breaker.
+     *
+     * @param failureThreshold The number of consecutive failures after which the breaker opens.
+     * @param openDuration     How long the breaker stays open before letting a probe call through.
+     */
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, System::nanoTime);
+    }
+
+    CircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier nanoClock) {
+        this.failureThreshold = ensureGreaterThanZero(failureThreshold, "failureThreshold");
+        this.openDurationNanos = ensureNotNull(openDuration, "openDuration").toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Checks whether a call is allowed to proceed.
+     * When this method returns {@code true}, the caller must report the outcome
+     * via {@link #onSuccess()} or {@link #onFailure(Throwable)}.
+     *
+     * @return {@code true} if the call is allowed, {@code false} if the breaker is open.
+     */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (nanoClock.getAsLong() - openedAtNanos < openDurationNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                probeInFlight = true;
+                return true;
+            case HALF_OPEN:
+            default:
+                if (probeInFlight) {
+                    return false;
+                }
+                probeInFlight = true;
+                return true;
+        }
+    }
+
+    /**
+     * Records a successful call.
+     */
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        probeInFlight = false;
+        lastFailure = null;
+        state = State.CLOSED;
+    }
+
+    /**
+     * Records a failed call.
+     *
+     * @param failure The failure of the call.
+     */
+    public synchronized void onFailure(Throwable failure) {
+        probeInFlight = false;
+        lastFailure = failure;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAtNanos = nanoClock.getAsLong();
+        }
+    }
+
+    /**
+     * @return The failure recorded last since the breaker was closed, or {@code null} if there is none.
+     */
+    public synchronized Throwable lastFailure() {
+        return lastFailure;
+    }
+
+    /**
+     * @return The current state of the breaker.
+     */
+    public synchronized State state() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAtNanos >= openDurationNanos) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+}
@@ -0,0 +1,77 @@
+package dev.langchain4j.internal;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+
+import dev.langchain4j.Internal;
+import java.util.function.LongSupplier;
+
+/**
+ * A token-bucket retry budget.
+ * <p>
+ * Each retry consumes one token. Tokens are refilled continuously at {@code tokensPerSecond},
+ * up to {@code maxTokens}. Once the bucket is empty, retries are rejected until it refills.
+ * This caps the rate of retries sent to a provider, so that a brown-out does not get amplified
+ * by every caller retrying at the same time.
+ * <p>
+ * A single instance is meant to be shared by all calls to the same model.
+ * This class is thread-safe.
+ */
+@Internal
+public final class RetryBudget {
+
+    private final double maxTokens;
+    private final double tokensPerNano;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    /**
+     * Creates a new retry budget.
+     *
+     * @param maxTokens       The maximum number of retries that can be made in a burst.
+     * @param tokensPerSecond The number of retries that are allowed per second on average.
+     */
+    public RetryBudget(int maxTokens, double tokensPerSecond) {
+        this(maxTokens, tokensPerSecond, System::nanoTime);
+    }
+
+    RetryBudget(int maxTokens, double tokensPerSecond, LongSupplier nanoClock) {
+        this.maxTokens = ensureGreaterThanZero(maxTokens, "maxTokens");
+        this.tokensPerNano = ensureGreaterThanZero(tokensPerSecond, "tokensPerSecond") / 1_000_000_000d;
+        this.nanoClock = nanoClock;
+        this.tokens = maxTokens;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Tries to withdraw a token for a single retry.
+     *
+     * @return {@code true} if the retry is allowed, {@code false} if the budget is exhausted.
+     */
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return The number of retries currently available.
+     */
+    public synchronized double availableTokens() {
+        refill();
+        return tokens;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        long elapsed = now - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(maxTokens, tokens + elapsed * tokensPerNano);
+            lastRefillNanos = now;
+        }
+    }
+}
@@ -1,13 +1,30 @@
 package dev.langchain4j.internal;
 
 import dev.langchain4j.Internal;
+import dev.langchain4j.exception.HttpException;
 import dev.langchain4j.exception.LangChain4jException;
 import dev.langchain4j.exception.NonRetriableException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Random;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
  * Utility class for retrying actions.
@@ -15,8 +32,6 @@ import java.util.concurrent.Callable;
 @Internal
 public final class RetryUtils {
 
-    private static final Random RANDOM = new Random();
-
     private RetryUtils() {
     }
 
@@ -33,6 +48,18 @@ public final class RetryUtils {
 
     /**
      * This class encapsulates a retry policy.
+     * <p>
+     * On top of the exponential backoff with jitter, the policy:
+     * <ul>
+     *     <li>optionally honours the delay requested by the provider via {@link HttpException#retryAfter()}
+     *     (e.g. the {@code Retry-After} header), failing without retrying if it exceeds the maximum delay;</li>
+     *     <li>optionally enforces a {@link RetryBudget}, so that retries stop once the budget is exhausted;</li>
+     *     <li>optionally consults a {@link CircuitBreaker} before each attempt;</li>
+     *     <li>collects {@link Metrics}.</li>
+     * </ul>
+     * {@link #withRetry(Callable)} sleeps on the calling thread between attempts,
+     * while {@link #withRetryAsync(Supplier)} schedules retries on a {@link ScheduledExecutorService}.
+     * A policy with a budget or a breaker is meant to be shared by all calls to the same model.
      */
     public static final class RetryPolicy {
 
@@ -45,6 +72,11 @@ public final class RetryUtils {
             private int delayMillis = 1000;
             private double jitterScale = 0.2;
             private double backoffExp = 1.5;
+            private boolean respectRetryAfter;
+            private Duration maxDelay = Duration.ofMinutes(1);
+            private RetryBudget retryBudget;
+            private CircuitBreaker circuitBreaker;
+            private ScheduledExecutorService scheduler;
 
             /**
              * Construct a RetryPolicy.Builder.
@@ -109,13 +141,71 @@ public final class RetryUtils {
                 return this;
             }
 
+            /**
+             * Sets whether to wait for the delay requested by the provider via {@link HttpException#retryAfter()}
+             * (e.g. the {@code Retry-After} header) instead of the exponential backoff.
+             *
+             * @param respectRetryAfter Whether to honour the requested delay. Default: {@code false}.
+             * @return {@code this}
+             */
+            public Builder respectRetryAfter(boolean respectRetryAfter) {
+                this.respectRetryAfter = respectRetryAfter;
+                return this;
+            }
+
+            /**
+             * Sets the maximum delay the provider can ask for via {@link HttpException#retryAfter()}
+             * when {@link #respectRetryAfter(boolean)} is enabled.
+             * If the provider asks to retry after a longer delay, the action fails without retrying.
+             *
+             * @param maxDelay The maximum delay. Default: 1 minute.
+             * @return {@code this}
+             */
+            public Builder maxDelay(Duration maxDelay) {
+                this.maxDelay = maxDelay;
+                return this;
+            }
+
+            /**
+             * Sets the retry budget.
+             *
+             * @param retryBudget The retry budget. By default, retries are not limited by a budget.
+             * @return {@code this}
+             */
+            public Builder retryBudget(RetryBudget retryBudget) {
+                this.retryBudget = retryBudget;
+                return this;
+            }
+
+            /**
+             * Sets the circuit breaker.
+             *
+             * @param circuitBreaker The circuit breaker. By default, no circuit breaker is used.
+             * @return {@code this}
+             */
+            public Builder circuitBreaker(CircuitBreaker circuitBreaker) {
+                this.circuitBreaker = circuitBreaker;
+                return this;
+            }
+
+            /**
+             * Sets the scheduler used by {@link #withRetryAsync(Supplier)} to delay retries.
+             *
+             * @param scheduler The scheduler. By default, a shared single-threaded daemon scheduler is used.
+             * @return {@code this}
+             */
+            public Builder scheduler(ScheduledExecutorService scheduler) {
+                this.scheduler = scheduler;
+                return this;
+            }
+
             /**
              * Builds a RetryPolicy.
              *
              * @return A RetryPolicy.
              */
             public RetryPolicy build() {
-                return new RetryPolicy(maxRetries, delayMillis, jitterScale, backoffExp);
+                return new RetryPolicy(this);
             }
         }
 
@@ -123,6 +213,12 @@ public final class RetryUtils {
         private final int delayMillis;
         private final double jitterScale;
         private final double backoffExp;
+        private final boolean respectRetryAfter;
+        private final long maxDelayMillis;
+        private final RetryBudget retryBudget;
+        private final CircuitBreaker circuitBreaker;
+        private final ScheduledExecutorService scheduler;
+        private final Metrics metrics = new Metrics();
 
         /**
          * Construct a RetryPolicy.
@@ -142,6 +238,30 @@ public final class RetryUtils {
             this.delayMillis = delayMillis;
             this.jitterScale = jitterScale;
             this.backoffExp = backoffExp;
+            this.respectRetryAfter = false;
+            this.maxDelayMillis = Duration.ofMinutes(1).toMillis();
+            this.retryBudget = null;
+            this.circuitBreaker = null;
+            this.scheduler = null;
+        }
+
+        private RetryPolicy(Builder builder) {
+            this.maxRetries = builder.maxRetries;
+            this.delayMillis = builder.delayMillis;
+            this.jitterScale = builder.jitterScale;
+            this.backoffExp = builder.backoffExp;
+            this.respectRetryAfter = builder.respectRetryAfter;
+            this.maxDelayMillis = ensureNotNull(builder.maxDelay, "maxDelay").toMillis();
+            this.retryBudget = builder.retryBudget;
+            this.circuitBreaker = builder.circuitBreaker;
+            this.scheduler = builder.scheduler;
+        }
+
+        /**
+         * @return The metrics collected by this policy.
+         */
+        public Metrics metrics() {
+            return metrics;
         }
 
         /**
@@ -163,7 +283,7 @@ public final class RetryUtils {
         public int jitterDelayMillis(int retry) {
             double delay = rawDelayMs(retry);
             double jitter = delay * jitterScale;
-            return (int) (delay + RANDOM.nextInt((int) jitter));
+            return (int) (delay + ThreadLocalRandom.current().nextInt((int) jitter));
         }
 
         /**
@@ -173,8 +293,13 @@ public final class RetryUtils {
          */
         @JacocoIgnoreCoverageGenerated
         public void sleep(int retry) {
+            sleepMillis(jitterDelayMillis(retry));
+        }
+
+        @JacocoIgnoreCoverageGenerated
+        private static void sleepMillis(long millis) {
             try {
-                Thread.sleep(jitterDelayMillis(retry));
+                Thread.sleep(millis);
             } catch (InterruptedException ignored) {
                 // pass
             }
@@ -205,25 +330,276 @@ public final class RetryUtils {
          * @throws RuntimeException if the action fails on all attempts.
          */
         public <T> T withRetry(Callable<T> action, int maxRetries) {
+            metrics.calls.increment();
             int retry = 0;
             while (true) {
+                if (circuitBreaker != null && !circuitBreaker.tryAcquire()) {
+                    metrics.circuitBreakerRejections.increment();
+                    metrics.failures.increment();
+                    throw new LangChain4jException("Circuit breaker is open", circuitBreaker.lastFailure());
+                }
+                metrics.attempts.increment();
                 try {
-                    return action.call();
+                    T result = action.call();
+                    if (circuitBreaker != null) {
+                        circuitBreaker.onSuccess();
+                    }
+                    metrics.successes.increment();
+                    return result;
                 } catch (NonRetriableException e) {
+                    if (circuitBreaker != null) {
+                        // the provider is healthy, the request itself is wrong
+                        circuitBreaker.onSuccess();
+                    }
+                    metrics.failures.increment();
                     throw e;
                 } catch (Exception e) {
-                    if (retry >= maxRetries) {
+                    if (circuitBreaker != null) {
+                        circuitBreaker.onFailure(e);
+                    }
+
+                    Long delay = retry >= maxRetries ? null : nextDelayMillis(e, retry);
+                    if (delay == null) {
+                        metrics.failures.increment();
                         throw e instanceof RuntimeException re ? re : new LangChain4jException(e);
                     }
 
-                    log.warn("A retriable exception occurred. Remaining retries: %s of %s"
-                            .formatted(maxRetries - retry, maxRetries), e);
+                    log.warn("A retriable exception occurred. Retrying in %s ms. Remaining retries: %s of %s"
+                            .formatted(delay, maxRetries - retry, maxRetries), e);
 
-                    sleep(retry);
+                    metrics.retries.increment();
+                    sleepMillis(delay);
                 }
                 retry++;
             }
         }
+
+        /**
+         * This method attempts to execute a given action up to a specified number of times with an exponential backoff.
+         * If the action fails, the Exception causing the failure will be mapped with the default {@link ExceptionMapper}.
+         *
+         * @param action     The action to be executed.
+         * @param maxRetries The maximum number of retries.
+         *                   The action can be executed up to {@code maxRetries + 1} times.
+         * @param <T>        The type of the result of the action.
+         * @return The result of the action if it is successful.
+         * @throws RuntimeException if the action fails on all attempts.
+         */
+        public <T> T withRetryMappingExceptions(Callable<T> action, int maxRetries) {
+            return withRetry(() -> ExceptionMapper.DEFAULT.withExceptionMapper(action), maxRetries);
+        }
+
+        /**
+         * This method attempts to execute a given asynchronous action up to 3 times with an exponential backoff,
+         * without blocking the calling thread.
+         *
+         * @param action The action to be executed. See {@link #withRetryAsync(Supplier, int)}.
+         * @param <T>    The type of the result of the action.
+         * @return A future completed with the result of the first successful attempt,
+         * or exceptionally with the last failure.
+         */
+        public <T> CompletableFuture<T> withRetryAsync(Supplier<CompletableFuture<T>> action) {
+            return withRetryAsync(action, maxRetries);
+        }
+
+        /**
+         * This method attempts to execute a given asynchronous action up to a specified number of times
+         * with an exponential backoff, without blocking the calling thread:
+         * retries are scheduled on the {@link Builder#scheduler(ScheduledExecutorService) scheduler}.
+         *
+         * @param action     The action to be executed. It is invoked once per attempt and must return a new future
+         *                   each time. Retries invoke it on the scheduler thread, so it must not block.
+         * @param maxRetries The maximum number of retries.
+         *                   The action can be executed up to {@code maxRetries + 1} times.
+         * @param <T>        The type of the result of the action.
+         * @return A future completed with the result of the first successful attempt,
+         * or exceptionally with the last failure. Cancelling it prevents further attempts.
+         */
+        public <T> CompletableFuture<T> withRetryAsync(Supplier<CompletableFuture<T>> action, int maxRetries) {
+            ensureNotNull(action, "action");
+            metrics.calls.increment();
+            CompletableFuture<T> result = new CompletableFuture<>();
+            attemptAsync(action, maxRetries, 0, result);
+            return result;
+        }
+
+        private <T> void attemptAsync(Supplier<CompletableFuture<T>> action,
+                                      int maxRetries,
+                                      int retry,
+                                      CompletableFuture<T> result) {
+            if (result.isDone()) {
+                return;
+            }
+            if (circuitBreaker != null && !circuitBreaker.tryAcquire()) {
+                metrics.circuitBreakerRejections.increment();
+                metrics.failures.increment();
+                result.completeExceptionally(
+                        new LangChain4jException("Circuit breaker is open", circuitBreaker.lastFailure()));
+                return;
+            }
+            metrics.attempts.increment();
+            CompletableFuture<T> future;
+            try {
+                future = action.get();
+            } catch (Exception e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+
+            future.whenComplete((value, error) -> {
+                if (error == null) {
+                    if (circuitBreaker != null) {
+                        circuitBreaker.onSuccess();
+                    }
+                    metrics.successes.increment();
+                    result.complete(value);
+                    return;
+                }
+
+                Throwable cause = unwrap(error);
+                if (cause instanceof NonRetriableException) {
+                    if (circuitBreaker != null) {
+                        // the provider is healthy, the request itself is wrong
+                        circuitBreaker.onSuccess();
+                    }
+                    metrics.failures.increment();
+                    result.completeExceptionally(cause);
+                    return;
+                }
+                if (circuitBreaker != null) {
+                    circuitBreaker.onFailure(cause);
+                }
+
+                Long delay = retry >= maxRetries ? null : nextDelayMillis(cause, retry);
+                if (delay == null) {
+                    metrics.failures.increment();
+                    result.completeExceptionally(cause);
+                    return;
+                }
+
+                log.warn("A retriable exception occurred. Retrying in %s ms. Remaining retries: %s of %s"
+                        .formatted(delay, maxRetries - retry, maxRetries), cause);
+
+                metrics.retries.increment();
+                try {
+                    scheduler().schedule(() -> attemptAsync(action, maxRetries, retry + 1, result), delay, MILLISECONDS);
+                } catch (RejectedExecutionException e) {
+                    metrics.failures.increment();
+                    cause.addSuppressed(e);
+                    result.completeExceptionally(cause);
+                }
+            });
+        }
+
+        private ScheduledExecutorService scheduler() {
+            return scheduler != null ? scheduler : DefaultScheduler.INSTANCE;
+        }
+
+        private static Throwable unwrap(Throwable error) {
+            Throwable current = error;
+            while ((current instanceof CompletionException || current instanceof ExecutionException)
+                    && current.getCause() != null) {
+                current = current.getCause();
+            }
+            return current;
+        }
+
+        /**
+         * @return The delay before the next retry, or {@code null} if the failure must not be retried.
+         */
+        private Long nextDelayMillis(Throwable e, int retry) {
+            long delay;
+            Duration retryAfter = respectRetryAfter ? retryAfter(e) : null;
+            if (retryAfter != null) {
+                if (retryAfter.toMillis() > maxDelayMillis) {
+                    log.debug("Provider asked to retry after {}, which exceeds the maximum delay", retryAfter);
+                    return null;
+                }
+                delay = retryAfter.toMillis();
+            } else {
+                delay = jitterDelayMillis(retry);
+            }
+
+            if (retryBudget != null && !retryBudget.tryAcquire()) {
+                metrics.budgetRejections.increment();
+                return null;
+            }
+            return delay;
+        }
+
+        private static final class DefaultScheduler {
+
+            private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "langchain4j-retry-scheduler");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        /**
+         * Counters describing the behaviour of a {@link RetryPolicy}.
+         */
+        public static final class Metrics {
+
+            private final LongAdder calls = new LongAdder();
+            private final LongAdder attempts = new LongAdder();
+            private final LongAdder retries = new LongAdder();
+            private final LongAdder successes = new LongAdder();
+            private final LongAdder failures = new LongAdder();
+            private final LongAdder budgetRejections = new LongAdder();
+            private final LongAdder circuitBreakerRejections = new LongAdder();
+
+            private Metrics() {
+            }
+
+            /**
+             * @return The number of calls made through the policy.
+             */
+            public long calls() {
+                return calls.sum();
+            }
+
+            /**
+             * @return The number of attempts, including the first attempt of each call.
+             */
+            public long attempts() {
+                return attempts.sum();
+            }
+
+            /**
+             * @return The number of retries.
+             */
+            public long retries() {
+                return retries.sum();
+            }
+
+            /**
+             * @return The number of calls that eventually succeeded.
+             */
+            public long successes() {
+                return successes.sum();
+            }
+
+            /**
+             * @return The number of calls that eventually failed.
+             */
+            public long failures() {
+                return failures.sum();
+            }
+
+            /**
+             * @return The number of retries that were not made because the {@link RetryBudget} was exhausted.
+             */
+            public long budgetRejections() {
+                return budgetRejections.sum();
+            }
+
+            /**
+             * @return The number of attempts rejected by an open {@link CircuitBreaker}.
+             */
+            public long circuitBreakerRejections() {
+                return circuitBreakerRejections.sum();
+            }
+        }
     }
 
     /**
@@ -323,4 +699,52 @@ public final class RetryUtils {
     public static <T> T withRetryMappingExceptions(Callable<T> action, int maxRetries, ExceptionMapper exceptionMapper) {
         return withRetry(() -> exceptionMapper.withExceptionMapper(action), maxRetries);
     }
+
+    /**
+     * Parses the value of a {@code Retry-After} HTTP header.
+     * Both the delay-seconds and the HTTP-date forms are supported.
+     *
+     * @param headerValue The value of the {@code Retry-After} header.
+     * @return The parsed delay, or {@code null} if the value is missing or cannot be parsed.
+     */
+    public static Duration parseRetryAfter(String headerValue) {
+        if (Utils.isNullOrBlank(headerValue)) {
+            return null;
+        }
+        String value = headerValue.trim();
+        try {
+            long seconds = Long.parseLong(value);
+            return seconds < 0 ? null : Duration.ofSeconds(seconds);
+        } catch (NumberFormatException ignored) {
+            // not delay-seconds, try HTTP-date
+        }
+        try {
+            ZonedDateTime date = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration delay = Duration.between(Instant.now(), date.toInstant());
+            return delay.isNegative() ? Duration.ZERO : delay;
+        } catch (DateTimeParseException ignored) {
+            return null;
+        }
+    }
+
+    /**
+     * Finds the delay requested by the server (e.g. via the {@code Retry-After} header)
+     * by looking for an {@link HttpException} in the cause chain of the given throwable.
+     *
+     * @param throwable The failure to inspect.
+     * @return The requested delay, or {@code null} if none was provided.
+     */
+    public static Duration retryAfter(Throwable throwable) {
+        Throwable current = throwable;
+        while (current != null) {
+            if (current instanceof HttpException httpException && httpException.retryAfter() != null) {
+                return httpException.retryAfter();
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+            current = current.getCause();
+        }
+        return null;
+    }
 }
@@ -19,6 +19,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Supplier;
 
 import static java.net.HttpURLConnection.HTTP_OK;
@@ -396,4 +398,28 @@ public class Utils {
         }
         return stringValueMap;
     }
+
+    /**
+     * Waits for the given future to complete and returns its result.
+     * Unlike {@link CompletableFuture#join()}, a {@link RuntimeException} or {@link Error} the future failed with
+     * is rethrown as-is, instead of being wrapped into a {@link CompletionException}.
+     *
+     * @param future The future to wait for.
+     * @param <T>    The type of the result.
+     * @return The result of the future.
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
 }
@@ -0,0 +1,87 @@
+package dev.langchain4j.model;
+
+import dev.langchain4j.data.message.ChatMessage;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * A {@link TokenCountEstimator} that memoizes the token counts of texts estimated by another {@link TokenCountEstimator}.
+ * <p>
+ * This is useful when the same texts are estimated repeatedly, e.g. the paragraphs and sentences
+ * of a document while it is being split, and the delegate is expensive (e.g. a BPE tokenizer).
+ * Up to {@code maxCacheSize} texts are cached, the least recently used ones are evicted first.
+ * Texts longer than {@code maxCachedTextLength} characters are not cached.
+ * <p>
+ * Token counts of messages are not cached and are always estimated by the delegate.
+ * This class is thread-safe, a single instance can be shared by all components using the same delegate.
+ */
+public class CachingTokenCountEstimator implements TokenCountEstimator {
+
+    private static final int DEFAULT_MAX_CACHE_SIZE = 10_000;
+    private static final int DEFAULT_MAX_CACHED_TEXT_LENGTH = 10_000;
+
+    private final TokenCountEstimator delegate;
+    private final int maxCachedTextLength;
+    private final Map<String, Integer> cache;
+
+    /**
+     * Creates a new {@link CachingTokenCountEstimator} caching up to 10,000 texts of up to 10,000 characters.
+     *
+     * @param delegate The estimator whose results are cached.
+     */
+    public CachingTokenCountEstimator(TokenCountEstimator delegate) {
+        this(delegate, DEFAULT_MAX_CACHE_SIZE, DEFAULT_MAX_CACHED_TEXT_LENGTH);
+    }
+
+    /**
+     * Creates a new {@link CachingTokenCountEstimator}.
+     *
+     * @param delegate            The estimator whose results are cached.
+     * @param maxCacheSize        The maximum number of cached texts.
+     * @param maxCachedTextLength The maximum length (in characters) of a cached text.
+     */
+    public CachingTokenCountEstimator(TokenCountEstimator delegate, int maxCacheSize, int maxCachedTextLength) {
+        this.delegate = ensureNotNull(delegate, "delegate");
+        ensureGreaterThanZero(maxCacheSize, "maxCacheSize");
+        this.maxCachedTextLength = ensureGreaterThanZero(maxCachedTextLength, "maxCachedTextLength");
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+                return size() > maxCacheSize;
+            }
+        };
+    }
+
+    @Override
+    public int estimateTokenCountInText(String text) {
+        if (text == null || text.length() > maxCachedTextLength) {
+            return delegate.estimateTokenCountInText(text);
+        }
+        synchronized (cache) {
+            Integer tokenCount = cache.get(text);
+            if (tokenCount != null) {
+                return tokenCount;
+            }
+        }
+        // estimated outside the lock, concurrent estimations of the same text are harmless
+        int tokenCount = delegate.estimateTokenCountInText(text);
+        synchronized (cache) {
+            cache.put(text, tokenCount);
+        }
+        return tokenCount;
+    }
+
+    @Override
+    public int estimateTokenCountInMessage(ChatMessage message) {
+        return delegate.estimateTokenCountInMessage(message);
+    }
+
+    @Override
+    public int estimateTokenCountInMessages(Iterable<ChatMessage> messages) {
+        return delegate.estimateTokenCountInMessages(messages);
+    }
+}
@@ -4,6 +4,8 @@ import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.rag.query.Metadata;
 
+import java.time.Duration;
+
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
 /**
@@ -22,9 +24,22 @@ public class AugmentationRequest {
      */
     private final Metadata metadata;
 
+    /**
+     * The maximum time the caller is willing to wait for the augmentation, or {@code null} if there is no limit.
+     * When it elapses, the chat message is augmented with the contents retrieved so far,
+     * and the contents retrieved later are provided by {@link AugmentationResult#lateContents()}.
+     * Not all {@link RetrievalAugmentor}s support it.
+     */
+    private final Duration timeout;
+
     public AugmentationRequest(ChatMessage chatMessage, Metadata metadata) {
+        this(chatMessage, metadata, null);
+    }
+
+    public AugmentationRequest(ChatMessage chatMessage, Metadata metadata, Duration timeout) {
         this.chatMessage = ensureNotNull(chatMessage, "chatMessage");
         this.metadata = ensureNotNull(metadata, "metadata");
+        this.timeout = timeout;
     }
 
     public ChatMessage chatMessage() {
@@ -34,4 +49,8 @@ public class AugmentationRequest {
     public Metadata metadata() {
         return metadata;
     }
+
+    public Duration timeout() {
+        return timeout;
+    }
 }
@@ -2,8 +2,13 @@ package dev.langchain4j.rag;
 
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.rag.content.retriever.ContentRetriever;
+import dev.langchain4j.rag.query.Query;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static dev.langchain4j.internal.Utils.copy;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
@@ -23,9 +28,38 @@ public class AugmentationResult {
      */
     private final List<Content> contents;
 
+    /**
+     * The content retrievers that did not retrieve contents within the timeout, per query.
+     * A query that was not routed within the timeout, and therefore not retrieved at all,
+     * is mapped to an empty collection.
+     */
+    private final Map<Query, Collection<ContentRetriever>> timedOutRetrievers;
+
+    /**
+     * The contents retrieved after the {@link AugmentationRequest#timeout()} elapsed, which were not used
+     * to augment the chat message. Completes when all late retrievals finish.
+     * Cancelling it cancels the late retrievals that are still running.
+     */
+    private final CompletableFuture<List<Content>> lateContents;
+
     public AugmentationResult(ChatMessage chatMessage, List<Content> contents) {
+        this(chatMessage, contents, null);
+    }
+
+    public AugmentationResult(ChatMessage chatMessage,
+                              List<Content> contents,
+                              Map<Query, Collection<ContentRetriever>> timedOutRetrievers) {
+        this(chatMessage, contents, timedOutRetrievers, null);
+    }
+
+    public AugmentationResult(ChatMessage chatMessage,
+                              List<Content> contents,
+                              Map<Query, Collection<ContentRetriever>> timedOutRetrievers,
+                              CompletableFuture<List<Content>> lateContents) {
         this.chatMessage = ensureNotNull(chatMessage, "chatMessage");
         this.contents = copy(contents);
+        this.timedOutRetrievers = copy(timedOutRetrievers);
+        this.lateContents = lateContents == null ? CompletableFuture.completedFuture(List.of()) : lateContents;
     }
 
     public static AugmentationResultBuilder builder() {
@@ -40,10 +74,20 @@ public class AugmentationResult {
         return contents;
     }
 
+    public Map<Query, Collection<ContentRetriever>> timedOutRetrievers() {
+        return timedOutRetrievers;
+    }
+
+    public CompletableFuture<List<Content>> lateContents() {
+        return lateContents;
+    }
+
     public static class AugmentationResultBuilder {
 
         private ChatMessage chatMessage;
         private List<Content> contents;
+        private Map<Query, Collection<ContentRetriever>> timedOutRetrievers;
+        private CompletableFuture<List<Content>> lateContents;
 
         AugmentationResultBuilder() {
         }
@@ -58,8 +102,18 @@ public class AugmentationResult {
             return this;
         }
 
+        public AugmentationResultBuilder timedOutRetrievers(Map<Query, Collection<ContentRetriever>> timedOutRetrievers) {
+            this.timedOutRetrievers = timedOutRetrievers;
+            return this;
+        }
+
+        public AugmentationResultBuilder lateContents(CompletableFuture<List<Content>> lateContents) {
+            this.lateContents = lateContents;
+            return this;
+        }
+
         public AugmentationResult build() {
-            return new AugmentationResult(this.chatMessage, this.contents);
+            return new AugmentationResult(this.chatMessage, this.contents, this.timedOutRetrievers, this.lateContents);
         }
     }
 }
@@ -2,9 +2,12 @@ package dev.langchain4j.rag;
 
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.internal.VirtualThreadUtils;
 import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.rag.content.aggregator.ContentAggregator;
 import dev.langchain4j.rag.content.aggregator.DefaultContentAggregator;
+import dev.langchain4j.rag.content.aggregator.ReciprocalRankFuser;
 import dev.langchain4j.rag.content.injector.ContentInjector;
 import dev.langchain4j.rag.content.injector.DefaultContentInjector;
 import dev.langchain4j.rag.content.retriever.ContentRetriever;
@@ -13,29 +16,39 @@ import dev.langchain4j.rag.query.router.DefaultQueryRouter;
 import dev.langchain4j.rag.query.router.QueryRouter;
 import dev.langchain4j.rag.query.transformer.DefaultQueryTransformer;
 import dev.langchain4j.rag.query.transformer.QueryTransformer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeoutException;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static java.util.concurrent.CompletableFuture.allOf;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
-import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 
 /**
  * The default implementation of {@link RetrievalAugmentor} intended to be suitable for the majority of use cases.
@@ -97,8 +110,34 @@ import static java.util.stream.Collectors.toMap;
  * When there is only a single {@link Query} and a single {@link ContentRetriever},
  * query routing and content retrieval are performed in the same thread.
  * Otherwise, an {@link Executor} is used to parallelize the processing.
- * By default, a modified (keepAliveTime is 1 second instead of 60 seconds) {@link Executors#newCachedThreadPool()}
+ * By default, a virtual thread per task executor is used when virtual threads are supported (Java 21+),
+ * otherwise a modified (keepAliveTime is 1 second instead of 60 seconds) {@link Executors#newCachedThreadPool()}
  * is used, but you can provide a custom {@link Executor} instance.
+ * When several {@link Query}s are routed to a {@link ContentRetriever} that overrides
+ * {@link ContentRetriever#retrieveAll(Collection)}, they are retrieved with a single call once all of them are routed
+ * (e.g., {@link dev.langchain4j.rag.content.retriever.EmbeddingStoreContentRetriever} embeds them all at once).
+ * Other {@link ContentRetriever}s start retrieving a {@link Query} as soon as it is routed to them.
+ * <br>
+ * <br>
+ * Optionally, a retriever timeout and an overall timeout can be configured.
+ * A {@link ContentRetriever} that does not return within the retriever timeout,
+ * or that has not returned when the overall timeout (measured from the start of the augmentation) elapses,
+ * is skipped, and the augmentation proceeds with the contents retrieved by the other {@link ContentRetriever}s.
+ * Skipped retrievers are reported in {@link AugmentationResult#timedOutRetrievers()}.
+ * Queries that are not routed within the overall timeout are skipped as well,
+ * and reported in {@link AugmentationResult#timedOutRetrievers()} with an empty collection of retrievers.
+ * When any timeout is configured, content retrieval is always performed using the {@link Executor}.
+ * <br>
+ * <br>
+ * An {@link AugmentationRequest#timeout()} shorter than the overall timeout overrides it for that request.
+ * In addition, the {@link ContentRetriever}s that have not returned when it elapses are not abandoned:
+ * the contents they retrieve later (and that were not injected) are provided by
+ * {@link AugmentationResult#lateContents()}, fused with the {@link ReciprocalRankFuser}.
+ * This lets a caller (e.g., a streaming AI Service) call the LLM without waiting for the slowest retrievers.
+ * <br>
+ * <br>
+ * Optionally, a {@link RetrievalCache} can be provided to cache the results of query transformation
+ * and content retrieval for repeated queries.
  *
  * @see DefaultQueryTransformer
  * @see DefaultQueryRouter
@@ -107,35 +146,90 @@ import static java.util.stream.Collectors.toMap;
  */
 public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
 
+    private static final Logger log = LoggerFactory.getLogger(DefaultRetrievalAugmentor.class);
+
+    /**
+     * Whether a {@link ContentRetriever} class overrides {@link ContentRetriever#retrieveAll(Collection)}.
+     */
+    private static final ClassValue<Boolean> BATCH_RETRIEVAL = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("retrieveAll", Collection.class).getDeclaringClass() != ContentRetriever.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
     private final QueryTransformer queryTransformer;
     private final QueryRouter queryRouter;
     private final ContentAggregator contentAggregator;
     private final ContentInjector contentInjector;
     private final Executor executor;
+    private final RetrievalCache cache;
+    private final Duration retrieverTimeout;
+    private final Duration timeout;
 
     public DefaultRetrievalAugmentor(QueryTransformer queryTransformer,
                                      QueryRouter queryRouter,
                                      ContentAggregator contentAggregator,
                                      ContentInjector contentInjector,
                                      Executor executor) {
+        this(queryTransformer, queryRouter, contentAggregator, contentInjector, executor, null);
+    }
+
+    public DefaultRetrievalAugmentor(QueryTransformer queryTransformer,
+                                     QueryRouter queryRouter,
+                                     ContentAggregator contentAggregator,
+                                     ContentInjector contentInjector,
+                                     Executor executor,
+                                     RetrievalCache cache) {
+        this(queryTransformer, queryRouter, contentAggregator, contentInjector, executor, cache, null, null);
+    }
+
+    public DefaultRetrievalAugmentor(QueryTransformer queryTransformer,
+                                     QueryRouter queryRouter,
+                                     ContentAggregator contentAggregator,
+                                     ContentInjector contentInjector,
+                                     Executor executor,
+                                     RetrievalCache cache,
+                                     Duration retrieverTimeout,
+                                     Duration timeout) {
         this.queryTransformer = getOrDefault(queryTransformer, DefaultQueryTransformer::new);
         this.queryRouter = ensureNotNull(queryRouter, "queryRouter");
         this.contentAggregator = getOrDefault(contentAggregator, DefaultContentAggregator::new);
         this.contentInjector = getOrDefault(contentInjector, DefaultContentInjector::new);
         this.executor = getOrDefault(executor, DefaultRetrievalAugmentor::createDefaultExecutor);
+        this.cache = cache;
+        this.retrieverTimeout = ensurePositive(retrieverTimeout, "retrieverTimeout");
+        this.timeout = ensurePositive(timeout, "timeout");
+    }
+
+    private static Duration ensurePositive(Duration duration, String name) {
+        if (duration != null && (duration.isNegative() || duration.isZero())) {
+            throw new IllegalArgumentException(name + " must be positive, but is: " + duration);
+        }
+        return duration;
     }
 
     private static ExecutorService createDefaultExecutor() {
-        return new ThreadPoolExecutor(
+        return VirtualThreadUtils.createVirtualThreadExecutor(() -> new ThreadPoolExecutor(
             0, Integer.MAX_VALUE,
             1, SECONDS,
             new SynchronousQueue<>()
-        );
+        ));
     }
 
     @Override
     public AugmentationResult augment(AugmentationRequest augmentationRequest) {
 
+        Duration requestTimeout = ensurePositive(augmentationRequest.timeout(), "timeout");
+        Duration effectiveTimeout = timeout == null || (requestTimeout != null && requestTimeout.compareTo(timeout) < 0)
+                ? requestTimeout
+                : timeout;
+        long deadline = effectiveTimeout == null ? 0 : System.nanoTime() + effectiveTimeout.toNanos();
+
         ChatMessage chatMessage = augmentationRequest.chatMessage();
         String queryText;
         if (chatMessage instanceof UserMessage userMessage) {
@@ -145,9 +239,15 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
         }
         Query originalQuery = Query.from(queryText, augmentationRequest.metadata());
 
-        Collection<Query> queries = queryTransformer.transform(originalQuery);
+        Collection<Query> queries = cache == null
+                ? queryTransformer.transform(originalQuery)
+                : cache.transform(queryTransformer, originalQuery);
 
-        Map<Query, Collection<List<Content>>> queryToContents = process(queries);
+        Map<Query, Collection<ContentRetriever>> timedOutRetrievers = new LinkedHashMap<>();
+        // retrievals still running at the deadline are kept (instead of being cancelled) only if the caller asked for it
+        List<CompletableFuture<List<Content>>> lateRetrievals = requestTimeout == null ? null : new ArrayList<>();
+        Map<Query, Collection<List<Content>>> queryToContents =
+                process(queries, deadline, timedOutRetrievers, lateRetrievals);
 
         List<Content> contents = contentAggregator.aggregate(queryToContents);
 
@@ -156,60 +256,254 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
         return AugmentationResult.builder()
             .chatMessage(augmentedChatMessage)
             .contents(contents)
+            .timedOutRetrievers(timedOutRetrievers)
+            .lateContents(lateRetrievals == null || lateRetrievals.isEmpty()
+                    ? null
+                    : lateContents(lateRetrievals, contents))
             .build();
     }
 
-    private Map<Query, Collection<List<Content>>> process(Collection<Query> queries) {
+    /**
+     * Fuses the contents of the late retrievals that succeed, once all of them finish,
+     * leaving out the contents that were already injected.
+     * Cancelling the returned future cancels the late retrievals that are still running.
+     */
+    private static CompletableFuture<List<Content>> lateContents(List<CompletableFuture<List<Content>>> lateRetrievals,
+                                                                 List<Content> injectedContents) {
+        List<CompletableFuture<List<Content>>> lateContents = lateRetrievals.stream()
+                .map(futureContents -> futureContents.handle((contents, error) -> {
+                    if (error != null) {
+                        log.warn("Late content retrieval failed, skipping it", error);
+                        return List.<Content>of();
+                    }
+                    return contents;
+                }))
+                .collect(toList());
+        CompletableFuture<List<Content>> fusedLateContents = allOf(lateContents.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> {
+                    // contents are compared by their segments, as their metadata (e.g. scores) may differ
+                    Set<TextSegment> injectedSegments = injectedContents.stream()
+                            .map(Content::textSegment)
+                            .collect(toSet());
+                    return ReciprocalRankFuser.fuse(lateContents.stream()
+                                    .map(CompletableFuture::join)
+                                    .collect(toList()))
+                            .stream()
+                            .filter(content -> !injectedSegments.contains(content.textSegment()))
+                            .collect(toList());
+                });
+        fusedLateContents.whenComplete((ignored, error) -> {
+            if (fusedLateContents.isCancelled()) {
+                lateRetrievals.forEach(futureContents -> futureContents.cancel(true));
+            }
+        });
+        return fusedLateContents;
+    }
+
+    private Map<Query, Collection<List<Content>>> process(Collection<Query> queries,
+                                                          long deadline,
+                                                          Map<Query, Collection<ContentRetriever>> timedOutRetrievers,
+                                                          List<CompletableFuture<List<Content>>> lateRetrievals) {
         if (queries.size() == 1) {
             Query query = queries.iterator().next();
             Collection<ContentRetriever> retrievers = queryRouter.route(query);
-            if (retrievers.size() == 1) {
+            if (retrievers.size() == 1 && !hasTimeouts(deadline)) {
                 ContentRetriever contentRetriever = retrievers.iterator().next();
-                List<Content> contents = contentRetriever.retrieve(query);
+                List<Content> contents = retrieve(contentRetriever, query);
                 return singletonMap(query, singletonList(contents));
-            } else if (retrievers.size() > 1) {
-                Collection<List<Content>> contents = retrieveFromAll(retrievers, query).join();
-                return singletonMap(query, contents);
+            } else if (!retrievers.isEmpty()) {
+                List<Retrieval> retrievals = retrieveFromAll(retrievers, query);
+                await(allRetrieved(retrievals), deadline);
+                return singletonMap(query, collect(query, retrievals, timedOutRetrievers, lateRetrievals));
             } else {
                 return emptyMap();
             }
         } else if (queries.size() > 1) {
-            Map<Query, CompletableFuture<Collection<List<Content>>>> queryToFutureContents = new ConcurrentHashMap<>();
+            // a retriever that cannot retrieve several queries at once starts as soon as a query is routed to it
+            Map<Query, CompletableFuture<Collection<ContentRetriever>>> queryToFutureRetrievers = new LinkedHashMap<>();
+            Map<Query, CompletableFuture<Map<ContentRetriever, CompletableFuture<List<Content>>>>> queryToFutureRetrievals =
+                    new LinkedHashMap<>();
             queries.forEach(query -> {
-                CompletableFuture<Collection<List<Content>>> futureContents =
-                        supplyAsync(() -> queryRouter.route(query), executor)
-                                .thenCompose(retrievers -> retrieveFromAll(retrievers, query));
-                queryToFutureContents.put(query, futureContents);
+                CompletableFuture<Collection<ContentRetriever>> futureRetrievers =
+                        supplyAsync(() -> queryRouter.route(query), executor);
+                queryToFutureRetrievers.put(query, futureRetrievers);
+                queryToFutureRetrievals.put(query, futureRetrievers.thenApply(retrievers ->
+                        retrieveUnlessBatched(retrievers, query)));
             });
-            return join(queryToFutureContents);
+            await(allOf(queryToFutureRetrievers.values().toArray(new CompletableFuture[0])), deadline);
+
+            // the queries routed to a retriever that can retrieve several queries at once are grouped
+            Map<ContentRetriever, List<Query>> batchRetrieverToQueries = new LinkedHashMap<>();
+            Map<Query, Collection<ContentRetriever>> queryToRetrievers = new LinkedHashMap<>();
+            queryToFutureRetrievers.forEach((query, futureRetrievers) -> {
+                if (futureRetrievers.isDone()) {
+                    Collection<ContentRetriever> retrievers = futureRetrievers.join();
+                    retrievers.stream()
+                            .filter(DefaultRetrievalAugmentor::retrievesInBatches)
+                            .forEach(retriever -> batchRetrieverToQueries
+                                    .computeIfAbsent(retriever, ignored -> new ArrayList<>())
+                                    .add(query));
+                    queryToRetrievers.put(query, retrievers);
+                } else {
+                    futureRetrievers.cancel(true);
+                    // the retrievers are unknown, so the query is reported without any
+                    timedOutRetrievers.put(query, emptyList());
+                    log.warn("Query '{}' was not routed within the timeout, skipping it", query.text());
+                }
+            });
+
+            Map<ContentRetriever, Map<Query, CompletableFuture<List<Content>>>> batchRetrieverToFutureContents =
+                    new LinkedHashMap<>();
+            batchRetrieverToQueries.forEach((retriever, retrieverQueries) ->
+                    batchRetrieverToFutureContents.put(retriever, retrieveAll(retriever, retrieverQueries)));
+
+            Map<Query, List<Retrieval>> queryToRetrievals = new LinkedHashMap<>();
+            queryToRetrievers.forEach((query, retrievers) -> {
+                Map<ContentRetriever, CompletableFuture<List<Content>>> retrieverToFutureContents =
+                        queryToFutureRetrievals.get(query).join();
+                List<Retrieval> retrievals = retrievers.stream()
+                        .map(retriever -> new Retrieval(retriever, retrievesInBatches(retriever)
+                                ? batchRetrieverToFutureContents.get(retriever).get(query)
+                                : retrieverToFutureContents.get(retriever)))
+                        .collect(toList());
+                queryToRetrievals.put(query, retrievals);
+            });
+            await(allOf(queryToRetrievals.values().stream()
+                    .flatMap(List::stream)
+                    .map(Retrieval::futureContents)
+                    .toArray(CompletableFuture[]::new)), deadline);
+
+            Map<Query, Collection<List<Content>>> queryToContents = new LinkedHashMap<>();
+            queryToRetrievals.forEach((query, retrievals) ->
+                    queryToContents.put(query, collect(query, retrievals, timedOutRetrievers, lateRetrievals)));
+            return queryToContents;
         } else {
             return emptyMap();
         }
     }
 
-    private CompletableFuture<Collection<List<Content>>> retrieveFromAll(Collection<ContentRetriever> retrievers,
-                                                                         Query query) {
-        List<CompletableFuture<List<Content>>> futureContents = retrievers.stream()
-            .map(retriever -> supplyAsync(() -> retriever.retrieve(query), executor))
-            .collect(Collectors.toList());
-
-        return allOf(futureContents.toArray(new CompletableFuture[0]))
-            .thenApply(ignored ->
-                futureContents.stream()
-                    .map(CompletableFuture::join)
-                    .collect(Collectors.toList()));
+    private static boolean retrievesInBatches(ContentRetriever retriever) {
+        return BATCH_RETRIEVAL.get(retriever.getClass());
     }
 
-    private static Map<Query, Collection<List<Content>>> join(
-        Map<Query, CompletableFuture<Collection<List<Content>>>> queryToFutureContents) {
-        return allOf(queryToFutureContents.values().toArray(new CompletableFuture[0]))
-            .thenApply(ignored ->
-                queryToFutureContents.entrySet().stream()
-                    .collect(toMap(
-                        Map.Entry::getKey,
-                        entry -> entry.getValue().join()
-                    ))
-            ).join();
+    /**
+     * Starts retrieving the contents of a query from the retrievers that cannot retrieve several queries at once.
+     */
+    private Map<ContentRetriever, CompletableFuture<List<Content>>> retrieveUnlessBatched(
+            Collection<ContentRetriever> retrievers, Query query) {
+        Map<ContentRetriever, CompletableFuture<List<Content>>> retrieverToFutureContents = new LinkedHashMap<>();
+        retrievers.stream()
+                .filter(retriever -> !retrievesInBatches(retriever))
+                .forEach(retriever -> retrieverToFutureContents.put(retriever,
+                        withRetrieverTimeout(supplyAsync(() -> retrieve(retriever, query), executor))));
+        return retrieverToFutureContents;
+    }
+
+    /**
+     * Retrieves the contents of the queries routed to a retriever that supports batch retrieval,
+     * with a single {@link ContentRetriever#retrieveAll(Collection)} call if there are several of them,
+     * otherwise with a {@link ContentRetriever#retrieve(Query)} call.
+     */
+    private Map<Query, CompletableFuture<List<Content>>> retrieveAll(ContentRetriever retriever, List<Query> queries) {
+        Map<Query, CompletableFuture<List<Content>>> queryToFutureContents = new LinkedHashMap<>();
+        if (queries.size() > 1 && retrievesInBatches(retriever)) {
+            CompletableFuture<Map<Query, List<Content>>> futureBatch = withRetrieverTimeout(supplyAsync(() -> cache == null
+                    ? retriever.retrieveAll(queries)
+                    : cache.retrieveAll(retriever, queries), executor));
+            queries.forEach(query -> queryToFutureContents.put(query,
+                    futureBatch.thenApply(queryToContents -> queryToContents.getOrDefault(query, List.of()))));
+        } else {
+            queries.forEach(query -> queryToFutureContents.put(query,
+                    withRetrieverTimeout(supplyAsync(() -> retrieve(retriever, query), executor))));
+        }
+        return queryToFutureContents;
+    }
+
+    private boolean hasTimeouts(long deadline) {
+        return retrieverTimeout != null || deadline != 0;
+    }
+
+    private List<Retrieval> retrieveFromAll(Collection<ContentRetriever> retrievers, Query query) {
+        return retrievers.stream()
+            .map(retriever -> {
+                CompletableFuture<List<Content>> futureContents =
+                        withRetrieverTimeout(supplyAsync(() -> retrieve(retriever, query), executor));
+                return new Retrieval(retriever, futureContents);
+            })
+            .collect(toList());
+    }
+
+    private <T> CompletableFuture<T> withRetrieverTimeout(CompletableFuture<T> future) {
+        return retrieverTimeout == null ? future : future.orTimeout(retrieverTimeout.toMillis(), MILLISECONDS);
+    }
+
+    private static CompletableFuture<Void> allRetrieved(List<Retrieval> retrievals) {
+        return allOf(retrievals.stream()
+                .map(Retrieval::futureContents)
+                .toArray(CompletableFuture[]::new));
+    }
+
+    private List<Content> retrieve(ContentRetriever contentRetriever, Query query) {
+        return cache == null ? contentRetriever.retrieve(query) : cache.retrieve(contentRetriever, query);
+    }
+
+    /**
+     * Waits until the provided future completes (normally or exceptionally) or the deadline passes.
+     * Failures are not thrown here, but when the results are collected.
+     */
+    private void await(CompletableFuture<?> future, long deadline) {
+        CompletableFuture<?> completion = future.handle((result, error) -> null);
+        try {
+            if (deadline == 0) {
+                completion.join();
+            } else {
+                completion.get(Math.max(0, deadline - System.nanoTime()), NANOSECONDS);
+            }
+        } catch (TimeoutException | ExecutionException e) {
+            // retrievals that have not completed yet are collected as timed out
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Collection<List<Content>> collect(Query query,
+                                                     List<Retrieval> retrievals,
+                                                     Map<Query, Collection<ContentRetriever>> timedOutRetrievers,
+                                                     List<CompletableFuture<List<Content>>> lateRetrievals) {
+        List<List<Content>> contents = new ArrayList<>();
+        for (Retrieval retrieval : retrievals) {
+            if (lateRetrievals != null && !retrieval.futureContents().isDone()) {
+                lateRetrievals.add(retrieval.futureContents());
+                timedOutRetrievers.computeIfAbsent(query, ignored -> new ArrayList<>()).add(retrieval.contentRetriever());
+                log.debug("{} did not retrieve contents for query '{}' within the timeout, " +
+                        "they will be provided as late contents", retrieval.contentRetriever(), query.text());
+            } else if (isTimedOut(retrieval.futureContents())) {
+                retrieval.futureContents().cancel(true);
+                timedOutRetrievers.computeIfAbsent(query, ignored -> new ArrayList<>()).add(retrieval.contentRetriever());
+                log.warn("{} did not retrieve contents for query '{}' within the timeout, skipping it",
+                        retrieval.contentRetriever(), query.text());
+            } else {
+                contents.add(retrieval.futureContents().join());
+            }
+        }
+        return contents;
+    }
+
+    private static boolean isTimedOut(CompletableFuture<?> future) {
+        if (!future.isDone()) {
+            return true;
+        }
+        if (future.isCompletedExceptionally() && !future.isCancelled()) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                return e.getCause() instanceof TimeoutException;
+            }
+        }
+        return false;
+    }
+
+    private record Retrieval(ContentRetriever contentRetriever, CompletableFuture<List<Content>> futureContents) {
     }
 
     public static DefaultRetrievalAugmentorBuilder builder() {
@@ -223,6 +517,9 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
         private ContentAggregator contentAggregator;
         private ContentInjector contentInjector;
         private Executor executor;
+        private RetrievalCache cache;
+        private Duration retrieverTimeout;
+        private Duration timeout;
 
         DefaultRetrievalAugmentorBuilder() {
         }
@@ -257,8 +554,23 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
             return this;
         }
 
+        public DefaultRetrievalAugmentorBuilder cache(RetrievalCache cache) {
+            this.cache = cache;
+            return this;
+        }
+
+        public DefaultRetrievalAugmentorBuilder retrieverTimeout(Duration retrieverTimeout) {
+            this.retrieverTimeout = retrieverTimeout;
+            return this;
+        }
+
+        public DefaultRetrievalAugmentorBuilder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
         public DefaultRetrievalAugmentor build() {
-            return new DefaultRetrievalAugmentor(this.queryTransformer, this.queryRouter, this.contentAggregator, this.contentInjector, this.executor);
+            return new DefaultRetrievalAugmentor(this.queryTransformer, this.queryRouter, this.contentAggregator, this.contentInjector, this.executor, this.cache, this.retrieverTimeout, this.timeout);
         }
     }
 }
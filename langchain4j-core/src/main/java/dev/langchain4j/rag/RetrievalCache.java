@@ -0,0 +1,369 @@
+package dev.langchain4j.rag;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.rag.content.retriever.ContentRetriever;
+import dev.langchain4j.rag.content.retriever.EmbeddingStoreContentRetriever;
+import dev.langchain4j.rag.query.Query;
+import dev.langchain4j.rag.query.transformer.DefaultQueryTransformer;
+import dev.langchain4j.rag.query.transformer.QueryTransformer;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.filter.Filter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A bounded, time-limited cache of the results of {@link ContentRetriever}s and {@link QueryTransformer}s,
+ * used by {@link DefaultRetrievalAugmentor} to avoid retrieving the same contents
+ * and transforming the same queries (which often involves an LLM call) over and over again.
+ * <p>
+ * Retrieved contents are cached per retriever and query text.
+ * For an {@link EmbeddingStoreContentRetriever}, the {@link Filter}, maximum number of results and minimum score
+ * it applies to the query are part of the key as well.
+ * For other retrievers, whose results might depend on the user, the chat memory ID of the query is part of the key.
+ * <p>
+ * Transformed queries are cached per transformer, query text and chat memory contents
+ * (which e.g. {@link dev.langchain4j.rag.query.transformer.CompressingQueryTransformer} takes into account).
+ * The queries returned from the cache carry the metadata of the current query.
+ * {@link DefaultQueryTransformer} results are not cached.
+ * <p>
+ * The cache does not know when the underlying data changes.
+ * Wrap an {@link EmbeddingStore} with {@link #invalidatingOnWrites(EmbeddingStore)}
+ * so that writes to it invalidate the cache, or call {@link #invalidateAll()}.
+ * Results that were being computed while the cache was invalidated are not cached.
+ * <p>
+ * This class is thread-safe and can be shared by several {@link DefaultRetrievalAugmentor}s.
+ */
+public class RetrievalCache {
+
+    private static final int DEFAULT_MAX_SIZE = 1000;
+    private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(1);
+
+    private final long timeToLiveNanos;
+    private final Map<Object, Entry> cache;
+    private long generation; // guarded by cache, incremented on each invalidation
+
+    private RetrievalCache(Builder builder) {
+        int maxSize = ensureGreaterThanZero(getOrDefault(builder.maxSize, DEFAULT_MAX_SIZE), "maxSize");
+        Duration timeToLive = getOrDefault(builder.timeToLive, DEFAULT_TIME_TO_LIVE);
+        if (timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("timeToLive must be positive, but is: " + timeToLive);
+        }
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached contents the provided retriever retrieved for an equivalent query,
+     * or retrieves them and caches them.
+     *
+     * @param contentRetriever The retriever.
+     * @param query            The query.
+     * @return the contents.
+     */
+    public List<Content> retrieve(ContentRetriever contentRetriever, Query query) {
+        return getOrCompute(retrievalKey(contentRetriever, query), () -> List.copyOf(contentRetriever.retrieve(query)));
+    }
+
+    /**
+     * Returns the cached contents the provided retriever retrieved for equivalent queries,
+     * and retrieves the contents of the remaining queries with a single
+     * {@link ContentRetriever#retrieveAll(Collection)} call and caches them.
+     *
+     * @param contentRetriever The retriever.
+     * @param queries          The queries.
+     * @return a map from each query to its contents, in the order of the given queries.
+     */
+    public Map<Query, List<Content>> retrieveAll(ContentRetriever contentRetriever, Collection<Query> queries) {
+        Map<Query, List<Content>> queryToContents = new LinkedHashMap<>();
+        List<Query> missingQueries = new ArrayList<>();
+        for (Query query : queries) {
+            List<Content> contents = get(retrievalKey(contentRetriever, query));
+            queryToContents.put(query, contents);
+            if (contents == null) {
+                missingQueries.add(query);
+            }
+        }
+        if (!missingQueries.isEmpty()) {
+            long generation = generation();
+            long createdAt = System.nanoTime();
+            Map<Query, List<Content>> retrieved = contentRetriever.retrieveAll(missingQueries);
+            for (Query query : missingQueries) {
+                List<Content> contents = List.copyOf(retrieved.getOrDefault(query, List.of()));
+                put(retrievalKey(contentRetriever, query), contents, createdAt, generation);
+                queryToContents.put(query, contents);
+            }
+        }
+        return queryToContents;
+    }
+
+    private static RetrievalKey retrievalKey(ContentRetriever contentRetriever, Query query) {
+        Object scope = contentRetriever instanceof EmbeddingStoreContentRetriever embeddingStoreContentRetriever
+                ? new SearchScope(
+                        embeddingStoreContentRetriever.filter(query),
+                        embeddingStoreContentRetriever.maxResults(query),
+                        embeddingStoreContentRetriever.minScore(query))
+                : query.metadata() == null ? null : query.metadata().chatMemoryId();
+        return new RetrievalKey(contentRetriever, query.text(), scope);
+    }
+
+    /**
+     * Returns the cached queries the provided transformer transformed an equivalent query into,
+     * or transforms the query and caches the result.
+     *
+     * @param queryTransformer The transformer.
+     * @param query            The query.
+     * @return the transformed queries.
+     */
+    public Collection<Query> transform(QueryTransformer queryTransformer, Query query) {
+        if (queryTransformer instanceof DefaultQueryTransformer) {
+            return queryTransformer.transform(query);
+        }
+        TransformationKey key = new TransformationKey(
+                queryTransformer, query.text(), query.metadata() == null ? null : query.metadata().chatMemory());
+        List<String> queryTexts = getOrCompute(key, () -> queryTransformer.transform(query).stream()
+                .map(Query::text)
+                .collect(toList()));
+        return queryTexts.stream()
+                .map(text -> query.metadata() == null ? Query.from(text) : Query.from(text, query.metadata()))
+                .collect(toList());
+    }
+
+    private <T> T getOrCompute(Object key, Supplier<T> supplier) {
+        T value = get(key);
+        if (value != null) {
+            return value;
+        }
+        // computed outside the lock, concurrent computations of the same key are harmless
+        long generation = generation();
+        long createdAt = System.nanoTime();
+        value = supplier.get();
+        put(key, value, createdAt, generation);
+        return value;
+    }
+
+    private long generation() {
+        synchronized (cache) {
+            return generation;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(Object key) {
+        synchronized (cache) {
+            Entry entry = cache.get(key);
+            if (entry != null) {
+                if (System.nanoTime() - entry.createdAt < timeToLiveNanos) {
+                    return (T) entry.value;
+                }
+                cache.remove(key);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Caches a value, unless the cache was invalidated since the value started being computed,
+     * in which case the value might reflect stale data.
+     */
+    private void put(Object key, Object value, long createdAt, long generation) {
+        synchronized (cache) {
+            if (this.generation == generation) {
+                cache.put(key, new Entry(value, createdAt));
+            }
+        }
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public void invalidateAll() {
+        synchronized (cache) {
+            generation++;
+            cache.clear();
+        }
+    }
+
+    /**
+     * Wraps the provided {@link EmbeddingStore} so that every write to it (add or remove) invalidates this cache.
+     *
+     * @param embeddingStore The embedding store to wrap.
+     * @param <Embedded>     The class of the object that has been embedded.
+     * @return the wrapped embedding store.
+     */
+    public <Embedded> EmbeddingStore<Embedded> invalidatingOnWrites(EmbeddingStore<Embedded> embeddingStore) {
+        return new InvalidatingEmbeddingStore<>(ensureNotNull(embeddingStore, "embeddingStore"));
+    }
+
+    private record Entry(Object value, long createdAt) {
+    }
+
+    private record SearchScope(Filter filter, Integer maxResults, Double minScore) {
+    }
+
+    private record RetrievalKey(ContentRetriever contentRetriever, String queryText, Object scope) {
+    }
+
+    private record TransformationKey(QueryTransformer queryTransformer, String queryText, Object chatMemory) {
+    }
+
+    private class InvalidatingEmbeddingStore<Embedded> implements EmbeddingStore<Embedded> {
+
+        private final EmbeddingStore<Embedded> delegate;
+
+        private InvalidatingEmbeddingStore(EmbeddingStore<Embedded> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String add(Embedding embedding) {
+            try {
+                return delegate.add(embedding);
+            } finally {
+                invalidateAll();
+            }
+        }
+
+        @Override
+        public void add(String id, Embedding embedding) {
+            try {
+                delegate.add(id, embedding);
+            } finally {
+                invalidateAll();
+            }
+        }
+
+        @Override
+        public String add(Embedding embedding, Embedded embedded) {
+            try {
+                return delegate.add(embedding, embedded);
+            } finally {
+                invalidateAll();
+            }
+        }
+
+        @Override
+        public List<String> addAll(List<Embedding> embeddings) {
+            try {
+                return delegate.addAll(embeddings);
+            } finally {
+                invalidateAll();
+            }
+        }
+
+        @Override
+        public List<String> addAll(List<Embedding> embeddings, List<Embedded> embedded) {
+            try {
+                return delegate.addAll(embeddings, embedded);
+            } finally {
+                invalidateAll();
+            }
+        }
+
+        @Override
+        public void addAll(List<String> ids, List<Embedding> embeddings, List<Embedded> embedded) {
+            try {
+                delegate.addAll(ids, embeddings, embedded);
+            } finally {
+                invalidateAll();
+            }
+        }
+
+        @Override
+        public void remove(String id) {
+            try {
+                delegate.remove(id);
+            } finally {
+                invalidateAll();
+            }
+        }
+
+        @Override
+        public void removeAll(Collection<String> ids) {
+            try {
+                delegate.removeAll(ids);
+            } finally {
+                invalidateAll();
+            }
+        }
+
+        @Override
+        public void removeAll(Filter filter) {
+            try {
+                delegate.removeAll(filter);
+            } finally {
+                invalidateAll();
+            }
+        }
+
+        @Override
+        public void removeAll() {
+            try {
+                delegate.removeAll();
+            } finally {
+                invalidateAll();
+            }
+        }
+
+        @Override
+        public EmbeddingSearchResult<Embedded> search(EmbeddingSearchRequest request) {
+            return delegate.search(request);
+        }
+
+        @Override
+        public List<EmbeddingSearchResult<Embedded>> searchAll(List<EmbeddingSearchRequest> requests) {
+            return delegate.searchAll(requests);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Integer maxSize;
+        private Duration timeToLive;
+
+        /**
+         * @param maxSize The maximum number of cached results. The least recently used ones are evicted first.
+         *                Default: 1000
+         * @return builder
+         */
+        public Builder maxSize(Integer maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * @param timeToLive How long a result is cached for. Default: 1 minute
+         * @return builder
+         */
+        public Builder timeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        public RetrievalCache build() {
+            return new RetrievalCache(this);
+        }
+    }
+}
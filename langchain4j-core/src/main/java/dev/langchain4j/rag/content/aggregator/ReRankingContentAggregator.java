@@ -7,8 +7,8 @@ import dev.langchain4j.rag.content.ContentMetadata;
 import dev.langchain4j.rag.query.Query;
 import dev.langchain4j.rag.query.transformer.ExpandingQueryTransformer;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,6 +17,7 @@ import java.util.stream.Collectors;
 
 import static dev.langchain4j.internal.Exceptions.illegalArgument;
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static dev.langchain4j.rag.content.ContentMetadata.RERANKED_SCORE;
 import static java.util.Collections.emptyList;
@@ -43,6 +44,15 @@ import static java.util.Collections.emptyList;
  * - {@link #minScore}: the minimum score for {@link Content}s to be returned.
  * {@link Content}s scoring below this threshold (as determined by the {@link ScoringModel})
  * are excluded from the results.
+ * <br>
+ * - {@link #maxResults}: the maximum number of {@link Content}s to be returned.
+ * <br>
+ * - {@link #firstStageMaxResults}: the maximum number of {@link Content}s scored by the {@link ScoringModel}.
+ * When set, the fused {@link Content}s are first pruned to this number by a cheaper first stage,
+ * so that an expensive {@link ScoringModel} only scores the most promising candidates (cascade re-ranking).
+ * The first stage ranks {@link Content}s with the {@link #firstStageScoringModel} (e.g., a small in-process model),
+ * or, if none is provided, keeps the top {@link Content}s of the fused ranking,
+ * which reflects the scores of the retrievers (e.g., vector similarity).
  *
  * @see DefaultContentAggregator
  */
@@ -65,6 +75,8 @@ public class ReRankingContentAggregator implements ContentAggregator {
     private final Function<Map<Query, Collection<List<Content>>>, Query> querySelector;
     private final Double minScore;
     private final Integer maxResults;
+    private final ScoringModel firstStageScoringModel;
+    private final Integer firstStageMaxResults;
 
     public ReRankingContentAggregator(ScoringModel scoringModel) {
         this(scoringModel, DEFAULT_QUERY_SELECTOR, null);
@@ -80,10 +92,26 @@ public class ReRankingContentAggregator implements ContentAggregator {
                                       Function<Map<Query, Collection<List<Content>>>, Query> querySelector,
                                       Double minScore,
                                       Integer maxResults) {
+        this(scoringModel, querySelector, minScore, maxResults, null, null);
+    }
+
+    public ReRankingContentAggregator(ScoringModel scoringModel,
+                                      Function<Map<Query, Collection<List<Content>>>, Query> querySelector,
+                                      Double minScore,
+                                      Integer maxResults,
+                                      ScoringModel firstStageScoringModel,
+                                      Integer firstStageMaxResults) {
         this.scoringModel = ensureNotNull(scoringModel, "scoringModel");
         this.querySelector = getOrDefault(querySelector, DEFAULT_QUERY_SELECTOR);
         this.minScore = minScore;
         this.maxResults = getOrDefault(maxResults, Integer.MAX_VALUE);
+        this.firstStageScoringModel = firstStageScoringModel;
+        this.firstStageMaxResults = firstStageMaxResults == null
+                ? null
+                : ensureGreaterThanZero(firstStageMaxResults, "firstStageMaxResults");
+        if (firstStageScoringModel != null && firstStageMaxResults == null) {
+            throw illegalArgument("'firstStageMaxResults' must be set when a 'firstStageScoringModel' is provided");
+        }
     }
 
     public static ReRankingContentAggregatorBuilder builder() {
@@ -103,8 +131,11 @@ public class ReRankingContentAggregator implements ContentAggregator {
         // For each query, fuse all contents retrieved from different sources using that query
         Map<Query, List<Content>> queryToFusedContents = fuse(queryToContents);
 
-        // Fuse all contents retrieved using all queries
-        List<Content> fusedContents = ReciprocalRankFuser.fuse(queryToFusedContents.values());
+        // Fuse all contents retrieved using all queries.
+        // When the first stage keeps the top of the fused ranking, only that top is selected.
+        List<Content> fusedContents = firstStageMaxResults != null && firstStageScoringModel == null
+                ? ReciprocalRankFuser.fuse(queryToFusedContents.values(), 60, firstStageMaxResults)
+                : ReciprocalRankFuser.fuse(queryToFusedContents.values());
 
         if (fusedContents.isEmpty()) {
             return fusedContents;
@@ -125,23 +156,44 @@ public class ReRankingContentAggregator implements ContentAggregator {
 
     protected List<Content> reRankAndFilter(List<Content> contents, Query query) {
 
-        List<TextSegment> segments = contents.stream()
+        List<Content> candidates = firstStage(contents, query);
+
+        List<TextSegment> segments = candidates.stream()
                 .map(Content::textSegment)
                 .collect(Collectors.toList());
 
         List<Double> scores = scoringModel.scoreAll(segments, query.text()).content();
 
-        Map<TextSegment, Double> segmentToScore = new HashMap<>();
-        for (int i = 0; i < segments.size(); i++) {
-            segmentToScore.put(segments.get(i), scores.get(i));
+        // contents are referred to by index, so that equal segments are neither merged nor lost
+        List<Content> reRanked = new ArrayList<>();
+        for (int index : TopK.topK(scores::get, scores.size(), maxResults, minScore)) {
+            reRanked.add(Content.from(segments.get(index), Map.of(RERANKED_SCORE, scores.get(index))));
+        }
+        return reRanked;
+    }
+
+    /**
+     * Prunes the contents to at most {@link #firstStageMaxResults} before they are scored by the {@link #scoringModel}.
+     */
+    private List<Content> firstStage(List<Content> contents, Query query) {
+        if (firstStageMaxResults == null || contents.size() <= firstStageMaxResults) {
+            return contents;
+        }
+        if (firstStageScoringModel == null) {
+            // contents are already ranked by the fusion of the retrievers' rankings
+            return contents.subList(0, firstStageMaxResults);
         }
 
-        return segmentToScore.entrySet().stream()
-                .filter(entry -> minScore == null || entry.getValue() >= minScore)
-                .sorted(Map.Entry.<TextSegment, Double>comparingByValue().reversed())
-                .map(entry ->  Content.from(entry.getKey(), Map.of(RERANKED_SCORE, entry.getValue())))
-                .limit(maxResults)
+        List<TextSegment> segments = contents.stream()
+                .map(Content::textSegment)
                 .collect(Collectors.toList());
+        List<Double> scores = firstStageScoringModel.scoreAll(segments, query.text()).content();
+
+        List<Content> candidates = new ArrayList<>();
+        for (int index : TopK.topK(scores::get, scores.size(), firstStageMaxResults, null)) {
+            candidates.add(contents.get(index));
+        }
+        return candidates;
     }
 
     public static class ReRankingContentAggregatorBuilder {
@@ -149,6 +201,8 @@ public class ReRankingContentAggregator implements ContentAggregator {
         private Function<Map<Query, Collection<List<Content>>>, Query> querySelector;
         private Double minScore;
         private Integer maxResults;
+        private ScoringModel firstStageScoringModel;
+        private Integer firstStageMaxResults;
 
         ReRankingContentAggregatorBuilder() {
         }
@@ -173,8 +227,29 @@ public class ReRankingContentAggregator implements ContentAggregator {
             return this;
         }
 
+        /**
+         * @param firstStageScoringModel A cheaper {@link ScoringModel} selecting the {@code firstStageMaxResults}
+         *                               contents to be scored by the {@code scoringModel}. Optional.
+         * @return builder
+         */
+        public ReRankingContentAggregatorBuilder firstStageScoringModel(ScoringModel firstStageScoringModel) {
+            this.firstStageScoringModel = firstStageScoringModel;
+            return this;
+        }
+
+        /**
+         * @param firstStageMaxResults The maximum number of contents to be scored by the {@code scoringModel}.
+         *                             Default: all contents are scored
+         * @return builder
+         */
+        public ReRankingContentAggregatorBuilder firstStageMaxResults(Integer firstStageMaxResults) {
+            this.firstStageMaxResults = firstStageMaxResults;
+            return this;
+        }
+
         public ReRankingContentAggregator build() {
-            return new ReRankingContentAggregator(this.scoringModel, this.querySelector, this.minScore, this.maxResults);
+            return new ReRankingContentAggregator(this.scoringModel, this.querySelector, this.minScore, this.maxResults,
+                    this.firstStageScoringModel, this.firstStageMaxResults);
         }
     }
 }
@@ -4,12 +4,12 @@ import dev.langchain4j.rag.content.Content;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 
 /**
  * Implementation of Reciprocal Rank Fusion.
@@ -46,21 +46,51 @@ public class ReciprocalRankFuser {
      * @return A single {@code List<Content>}, the result of the fusion.
      */
     public static List<Content> fuse(Collection<List<Content>> listsOfContents, int k) {
+        return fuse(listsOfContents, k, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Fuses multiple {@code List<Content>} into a single {@code List<Content>}
+     * using the Reciprocal Rank Fusion (RRF) algorithm, and returns only its {@code maxResults} top {@link Content}s.
+     * <br>
+     * This is cheaper than fusing all {@link Content}s when only the top ones are needed,
+     * as only {@code maxResults} {@link Content}s are kept ordered during the selection.
+     *
+     * @param listsOfContents A {@link Collection} of {@code List<Content>} to be fused together.
+     * @param k               A ranking constant, see {@link #fuse(Collection, int)}. K must be greater than or equal to 1.
+     * @param maxResults      The maximum number of {@link Content}s to return. Must be greater than 0.
+     * @return A single {@code List<Content>}, the top of the result of the fusion.
+     */
+    public static List<Content> fuse(Collection<List<Content>> listsOfContents, int k, int maxResults) {
         ensureBetween(k, 1, Integer.MAX_VALUE, "k");
+        ensureGreaterThanZero(maxResults, "maxResults");
 
-        Map<Content, Double> scores = new LinkedHashMap<>();
+        int capacity = 0;
+        for (List<Content> singleListOfContent : listsOfContents) {
+            capacity += singleListOfContent.size();
+        }
+
+        // each distinct content is looked up once per occurrence, then scores are accumulated by index
+        Map<Content, Integer> indices = new HashMap<>(Math.max(16, (int) (capacity / 0.75f) + 1));
+        List<Content> distinctContents = new ArrayList<>(capacity);
+        double[] scores = new double[capacity];
         for (List<Content> singleListOfContent : listsOfContents) {
             for (int i = 0; i < singleListOfContent.size(); i++) {
                 Content content = singleListOfContent.get(i);
-                double currentScore = scores.getOrDefault(content, 0.0);
+                Integer index = indices.putIfAbsent(content, distinctContents.size());
+                if (index == null) {
+                    index = distinctContents.size();
+                    distinctContents.add(content);
+                }
                 int rank = i + 1;
-                double newScore = currentScore + 1.0 / (k + rank);
-                scores.put(content, newScore);
+                scores[index] += 1.0 / (k + rank);
             }
         }
 
-        List<Content> fused = new ArrayList<>(scores.keySet());
-        fused.sort(Comparator.comparingDouble(scores::get).reversed());
+        List<Content> fused = new ArrayList<>(Math.min(maxResults, distinctContents.size()));
+        for (int index : TopK.topK(i -> scores[i], distinctContents.size(), maxResults, null)) {
+            fused.add(distinctContents.get(index));
+        }
         return fused;
     }
 }
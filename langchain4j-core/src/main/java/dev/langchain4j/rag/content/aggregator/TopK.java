@@ -0,0 +1,49 @@
+package dev.langchain4j.rag.content.aggregator;
+
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Selects the highest scores, shared by the {@link ReciprocalRankFuser} and the {@link ReRankingContentAggregator}.
+ */
+final class TopK {
+
+    private TopK() {
+    }
+
+    /**
+     * Selects the indices of the (at most) {@code k} highest of the first {@code size} scores
+     * that are not below {@code minScore}, ordered from the highest score to the lowest.
+     * Equal scores are ordered by index.
+     * Only {@code k} indices are kept at a time, instead of sorting all scores.
+     *
+     * @param scores   The score of each index.
+     * @param size     The number of scores.
+     * @param k        The maximum number of indices to select.
+     * @param minScore The minimum score of a selected index. Optional.
+     * @return The indices of the highest scores.
+     */
+    static List<Integer> topK(IntToDoubleFunction scores, int size, int k, Double minScore) {
+        // the head of the queue is the worst of the selected indices
+        PriorityQueue<Integer> selected = new PriorityQueue<>(Math.min(k, size) + 1, (i1, i2) -> {
+            int byScore = Double.compare(scores.applyAsDouble(i1), scores.applyAsDouble(i2));
+            return byScore != 0 ? byScore : Integer.compare(i2, i1);
+        });
+        for (int i = 0; i < size; i++) {
+            if (minScore != null && scores.applyAsDouble(i) < minScore) {
+                continue;
+            }
+            selected.add(i);
+            if (selected.size() > k) {
+                selected.poll();
+            }
+        }
+
+        Integer[] indices = new Integer[selected.size()];
+        for (int i = indices.length - 1; i >= 0; i--) {
+            indices[i] = selected.poll();
+        }
+        return List.of(indices);
+    }
+}
@@ -0,0 +1,543 @@
+package dev.langchain4j.rag.content.retriever;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.rag.content.ContentMetadata;
+import dev.langchain4j.rag.content.aggregator.DefaultContentAggregator;
+import dev.langchain4j.rag.content.aggregator.ReciprocalRankFuser;
+import dev.langchain4j.rag.query.Query;
+import dev.langchain4j.rag.query.router.DefaultQueryRouter;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreIngestor;
+import dev.langchain4j.store.embedding.filter.Filter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.Utils.randomUUID;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureEq;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * A {@link ContentRetriever} that retrieves {@link TextSegment}s from an in-process inverted index,
+ * ranking them with the Okapi BM25 lexical relevance function.
+ * <br>
+ * Unlike the retrieval by embeddings, it matches the exact terms of the {@link Query},
+ * which works well for e.g. product codes, error IDs and names.
+ * For hybrid (lexical + vector) search, use it together with an {@link EmbeddingStoreContentRetriever}
+ * in a {@link DefaultQueryRouter}. The {@link Content}s retrieved by both are then fused by the
+ * {@link DefaultContentAggregator} using the {@link ReciprocalRankFuser}.
+ * <br>
+ * <br>
+ * The index can be kept in sync with an {@link EmbeddingStore} by wrapping the store with {@link #indexingOnWrites(EmbeddingStore)}
+ * and ingesting documents into the wrapped store (e.g. with the {@link EmbeddingStoreIngestor}).
+ * The {@link TextSegment}s are then indexed under the same IDs as in the {@link EmbeddingStore},
+ * and removed from the index when they are removed from the {@link EmbeddingStore}.
+ * Alternatively, {@link TextSegment}s can be added to and removed from the index directly.
+ * <br>
+ * <br>
+ * By default, texts are lower-cased and split into terms on any character that is not a letter or a digit.
+ * <br>
+ * <br>
+ * Configurable parameters (optional):
+ * <br>
+ * - {@code maxResults}: The maximum number of {@link Content}s to retrieve. Default: 3
+ * <br>
+ * - {@code minScore}: The minimum BM25 score for the returned {@link Content}s. Default: 0
+ * <br>
+ * - {@code filter}: The {@link Filter} that will be applied to a {@link dev.langchain4j.data.document.Metadata} in the
+ * {@link Content#textSegment()}.
+ * <br>
+ * - {@code k1}: Controls how quickly the score saturates with the frequency of a term. Default: 1.2
+ * <br>
+ * - {@code b}: Controls how much the score is normalized by the length of a segment (from 0 to 1). Default: 0.75
+ * <br>
+ * - {@code tokenizer}: Splits a text into terms.
+ * <br>
+ * <br>
+ * This class is thread-safe.
+ */
+public class Bm25ContentRetriever implements ContentRetriever {
+
+    private static final Pattern NON_TERM_CHARACTERS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    public static final Function<String, List<String>> DEFAULT_TOKENIZER = text -> {
+        List<String> terms = new ArrayList<>();
+        for (String term : NON_TERM_CHARACTERS.split(text.toLowerCase(Locale.ROOT))) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    };
+
+    private static final int DEFAULT_MAX_RESULTS = 3;
+    private static final double DEFAULT_MIN_SCORE = 0.0;
+    private static final double DEFAULT_K1 = 1.2;
+    private static final double DEFAULT_B = 0.75;
+
+    private final int maxResults;
+    private final double minScore;
+    private final Filter filter;
+    private final double k1;
+    private final double b;
+    private final Function<String, List<String>> tokenizer;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, IndexedSegment> segments = new HashMap<>();
+    private final Map<String, Map<String, Integer>> postings = new HashMap<>();
+    private long totalLength;
+
+    private Bm25ContentRetriever(Builder builder) {
+        this.maxResults = ensureGreaterThanZero(getOrDefault(builder.maxResults, DEFAULT_MAX_RESULTS), "maxResults");
+        this.minScore = getOrDefault(builder.minScore, DEFAULT_MIN_SCORE);
+        this.filter = builder.filter;
+        this.k1 = getOrDefault(builder.k1, DEFAULT_K1);
+        if (k1 < 0) {
+            throw new IllegalArgumentException("k1 must not be negative, but is: " + k1);
+        }
+        this.b = ensureBetween(getOrDefault(builder.b, DEFAULT_B), 0, 1, "b");
+        this.tokenizer = getOrDefault(builder.tokenizer, DEFAULT_TOKENIZER);
+    }
+
+    /**
+     * Adds a {@link TextSegment} to the index under a random ID.
+     *
+     * @param textSegment The segment to add.
+     * @return the ID of the segment.
+     */
+    public String add(TextSegment textSegment) {
+        String id = randomUUID();
+        add(id, textSegment);
+        return id;
+    }
+
+    /**
+     * Adds a {@link TextSegment} to the index under the provided ID, replacing the segment with the same ID, if any.
+     *
+     * @param id          The ID of the segment.
+     * @param textSegment The segment to add.
+     */
+    public void add(String id, TextSegment textSegment) {
+        ensureNotNull(id, "id");
+        ensureNotNull(textSegment, "textSegment");
+        IndexedSegment indexedSegment = index(textSegment);
+        lock.writeLock().lock();
+        try {
+            put(id, indexedSegment);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds {@link TextSegment}s to the index under random IDs.
+     *
+     * @param textSegments The segments to add.
+     * @return the IDs of the segments.
+     */
+    public List<String> addAll(List<TextSegment> textSegments) {
+        List<String> ids = new ArrayList<>(textSegments.size());
+        for (int i = 0; i < textSegments.size(); i++) {
+            ids.add(randomUUID());
+        }
+        addAll(ids, textSegments);
+        return ids;
+    }
+
+    /**
+     * Adds {@link TextSegment}s to the index under the provided IDs,
+     * replacing the segments with the same IDs, if any.
+     *
+     * @param ids          The IDs of the segments.
+     * @param textSegments The segments to add.
+     */
+    public void addAll(List<String> ids, List<TextSegment> textSegments) {
+        ensureIds(ids, textSegments);
+        putAll(ids, indexAll(textSegments));
+    }
+
+    private static void ensureIds(List<String> ids, List<TextSegment> textSegments) {
+        ensureEq(ids.size(), textSegments.size(), "The list of ids and textSegments must have the same size");
+        ids.forEach(id -> ensureNotNull(id, "id"));
+    }
+
+    private List<IndexedSegment> indexAll(List<TextSegment> textSegments) {
+        // segments are tokenized outside the lock, so that searches are blocked only while the index is updated
+        List<IndexedSegment> indexedSegments = new ArrayList<>(textSegments.size());
+        for (TextSegment textSegment : textSegments) {
+            indexedSegments.add(index(ensureNotNull(textSegment, "textSegment")));
+        }
+        return indexedSegments;
+    }
+
+    private void putAll(List<String> ids, List<IndexedSegment> indexedSegments) {
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < ids.size(); i++) {
+                put(ids.get(i), indexedSegments.get(i));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the {@link TextSegment} with the provided ID from the index.
+     *
+     * @param id The ID of the segment to remove.
+     */
+    public void remove(String id) {
+        removeAll(List.of(id));
+    }
+
+    /**
+     * Removes the {@link TextSegment}s with the provided IDs from the index.
+     *
+     * @param ids The IDs of the segments to remove.
+     */
+    public void removeAll(Collection<String> ids) {
+        lock.writeLock().lock();
+        try {
+            for (String id : ids) {
+                delete(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the {@link TextSegment}s whose {@link dev.langchain4j.data.document.Metadata} matches the provided
+     * {@link Filter} from the index.
+     *
+     * @param filter The filter to apply to the metadata of the segments.
+     */
+    public void removeAll(Filter filter) {
+        ensureNotNull(filter, "filter");
+        lock.writeLock().lock();
+        try {
+            List<String> ids = new ArrayList<>();
+            segments.forEach((id, indexedSegment) -> {
+                if (filter.test(indexedSegment.textSegment().metadata())) {
+                    ids.add(id);
+                }
+            });
+            ids.forEach(this::delete);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all {@link TextSegment}s from the index.
+     */
+    public void removeAll() {
+        lock.writeLock().lock();
+        try {
+            segments.clear();
+            postings.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return the number of {@link TextSegment}s in the index.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private IndexedSegment index(TextSegment textSegment) {
+        List<String> terms = tokenizer.apply(textSegment.text());
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        for (String term : terms) {
+            termFrequencies.merge(term, 1, Integer::sum);
+        }
+        return new IndexedSegment(textSegment, terms.size(), termFrequencies);
+    }
+
+    private void put(String id, IndexedSegment indexedSegment) {
+        delete(id);
+        segments.put(id, indexedSegment);
+        totalLength += indexedSegment.length();
+        indexedSegment.termFrequencies().forEach((term, frequency) ->
+                postings.computeIfAbsent(term, ignored -> new HashMap<>()).put(id, frequency));
+    }
+
+    private void delete(String id) {
+        IndexedSegment indexedSegment = segments.remove(id);
+        if (indexedSegment == null) {
+            return;
+        }
+        totalLength -= indexedSegment.length();
+        for (String term : indexedSegment.termFrequencies().keySet()) {
+            Map<String, Integer> idToFrequency = postings.get(term);
+            idToFrequency.remove(id);
+            if (idToFrequency.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    @Override
+    public List<Content> retrieve(Query query) {
+
+        Set<String> queryTerms = new LinkedHashSet<>(tokenizer.apply(query.text()));
+
+        lock.readLock().lock();
+        try {
+            if (segments.isEmpty() || queryTerms.isEmpty()) {
+                return List.of();
+            }
+
+            int segmentCount = segments.size();
+            double averageLength = Math.max((double) totalLength / segmentCount, 1);
+
+            Map<String, Double> idToScore = new HashMap<>();
+            for (String term : queryTerms) {
+                Map<String, Integer> idToFrequency = postings.get(term);
+                if (idToFrequency == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (segmentCount - idToFrequency.size() + 0.5) / (idToFrequency.size() + 0.5));
+                idToFrequency.forEach((id, frequency) -> {
+                    double lengthNormalization = 1 - b + b * segments.get(id).length() / averageLength;
+                    double score = idf * frequency * (k1 + 1) / (frequency + k1 * lengthNormalization);
+                    idToScore.merge(id, score, Double::sum);
+                });
+            }
+
+            // the head of the queue is the worst of the selected segments
+            PriorityQueue<Map.Entry<String, Double>> selected = new PriorityQueue<>(
+                    Map.Entry.<String, Double>comparingByValue().thenComparing(Map.Entry.comparingByKey()));
+            for (Map.Entry<String, Double> entry : idToScore.entrySet()) {
+                if (entry.getValue() < minScore) {
+                    continue;
+                }
+                if (filter != null && !filter.test(segments.get(entry.getKey()).textSegment().metadata())) {
+                    continue;
+                }
+                selected.add(entry);
+                if (selected.size() > maxResults) {
+                    selected.poll();
+                }
+            }
+
+            Content[] contents = new Content[selected.size()];
+            for (int i = contents.length - 1; i >= 0; i--) {
+                Map.Entry<String, Double> entry = selected.poll();
+                contents[i] = Content.from(
+                        segments.get(entry.getKey()).textSegment(),
+                        Map.of(
+                                ContentMetadata.SCORE, entry.getValue(),
+                                ContentMetadata.EMBEDDING_ID, entry.getKey()
+                        )
+                );
+            }
+            return List.of(contents);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Wraps the provided {@link EmbeddingStore} so that the {@link TextSegment}s added to it are added to this index
+     * under the same IDs, and the ones removed from it are removed from this index.
+     * The segments are validated and tokenized before they are written to the embedding store,
+     * so that invalid segments are rejected without being written to either of them.
+     *
+     * @param embeddingStore The embedding store to wrap.
+     * @return the wrapped embedding store.
+     */
+    public EmbeddingStore<TextSegment> indexingOnWrites(EmbeddingStore<TextSegment> embeddingStore) {
+        return new IndexingEmbeddingStore(ensureNotNull(embeddingStore, "embeddingStore"));
+    }
+
+    private record IndexedSegment(TextSegment textSegment, int length, Map<String, Integer> termFrequencies) {
+    }
+
+    private class IndexingEmbeddingStore implements EmbeddingStore<TextSegment> {
+
+        private final EmbeddingStore<TextSegment> delegate;
+
+        private IndexingEmbeddingStore(EmbeddingStore<TextSegment> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String add(Embedding embedding) {
+            return delegate.add(embedding);
+        }
+
+        @Override
+        public void add(String id, Embedding embedding) {
+            delegate.add(id, embedding);
+        }
+
+        @Override
+        public String add(Embedding embedding, TextSegment textSegment) {
+            List<IndexedSegment> indexedSegments = indexAll(List.of(ensureNotNull(textSegment, "textSegment")));
+            String id = delegate.add(embedding, textSegment);
+            putAll(List.of(ensureNotNull(id, "id")), indexedSegments);
+            return id;
+        }
+
+        @Override
+        public List<String> addAll(List<Embedding> embeddings) {
+            return delegate.addAll(embeddings);
+        }
+
+        @Override
+        public List<String> addAll(List<Embedding> embeddings, List<TextSegment> textSegments) {
+            ensureEq(embeddings.size(), textSegments.size(),
+                    "The list of embeddings and textSegments must have the same size");
+            List<IndexedSegment> indexedSegments = indexAll(textSegments);
+            List<String> ids = delegate.addAll(embeddings, textSegments);
+            ensureIds(ids, textSegments);
+            putAll(ids, indexedSegments);
+            return ids;
+        }
+
+        @Override
+        public void addAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> textSegments) {
+            ensureIds(ids, textSegments);
+            ensureEq(embeddings.size(), textSegments.size(),
+                    "The list of embeddings and textSegments must have the same size");
+            List<IndexedSegment> indexedSegments = indexAll(textSegments);
+            delegate.addAll(ids, embeddings, textSegments);
+            putAll(ids, indexedSegments);
+        }
+
+        @Override
+        public void remove(String id) {
+            delegate.remove(id);
+            Bm25ContentRetriever.this.remove(id);
+        }
+
+        @Override
+        public void removeAll(Collection<String> ids) {
+            delegate.removeAll(ids);
+            Bm25ContentRetriever.this.removeAll(ids);
+        }
+
+        @Override
+        public void removeAll(Filter filter) {
+            delegate.removeAll(filter);
+            Bm25ContentRetriever.this.removeAll(filter);
+        }
+
+        @Override
+        public void removeAll() {
+            delegate.removeAll();
+            Bm25ContentRetriever.this.removeAll();
+        }
+
+        @Override
+        public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
+            return delegate.search(request);
+        }
+
+        @Override
+        public List<EmbeddingSearchResult<TextSegment>> searchAll(List<EmbeddingSearchRequest> requests) {
+            return delegate.searchAll(requests);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Integer maxResults;
+        private Double minScore;
+        private Filter filter;
+        private Double k1;
+        private Double b;
+        private Function<String, List<String>> tokenizer;
+
+        /**
+         * @param maxResults The maximum number of {@link Content}s to retrieve. Default: 3
+         * @return builder
+         */
+        public Builder maxResults(Integer maxResults) {
+            this.maxResults = maxResults;
+            return this;
+        }
+
+        /**
+         * @param minScore The minimum BM25 score for the returned {@link Content}s. Default: 0
+         * @return builder
+         */
+        public Builder minScore(Double minScore) {
+            this.minScore = minScore;
+            return this;
+        }
+
+        /**
+         * @param filter The {@link Filter} applied to the metadata of the segments. Default: none
+         * @return builder
+         */
+        public Builder filter(Filter filter) {
+            this.filter = filter;
+            return this;
+        }
+
+        /**
+         * @param k1 The term frequency saturation parameter. Default: 1.2
+         * @return builder
+         */
+        public Builder k1(Double k1) {
+            this.k1 = k1;
+            return this;
+        }
+
+        /**
+         * @param b The length normalization parameter, from 0 (none) to 1 (full). Default: 0.75
+         * @return builder
+         */
+        public Builder b(Double b) {
+            this.b = b;
+            return this;
+        }
+
+        /**
+         * @param tokenizer Splits texts (of both segments and queries) into terms.
+         *                  Default: {@link #DEFAULT_TOKENIZER}, lower-casing and splitting on non-alphanumeric characters
+         * @return builder
+         */
+        public Builder tokenizer(Function<String, List<String>> tokenizer) {
+            this.tokenizer = tokenizer;
+            return this;
+        }
+
+        public Bm25ContentRetriever build() {
+            return new Bm25ContentRetriever(this);
+        }
+    }
+}
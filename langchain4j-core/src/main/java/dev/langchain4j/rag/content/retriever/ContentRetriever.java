@@ -3,7 +3,10 @@ package dev.langchain4j.rag.content.retriever;
 import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.rag.query.Query;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Retrieves {@link Content}s from an underlying data source using a given {@link Query}.
@@ -35,4 +38,24 @@ public interface ContentRetriever {
      * @return A list of retrieved {@link Content}s.
      */
     List<Content> retrieve(Query query);
+
+    /**
+     * Retrieves relevant {@link Content}s for each of the given {@link Query}s.
+     * <br>
+     * By default, the {@link Query}s are processed one by one using {@link #retrieve(Query)}.
+     * Implementations that can process several {@link Query}s more efficiently at once
+     * (e.g., by embedding all of them in a single call) should override this method.
+     * {@code DefaultRetrievalAugmentor} uses this method instead of parallel {@link #retrieve(Query)} calls
+     * when several {@link Query}s are routed to a {@link ContentRetriever} that overrides it.
+     *
+     * @param queries The {@link Query}s to use for retrieval.
+     * @return A map from each {@link Query} to its retrieved {@link Content}s, in the order of the given {@link Query}s.
+     */
+    default Map<Query, List<Content>> retrieveAll(Collection<Query> queries) {
+        Map<Query, List<Content>> queryToContents = new LinkedHashMap<>();
+        for (Query query : queries) {
+            queryToContents.put(query, retrieve(query));
+        }
+        return queryToContents;
+    }
 }
@@ -12,7 +12,10 @@ import dev.langchain4j.store.embedding.EmbeddingSearchResult;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.filter.Filter;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -54,6 +57,11 @@ import static dev.langchain4j.spi.ServiceHelper.loadFactories;
  * - {@code dynamicFilter}: It is a {@link Function} that accepts a {@link Query} and returns a {@code filter} value.
  * It can be used to dynamically define {@code filter} value, depending on factors such as the query,
  * the user (using Metadata#chatMemoryId()} from {@link Query#metadata()}), etc.
+ * <br>
+ * <br>
+ * When several {@link Query}s are retrieved at once using {@link #retrieveAll(Collection)},
+ * all of them are embedded with a single call to the {@link EmbeddingModel}
+ * and searched for with a single {@link EmbeddingStore#searchAll(List)} call.
  */
 public class EmbeddingStoreContentRetriever implements ContentRetriever {
 
@@ -222,20 +230,82 @@ public class EmbeddingStoreContentRetriever implements ContentRetriever {
         return builder().embeddingStore(embeddingStore).build();
     }
 
+    /**
+     * Returns the {@link Filter} that is applied when retrieving {@link Content}s for the provided {@link Query}.
+     *
+     * @param query The query.
+     * @return the filter, or {@code null} if no filter is applied.
+     */
+    public Filter filter(Query query) {
+        return filterProvider.apply(query);
+    }
+
+    /**
+     * Returns the maximum number of {@link Content}s retrieved for the provided {@link Query}.
+     *
+     * @param query The query.
+     * @return the maximum number of contents.
+     */
+    public Integer maxResults(Query query) {
+        return maxResultsProvider.apply(query);
+    }
+
+    /**
+     * Returns the minimum relevance score of the {@link Content}s retrieved for the provided {@link Query}.
+     *
+     * @param query The query.
+     * @return the minimum score.
+     */
+    public Double minScore(Query query) {
+        return minScoreProvider.apply(query);
+    }
+
     @Override
     public List<Content> retrieve(Query query) {
 
         Embedding embeddedQuery = embeddingModel.embed(query.text()).content();
 
-        EmbeddingSearchRequest searchRequest = EmbeddingSearchRequest.builder()
+        EmbeddingSearchResult<TextSegment> searchResult = embeddingStore.search(searchRequest(query, embeddedQuery));
+
+        return toContents(searchResult);
+    }
+
+    @Override
+    public Map<Query, List<Content>> retrieveAll(Collection<Query> queries) {
+
+        List<Query> distinctQueries = new ArrayList<>(new LinkedHashSet<>(queries));
+        if (distinctQueries.isEmpty()) {
+            return Map.of();
+        }
+
+        List<TextSegment> querySegments = distinctQueries.stream()
+                .map(query -> TextSegment.from(query.text()))
+                .collect(Collectors.toList());
+        List<Embedding> embeddedQueries = embeddingModel.embedAll(querySegments).content();
+
+        List<EmbeddingSearchRequest> searchRequests = new ArrayList<>(distinctQueries.size());
+        for (int i = 0; i < distinctQueries.size(); i++) {
+            searchRequests.add(searchRequest(distinctQueries.get(i), embeddedQueries.get(i)));
+        }
+        List<EmbeddingSearchResult<TextSegment>> searchResults = embeddingStore.searchAll(searchRequests);
+
+        Map<Query, List<Content>> queryToContents = new LinkedHashMap<>();
+        for (int i = 0; i < distinctQueries.size(); i++) {
+            queryToContents.put(distinctQueries.get(i), toContents(searchResults.get(i)));
+        }
+        return queryToContents;
+    }
+
+    private EmbeddingSearchRequest searchRequest(Query query, Embedding embeddedQuery) {
+        return EmbeddingSearchRequest.builder()
                 .queryEmbedding(embeddedQuery)
                 .maxResults(maxResultsProvider.apply(query))
                 .minScore(minScoreProvider.apply(query))
                 .filter(filterProvider.apply(query))
                 .build();
+    }
 
-        EmbeddingSearchResult<TextSegment> searchResult = embeddingStore.search(searchRequest);
-
+    private static List<Content> toContents(EmbeddingSearchResult<TextSegment> searchResult) {
         return searchResult.matches().stream()
                 .map(embeddingMatch -> Content.from(
                         embeddingMatch.embedded(),
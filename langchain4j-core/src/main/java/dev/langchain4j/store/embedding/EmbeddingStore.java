@@ -140,4 +140,22 @@ public interface EmbeddingStore<Embedded> {
      * @return An {@link EmbeddingSearchResult} containing all found {@link Embedding}s.
      */
     EmbeddingSearchResult<Embedded> search(EmbeddingSearchRequest request);
+
+    /**
+     * Performs several searches at once, see {@link #search(EmbeddingSearchRequest)}.
+     * <br>
+     * By default, the requests are executed one by one.
+     * Implementations that can execute several searches in a single round-trip (or a single pass over the data)
+     * should override this method.
+     *
+     * @param requests The requests to search in an {@link EmbeddingStore}.
+     * @return A list of {@link EmbeddingSearchResult}s, one for each request, in the order of the requests.
+     */
+    default List<EmbeddingSearchResult<Embedded>> searchAll(List<EmbeddingSearchRequest> requests) {
+        List<EmbeddingSearchResult<Embedded>> results = new ArrayList<>(requests.size());
+        for (EmbeddingSearchRequest request : requests) {
+            results.add(search(request));
+        }
+        return results;
+    }
 }
@@ -15,6 +15,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
@@ -58,6 +59,7 @@ public class EmbeddingStoreIngestor {
     private final TextSegmentTransformer textSegmentTransformer;
     private final EmbeddingModel embeddingModel;
     private final EmbeddingStore<TextSegment> embeddingStore;
+    private final Executor executor;
 
     /**
      * Creates an instance of an {@code EmbeddingStoreIngestor}.
@@ -75,6 +77,28 @@ public class EmbeddingStoreIngestor {
                                   TextSegmentTransformer textSegmentTransformer,
                                   EmbeddingModel embeddingModel,
                                   EmbeddingStore<TextSegment> embeddingStore) {
+        this(documentTransformer, documentSplitter, textSegmentTransformer, embeddingModel, embeddingStore, null);
+    }
+
+    /**
+     * Creates an instance of an {@code EmbeddingStoreIngestor}.
+     *
+     * @param documentTransformer    The {@link DocumentTransformer} to use. Optional.
+     * @param documentSplitter       The {@link DocumentSplitter} to use. Optional.
+     *                               If none is specified, it tries to load one through SPI (see {@link DocumentSplitterFactory}).
+     * @param textSegmentTransformer The {@link TextSegmentTransformer} to use. Optional.
+     * @param embeddingModel         The {@link EmbeddingModel} to use. Mandatory.
+     *                               If none is specified, it tries to load one through SPI (see {@link EmbeddingModelFactory}).
+     * @param embeddingStore         The {@link EmbeddingStore} to use. Mandatory.
+     * @param executor               The {@link Executor} used to transform and split documents in parallel. Optional.
+     *                               If none is specified, documents are transformed and split sequentially.
+     */
+    public EmbeddingStoreIngestor(DocumentTransformer documentTransformer,
+                                  DocumentSplitter documentSplitter,
+                                  TextSegmentTransformer textSegmentTransformer,
+                                  EmbeddingModel embeddingModel,
+                                  EmbeddingStore<TextSegment> embeddingStore,
+                                  Executor executor) {
         this.documentTransformer = documentTransformer;
         this.documentSplitter = getOrDefault(documentSplitter, EmbeddingStoreIngestor::loadDocumentSplitter);
         this.textSegmentTransformer = textSegmentTransformer;
@@ -83,6 +107,7 @@ public class EmbeddingStoreIngestor {
                 "embeddingModel"
         );
         this.embeddingStore = ensureNotNull(embeddingStore, "embeddingStore");
+        this.executor = executor;
     }
 
     private static DocumentSplitter loadDocumentSplitter() {
@@ -181,12 +206,16 @@ public class EmbeddingStoreIngestor {
         log.debug("Starting to ingest {} documents", documents.size());
 
         if (documentTransformer != null) {
-            documents = documentTransformer.transformAll(documents);
+            documents = executor == null
+                    ? documentTransformer.transformAll(documents)
+                    : documentTransformer.transformAll(documents, executor);
             log.debug("Documents were transformed into {} documents", documents.size());
         }
         List<TextSegment> segments;
         if (documentSplitter != null) {
-            segments = documentSplitter.splitAll(documents);
+            segments = executor == null
+                    ? documentSplitter.splitAll(documents)
+                    : documentSplitter.splitAll(documents, executor);
             log.debug("Documents were split into {} text segments", segments.size());
         } else {
             segments = documents.stream()
@@ -228,6 +257,7 @@ public class EmbeddingStoreIngestor {
         private TextSegmentTransformer textSegmentTransformer;
         private EmbeddingModel embeddingModel;
         private EmbeddingStore<TextSegment> embeddingStore;
+        private Executor executor;
 
         /**
          * Creates a new EmbeddingStoreIngestor builder.
@@ -294,6 +324,19 @@ public class EmbeddingStoreIngestor {
             return this;
         }
 
+        /**
+         * Sets the executor used to transform and split documents in parallel. Optional.
+         * If none is specified, documents are transformed and split sequentially.
+         * The {@link DocumentTransformer} and {@link DocumentSplitter} must be thread-safe.
+         *
+         * @param executor the executor, e.g. {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+         * @return {@code this}
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         /**
          * Builds the EmbeddingStoreIngestor.
          *
@@ -305,7 +348,8 @@ public class EmbeddingStoreIngestor {
                     documentSplitter,
                     textSegmentTransformer,
                     embeddingModel,
-                    embeddingStore
+                    embeddingStore,
+                    executor
             );
         }
     }
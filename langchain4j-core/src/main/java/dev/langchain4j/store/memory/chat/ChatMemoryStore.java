@@ -3,8 +3,11 @@ package dev.langchain4j.store.memory.chat;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.ChatMessageDeserializer;
 import dev.langchain4j.data.message.ChatMessageSerializer;
+import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.memory.ChatMemory;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -44,4 +47,75 @@ public interface ChatMemoryStore {
      * @param memoryId The ID of the chat memory.
      */
     void deleteMessages(Object memoryId);
+
+    /**
+     * Indicates whether this store implements {@link #appendMessages(Object, List)}, {@link #evictOldest(Object, int)}
+     * and {@link #replaceSystemMessage(Object, SystemMessage)} natively, without rewriting all messages.
+     * <p>
+     * When this method returns {@code true}, the built-in {@link ChatMemory} implementations use these operations
+     * instead of {@link #updateMessages(Object, List)}. Otherwise, they keep rewriting all messages at once,
+     * which, for a store relying on the default implementations, is cheaper than several rewrites.
+     * Since they only write the changes, they also read the messages of a chat memory only once
+     * and keep their own copy in sync, so a chat memory ID must not be written by other {@link ChatMemory} instances
+     * (or other code) while such a {@link ChatMemory} is in use.
+     *
+     * @return {@code true} if the incremental operations are implemented natively, {@code false} by default.
+     */
+    default boolean supportsIncrementalUpdates() {
+        return false;
+    }
+
+    /**
+     * Appends messages to the end of a specified chat memory.
+     * <p>
+     * The default implementation reads all messages and rewrites them using {@link #updateMessages(Object, List)}.
+     *
+     * @param memoryId The ID of the chat memory.
+     * @param messages The messages to append.
+     */
+    default void appendMessages(Object memoryId, List<ChatMessage> messages) {
+        List<ChatMessage> updated = new ArrayList<>(getMessages(memoryId));
+        updated.addAll(messages);
+        updateMessages(memoryId, updated);
+    }
+
+    /**
+     * Removes the {@code count} oldest messages of a specified chat memory.
+     * A {@link SystemMessage} is never removed and does not count towards {@code count}.
+     * <p>
+     * The default implementation reads all messages and rewrites them using {@link #updateMessages(Object, List)}.
+     *
+     * @param memoryId The ID of the chat memory.
+     * @param count    The number of messages to remove.
+     */
+    default void evictOldest(Object memoryId, int count) {
+        if (count <= 0) {
+            return;
+        }
+        List<ChatMessage> updated = new ArrayList<>(getMessages(memoryId));
+        int evicted = 0;
+        for (Iterator<ChatMessage> iterator = updated.iterator(); iterator.hasNext() && evicted < count; ) {
+            if (!(iterator.next() instanceof SystemMessage)) {
+                iterator.remove();
+                evicted++;
+            }
+        }
+        updateMessages(memoryId, updated);
+    }
+
+    /**
+     * Removes the current {@link SystemMessage} (if any) of a specified chat memory
+     * and appends the given one to the end.
+     * <p>
+     * The default implementation reads all messages and rewrites them using {@link #updateMessages(Object, List)}.
+     *
+     * @param memoryId      The ID of the chat memory.
+     * @param systemMessage The new system message.
+     */
+    default void replaceSystemMessage(Object memoryId, SystemMessage systemMessage) {
+        List<ChatMessage> updated = new ArrayList<>(getMessages(memoryId));
+        updated.removeIf(message -> message instanceof SystemMessage);
+        updated.add(systemMessage);
+        updateMessages(memoryId, updated);
+    }
 }
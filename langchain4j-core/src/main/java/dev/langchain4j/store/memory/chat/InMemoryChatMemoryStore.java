@@ -1,8 +1,10 @@
 package dev.langchain4j.store.memory.chat;
 
 import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -11,6 +13,10 @@ import java.util.concurrent.ConcurrentHashMap;
  * Implementation of {@link ChatMemoryStore} that stores state of {@link dev.langchain4j.memory.ChatMemory} (chat messages) in-memory.
  * <p>
  * This storage mechanism is transient and does not persist data across application restarts.
+ * <p>
+ * This store {@link #supportsIncrementalUpdates() supports incremental updates}.
+ * Every update replaces the list of a chat memory atomically,
+ * so a list returned by {@link #getMessages(Object)} is never modified by a later update.
  */
 public class InMemoryChatMemoryStore implements ChatMemoryStore {
 
@@ -35,4 +41,46 @@ public class InMemoryChatMemoryStore implements ChatMemoryStore {
     public void deleteMessages(Object memoryId) {
         messagesByMemoryId.remove(memoryId);
     }
+
+    @Override
+    public boolean supportsIncrementalUpdates() {
+        return true;
+    }
+
+    @Override
+    public void appendMessages(Object memoryId, List<ChatMessage> messages) {
+        messagesByMemoryId.compute(memoryId, (ignored, stored) -> {
+            List<ChatMessage> updated = stored == null ? new ArrayList<>() : new ArrayList<>(stored);
+            updated.addAll(messages);
+            return updated;
+        });
+    }
+
+    @Override
+    public void evictOldest(Object memoryId, int count) {
+        if (count <= 0) {
+            return;
+        }
+        messagesByMemoryId.computeIfPresent(memoryId, (ignored, stored) -> {
+            List<ChatMessage> updated = new ArrayList<>(stored);
+            int evicted = 0;
+            for (Iterator<ChatMessage> iterator = updated.iterator(); iterator.hasNext() && evicted < count; ) {
+                if (!(iterator.next() instanceof SystemMessage)) {
+                    iterator.remove();
+                    evicted++;
+                }
+            }
+            return updated;
+        });
+    }
+
+    @Override
+    public void replaceSystemMessage(Object memoryId, SystemMessage systemMessage) {
+        messagesByMemoryId.compute(memoryId, (ignored, stored) -> {
+            List<ChatMessage> updated = stored == null ? new ArrayList<>() : new ArrayList<>(stored);
+            updated.removeIf(message -> message instanceof SystemMessage);
+            updated.add(systemMessage);
+            return updated;
+        });
+    }
 }
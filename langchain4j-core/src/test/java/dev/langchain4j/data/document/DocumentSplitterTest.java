@@ -1,9 +1,12 @@
 package dev.langchain4j.data.document;
 
 import dev.langchain4j.data.segment.TextSegment;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
@@ -34,4 +37,44 @@ class DocumentSplitterTest implements WithAssertions {
                         new TextSegment("abc", Metadata.metadata("foo", "bar")),
                         new TextSegment("def", Metadata.metadata("foo", "bar")));
     }
+
+    @Test
+    void should_split_all_in_parallel_preserving_order() {
+        List<Document> docs = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            docs.add(Document.document("a" + i + " b" + i, new Metadata().put("doc", i)));
+        }
+
+        WhitespaceSplitter splitter = new WhitespaceSplitter();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            assertThat(splitter.splitAll(docs, executor)).containsExactlyElementsOf(splitter.splitAll(docs));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void should_rethrow_failure_when_splitting_all_in_parallel() {
+        List<Document> docs = List.of(Document.document("abc"), Document.document("def"));
+
+        DocumentSplitter splitter = document -> {
+            throw new IllegalStateException("cannot split " + document.text());
+        };
+
+        assertThatThrownBy(() -> splitter.splitAll(docs, Runnable::run))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("cannot split abc");
+    }
+
+    @Test
+    void split_streaming() {
+        StreamingDocument document = StreamingDocument.from(new StringReader("abc def"), Metadata.metadata("foo", "bar"));
+
+        WhitespaceSplitter splitter = new WhitespaceSplitter();
+        assertThat(splitter.splitStreaming(document))
+                .containsExactly(
+                        new TextSegment("abc", Metadata.metadata("foo", "bar")),
+                        new TextSegment("def", Metadata.metadata("foo", "bar")));
+    }
 }
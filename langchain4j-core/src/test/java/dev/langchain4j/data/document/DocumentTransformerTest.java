@@ -3,6 +3,8 @@ package dev.langchain4j.data.document;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
@@ -29,4 +31,26 @@ class DocumentTransformerTest implements WithAssertions {
                         Document.document("ABC XYZ", Metadata.metadata("lang", "en")),
                         Document.document("JKL 123", Metadata.metadata("lang", "en")));
     }
+
+    @Test
+    void should_transform_all_in_parallel_preserving_order() {
+        List<Document> docs = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            docs.add(Document.document("doc " + i, new Metadata().put("index", i)));
+        }
+
+        DocumentTransformer transformer = document -> document.metadata().getInteger("index") % 2 == 0
+                ? Document.document(document.text().toUpperCase(Locale.ROOT), document.metadata())
+                : null;
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Document> results = transformer.transformAll(docs, executor);
+
+            assertThat(results).hasSize(50).containsExactlyElementsOf(transformer.transformAll(docs));
+            assertThat(results.get(1)).isEqualTo(Document.document("DOC 2", new Metadata().put("index", 2)));
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
@@ -8,7 +8,20 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import dev.langchain4j.exception.HttpException;
+import dev.langchain4j.exception.LangChain4jException;
+import dev.langchain4j.exception.NonRetriableException;
+import dev.langchain4j.exception.RateLimitException;
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.Test;
 
 class RetryUtilsTest {
@@ -131,4 +144,260 @@ class RetryUtilsTest {
         verify(mockAction, times(1)).call();
         verifyNoMoreInteractions(mockAction);
     }
+
+    @Test
+    void parseRetryAfter() {
+        assertThat(RetryUtils.parseRetryAfter("7")).isEqualTo(Duration.ofSeconds(7));
+        assertThat(RetryUtils.parseRetryAfter(" 0 ")).isEqualTo(Duration.ZERO);
+        assertThat(RetryUtils.parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT")).isEqualTo(Duration.ZERO);
+        assertThat(RetryUtils.parseRetryAfter("-1")).isNull();
+        assertThat(RetryUtils.parseRetryAfter("soon")).isNull();
+        assertThat(RetryUtils.parseRetryAfter(null)).isNull();
+    }
+
+    @Test
+    void retryAfterFromCauseChain() {
+        HttpException httpException = new HttpException(429, "Too Many Requests", Duration.ofSeconds(3));
+
+        assertThat(RetryUtils.retryAfter(new RateLimitException(httpException))).isEqualTo(Duration.ofSeconds(3));
+        assertThat(RetryUtils.retryAfter(new HttpException(429, "Too Many Requests"))).isNull();
+        assertThat(RetryUtils.retryAfter(new RuntimeException())).isNull();
+    }
+
+    @Test
+    void honoursRetryAfter() throws Exception {
+        @SuppressWarnings("unchecked")
+        Callable<String> mockAction = mock(Callable.class);
+        when(mockAction.call())
+                .thenThrow(new RateLimitException(new HttpException(429, "slow down", Duration.ofMillis(200))))
+                .thenReturn("Success");
+
+        RetryUtils.RetryPolicy policy = RetryUtils.retryPolicyBuilder()
+                .delayMillis(10)
+                .respectRetryAfter(true)
+                .build();
+
+        long startTime = System.currentTimeMillis();
+        String result = policy.withRetry(mockAction, 2);
+
+        assertThat(result).isEqualTo("Success");
+        assertThat(System.currentTimeMillis() - startTime).isGreaterThanOrEqualTo(200);
+        assertThat(policy.metrics().attempts()).isEqualTo(2);
+        assertThat(policy.metrics().retries()).isEqualTo(1);
+        assertThat(policy.metrics().successes()).isEqualTo(1);
+    }
+
+    @Test
+    void retryAfterExceedingMaxDelay() throws Exception {
+        @SuppressWarnings("unchecked")
+        Callable<String> mockAction = mock(Callable.class);
+        when(mockAction.call())
+                .thenThrow(new RateLimitException(new HttpException(429, "slow down", Duration.ofMinutes(5))));
+
+        RetryUtils.RetryPolicy policy = RetryUtils.retryPolicyBuilder()
+                .delayMillis(10)
+                .respectRetryAfter(true)
+                .maxDelay(Duration.ofSeconds(1))
+                .build();
+
+        assertThatThrownBy(() -> policy.withRetry(mockAction, 2)).isInstanceOf(RateLimitException.class);
+        verify(mockAction, times(1)).call();
+        assertThat(policy.metrics().failures()).isEqualTo(1);
+    }
+
+    @Test
+    void ignoresRetryAfterByDefault() throws Exception {
+        @SuppressWarnings("unchecked")
+        Callable<String> mockAction = mock(Callable.class);
+        when(mockAction.call())
+                .thenThrow(new RateLimitException(new HttpException(429, "slow down", Duration.ofMinutes(5))))
+                .thenReturn("Success");
+
+        RetryUtils.RetryPolicy policy =
+                RetryUtils.retryPolicyBuilder().delayMillis(10).build();
+
+        long startTime = System.currentTimeMillis();
+        String result = policy.withRetry(mockAction, 2);
+
+        assertThat(result).isEqualTo("Success");
+        assertThat(System.currentTimeMillis() - startTime).isLessThan(Duration.ofMinutes(1).toMillis());
+        verify(mockAction, times(2)).call();
+    }
+
+    @Test
+    void retryBudgetExhausted() throws Exception {
+        @SuppressWarnings("unchecked")
+        Callable<String> mockAction = mock(Callable.class);
+        when(mockAction.call()).thenThrow(new RuntimeException("boom"));
+
+        RetryUtils.RetryPolicy policy = RetryUtils.retryPolicyBuilder()
+                .delayMillis(10)
+                .retryBudget(new RetryBudget(1, 0.001, () -> 0L))
+                .build();
+
+        assertThatThrownBy(() -> policy.withRetry(mockAction, 5)).hasMessage("boom");
+        verify(mockAction, times(2)).call();
+        assertThat(policy.metrics().budgetRejections()).isEqualTo(1);
+    }
+
+    @Test
+    void retryBudgetRefill() {
+        AtomicLong now = new AtomicLong();
+        RetryBudget budget = new RetryBudget(2, 1, now::get);
+
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isFalse();
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void circuitBreakerOpen() throws Exception {
+        AtomicLong now = new AtomicLong();
+        CircuitBreaker circuitBreaker = new CircuitBreaker(2, Duration.ofSeconds(10), now::get);
+        RetryUtils.RetryPolicy policy = RetryUtils.retryPolicyBuilder()
+                .maxRetries(0)
+                .circuitBreaker(circuitBreaker)
+                .build();
+        RuntimeException failure = new RuntimeException("boom");
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> policy.withRetry(() -> {
+                throw failure;
+            })).isSameAs(failure);
+        }
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        @SuppressWarnings("unchecked")
+        Callable<String> mockAction = mock(Callable.class);
+        when(mockAction.call()).thenReturn("Success");
+
+        assertThatThrownBy(() -> policy.withRetry(mockAction))
+                .isExactlyInstanceOf(LangChain4jException.class)
+                .hasMessage("Circuit breaker is open")
+                .hasCause(failure);
+        verifyNoMoreInteractions(mockAction);
+        assertThat(policy.metrics().circuitBreakerRejections()).isEqualTo(1);
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        assertThat(policy.withRetry(mockAction)).isEqualTo("Success");
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.lastFailure()).isNull();
+    }
+
+    @Test
+    void circuitBreakerReopensWhenProbeFails() {
+        AtomicLong now = new AtomicLong();
+        CircuitBreaker circuitBreaker = new CircuitBreaker(1, Duration.ofSeconds(10), now::get);
+
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        circuitBreaker.onFailure(new RuntimeException("boom"));
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+        circuitBreaker.onFailure(new RuntimeException("boom again"));
+
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.lastFailure()).hasMessage("boom again");
+    }
+
+    @Test
+    void withRetryAsyncDoesNotBlockCaller() throws Exception {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            RetryUtils.RetryPolicy policy = RetryUtils.retryPolicyBuilder()
+                    .delayMillis(200)
+                    .scheduler(scheduler)
+                    .build();
+            AtomicInteger attempts = new AtomicInteger();
+            List<Thread> attemptThreads = new CopyOnWriteArrayList<>();
+
+            long startTime = System.currentTimeMillis();
+            CompletableFuture<String> future = policy.withRetryAsync(() -> {
+                attemptThreads.add(Thread.currentThread());
+                return attempts.incrementAndGet() < 3
+                        ? CompletableFuture.failedFuture(new RuntimeException("boom"))
+                        : CompletableFuture.completedFuture("Success");
+            });
+
+            assertThat(System.currentTimeMillis() - startTime).isLessThan(200);
+            assertThat(future).isNotDone();
+            assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("Success");
+            assertThat(attemptThreads).hasSize(3);
+            assertThat(attemptThreads.get(0)).isSameAs(Thread.currentThread());
+            assertThat(attemptThreads.subList(1, 3)).doesNotContain(Thread.currentThread());
+            assertThat(policy.metrics().attempts()).isEqualTo(3);
+            assertThat(policy.metrics().retries()).isEqualTo(2);
+            assertThat(policy.metrics().successes()).isEqualTo(1);
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void withRetryAsyncMaxAttemptsReached() {
+        RuntimeException failure = new RuntimeException("boom");
+        AtomicInteger attempts = new AtomicInteger();
+        RetryUtils.RetryPolicy policy =
+                RetryUtils.retryPolicyBuilder().delayMillis(10).build();
+
+        CompletableFuture<String> future = policy.withRetryAsync(() -> {
+            attempts.incrementAndGet();
+            return CompletableFuture.supplyAsync(() -> {
+                throw failure;
+            });
+        }, 2);
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        assertThat(attempts).hasValue(3);
+        assertThat(policy.metrics().failures()).isEqualTo(1);
+    }
+
+    @Test
+    void withRetryAsyncDoesNotRetryNonRetriableException() {
+        NonRetriableException failure = new NonRetriableException("invalid request");
+        AtomicInteger attempts = new AtomicInteger();
+        RetryUtils.RetryPolicy policy =
+                RetryUtils.retryPolicyBuilder().delayMillis(10).build();
+
+        CompletableFuture<String> future = policy.withRetryAsync(() -> {
+            attempts.incrementAndGet();
+            return CompletableFuture.failedFuture(failure);
+        });
+
+        assertThatThrownBy(future::join).hasCause(failure);
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void withRetryAsyncStopsWhenCancelled() throws Exception {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            RetryUtils.RetryPolicy policy = RetryUtils.retryPolicyBuilder()
+                    .delayMillis(100)
+                    .scheduler(scheduler)
+                    .build();
+            AtomicInteger attempts = new AtomicInteger();
+
+            CompletableFuture<String> future = policy.withRetryAsync(() -> {
+                attempts.incrementAndGet();
+                return CompletableFuture.failedFuture(new RuntimeException("boom"));
+            });
+            future.cancel(false);
+
+            // runs after the scheduled retry
+            scheduler.schedule(() -> { }, 500, TimeUnit.MILLISECONDS).get();
+            assertThat(attempts).hasValue(1);
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,51 @@
+package dev.langchain4j.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.Test;
+
+class CachingTokenCountEstimatorTest {
+
+    @Test
+    void should_estimate_each_text_once() {
+        TokenCountEstimator delegate = spy(new ExampleTestTokenCountEstimator());
+        TokenCountEstimator estimator = new CachingTokenCountEstimator(delegate);
+
+        assertThat(estimator.estimateTokenCountInText("one two three")).isEqualTo(3);
+        assertThat(estimator.estimateTokenCountInText("one two three")).isEqualTo(3);
+        assertThat(estimator.estimateTokenCountInText("four")).isEqualTo(1);
+
+        verify(delegate, times(1)).estimateTokenCountInText("one two three");
+        verify(delegate, times(1)).estimateTokenCountInText("four");
+    }
+
+    @Test
+    void should_evict_least_recently_used_texts() {
+        TokenCountEstimator delegate = spy(new ExampleTestTokenCountEstimator());
+        TokenCountEstimator estimator = new CachingTokenCountEstimator(delegate, 2, 100);
+
+        estimator.estimateTokenCountInText("one");
+        estimator.estimateTokenCountInText("two");
+        estimator.estimateTokenCountInText("one");
+        estimator.estimateTokenCountInText("three"); // evicts "two"
+        estimator.estimateTokenCountInText("one");
+        estimator.estimateTokenCountInText("two");
+
+        verify(delegate, times(1)).estimateTokenCountInText("one");
+        verify(delegate, times(2)).estimateTokenCountInText("two");
+    }
+
+    @Test
+    void should_not_cache_long_texts() {
+        TokenCountEstimator delegate = spy(new ExampleTestTokenCountEstimator());
+        TokenCountEstimator estimator = new CachingTokenCountEstimator(delegate, 100, 5);
+
+        estimator.estimateTokenCountInText("one two");
+        estimator.estimateTokenCountInText("one two");
+
+        verify(delegate, times(2)).estimateTokenCountInText("one two");
+    }
+}
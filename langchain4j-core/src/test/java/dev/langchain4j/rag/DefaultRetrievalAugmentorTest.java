@@ -3,6 +3,7 @@ package dev.langchain4j.rag;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -19,6 +20,7 @@ import static org.mockito.Mockito.when;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.rag.content.ContentMetadata;
 import dev.langchain4j.rag.content.aggregator.ContentAggregator;
 import dev.langchain4j.rag.content.injector.ContentInjector;
 import dev.langchain4j.rag.content.retriever.ContentRetriever;
@@ -28,11 +30,15 @@ import dev.langchain4j.rag.query.router.DefaultQueryRouter;
 import dev.langchain4j.rag.query.router.QueryRouter;
 import dev.langchain4j.rag.query.transformer.DefaultQueryTransformer;
 import dev.langchain4j.rag.query.transformer.QueryTransformer;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterAll;
@@ -322,6 +328,329 @@ class DefaultRetrievalAugmentorTest {
         verifyNoMoreInteractions(queryRouter);
     }
 
+    @Test
+    void should_skip_retrievers_that_exceed_retriever_timeout() {
+
+        // given
+        Content content = Content.from("content");
+        ContentRetriever fastContentRetriever = new TestContentRetriever(content);
+        CountDownLatch latch = new CountDownLatch(1);
+        ContentRetriever slowContentRetriever = new BlockingContentRetriever(latch);
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+                .queryRouter(new DefaultQueryRouter(fastContentRetriever, slowContentRetriever))
+                .contentInjector(new TestContentInjector())
+                .retrieverTimeout(Duration.ofMillis(100))
+                .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+        Metadata metadata = Metadata.from(userMessage, null, null);
+
+        try {
+            // when
+            AugmentationResult result = retrievalAugmentor.augment(new AugmentationRequest(userMessage, metadata));
+
+            // then
+            assertThat(result.contents()).containsExactly(content);
+            assertThat(result.timedOutRetrievers())
+                    .containsExactly(Map.entry(Query.from("query", metadata), List.of(slowContentRetriever)));
+        } finally {
+            latch.countDown();
+        }
+    }
+
+    @Test
+    void should_return_partial_results_when_timeout_elapses() {
+
+        // given
+        Content content = Content.from("content");
+        ContentRetriever fastContentRetriever = new TestContentRetriever(content);
+        CountDownLatch latch = new CountDownLatch(1);
+        ContentRetriever slowContentRetriever = new BlockingContentRetriever(latch);
+
+        Query query1 = Query.from("query 1");
+        Query query2 = Query.from("query 2");
+        QueryRouter queryRouter = query -> query.equals(query1)
+                ? List.of(fastContentRetriever)
+                : List.of(fastContentRetriever, slowContentRetriever);
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+                .queryTransformer(new TestQueryTransformer(query1, query2))
+                .queryRouter(queryRouter)
+                .contentAggregator(new TestContentAggregator())
+                .contentInjector(new TestContentInjector())
+                .timeout(Duration.ofMillis(200))
+                .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+        Metadata metadata = Metadata.from(userMessage, null, null);
+
+        try {
+            // when
+            AugmentationResult result = retrievalAugmentor.augment(new AugmentationRequest(userMessage, metadata));
+
+            // then
+            assertThat(result.contents()).containsExactly(content, content);
+            assertThat(result.timedOutRetrievers()).containsExactly(Map.entry(query2, List.of(slowContentRetriever)));
+        } finally {
+            latch.countDown();
+        }
+    }
+
+    @Test
+    void should_report_query_not_routed_within_timeout() {
+
+        // given
+        Content content = Content.from("content");
+        ContentRetriever contentRetriever = new TestContentRetriever(content);
+        CountDownLatch latch = new CountDownLatch(1);
+
+        Query query1 = Query.from("query 1");
+        Query query2 = Query.from("query 2");
+        QueryRouter queryRouter = query -> {
+            if (query.equals(query2)) {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return List.of(contentRetriever);
+        };
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+                .queryTransformer(new TestQueryTransformer(query1, query2))
+                .queryRouter(queryRouter)
+                .contentAggregator(new TestContentAggregator())
+                .contentInjector(new TestContentInjector())
+                .timeout(Duration.ofMillis(200))
+                .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+        Metadata metadata = Metadata.from(userMessage, null, null);
+
+        try {
+            // when
+            AugmentationResult result = retrievalAugmentor.augment(new AugmentationRequest(userMessage, metadata));
+
+            // then
+            assertThat(result.contents()).containsExactly(content);
+            assertThat(result.timedOutRetrievers()).containsExactly(Map.entry(query2, List.of()));
+        } finally {
+            latch.countDown();
+        }
+    }
+
+    @Test
+    void should_provide_late_contents_when_request_timeout_elapses() throws Exception {
+
+        // given
+        Content fastContent = Content.from("fast content");
+        ContentRetriever fastContentRetriever = new TestContentRetriever(fastContent);
+        Content slowContent = Content.from("slow content");
+        CountDownLatch latch = new CountDownLatch(1);
+        // the same segment as the fast content, but with a different score
+        Content rescoredFastContent = Content.from(fastContent.textSegment(), Map.of(ContentMetadata.SCORE, 0.5));
+        ContentRetriever slowContentRetriever = new BlockingContentRetriever(latch, slowContent, rescoredFastContent);
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+                .queryRouter(new DefaultQueryRouter(fastContentRetriever, slowContentRetriever))
+                .contentAggregator(new TestContentAggregator())
+                .contentInjector(new TestContentInjector())
+                .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+        Metadata metadata = Metadata.from(userMessage, null, null);
+
+        try {
+            // when
+            AugmentationResult result = retrievalAugmentor.augment(
+                    new AugmentationRequest(userMessage, metadata, Duration.ofMillis(200)));
+
+            // then
+            assertThat(result.contents()).containsExactly(fastContent);
+            assertThat(result.timedOutRetrievers().values()).containsExactly(List.of(slowContentRetriever));
+            assertThat(result.lateContents()).isNotDone();
+
+            // when
+            latch.countDown();
+
+            // then
+            // the content that was already injected is not provided again
+            assertThat(result.lateContents().get(5, SECONDS)).containsExactly(slowContent);
+        } finally {
+            latch.countDown();
+        }
+    }
+
+    @Test
+    void should_cancel_late_retrievals_when_late_contents_are_cancelled() throws Exception {
+
+        // given
+        CountDownLatch latch = new CountDownLatch(1);
+        ContentRetriever slowContentRetriever = new BlockingContentRetriever(latch, Content.from("slow content"));
+        ContentRetriever queuedContentRetriever = spy(new TestContentRetriever(Content.from("queued content")));
+        // the queued retriever can only start once the slow one returns
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+                .queryRouter(new DefaultQueryRouter(slowContentRetriever, queuedContentRetriever))
+                .contentAggregator(new TestContentAggregator())
+                .contentInjector(new TestContentInjector())
+                .executor(executor)
+                .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+        Metadata metadata = Metadata.from(userMessage, null, null);
+
+        try {
+            AugmentationResult result = retrievalAugmentor.augment(
+                    new AugmentationRequest(userMessage, metadata, Duration.ofMillis(200)));
+            assertThat(result.timedOutRetrievers().values())
+                    .containsExactly(List.of(slowContentRetriever, queuedContentRetriever));
+
+            // when
+            result.lateContents().cancel(true);
+            latch.countDown();
+
+            // then
+            executor.shutdown();
+            assertThat(executor.awaitTermination(5, SECONDS)).isTrue();
+            verifyNoInteractions(queuedContentRetriever);
+        } finally {
+            latch.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void should_provide_no_late_contents_when_all_retrievers_return_before_request_timeout() {
+
+        // given
+        Content content1 = Content.from("content 1");
+        Content content2 = Content.from("content 2");
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+                .queryRouter(new DefaultQueryRouter(new TestContentRetriever(content1), new TestContentRetriever(content2)))
+                .contentAggregator(new TestContentAggregator())
+                .contentInjector(new TestContentInjector())
+                .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+        Metadata metadata = Metadata.from(userMessage, null, null);
+
+        // when
+        AugmentationResult result = retrievalAugmentor.augment(
+                new AugmentationRequest(userMessage, metadata, Duration.ofSeconds(10)));
+
+        // then
+        assertThat(result.contents()).containsExactly(content1, content2);
+        assertThat(result.timedOutRetrievers()).isEmpty();
+        assertThat(result.lateContents()).isCompletedWithValue(List.of());
+    }
+
+    @ParameterizedTest
+    @MethodSource("executors")
+    void should_retrieve_multiple_queries_in_single_call_when_retriever_supports_it(Executor executor) {
+
+        // given
+        Query query1 = Query.from("query 1");
+        Query query2 = Query.from("query 2");
+
+        Content content1 = Content.from("content 1");
+        Content content2 = Content.from("content 2");
+        BatchingContentRetriever batchingContentRetriever = new BatchingContentRetriever(content1);
+        ContentRetriever contentRetriever = spy(new TestContentRetriever(content2));
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+                .queryTransformer(new TestQueryTransformer(query1, query2))
+                .queryRouter(new DefaultQueryRouter(batchingContentRetriever, contentRetriever))
+                .contentAggregator(new TestContentAggregator())
+                .contentInjector(new TestContentInjector())
+                .executor(executor)
+                .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+        Metadata metadata = Metadata.from(userMessage, null, null);
+
+        // when
+        AugmentationResult result = retrievalAugmentor.augment(new AugmentationRequest(userMessage, metadata));
+
+        // then
+        assertThat(result.contents()).containsExactly(content1, content2, content1, content2);
+
+        assertThat(batchingContentRetriever.batches).containsExactly(List.of(query1, query2));
+
+        verify(contentRetriever).retrieve(query1);
+        verify(contentRetriever).retrieve(query2);
+        verifyNoMoreInteractions(contentRetriever);
+    }
+
+    @Test
+    void should_retrieve_query_without_waiting_for_routing_of_other_queries() {
+
+        // given
+        Query query1 = Query.from("query 1");
+        Query query2 = Query.from("query 2");
+
+        Content content = Content.from("content");
+        CountDownLatch query1Retrieved = new CountDownLatch(1);
+        ContentRetriever contentRetriever = query -> {
+            if (query.equals(query1)) {
+                query1Retrieved.countDown();
+            }
+            return List.of(content);
+        };
+        List<Boolean> routedAfterRetrieval = new CopyOnWriteArrayList<>();
+        QueryRouter queryRouter = query -> {
+            if (query.equals(query2)) {
+                try {
+                    // query 2 is routed only once query 1 has been retrieved
+                    routedAfterRetrieval.add(query1Retrieved.await(5, SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return List.of(contentRetriever);
+        };
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+                .queryTransformer(new TestQueryTransformer(query1, query2))
+                .queryRouter(queryRouter)
+                .contentAggregator(new TestContentAggregator())
+                .contentInjector(new TestContentInjector())
+                .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+        Metadata metadata = Metadata.from(userMessage, null, null);
+
+        // when
+        AugmentationResult result = retrievalAugmentor.augment(new AugmentationRequest(userMessage, metadata));
+
+        // then
+        assertThat(routedAfterRetrieval).containsExactly(true);
+        assertThat(result.contents()).containsExactly(content, content);
+    }
+
+    @Test
+    void should_not_report_timed_out_retrievers_without_timeouts() {
+
+        // given
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+                .contentRetriever(new TestContentRetriever(Content.from("content")))
+                .contentInjector(new TestContentInjector())
+                .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+
+        // when
+        AugmentationResult result = retrievalAugmentor.augment(
+                new AugmentationRequest(userMessage, Metadata.from(userMessage, null, null)));
+
+        // then
+        assertThat(result.timedOutRetrievers()).isEmpty();
+    }
+
     static Stream<Executor> executors() {
         return Stream.<Executor>builder()
                 .add(Executors.newCachedThreadPool())
@@ -376,6 +705,50 @@ class DefaultRetrievalAugmentorTest {
         }
     }
 
+    static class BatchingContentRetriever implements ContentRetriever {
+
+        private final List<Content> contents;
+        private final List<List<Query>> batches = new CopyOnWriteArrayList<>();
+
+        BatchingContentRetriever(Content... contents) {
+            this.contents = asList(contents);
+        }
+
+        @Override
+        public List<Content> retrieve(Query query) {
+            throw new AssertionError("queries should be retrieved in a batch");
+        }
+
+        @Override
+        public Map<Query, List<Content>> retrieveAll(Collection<Query> queries) {
+            batches.add(List.copyOf(queries));
+            Map<Query, List<Content>> queryToContents = new HashMap<>();
+            queries.forEach(query -> queryToContents.put(query, contents));
+            return queryToContents;
+        }
+    }
+
+    static class BlockingContentRetriever implements ContentRetriever {
+
+        private final CountDownLatch latch;
+        private final List<Content> contents;
+
+        BlockingContentRetriever(CountDownLatch latch, Content... contents) {
+            this.latch = latch;
+            this.contents = asList(contents);
+        }
+
+        @Override
+        public List<Content> retrieve(Query query) {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return contents;
+        }
+    }
+
     static class TestContentAggregator implements ContentAggregator {
 
         @Override
@@ -0,0 +1,197 @@
+package dev.langchain4j.rag;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.rag.content.retriever.ContentRetriever;
+import dev.langchain4j.rag.content.retriever.EmbeddingStoreContentRetriever;
+import dev.langchain4j.rag.query.Metadata;
+import dev.langchain4j.rag.query.Query;
+import dev.langchain4j.rag.query.transformer.QueryTransformer;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class RetrievalCacheTest {
+
+    AtomicInteger retrievals = new AtomicInteger();
+
+    ContentRetriever contentRetriever =
+            query -> List.of(Content.from(query.text() + " " + retrievals.incrementAndGet()));
+
+    @Test
+    void should_cache_retrieved_contents() {
+
+        // given
+        RetrievalCache cache = RetrievalCache.builder().build();
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+                .contentRetriever(contentRetriever)
+                .cache(cache)
+                .build();
+        UserMessage userMessage = UserMessage.from("query");
+        Metadata metadata = Metadata.from(userMessage, "user 1", null);
+
+        // when
+        AugmentationResult first = retrievalAugmentor.augment(new AugmentationRequest(userMessage, metadata));
+        AugmentationResult second = retrievalAugmentor.augment(new AugmentationRequest(userMessage, metadata));
+
+        // then
+        assertThat(first.contents()).containsExactly(Content.from("query 1"));
+        assertThat(second.contents()).containsExactly(Content.from("query 1"));
+        assertThat(retrievals).hasValue(1);
+    }
+
+    @Test
+    void should_cache_retrieved_contents_per_chat_memory_id() {
+
+        // given
+        RetrievalCache cache = RetrievalCache.builder().build();
+
+        // when
+        cache.retrieve(contentRetriever, Query.from("query", Metadata.from(UserMessage.from("query"), "user 1", null)));
+        cache.retrieve(contentRetriever, Query.from("query", Metadata.from(UserMessage.from("query"), "user 2", null)));
+        cache.retrieve(contentRetriever, Query.from("query", Metadata.from(UserMessage.from("query"), "user 1", null)));
+
+        // then
+        assertThat(retrievals).hasValue(2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_cache_retrieved_contents_per_dynamic_max_results() {
+
+        // given
+        EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+        when(embeddingModel.embed(anyString())).thenReturn(Response.from(Embedding.from(new float[] {1})));
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        when(embeddingStore.search(any())).thenReturn(new EmbeddingSearchResult<>(List.of()));
+        ContentRetriever contentRetriever = EmbeddingStoreContentRetriever.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .dynamicMaxResults(query -> "premium".equals(query.metadata().chatMemoryId()) ? 10 : 3)
+                .build();
+        RetrievalCache cache = RetrievalCache.builder().build();
+
+        // when
+        cache.retrieve(contentRetriever, Query.from("query", Metadata.from(UserMessage.from("query"), "premium", null)));
+        cache.retrieve(contentRetriever, Query.from("query", Metadata.from(UserMessage.from("query"), "basic", null)));
+        cache.retrieve(contentRetriever, Query.from("query", Metadata.from(UserMessage.from("query"), "free", null)));
+
+        // then
+        // "basic" and "free" queries share the same filter, max results and min score
+        verify(embeddingStore, times(2)).search(any());
+    }
+
+    @Test
+    void should_not_cache_contents_retrieved_while_invalidated() {
+
+        // given
+        RetrievalCache cache = RetrievalCache.builder().build();
+        ContentRetriever invalidatingContentRetriever = query -> {
+            List<Content> contents = contentRetriever.retrieve(query);
+            // e.g. the embedding store is written to while contents are being retrieved
+            cache.invalidateAll();
+            return contents;
+        };
+
+        // when
+        cache.retrieve(invalidatingContentRetriever, Query.from("query"));
+        cache.retrieve(invalidatingContentRetriever, Query.from("query"));
+
+        // then
+        assertThat(retrievals).hasValue(2);
+    }
+
+    @Test
+    void should_expire_cached_contents() throws InterruptedException {
+
+        // given
+        RetrievalCache cache = RetrievalCache.builder()
+                .timeToLive(Duration.ofMillis(50))
+                .build();
+        cache.retrieve(contentRetriever, Query.from("query"));
+
+        // when
+        Thread.sleep(100);
+        List<Content> contents = cache.retrieve(contentRetriever, Query.from("query"));
+
+        // then
+        assertThat(contents).containsExactly(Content.from("query 2"));
+    }
+
+    @Test
+    void should_evict_least_recently_used_contents() {
+
+        // given
+        RetrievalCache cache = RetrievalCache.builder().maxSize(2).build();
+        cache.retrieve(contentRetriever, Query.from("a"));
+        cache.retrieve(contentRetriever, Query.from("b"));
+        cache.retrieve(contentRetriever, Query.from("a"));
+
+        // when
+        cache.retrieve(contentRetriever, Query.from("c"));
+
+        // then
+        assertThat(cache.retrieve(contentRetriever, Query.from("a"))).containsExactly(Content.from("a 1"));
+        assertThat(cache.retrieve(contentRetriever, Query.from("b"))).containsExactly(Content.from("b 4"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_invalidate_cache_on_embedding_store_writes() {
+
+        // given
+        RetrievalCache cache = RetrievalCache.builder().build();
+        EmbeddingStore<TextSegment> embeddingStore = cache.invalidatingOnWrites(mock(EmbeddingStore.class));
+        cache.retrieve(contentRetriever, Query.from("query"));
+
+        // when
+        embeddingStore.add(Embedding.from(new float[] {1}), TextSegment.from("new"));
+
+        // then
+        assertThat(cache.retrieve(contentRetriever, Query.from("query"))).containsExactly(Content.from("query 2"));
+    }
+
+    @Test
+    void should_cache_transformed_queries_per_chat_memory() {
+
+        // given
+        AtomicInteger transformations = new AtomicInteger();
+        QueryTransformer queryTransformer = query -> {
+            transformations.incrementAndGet();
+            return List.of(Query.from(query.text() + " transformed", query.metadata()));
+        };
+        RetrievalCache cache = RetrievalCache.builder().build();
+        UserMessage userMessage = UserMessage.from("query");
+        List<ChatMessage> chatMemory = List.of(UserMessage.from("hi"), AiMessage.from("hello"));
+
+        // when
+        cache.transform(queryTransformer, Query.from("query", Metadata.from(userMessage, "user 1", chatMemory)));
+        Collection<Query> queries = cache.transform(
+                queryTransformer, Query.from("query", Metadata.from(userMessage, "user 2", chatMemory)));
+        cache.transform(queryTransformer, Query.from("query", Metadata.from(userMessage, "user 1", List.of())));
+
+        // then
+        assertThat(transformations).hasValue(2);
+        // cached queries carry the metadata of the current query
+        assertThat(queries)
+                .containsExactly(Query.from("query transformed", Metadata.from(userMessage, "user 2", chatMemory)));
+    }
+}
@@ -240,6 +240,110 @@ class ReRankingContentAggregatorTest {
         assertReRankedContentScore(aggregated, 0.6, 0.5);
     }
 
+    @Test
+    void should_rerank_only_contents_selected_by_first_stage_scoring_model() {
+
+        // given
+        Query query = Query.from("query");
+
+        Content content1 = Content.from("content 1");
+        Content content2 = Content.from("content 2");
+        Content content3 = Content.from("content 3");
+        Content content4 = Content.from("content 4");
+
+        Map<Query, Collection<List<Content>>> queryToContents =
+                singletonMap(query, singletonList(asList(content1, content2, content3, content4)));
+
+        ScoringModel firstStageScoringModel = mock(ScoringModel.class);
+        when(firstStageScoringModel.scoreAll(any(), any())).thenReturn(Response.from(asList(0.1, 0.9, 0.2, 0.8)));
+
+        ScoringModel scoringModel = mock(ScoringModel.class);
+        when(scoringModel.scoreAll(asList(content2.textSegment(), content4.textSegment()), query.text()))
+                .thenReturn(Response.from(asList(0.3, 0.7)));
+
+        ContentAggregator aggregator = ReRankingContentAggregator.builder()
+                .scoringModel(scoringModel)
+                .firstStageScoringModel(firstStageScoringModel)
+                .firstStageMaxResults(2)
+                .build();
+
+        // when
+        List<Content> aggregated = aggregator.aggregate(queryToContents);
+
+        // then
+        assertThat(aggregated).hasSize(2);
+        assertReRankedContentOrder(aggregated, content4, content2);
+        assertReRankedContentScore(aggregated, 0.7, 0.3);
+    }
+
+    @Test
+    void should_rerank_only_top_fused_contents_when_there_is_no_first_stage_scoring_model() {
+
+        // given
+        Query query = Query.from("query");
+
+        Content content1 = Content.from("content 1");
+        Content content2 = Content.from("content 2");
+        Content content3 = Content.from("content 3");
+
+        Map<Query, Collection<List<Content>>> queryToContents =
+                singletonMap(query, singletonList(asList(content1, content2, content3)));
+
+        ScoringModel scoringModel = mock(ScoringModel.class);
+        when(scoringModel.scoreAll(asList(content1.textSegment(), content2.textSegment()), query.text()))
+                .thenReturn(Response.from(asList(0.4, 0.6)));
+
+        ContentAggregator aggregator = ReRankingContentAggregator.builder()
+                .scoringModel(scoringModel)
+                .firstStageMaxResults(2)
+                .build();
+
+        // when
+        List<Content> aggregated = aggregator.aggregate(queryToContents);
+
+        // then
+        assertThat(aggregated).hasSize(2);
+        assertReRankedContentOrder(aggregated, content2, content1);
+        assertReRankedContentScore(aggregated, 0.6, 0.4);
+    }
+
+    @Test
+    void should_keep_contents_with_equal_segments() {
+
+        // given
+        Query query = Query.from("query");
+
+        // contents that are not equal, e.g. retrieved from different sources, can still have equal segments
+        Content content1 = contentWithIdentity(TextSegment.from("content"));
+        Content content2 = contentWithIdentity(TextSegment.from("content"));
+
+        Map<Query, Collection<List<Content>>> queryToContents =
+                singletonMap(query, singletonList(asList(content1, content2)));
+
+        ScoringModel scoringModel = mock(ScoringModel.class);
+        when(scoringModel.scoreAll(any(), any())).thenReturn(Response.from(asList(0.5, 0.5)));
+
+        ContentAggregator aggregator = new ReRankingContentAggregator(scoringModel);
+
+        // when
+        List<Content> aggregated = aggregator.aggregate(queryToContents);
+
+        // then
+        assertThat(aggregated).hasSize(2);
+        assertReRankedContentScore(aggregated, 0.5, 0.5);
+    }
+
+    @Test
+    void should_fail_when_first_stage_scoring_model_without_first_stage_max_results() {
+
+        assertThatThrownBy(() -> ReRankingContentAggregator.builder()
+                .scoringModel(mock(ScoringModel.class))
+                .firstStageScoringModel(mock(ScoringModel.class))
+                .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("'firstStageMaxResults' must be set when a 'firstStageScoringModel' is provided");
+    }
+
     @ParameterizedTest
     @MethodSource
     void should_return_empty_list_when_there_is_no_content_to_rerank(
@@ -265,6 +369,21 @@ class ReRankingContentAggregatorTest {
                 .build();
     }
 
+    private static Content contentWithIdentity(TextSegment textSegment) {
+        return new Content() {
+
+            @Override
+            public TextSegment textSegment() {
+                return textSegment;
+            }
+
+            @Override
+            public Map<ContentMetadata, Object> metadata() {
+                return emptyMap();
+            }
+        };
+    }
+
     private void assertReRankedContentOrder(List<Content> actual, Content... expectedContents) {
         List<TextSegment> expectedTextSegments =
                 Arrays.stream(expectedContents).map(Content::textSegment).toList();
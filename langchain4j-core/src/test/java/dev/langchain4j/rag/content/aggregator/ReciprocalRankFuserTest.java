@@ -1,12 +1,15 @@
 package dev.langchain4j.rag.content.aggregator;
 
 import dev.langchain4j.rag.content.Content;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Stream;
 
 import static dev.langchain4j.rag.content.aggregator.ReciprocalRankFuser.fuse;
@@ -26,6 +29,37 @@ class ReciprocalRankFuserTest {
         assertThat(fuse(contents)).isEqualTo(expected);
     }
 
+    @ParameterizedTest
+    @MethodSource("should_fuse")
+    void should_fuse_top(Collection<List<Content>> contents, List<Content> expected) {
+        for (int maxResults = 1; maxResults <= expected.size() + 1; maxResults++) {
+            assertThat(fuse(contents, 60, maxResults))
+                    .isEqualTo(expected.subList(0, Math.min(maxResults, expected.size())));
+        }
+    }
+
+    @Test
+    void should_fuse_top_of_many_lists() {
+
+        // given
+        Random random = new Random(42);
+        List<List<Content>> contents = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            List<Content> singleListOfContents = new ArrayList<>();
+            for (int j = 0; j < 50; j++) {
+                singleListOfContents.add(Content.from("content " + random.nextInt(200)));
+            }
+            contents.add(singleListOfContents);
+        }
+
+        // when
+        List<Content> fused = fuse(contents);
+        List<Content> top = fuse(contents, 60, 10);
+
+        // then
+        assertThat(top).isEqualTo(fused.subList(0, 10));
+    }
+
     public static Stream<Arguments> should_fuse() {
         return Stream.<Arguments>builder()
 
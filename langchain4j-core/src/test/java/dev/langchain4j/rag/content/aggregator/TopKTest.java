@@ -0,0 +1,27 @@
+package dev.langchain4j.rag.content.aggregator;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TopKTest {
+
+    @Test
+    void should_select_top_k_scores() {
+
+        // given
+        List<Double> scores = asList(0.3, 0.9, 0.1, 0.7, 0.9, 0.5);
+
+        // when
+        List<Integer> topK = TopK.topK(scores::get, scores.size(), 3, null);
+        List<Integer> topKAboveMinScore = TopK.topK(scores::get, scores.size(), 10, 0.5);
+        List<Integer> all = TopK.topK(scores::get, scores.size(), Integer.MAX_VALUE, null);
+
+        // then
+        assertThat(topK).containsExactly(1, 4, 3);
+        assertThat(topKAboveMinScore).containsExactly(1, 4, 3, 5);
+        assertThat(all).containsExactly(1, 4, 3, 5, 0, 2);
+    }
+}
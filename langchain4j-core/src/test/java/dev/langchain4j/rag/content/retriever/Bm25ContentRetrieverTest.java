@@ -0,0 +1,189 @@
+package dev.langchain4j.rag.content.retriever;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.rag.content.ContentMetadata;
+import dev.langchain4j.rag.query.Query;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.filter.Filter;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class Bm25ContentRetrieverTest {
+
+    private static final TextSegment ERROR = TextSegment.from(
+            "Error ERR-1042 occurs when the disk is full", Metadata.from("type", "error"));
+    private static final TextSegment FOX = TextSegment.from(
+            "The quick brown fox jumps over the lazy dog", Metadata.from("type", "sentence"));
+    private static final TextSegment DISK = TextSegment.from(
+            "Free up disk space: the disk must not be full", Metadata.from("type", "advice"));
+
+    @Test
+    void should_retrieve_by_exact_terms() {
+
+        // given
+        Bm25ContentRetriever contentRetriever = Bm25ContentRetriever.builder().build();
+        contentRetriever.add("1", ERROR);
+        contentRetriever.add("2", FOX);
+        contentRetriever.add("3", DISK);
+
+        // when
+        List<Content> contents = contentRetriever.retrieve(Query.from("ERR-1042"));
+
+        // then
+        assertThat(contents).hasSize(1);
+        assertThat(contents.get(0).textSegment()).isEqualTo(ERROR);
+        assertThat(contents.get(0).metadata()).containsEntry(ContentMetadata.EMBEDDING_ID, "1");
+        assertThat((Double) contents.get(0).metadata().get(ContentMetadata.SCORE)).isPositive();
+    }
+
+    @Test
+    void should_rank_by_bm25_score_and_limit_max_results() {
+
+        // given
+        Bm25ContentRetriever contentRetriever = Bm25ContentRetriever.builder()
+                .maxResults(2)
+                .build();
+        contentRetriever.addAll(asList(ERROR, FOX, DISK));
+
+        // when
+        List<Content> contents = contentRetriever.retrieve(Query.from("full disk"));
+
+        // then
+        assertThat(contents).extracting(Content::textSegment).containsExactly(DISK, ERROR);
+        assertThat((Double) contents.get(0).metadata().get(ContentMetadata.SCORE))
+                .isGreaterThan((Double) contents.get(1).metadata().get(ContentMetadata.SCORE));
+    }
+
+    @Test
+    void should_retrieve_nothing_when_no_term_matches() {
+
+        // given
+        Bm25ContentRetriever contentRetriever = Bm25ContentRetriever.builder().build();
+        contentRetriever.addAll(asList(ERROR, FOX, DISK));
+
+        // when
+        List<Content> contents = contentRetriever.retrieve(Query.from("kubernetes"));
+
+        // then
+        assertThat(contents).isEmpty();
+    }
+
+    @Test
+    void should_retrieve_with_filter() {
+
+        // given
+        Filter filter = metadataKey("type").isEqualTo("advice");
+        Bm25ContentRetriever contentRetriever = Bm25ContentRetriever.builder()
+                .filter(filter)
+                .build();
+        contentRetriever.addAll(asList(ERROR, FOX, DISK));
+
+        // when
+        List<Content> contents = contentRetriever.retrieve(Query.from("disk full"));
+
+        // then
+        assertThat(contents).extracting(Content::textSegment).containsExactly(DISK);
+    }
+
+    @Test
+    void should_replace_and_remove_segments() {
+
+        // given
+        Bm25ContentRetriever contentRetriever = Bm25ContentRetriever.builder().build();
+        contentRetriever.add("1", ERROR);
+        contentRetriever.add("2", FOX);
+
+        // when
+        contentRetriever.add("1", DISK);
+        contentRetriever.remove("2");
+
+        // then
+        assertThat(contentRetriever.size()).isEqualTo(1);
+        assertThat(contentRetriever.retrieve(Query.from("ERR-1042"))).isEmpty();
+        assertThat(contentRetriever.retrieve(Query.from("fox"))).isEmpty();
+        assertThat(contentRetriever.retrieve(Query.from("disk")))
+                .extracting(Content::textSegment)
+                .containsExactly(DISK);
+
+        // when
+        contentRetriever.removeAll();
+
+        // then
+        assertThat(contentRetriever.size()).isZero();
+        assertThat(contentRetriever.retrieve(Query.from("disk"))).isEmpty();
+    }
+
+    @Test
+    void should_index_writes_to_embedding_store() {
+
+        // given
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        when(embeddingStore.addAll(any(), any())).thenReturn(asList("1", "2", "3"));
+
+        Bm25ContentRetriever contentRetriever = Bm25ContentRetriever.builder().build();
+        EmbeddingStore<TextSegment> indexingEmbeddingStore = contentRetriever.indexingOnWrites(embeddingStore);
+
+        List<Embedding> embeddings = asList(
+                Embedding.from(new float[]{1}), Embedding.from(new float[]{2}), Embedding.from(new float[]{3}));
+        List<TextSegment> segments = asList(ERROR, FOX, DISK);
+
+        // when
+        indexingEmbeddingStore.addAll(embeddings, segments);
+
+        // then
+        verify(embeddingStore).addAll(embeddings, segments);
+        List<Content> contents = contentRetriever.retrieve(Query.from("lazy fox"));
+        assertThat(contents).extracting(Content::textSegment).containsExactly(FOX);
+        assertThat(contents.get(0).metadata()).containsEntry(ContentMetadata.EMBEDDING_ID, "2");
+
+        // when
+        Filter filter = metadataKey("type").isEqualTo("sentence");
+        indexingEmbeddingStore.removeAll(filter);
+
+        // then
+        verify(embeddingStore).removeAll(filter);
+        assertThat(contentRetriever.size()).isEqualTo(2);
+        assertThat(contentRetriever.retrieve(Query.from("lazy fox"))).isEmpty();
+    }
+
+    @Test
+    void should_not_write_invalid_segments_to_embedding_store() {
+
+        // given
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        Bm25ContentRetriever contentRetriever = Bm25ContentRetriever.builder().build();
+        EmbeddingStore<TextSegment> indexingEmbeddingStore = contentRetriever.indexingOnWrites(embeddingStore);
+
+        Embedding embedding = Embedding.from(new float[]{1});
+        List<Embedding> embeddings = asList(embedding, embedding);
+
+        // when-then
+        assertThatThrownBy(() -> indexingEmbeddingStore.add(embedding, null))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> indexingEmbeddingStore.addAll(embeddings, asList(ERROR, null)))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> indexingEmbeddingStore.addAll(embeddings, asList(ERROR)))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> indexingEmbeddingStore.addAll(asList("1"), embeddings, asList(ERROR, FOX)))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> indexingEmbeddingStore.addAll(asList("1", null), embeddings, asList(ERROR, FOX)))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(embeddingStore);
+        assertThat(contentRetriever.size()).isZero();
+    }
+}
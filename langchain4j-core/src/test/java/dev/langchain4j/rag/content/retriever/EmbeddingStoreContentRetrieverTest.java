@@ -4,6 +4,7 @@ import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
+import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.rag.query.Query;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
@@ -13,6 +14,9 @@ import dev.langchain4j.store.embedding.filter.Filter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Map;
+
 import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -292,6 +296,51 @@ class EmbeddingStoreContentRetrieverTest {
         verifyNoMoreInteractions(EMBEDDING_MODEL);
     }
 
+    @Test
+    void should_retrieve_all_with_single_embedding_and_search_call() {
+
+        // given
+        Query query1 = Query.from("query 1");
+        Query query2 = Query.from("query 2");
+        Embedding embedding2 = Embedding.from(asList(4f, 5f, 6f));
+        when(EMBEDDING_MODEL.embedAll(List.of(TextSegment.from("query 1"), TextSegment.from("query 2"))))
+                .thenReturn(Response.from(List.of(EMBEDDING, embedding2)));
+
+        EmbeddingSearchRequest searchRequest1 = EmbeddingSearchRequest.builder()
+                .queryEmbedding(EMBEDDING)
+                .maxResults(DEFAULT_MAX_RESULTS)
+                .minScore(DEFAULT_MIN_SCORE)
+                .build();
+        EmbeddingSearchRequest searchRequest2 = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embedding2)
+                .maxResults(DEFAULT_MAX_RESULTS)
+                .minScore(DEFAULT_MIN_SCORE)
+                .build();
+        when(EMBEDDING_STORE.searchAll(List.of(searchRequest1, searchRequest2))).thenReturn(List.of(
+                new EmbeddingSearchResult<>(List.of(new EmbeddingMatch<>(0.9, "id 1", null, TextSegment.from("content 1")))),
+                new EmbeddingSearchResult<>(List.of())
+        ));
+
+        ContentRetriever contentRetriever = EmbeddingStoreContentRetriever.builder()
+                .embeddingStore(EMBEDDING_STORE)
+                .embeddingModel(EMBEDDING_MODEL)
+                .build();
+
+        // when
+        Map<Query, List<Content>> queryToContents = contentRetriever.retrieveAll(List.of(query1, query2, query1));
+
+        // then
+        assertThat(queryToContents).containsOnlyKeys(query1, query2);
+        assertThat(queryToContents.get(query1)).extracting(content -> content.textSegment().text())
+                .containsExactly("content 1");
+        assertThat(queryToContents.get(query2)).isEmpty();
+
+        verify(EMBEDDING_MODEL).embedAll(List.of(TextSegment.from("query 1"), TextSegment.from("query 2")));
+        verifyNoMoreInteractions(EMBEDDING_MODEL);
+        verify(EMBEDDING_STORE).searchAll(List.of(searchRequest1, searchRequest2));
+        verifyNoMoreInteractions(EMBEDDING_STORE);
+    }
+
     @Test
     void should_include_explicit_display_name_in_to_string() {
 
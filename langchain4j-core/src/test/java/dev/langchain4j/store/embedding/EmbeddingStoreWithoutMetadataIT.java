@@ -381,6 +381,43 @@ public abstract class EmbeddingStoreWithoutMetadataIT {
                         percentage());
     }
 
+    @Test
+    void should_search_all() {
+        // given
+        TextSegment firstSegment = TextSegment.from("hello");
+        Embedding firstEmbedding = embeddingModel().embed(firstSegment.text()).content();
+        TextSegment secondSegment = TextSegment.from("goodbye");
+        Embedding secondEmbedding = embeddingModel().embed(secondSegment.text()).content();
+        List<String> ids = embeddingStore()
+                .addAll(asList(firstEmbedding, secondEmbedding), asList(firstSegment, secondSegment));
+        awaitUntilAsserted(() -> assertThat(getAllEmbeddings()).hasSize(2));
+
+        EmbeddingSearchRequest firstSearchRequest = EmbeddingSearchRequest.builder()
+                .queryEmbedding(firstEmbedding)
+                .maxResults(1)
+                .build();
+        EmbeddingSearchRequest secondSearchRequest = EmbeddingSearchRequest.builder()
+                .queryEmbedding(secondEmbedding)
+                .maxResults(2)
+                .build();
+
+        // when
+        List<EmbeddingSearchResult<TextSegment>> searchResults =
+                embeddingStore().searchAll(asList(firstSearchRequest, secondSearchRequest));
+
+        // then
+        assertThat(searchResults).hasSize(2);
+
+        assertThat(searchResults.get(0).matches()).hasSize(1);
+        assertThat(searchResults.get(0).matches().get(0).embeddingId()).isEqualTo(ids.get(0));
+        assertThat(searchResults.get(0).matches().get(0).score()).isCloseTo(1, percentage());
+
+        assertThat(searchResults.get(1).matches()).hasSize(2);
+        assertThat(searchResults.get(1).matches().get(0).embeddingId()).isEqualTo(ids.get(1));
+        assertThat(searchResults.get(1).matches().get(0).embedded()).isEqualTo(secondSegment);
+        assertThat(searchResults.get(1).matches().get(1).embeddingId()).isEqualTo(ids.get(0));
+    }
+
     protected List<EmbeddingMatch<TextSegment>> getAllEmbeddings() {
         EmbeddingSearchRequest embeddingSearchRequest = EmbeddingSearchRequest.builder()
                 .queryEmbedding(embeddingModel().embed("test").content())
@@ -1,11 +1,14 @@
 package dev.langchain4j.store.memory.chat;
 
 import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.UserMessage;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.List;
 
 class InMemoryChatMemoryStoreTest implements WithAssertions {
     @Test
@@ -21,4 +24,35 @@ class InMemoryChatMemoryStoreTest implements WithAssertions {
 
         assertThat(store.getMessages("foo")).isEmpty();
     }
+
+    @Test
+    void incremental_updates() {
+        InMemoryChatMemoryStore store = new InMemoryChatMemoryStore();
+        assertThat(store.supportsIncrementalUpdates()).isTrue();
+
+        store.appendMessages("foo", Arrays.asList(new SystemMessage("be nice"), new UserMessage("abc")));
+        store.appendMessages("foo", Arrays.asList(new AiMessage("def"), new UserMessage("ghi")));
+        assertThat(store.getMessages("foo")).containsExactly(
+                new SystemMessage("be nice"), new UserMessage("abc"), new AiMessage("def"), new UserMessage("ghi"));
+
+        List<ChatMessage> beforeEviction = store.getMessages("foo");
+        store.evictOldest("foo", 2);
+        assertThat(store.getMessages("foo")).containsExactly(new SystemMessage("be nice"), new UserMessage("ghi"));
+        assertThat(beforeEviction).hasSize(4);
+
+        store.replaceSystemMessage("foo", new SystemMessage("be concise"));
+        assertThat(store.getMessages("foo")).containsExactly(new UserMessage("ghi"), new SystemMessage("be concise"));
+    }
+
+    @Test
+    void incremental_updates_after_full_update() {
+        InMemoryChatMemoryStore store = new InMemoryChatMemoryStore();
+
+        store.updateMessages("foo", List.of(new UserMessage("abc")));
+        store.appendMessages("foo", List.of(new AiMessage("def")));
+        store.replaceSystemMessage("foo", new SystemMessage("be nice"));
+        store.evictOldest("foo", 1);
+
+        assertThat(store.getMessages("foo")).containsExactly(new AiMessage("def"), new SystemMessage("be nice"));
+    }
 }
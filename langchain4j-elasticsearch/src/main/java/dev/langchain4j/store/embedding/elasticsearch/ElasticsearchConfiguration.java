@@ -2,14 +2,52 @@ package dev.langchain4j.store.embedding.elasticsearch;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.core.MsearchRequest;
+import co.elastic.clients.elasticsearch.core.MsearchResponse;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.msearch.MultisearchBody;
+import co.elastic.clients.elasticsearch.core.msearch.RequestItem;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 public abstract class ElasticsearchConfiguration {
     abstract SearchResponse<Document> internalSearch(ElasticsearchClient client,
                                             String indexName,
                                             EmbeddingSearchRequest embeddingSearchRequest)
             throws ElasticsearchException, IOException;
+
+    /**
+     * Builds the body of a search within a multi search request, equivalent to
+     * {@link #internalSearch(ElasticsearchClient, String, EmbeddingSearchRequest)}.
+     *
+     * @return the body, or {@code null} if this configuration does not support multi search requests.
+     */
+    MultisearchBody internalSearchBody(EmbeddingSearchRequest embeddingSearchRequest) throws IOException {
+        return null;
+    }
+
+    /**
+     * Executes all searches with a single multi search request.
+     *
+     * @return the response, or {@code null} if this configuration does not support multi search requests.
+     */
+    MsearchResponse<Document> internalSearchAll(ElasticsearchClient client,
+                                                String indexName,
+                                                List<EmbeddingSearchRequest> embeddingSearchRequests)
+            throws ElasticsearchException, IOException {
+        List<RequestItem> searches = new ArrayList<>(embeddingSearchRequests.size());
+        for (EmbeddingSearchRequest embeddingSearchRequest : embeddingSearchRequests) {
+            MultisearchBody body = internalSearchBody(embeddingSearchRequest);
+            if (body == null) {
+                return null;
+            }
+            searches.add(RequestItem.of(item -> item
+                    .header(header -> header.index(indexName))
+                    .body(body)));
+        }
+        return client.msearch(MsearchRequest.of(m -> m.searches(searches)), Document.class);
+    }
 }
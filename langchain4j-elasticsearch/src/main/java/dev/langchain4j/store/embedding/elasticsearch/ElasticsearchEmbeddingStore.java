@@ -8,8 +8,11 @@ import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch.core.BulkRequest;
 import co.elastic.clients.elasticsearch.core.BulkResponse;
 import co.elastic.clients.elasticsearch.core.DeleteByQueryResponse;
+import co.elastic.clients.elasticsearch.core.MsearchResponse;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.msearch.MultiSearchResponseItem;
+import co.elastic.clients.elasticsearch.core.search.Hit;
 import co.elastic.clients.json.JsonpMapper;
 import co.elastic.clients.json.jackson.JacksonJsonpMapper;
 import co.elastic.clients.transport.ElasticsearchTransport;
@@ -35,6 +38,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -289,7 +293,7 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
             SearchResponse<Document> response = configuration.internalSearch(client, indexName, embeddingSearchRequest);
             log.trace("found [{}] results", response);
 
-            List<EmbeddingMatch<TextSegment>> results = toMatches(response);
+            List<EmbeddingMatch<TextSegment>> results = toMatches(response.hits().hits());
             results.forEach(em -> log.debug("doc [{}] scores [{}]", em.embeddingId(), em.score()));
             return new EmbeddingSearchResult<>(results);
         } catch (ElasticsearchException | IOException e) {
@@ -297,6 +301,35 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
         }
     }
 
+    /**
+     * Executes all searches with a single multi search request to Elasticsearch,
+     * or one by one if the configuration does not support multi search requests.
+     */
+    @Override
+    public List<EmbeddingSearchResult<TextSegment>> searchAll(List<EmbeddingSearchRequest> embeddingSearchRequests) {
+        if (embeddingSearchRequests.isEmpty()) {
+            return emptyList();
+        }
+        log.debug("searchAll([...{} requests...])", embeddingSearchRequests.size());
+        try {
+            MsearchResponse<Document> response =
+                    configuration.internalSearchAll(client, indexName, embeddingSearchRequests);
+            if (response == null) {
+                return EmbeddingStore.super.searchAll(embeddingSearchRequests);
+            }
+            List<EmbeddingSearchResult<TextSegment>> results = new ArrayList<>(embeddingSearchRequests.size());
+            for (MultiSearchResponseItem<Document> item : response.responses()) {
+                if (item.isFailure()) {
+                    throw new ElasticsearchRequestFailedException(item.failure().error().reason());
+                }
+                results.add(new EmbeddingSearchResult<>(toMatches(item.result().hits().hits())));
+            }
+            return results;
+        } catch (ElasticsearchException | IOException e) {
+            throw new ElasticsearchRequestFailedException(e);
+        }
+    }
+
     @Override
     public void removeAll(Collection<String> ids) {
         ensureNotEmpty(ids, "ids");
@@ -418,8 +451,8 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
         handleBulkResponseErrors(response);
     }
 
-    private List<EmbeddingMatch<TextSegment>> toMatches(SearchResponse<Document> response) {
-        return response.hits().hits().stream()
+    private List<EmbeddingMatch<TextSegment>> toMatches(List<Hit<Document>> hits) {
+        return hits.stream()
                 .map(hit -> Optional.ofNullable(hit.source())
                         .map(document -> new EmbeddingMatch<>(
                                 hit.score(),
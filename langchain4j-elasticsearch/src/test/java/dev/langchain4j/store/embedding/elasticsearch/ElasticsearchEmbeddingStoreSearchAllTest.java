@@ -0,0 +1,159 @@
+package dev.langchain4j.store.embedding.elasticsearch;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.RestClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs {@link ElasticsearchEmbeddingStore#searchAll(List)} against a local HTTP server
+ * that answers search requests with canned Elasticsearch responses.
+ */
+class ElasticsearchEmbeddingStoreSearchAllTest {
+
+    private static final String HIT = "{\"_index\":\"test-index\",\"_id\":\"%s\",\"_score\":%s,"
+            + "\"_source\":{\"text\":\"%s\",\"metadata\":{\"key\":\"value\"},\"vector\":[1.0,0.0]}}";
+
+    private static final String SEARCH_RESPONSE = "{\"took\":1,\"timed_out\":false,"
+            + "\"_shards\":{\"total\":1,\"successful\":1,\"skipped\":0,\"failed\":0},"
+            + "\"hits\":{\"total\":{\"value\":%d,\"relation\":\"eq\"},\"max_score\":null,\"hits\":[%s]}%s}";
+
+    private static final String FAILURE = "{\"error\":{\"type\":\"search_phase_execution_exception\","
+            + "\"reason\":\"all shards failed\"},\"status\":400}";
+
+    private final Map<String, String> requestBodies = new ConcurrentHashMap<>();
+    private final Map<String, String> responseBodies = new ConcurrentHashMap<>();
+
+    private HttpServer server;
+    private RestClient restClient;
+    private ElasticsearchEmbeddingStore embeddingStore;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+
+        restClient = RestClient.builder(new HttpHost("localhost", server.getAddress().getPort()))
+                .build();
+        embeddingStore = new ElasticsearchEmbeddingStore(
+                ElasticsearchConfigurationScript.builder().build(), restClient, "test-index");
+    }
+
+    @AfterEach
+    void stopServer() throws IOException {
+        restClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    void should_search_all_with_single_multi_search_request() {
+
+        // given
+        responseBodies.put("/_msearch", "{\"took\":1,\"responses\":["
+                + searchResponse(hit("id1", 0.9, "first"), hit("id2", 0.7, "second")) + ","
+                + searchResponse() + "]}");
+
+        // when
+        List<EmbeddingSearchResult<TextSegment>> results = embeddingStore.searchAll(asList(
+                searchRequest(2, 0.0),
+                searchRequest(5, 0.8)));
+
+        // then
+        assertThat(requestBodies).containsOnlyKeys("/_msearch");
+        String[] lines = requestBodies.get("/_msearch").split("\n");
+        assertThat(lines).hasSize(4);
+        assertThat(lines[0]).isEqualTo("{\"index\":[\"test-index\"]}");
+        assertThat(lines[2]).isEqualTo("{\"index\":[\"test-index\"]}");
+        assertThat(lines[1]).contains("\"script_score\"", "\"size\":2");
+        assertThat(lines[3]).contains("\"script_score\"", "\"min_score\":0.8", "\"size\":5");
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).matches())
+                .extracting(EmbeddingMatch::embeddingId, EmbeddingMatch::score)
+                .containsExactly(
+                        tuple("id1", 0.9),
+                        tuple("id2", 0.7));
+        assertThat(results.get(0).matches().get(0).embedded().text()).isEqualTo("first");
+        assertThat(results.get(0).matches().get(0).embedded().metadata().getString("key")).isEqualTo("value");
+        assertThat(results.get(1).matches()).isEmpty();
+    }
+
+    @Test
+    void should_fail_when_any_search_of_multi_search_request_fails() {
+
+        // given
+        responseBodies.put("/_msearch", "{\"took\":1,\"responses\":["
+                + searchResponse(hit("id1", 0.9, "first")) + "," + FAILURE + "]}");
+
+        // when-then
+        assertThatThrownBy(() -> embeddingStore.searchAll(asList(searchRequest(2, 0.0), searchRequest(2, 0.0))))
+                .isExactlyInstanceOf(ElasticsearchRequestFailedException.class)
+                .hasMessage("all shards failed");
+    }
+
+    @Test
+    void should_search_with_same_query_as_multi_search_request() {
+
+        // given
+        responseBodies.put("/test-index/_search", searchResponse(hit("id1", 0.9, "first")));
+
+        // when
+        EmbeddingSearchResult<TextSegment> result = embeddingStore.search(searchRequest(3, 0.5));
+
+        // then
+        assertThat(requestBodies.get("/test-index/_search"))
+                .contains("\"script_score\"", "\"min_score\":0.5", "\"size\":3");
+        assertThat(result.matches()).extracting(EmbeddingMatch::embeddingId).containsExactly("id1");
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        requestBodies.put(path, new String(exchange.getRequestBody().readAllBytes(), UTF_8));
+
+        String responseBody = responseBodies.get(path);
+        byte[] response = (responseBody == null ? "{}" : responseBody).getBytes(UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.getResponseHeaders().add("X-Elastic-Product", "Elasticsearch");
+        exchange.sendResponseHeaders(responseBody == null ? 404 : 200, response.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(response);
+        }
+    }
+
+    private static EmbeddingSearchRequest searchRequest(int maxResults, double minScore) {
+        return EmbeddingSearchRequest.builder()
+                .queryEmbedding(Embedding.from(asList(1f, 0f)))
+                .maxResults(maxResults)
+                .minScore(minScore)
+                .build();
+    }
+
+    private static String hit(String id, double score, String text) {
+        return String.format(HIT, id, score, text);
+    }
+
+    private static String searchResponse(String... hits) {
+        return String.format(SEARCH_RESPONSE, hits.length, String.join(",", hits), ",\"status\":200");
+    }
+}
@@ -60,9 +60,20 @@ class CollectionRequestBuilder {
                                           int maxResults,
                                           MetricType metricType,
                                           ConsistencyLevelEnum consistencyLevel) {
+        return buildBatchSearchRequest(collectionName, fieldDefinition, singletonList(vector), filter, maxResults,
+                metricType, consistencyLevel);
+    }
+
+    static SearchParam buildBatchSearchRequest(String collectionName,
+                                               FieldDefinition fieldDefinition,
+                                               List<List<Float>> vectors,
+                                               Filter filter,
+                                               int maxResults,
+                                               MetricType metricType,
+                                               ConsistencyLevelEnum consistencyLevel) {
         SearchParam.Builder builder = SearchParam.newBuilder()
                 .withCollectionName(collectionName)
-                .withVectors(singletonList(vector))
+                .withVectors(vectors)
                 .withVectorFieldName(fieldDefinition.getVectorFieldName())
                 .withTopK(maxResults)
                 .withMetricType(metricType)
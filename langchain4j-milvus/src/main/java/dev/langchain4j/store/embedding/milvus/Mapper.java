@@ -85,7 +85,7 @@ class Mapper {
             double score = resultsWrapper.getIDScore(0).get(i).getScore();
             String rowId = resultsWrapper.getIDScore(0).get(i).getStrID();
             Embedding embedding = idToEmbedding.get(rowId);
-            TextSegment textSegment = toTextSegment(resultsWrapper.getRowRecords().get(i), fieldDefinition);
+            TextSegment textSegment = toTextSegment(resultsWrapper.getRowRecords().get(i).getFieldValues(), fieldDefinition);
             EmbeddingMatch<TextSegment> embeddingMatch = new EmbeddingMatch<>(
                     RelevanceScore.fromCosineSimilarity(score),
                     rowId,
@@ -98,19 +98,68 @@ class Mapper {
         return matches;
     }
 
-    private static TextSegment toTextSegment(RowRecord rowRecord, FieldDefinition fieldDefinition) {
+    static List<List<EmbeddingMatch<TextSegment>>> toEmbeddingMatches(MilvusServiceClient milvusClient,
+                                                                      SearchResultsWrapper resultsWrapper,
+                                                                      int numberOfTargets,
+                                                                      String collectionName,
+                                                                      FieldDefinition fieldDefinition,
+                                                                      ConsistencyLevelEnum consistencyLevel,
+                                                                      boolean queryForVectorOnSearch) {
+        // getRowRecords(target) reads the output fields of the first target for every target,
+        // while the IDScores carry the output fields at the right offsets
+        List<List<SearchResultsWrapper.IDScore>> idScores = new ArrayList<>();
+        for (int target = 0; target < numberOfTargets; target++) {
+            try {
+                idScores.add(resultsWrapper.getIDScore(target));
+            } catch (ParamException e) {
+                // thrown when there are no results
+                idScores.add(new ArrayList<>());
+            }
+        }
+
+        Map<String, Embedding> idToEmbedding = new HashMap<>();
+        if (queryForVectorOnSearch) {
+            // vectors of all targets are queried at once
+            List<String> rowIds = idScores.stream()
+                    .flatMap(List::stream)
+                    .map(SearchResultsWrapper.IDScore::getStrID)
+                    .distinct()
+                    .collect(toList());
+            if (!rowIds.isEmpty()) {
+                idToEmbedding.putAll(queryEmbeddings(milvusClient, collectionName, fieldDefinition, rowIds, consistencyLevel));
+            }
+        }
+
+        List<List<EmbeddingMatch<TextSegment>>> matches = new ArrayList<>();
+        for (int target = 0; target < numberOfTargets; target++) {
+            List<EmbeddingMatch<TextSegment>> targetMatches = new ArrayList<>();
+            for (SearchResultsWrapper.IDScore idScore : idScores.get(target)) {
+                targetMatches.add(new EmbeddingMatch<>(
+                        RelevanceScore.fromCosineSimilarity(idScore.getScore()),
+                        idScore.getStrID(),
+                        idToEmbedding.get(idScore.getStrID()),
+                        toTextSegment(idScore.getFieldValues(), fieldDefinition)
+                ));
+            }
+            matches.add(targetMatches);
+        }
+
+        return matches;
+    }
+
+    private static TextSegment toTextSegment(Map<String, Object> fieldValues, FieldDefinition fieldDefinition) {
 
-        Object textField = rowRecord.get(fieldDefinition.getTextFieldName());
+        Object textField = fieldValues.get(fieldDefinition.getTextFieldName());
         String text = textField == null ? null : textField.toString();
         if (isNullOrBlank(text)) {
             return null;
         }
 
-        if (!rowRecord.getFieldValues().containsKey(fieldDefinition.getMetadataFieldName())) {
+        if (!fieldValues.containsKey(fieldDefinition.getMetadataFieldName())) {
             return TextSegment.from(text);
         }
 
-        JsonObject metadata = (JsonObject) rowRecord.get(fieldDefinition.getMetadataFieldName());
+        JsonObject metadata = (JsonObject) fieldValues.get(fieldDefinition.getMetadataFieldName());
         return TextSegment.from(text, toMetadata(metadata));
     }
 
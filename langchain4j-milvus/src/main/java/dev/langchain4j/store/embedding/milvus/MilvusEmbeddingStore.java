@@ -20,7 +20,9 @@ import io.milvus.response.SearchResultsWrapper;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.isNullOrEmpty;
@@ -33,6 +35,7 @@ import static dev.langchain4j.store.embedding.milvus.CollectionOperationsExecuto
 import static dev.langchain4j.store.embedding.milvus.CollectionOperationsExecutor.insert;
 import static dev.langchain4j.store.embedding.milvus.CollectionOperationsExecutor.loadCollectionInMemory;
 import static dev.langchain4j.store.embedding.milvus.CollectionOperationsExecutor.removeForVector;
+import static dev.langchain4j.store.embedding.milvus.CollectionRequestBuilder.buildBatchSearchRequest;
 import static dev.langchain4j.store.embedding.milvus.CollectionRequestBuilder.buildSearchRequest;
 import static dev.langchain4j.store.embedding.milvus.Generator.generateRandomIds;
 import static dev.langchain4j.store.embedding.milvus.Mapper.toEmbeddingMatches;
@@ -45,7 +48,9 @@ import static io.milvus.common.clientenum.ConsistencyLevelEnum.EVENTUALLY;
 import static io.milvus.param.IndexType.FLAT;
 import static io.milvus.param.MetricType.COSINE;
 import static java.lang.String.format;
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.nCopies;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 
@@ -222,6 +227,62 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
         return new EmbeddingSearchResult<>(result);
     }
 
+    /**
+     * Executes searches sharing the same filter and maximum number of results
+     * with a single multi-vector search request to Milvus.
+     */
+    @Override
+    public List<EmbeddingSearchResult<TextSegment>> searchAll(List<EmbeddingSearchRequest> embeddingSearchRequests) {
+
+        Map<List<Object>, List<Integer>> requestGroups = new LinkedHashMap<>();
+        for (int i = 0; i < embeddingSearchRequests.size(); i++) {
+            EmbeddingSearchRequest embeddingSearchRequest = embeddingSearchRequests.get(i);
+            List<Object> groupKey = asList(embeddingSearchRequest.filter(), embeddingSearchRequest.maxResults());
+            requestGroups.computeIfAbsent(groupKey, ignored -> new ArrayList<>()).add(i);
+        }
+
+        List<EmbeddingSearchResult<TextSegment>> results = new ArrayList<>(nCopies(embeddingSearchRequests.size(), null));
+        for (List<Integer> requestIndexes : requestGroups.values()) {
+
+            EmbeddingSearchRequest firstRequest = embeddingSearchRequests.get(requestIndexes.get(0));
+            List<List<Float>> vectors = requestIndexes.stream()
+                    .map(i -> embeddingSearchRequests.get(i).queryEmbedding().vectorAsList())
+                    .collect(toList());
+
+            SearchParam searchParam = buildBatchSearchRequest(
+                    collectionName,
+                    fieldDefinition,
+                    vectors,
+                    firstRequest.filter(),
+                    firstRequest.maxResults(),
+                    metricType,
+                    consistencyLevel
+            );
+
+            SearchResultsWrapper resultsWrapper = CollectionOperationsExecutor.search(milvusClient, searchParam);
+
+            List<List<EmbeddingMatch<TextSegment>>> matches = toEmbeddingMatches(
+                    milvusClient,
+                    resultsWrapper,
+                    requestIndexes.size(),
+                    collectionName,
+                    fieldDefinition,
+                    consistencyLevel,
+                    retrieveEmbeddingsOnSearch
+            );
+
+            for (int j = 0; j < requestIndexes.size(); j++) {
+                double minScore = embeddingSearchRequests.get(requestIndexes.get(j)).minScore();
+                List<EmbeddingMatch<TextSegment>> result = matches.get(j).stream()
+                        .filter(match -> match.score() >= minScore)
+                        .collect(toList());
+                results.set(requestIndexes.get(j), new EmbeddingSearchResult<>(result));
+            }
+        }
+
+        return results;
+    }
+
     private void addInternal(String id, Embedding embedding, TextSegment textSegment) {
         addAll(
                 singletonList(id),
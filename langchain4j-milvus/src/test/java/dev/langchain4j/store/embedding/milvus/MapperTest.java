@@ -0,0 +1,72 @@
+package dev.langchain4j.store.embedding.milvus;
+
+import static io.milvus.common.clientenum.ConsistencyLevelEnum.STRONG;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+import com.google.protobuf.ByteString;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import io.milvus.grpc.DataType;
+import io.milvus.grpc.FieldData;
+import io.milvus.grpc.IDs;
+import io.milvus.grpc.JSONArray;
+import io.milvus.grpc.ScalarField;
+import io.milvus.grpc.SearchResultData;
+import io.milvus.grpc.StringArray;
+import io.milvus.response.SearchResultsWrapper;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MapperTest {
+
+    private static final FieldDefinition FIELD_DEFINITION =
+            new FieldDefinition("id_field", "text_field", "metadata_field", "vector_field");
+
+    @Test
+    void should_map_results_of_multi_vector_search_per_target() {
+
+        // given
+        SearchResultData searchResultData = SearchResultData.newBuilder()
+                .setNumQueries(3)
+                .setTopK(2)
+                .addAllTopks(asList(2L, 0L, 1L)) // the second target has no results
+                .setIds(IDs.newBuilder()
+                        .setStrId(StringArray.newBuilder().addAllData(asList("id1", "id2", "id3"))))
+                .addAllScores(asList(0.8f, 0.6f, 0.4f))
+                .addAllOutputFields(asList("text_field", "metadata_field"))
+                .addFieldsData(FieldData.newBuilder()
+                        .setFieldName("text_field")
+                        .setType(DataType.VarChar)
+                        .setScalars(ScalarField.newBuilder()
+                                .setStringData(StringArray.newBuilder().addAllData(asList("one", "two", "three")))))
+                .addFieldsData(FieldData.newBuilder()
+                        .setFieldName("metadata_field")
+                        .setType(DataType.JSON)
+                        .setScalars(ScalarField.newBuilder()
+                                .setJsonData(JSONArray.newBuilder()
+                                        .addData(ByteString.copyFromUtf8("{\"key\":\"a\"}"))
+                                        .addData(ByteString.copyFromUtf8("{\"key\":\"b\"}"))
+                                        .addData(ByteString.copyFromUtf8("{\"key\":\"c\"}")))))
+                .build();
+
+        // when
+        List<List<EmbeddingMatch<TextSegment>>> matches = Mapper.toEmbeddingMatches(
+                null, new SearchResultsWrapper(searchResultData), 3, "collection", FIELD_DEFINITION, STRONG, false);
+
+        // then
+        assertThat(matches).hasSize(3);
+
+        assertThat(matches.get(0)).extracting(EmbeddingMatch::embeddingId).containsExactly("id1", "id2");
+        assertThat(matches.get(0)).extracting(match -> match.embedded().text()).containsExactly("one", "two");
+        assertThat(matches.get(0).get(0).score()).isEqualTo(0.9, offset(1e-6));
+        assertThat(matches.get(0).get(1).embedded().metadata().getString("key")).isEqualTo("b");
+
+        assertThat(matches.get(1)).isEmpty();
+
+        assertThat(matches.get(2)).extracting(EmbeddingMatch::embeddingId).containsExactly("id3");
+        assertThat(matches.get(2).get(0).embedded().text()).isEqualTo("three");
+        assertThat(matches.get(2).get(0).embedded().metadata().getString("key")).isEqualTo("c");
+    }
+}
@@ -7,6 +7,7 @@ import dev.langchain4j.model.output.TokenUsage;
 import dev.langchain4j.model.scoring.ScoringModel;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 abstract class AbstractInProcessScoringModel implements ScoringModel {
@@ -14,9 +15,10 @@ abstract class AbstractInProcessScoringModel implements ScoringModel {
     public AbstractInProcessScoringModel() {
     }
 
-    static OnnxScoringBertCrossEncoder loadFromFileSystem(String pathToModel, OrtSession.SessionOptions options, String pathToTokenizer, int modelMaxLength, boolean normalize) {
+    static OnnxScoringBertCrossEncoder loadFromFileSystem(String pathToModel, OrtSession.SessionOptions options, String pathToTokenizer, int modelMaxLength, boolean normalize,
+                                                          int maxBatchSize, Executor executor) {
         try {
-            return new OnnxScoringBertCrossEncoder(pathToModel, options, pathToTokenizer, modelMaxLength, normalize);
+            return new OnnxScoringBertCrossEncoder(pathToModel, options, pathToTokenizer, modelMaxLength, normalize, maxBatchSize, executor);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -11,6 +11,9 @@ import ai.onnxruntime.OrtSession.Result;
 
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import static ai.onnxruntime.OnnxTensor.createTensor;
 
@@ -21,19 +24,33 @@ class OnnxScoringBertCrossEncoder {
     private final Set<String> expectedInputs;
     private final HuggingFaceTokenizer tokenizer;
     private final boolean normalize;
-
-    public OnnxScoringBertCrossEncoder(String modelPath, OrtSession.SessionOptions options, String pathToTokenizer, int modelMaxLength, boolean normalize) {
+    private final int maxBatchSize;
+    private final Executor executor;
+
+    /**
+     * @param maxBatchSize The maximum number of documents scored with a single session run.
+     * @param executor     The executor running micro-batches concurrently, or {@code null} to run them one by one
+     *                     in the calling thread. The session is shared by all micro-batches, as ONNX Runtime sessions
+     *                     are thread-safe.
+     */
+    public OnnxScoringBertCrossEncoder(String modelPath, OrtSession.SessionOptions options, String pathToTokenizer, int modelMaxLength, boolean normalize,
+                                       int maxBatchSize, Executor executor) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be greater than zero, but is: " + maxBatchSize);
+        }
         try {
             this.environment = OrtEnvironment.getEnvironment();
             this.session = this.environment.createSession(modelPath, options);
             this.expectedInputs = session.getInputNames();
             Map<String, String> tokenizerOptions = new HashMap<String, String>() {{
-                put("padding", "true");
+                put("padding", "false"); // each micro-batch is padded to its longest encoding
                 put("truncation", "LONGEST_FIRST"); // Default maximum length limit, LONGEST-FIRST prioritizes truncating the longest part
                 put("modelMaxLength", String.valueOf(modelMaxLength - 2));
             }};
             this.normalize = normalize;
             this.tokenizer = HuggingFaceTokenizer.newInstance(Paths.get(pathToTokenizer), tokenizerOptions);
+            this.maxBatchSize = maxBatchSize;
+            this.executor = executor;
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -50,33 +67,103 @@ class OnnxScoringBertCrossEncoder {
         }
     }
 
+    /**
+     * Scores the documents against the query.
+     * <p>
+     * All (query, document) pairs are tokenized once, and the same encodings are used for token counting.
+     * The pairs are then sorted by length and scored in micro-batches of up to {@code maxBatchSize} pairs,
+     * each padded only to its own longest pair, so similar lengths are batched together
+     * and the memory used by a session run is bounded.
+     */
     ScoringAndTokenCount scoreAll(String query, List<String> documents) {
-        List<Double> scores;
-        int tokenCount = 0;
-        int queryTokenCount = tokenizer.tokenize(query).size() - 2;
+        if (documents.isEmpty()) {
+            return new ScoringAndTokenCount(new ArrayList<>(), 0);
+        }
+
         PairList<String, String> pairs = new PairList<>();
         for (String document : documents) {
             pairs.add(query, document);
-            tokenCount += queryTokenCount + tokenizer.tokenize(document).size() - 2; // do not count special tokens [CLS] and [SEP]
         }
-        try (Result result = this.encode(pairs)) {
-            scores = this.toScore(result);
+        Encoding[] encodings = tokenizer.batchEncode(pairs);
+
+        int tokenCount = 0;
+        for (Encoding encoding : encodings) {
+            tokenCount += countTokens(encoding); // do not count special tokens [CLS] and [SEP]
+        }
+
+        Integer[] order = new Integer[encodings.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt(i -> encodings[i].getIds().length));
+
+        double[] scores = new double[encodings.length];
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int from = 0; from < order.length; from += maxBatchSize) {
+            int[] batch = new int[Math.min(maxBatchSize, order.length - from)];
+            for (int i = 0; i < batch.length; i++) {
+                batch[i] = order[from + i];
+            }
+            if (executor == null) {
+                scoreBatch(encodings, batch, scores);
+            } else {
+                futures.add(CompletableFuture.runAsync(() -> scoreBatch(encodings, batch, scores), executor));
+            }
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+
+        List<Double> scoreList = new ArrayList<>(scores.length);
+        for (double score : scores) {
+            scoreList.add(score);
+        }
+        return new ScoringAndTokenCount(scoreList, tokenCount);
+    }
+
+    private static int countTokens(Encoding encoding) {
+        int tokenCount = 0;
+        for (long special : encoding.getSpecialTokenMask()) {
+            if (special == 0) {
+                tokenCount++;
+            }
+        }
+        return tokenCount;
+    }
+
+    private void scoreBatch(Encoding[] encodings, int[] batch, double[] scores) {
+        try (Result result = this.encode(encodings, batch)) {
+            List<Double> batchScores = this.toScore(result);
+            for (int i = 0; i < batch.length; i++) {
+                scores[batch[i]] = batchScores.get(i);
+            }
         } catch (OrtException e) {
             throw new RuntimeException(e);
         }
-        return new ScoringAndTokenCount(scores, tokenCount);
     }
 
-    private Result encode(PairList<String, String> pairs) throws OrtException {
-        Encoding[] encodings = this.tokenizer.batchEncode(pairs);
-        long[][] inputIds = new long[encodings.length][];
-        long[][] attentionMask = new long[encodings.length][];
-        long[][] tokenTypeIds = new long[encodings.length][];
+    private Result encode(Encoding[] encodings, int[] batch) throws OrtException {
+        int maxLength = 0;
+        for (int index : batch) {
+            maxLength = Math.max(maxLength, encodings[index].getIds().length);
+        }
 
-        for (int i = 0; i < encodings.length; i++) {
-            inputIds[i] = encodings[i].getIds();
-            attentionMask[i] = encodings[i].getAttentionMask();
-            tokenTypeIds[i] = encodings[i].getTypeIds();
+        // padding positions are excluded by the attention mask, so they are filled with zeros
+        long[][] inputIds = new long[batch.length][maxLength];
+        long[][] attentionMask = new long[batch.length][maxLength];
+        long[][] tokenTypeIds = new long[batch.length][maxLength];
+
+        for (int i = 0; i < batch.length; i++) {
+            Encoding encoding = encodings[batch[i]];
+            long[] ids = encoding.getIds();
+            System.arraycopy(ids, 0, inputIds[i], 0, ids.length);
+            System.arraycopy(encoding.getAttentionMask(), 0, attentionMask[i], 0, ids.length);
+            System.arraycopy(encoding.getTypeIds(), 0, tokenTypeIds[i], 0, ids.length);
         }
 
         try (
@@ -2,28 +2,55 @@ package dev.langchain4j.model.scoring.onnx;
 
 import ai.onnxruntime.OrtSession;
 
+import java.util.concurrent.Executor;
+
+/**
+ * An in-process cross-encoder {@link dev.langchain4j.model.scoring.ScoringModel} running an ONNX model.
+ * <p>
+ * Segments are scored in micro-batches of up to {@code maxBatchSize} (default: 32) segments of similar length,
+ * so that scoring hundreds of segments (e.g., when re-ranking) uses a bounded amount of memory.
+ * Optionally, an {@link Executor} can be provided to score micro-batches concurrently with the same ONNX session.
+ * <p>
+ * The reported {@link dev.langchain4j.model.output.TokenUsage} is the number of tokens actually scored:
+ * the (query, segment) pairs are counted after truncation to {@code modelMaxLength}, excluding special tokens,
+ * so the query is counted once per segment.
+ * Earlier versions counted the query and each segment separately, before truncation,
+ * which reported more tokens than were scored for segments exceeding {@code modelMaxLength}.
+ */
 public class OnnxScoringModel extends AbstractInProcessScoringModel {
 
     private static final int DEFAULT_MODEL_MAX_LENGTH = 510; // 512 - 2 (special tokens [CLS] and [SEP])
 
     private static final boolean DEFAULT_NORMALIZE = false;
 
+    private static final int DEFAULT_MAX_BATCH_SIZE = 32;
+
     private final OnnxScoringBertCrossEncoder onnxBertBiEncoder;
 
     public OnnxScoringModel(String pathToModel, String pathToTokenizer) {
-        this.onnxBertBiEncoder = loadFromFileSystem(pathToModel, new OrtSession.SessionOptions(), pathToTokenizer, DEFAULT_MODEL_MAX_LENGTH, DEFAULT_NORMALIZE);
+        this(pathToModel, new OrtSession.SessionOptions(), pathToTokenizer, DEFAULT_MODEL_MAX_LENGTH, DEFAULT_NORMALIZE);
     }
 
     public OnnxScoringModel(String pathToModel, OrtSession.SessionOptions options, String pathToTokenizer) {
-        this.onnxBertBiEncoder = loadFromFileSystem(pathToModel, options, pathToTokenizer, DEFAULT_MODEL_MAX_LENGTH, DEFAULT_NORMALIZE);
+        this(pathToModel, options, pathToTokenizer, DEFAULT_MODEL_MAX_LENGTH, DEFAULT_NORMALIZE);
     }
 
     public OnnxScoringModel(String pathToModel, String pathToTokenizer, int modelMaxLength) {
-        this.onnxBertBiEncoder = loadFromFileSystem(pathToModel, new OrtSession.SessionOptions(), pathToTokenizer, modelMaxLength, DEFAULT_NORMALIZE);
+        this(pathToModel, new OrtSession.SessionOptions(), pathToTokenizer, modelMaxLength, DEFAULT_NORMALIZE);
     }
 
     public OnnxScoringModel(String pathToModel, OrtSession.SessionOptions options, String pathToTokenizer, int modelMaxLength, boolean normalize) {
-        this.onnxBertBiEncoder = loadFromFileSystem(pathToModel, options, pathToTokenizer, modelMaxLength, normalize);
+        this(pathToModel, options, pathToTokenizer, modelMaxLength, normalize, DEFAULT_MAX_BATCH_SIZE, null);
+    }
+
+    /**
+     * @param maxBatchSize The maximum number of segments scored with a single ONNX session run. Default: 32
+     * @param executor     The executor scoring micro-batches concurrently,
+     *                     or {@code null} to score them one by one in the calling thread.
+     */
+    public OnnxScoringModel(String pathToModel, OrtSession.SessionOptions options, String pathToTokenizer, int modelMaxLength, boolean normalize,
+                            int maxBatchSize, Executor executor) {
+        this.onnxBertBiEncoder = loadFromFileSystem(pathToModel, options, pathToTokenizer, modelMaxLength, normalize, maxBatchSize, executor);
     }
 
     protected OnnxScoringBertCrossEncoder model() {
@@ -6,6 +6,7 @@ import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.scoring.ScoringModel;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
@@ -14,6 +15,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -24,6 +27,9 @@ class OnnxScoringModelIT {
     @TempDir
     private static Path tempDir;
 
+    private static Path modelPath;
+    private static Path tokenizerPath;
+
     private static ScoringModel model;
 
     @BeforeAll
@@ -34,11 +40,11 @@ class OnnxScoringModelIT {
         // System.setProperty("https.proxyPort","7890" );
 
         URL modelUrl = new URL("https://huggingface.co/Xenova/ms-marco-MiniLM-L-6-v2/resolve/main/onnx/model_quantized.onnx?download=true");
-        Path modelPath = tempDir.resolve("model_quantized.onnx");
+        modelPath = tempDir.resolve("model_quantized.onnx");
         Files.copy(modelUrl.openStream(), modelPath, REPLACE_EXISTING);
 
         URL tokenizerUrl = new URL("https://huggingface.co/Xenova/ms-marco-MiniLM-L-6-v2/resolve/main/tokenizer.json?download=true");
-        Path tokenizerPath = tempDir.resolve("tokenizer.json");
+        tokenizerPath = tempDir.resolve("tokenizer.json");
         Files.copy(tokenizerUrl.openStream(), tokenizerPath, REPLACE_EXISTING);
 
         // To check the modelMaxLength parameter, refer to the model configuration file at  https://huggingface.co/Xenova/ms-marco-MiniLM-L-6-v2/resolve/main/tokenizer_config.json
@@ -68,4 +74,81 @@ class OnnxScoringModelIT {
 
         assertThat(response.finishReason()).isNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_score_the_same_in_micro_batches() {
+
+        // given
+        ScoringModel microBatchingModel = new OnnxScoringModel(
+                modelPath.toString(), new OrtSession.SessionOptions(), tokenizerPath.toString(), 512, false, 2, null);
+        List<TextSegment> segments = segments(7);
+        String query = "How many people live in Berlin?";
+
+        // when
+        List<Double> scores = model.scoreAll(segments, query).content();
+        List<Double> microBatchScores = microBatchingModel.scoreAll(segments, query).content();
+
+        // then
+        assertThat(microBatchScores).hasSize(segments.size());
+        for (int i = 0; i < segments.size(); i++) {
+            assertThat(microBatchScores.get(i)).isCloseTo(scores.get(i), withPercentage(0.1));
+        }
+    }
+
+    /**
+     * Measures the CPU time of re-ranking 100, 500 and 1000 candidates with a single batch,
+     * sequential micro-batches and concurrent micro-batches (one warm-up run each).
+     * Run with {@code -Dbenchmark=true}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmark_scoring_of_re_ranking_candidates() {
+
+        String query = "How many people live in Berlin?";
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            ScoringModel singleBatch = new OnnxScoringModel(
+                    modelPath.toString(), new OrtSession.SessionOptions(), tokenizerPath.toString(), 512, false, Integer.MAX_VALUE, null);
+            ScoringModel microBatches = new OnnxScoringModel(
+                    modelPath.toString(), new OrtSession.SessionOptions(), tokenizerPath.toString(), 512, false, 32, null);
+            ScoringModel concurrentMicroBatches = new OnnxScoringModel(
+                    modelPath.toString(), new OrtSession.SessionOptions(), tokenizerPath.toString(), 512, false, 32, executor);
+
+            for (int candidates : new int[]{100, 500, 1000}) {
+                List<TextSegment> segments = segments(candidates);
+                System.out.printf("%d candidates: single batch %d ms, micro-batches %d ms, concurrent micro-batches %d ms%n",
+                        candidates,
+                        time(singleBatch, segments, query),
+                        time(microBatches, segments, query),
+                        time(concurrentMicroBatches, segments, query));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static long time(ScoringModel model, List<TextSegment> segments, String query) {
+        model.scoreAll(segments, query); // warm-up
+        long start = System.nanoTime();
+        model.scoreAll(segments, query);
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static List<TextSegment> segments(int count) {
+        String[] sentences = {
+                "Berlin has a population of 3,520,031 registered inhabitants in an area of 891.82 square kilometers.",
+                "New York City is famous for the Metropolitan Museum of Art.",
+                "Berlin is the capital and largest city of Germany, both by area and by population.",
+                "The city is also one of the states of Germany, and is the third smallest state in the country in terms of area."
+        };
+        List<TextSegment> segments = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            StringBuilder text = new StringBuilder();
+            for (int j = 0; j <= i % 8; j++) { // segments of varying length
+                text.append(sentences[(i + j) % sentences.length]).append(' ');
+            }
+            segments.add(TextSegment.from(text.toString().trim()));
+        }
+        return segments;
+    }
+}
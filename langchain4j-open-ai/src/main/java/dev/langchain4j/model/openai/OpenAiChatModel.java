@@ -1,6 +1,7 @@
 package dev.langchain4j.model.openai;
 
 import dev.langchain4j.http.client.HttpClientBuilder;
+import dev.langchain4j.internal.RetryUtils;
 import dev.langchain4j.model.ModelProvider;
 import dev.langchain4j.model.chat.Capability;
 import dev.langchain4j.model.chat.ChatModel;
@@ -20,7 +21,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptions;
+import static dev.langchain4j.internal.RetryUtils.DEFAULT_RETRY_POLICY;
 import static dev.langchain4j.internal.Utils.copy;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.model.ModelProvider.OPEN_AI;
@@ -45,6 +46,7 @@ public class OpenAiChatModel implements ChatModel {
 
     private final OpenAiClient client;
     private final Integer maxRetries;
+    private final RetryUtils.RetryPolicy retryPolicy;
 
     private final OpenAiChatRequestParameters defaultRequestParameters;
     private final String responseFormat;
@@ -70,6 +72,7 @@ public class OpenAiChatModel implements ChatModel {
                 .customHeaders(builder.customHeaders)
                 .build();
         this.maxRetries = getOrDefault(builder.maxRetries, 2);
+        this.retryPolicy = getOrDefault(builder.retryPolicy, DEFAULT_RETRY_POLICY);
 
         ChatRequestParameters commonParameters;
         if (builder.defaultRequestParameters != null) {
@@ -139,7 +142,7 @@ public class OpenAiChatModel implements ChatModel {
         ChatCompletionRequest openAiRequest =
                 toOpenAiChatRequest(chatRequest, parameters, strictTools, strictJsonSchema).build();
 
-        ChatCompletionResponse openAiResponse = withRetryMappingExceptions(() ->
+        ChatCompletionResponse openAiResponse = retryPolicy.withRetryMappingExceptions(() ->
                 client.chatCompletion(openAiRequest).execute(), maxRetries);
 
         OpenAiChatResponseMetadata responseMetadata = OpenAiChatResponseMetadata.builder()
@@ -205,6 +208,7 @@ public class OpenAiChatModel implements ChatModel {
         private String serviceTier;
         private Duration timeout;
         private Integer maxRetries;
+        private RetryUtils.RetryPolicy retryPolicy;
         private Boolean logRequests;
         private Boolean logResponses;
         private Map<String, String> customHeaders;
@@ -364,6 +368,19 @@ public class OpenAiChatModel implements ChatModel {
             return this;
         }
 
+        /**
+         * Sets the policy used to retry failed calls, e.g. one with a {@link dev.langchain4j.internal.RetryBudget}
+         * or a {@link dev.langchain4j.internal.CircuitBreaker} shared by all calls to this model.
+         * The number of retries is still set by {@link #maxRetries(Integer)}.
+         *
+         * @param retryPolicy The retry policy. Default: {@link RetryUtils#DEFAULT_RETRY_POLICY}.
+         * @return {@code this}
+         */
+        public OpenAiChatModelBuilder retryPolicy(RetryUtils.RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            return this;
+        }
+
         public OpenAiChatModelBuilder logRequests(Boolean logRequests) {
             this.logRequests = logRequests;
             return this;
@@ -3,6 +3,7 @@ package dev.langchain4j.model.openai;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.http.client.HttpClientBuilder;
+import dev.langchain4j.internal.RetryUtils;
 import dev.langchain4j.model.embedding.DimensionAwareEmbeddingModel;
 import dev.langchain4j.model.openai.internal.OpenAiClient;
 import dev.langchain4j.model.openai.internal.embedding.EmbeddingRequest;
@@ -17,7 +18,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
-import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptions;
+import static dev.langchain4j.internal.RetryUtils.DEFAULT_RETRY_POLICY;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.model.openai.internal.OpenAiUtils.DEFAULT_OPENAI_URL;
@@ -36,6 +37,7 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
     private final Integer dimensions;
     private final String user;
     private final Integer maxRetries;
+    private final RetryUtils.RetryPolicy retryPolicy;
     private final Integer maxSegmentsPerBatch;
 
     public OpenAiEmbeddingModel(OpenAiEmbeddingModelBuilder builder) {
@@ -57,6 +59,7 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
         this.dimensions = builder.dimensions;
         this.user = builder.user;
         this.maxRetries = getOrDefault(builder.maxRetries, 2);
+        this.retryPolicy = getOrDefault(builder.retryPolicy, DEFAULT_RETRY_POLICY);
         this.maxSegmentsPerBatch = getOrDefault(builder.maxSegmentsPerBatch, 2048);
         ensureGreaterThanZero(this.maxSegmentsPerBatch, "maxSegmentsPerBatch");
     }
@@ -120,7 +123,7 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
                 .user(user)
                 .build();
 
-        EmbeddingResponse response = withRetryMappingExceptions(() -> client.embedding(request).execute(), maxRetries);
+        EmbeddingResponse response = retryPolicy.withRetryMappingExceptions(() -> client.embedding(request).execute(), maxRetries);
 
         List<Embedding> embeddings = response.data().stream()
                 .map(openAiEmbedding -> Embedding.from(openAiEmbedding.embedding()))
@@ -149,6 +152,7 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
         private String user;
         private Duration timeout;
         private Integer maxRetries;
+        private RetryUtils.RetryPolicy retryPolicy;
         private Integer maxSegmentsPerBatch;
         private Boolean logRequests;
         private Boolean logResponses;
@@ -213,6 +217,19 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
             return this;
         }
 
+        /**
+         * Sets the policy used to retry failed calls, e.g. one with a {@link dev.langchain4j.internal.RetryBudget}
+         * or a {@link dev.langchain4j.internal.CircuitBreaker} shared by all calls to this model.
+         * The number of retries is still set by {@link #maxRetries(Integer)}.
+         *
+         * @param retryPolicy The retry policy. Default: {@link RetryUtils#DEFAULT_RETRY_POLICY}.
+         * @return {@code this}
+         */
+        public OpenAiEmbeddingModelBuilder retryPolicy(RetryUtils.RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            return this;
+        }
+
         public OpenAiEmbeddingModelBuilder logRequests(Boolean logRequests) {
             this.logRequests = logRequests;
             return this;
@@ -2,6 +2,7 @@ package dev.langchain4j.model.openai;
 
 import dev.langchain4j.data.image.Image;
 import dev.langchain4j.http.client.HttpClientBuilder;
+import dev.langchain4j.internal.RetryUtils;
 import dev.langchain4j.model.image.ImageModel;
 import dev.langchain4j.model.openai.internal.OpenAiClient;
 import dev.langchain4j.model.openai.internal.image.GenerateImagesRequest;
@@ -15,7 +16,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptions;
+import static dev.langchain4j.internal.RetryUtils.DEFAULT_RETRY_POLICY;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.model.openai.internal.OpenAiUtils.DEFAULT_OPENAI_URL;
 import static dev.langchain4j.model.openai.internal.OpenAiUtils.DEFAULT_USER_AGENT;
@@ -38,6 +39,7 @@ public class OpenAiImageModel implements ImageModel {
     private final OpenAiClient client;
 
     private final Integer maxRetries;
+    private final RetryUtils.RetryPolicy retryPolicy;
 
     public OpenAiImageModel(OpenAiImageModelBuilder builder) {
         OpenAiClient.Builder cBuilder = OpenAiClient.builder()
@@ -56,6 +58,7 @@ public class OpenAiImageModel implements ImageModel {
         this.client = cBuilder.build();
 
         this.maxRetries = getOrDefault(builder.maxRetries, 2);
+        this.retryPolicy = getOrDefault(builder.retryPolicy, DEFAULT_RETRY_POLICY);
         this.modelName = builder.modelName;
         this.size = builder.size;
         this.quality = builder.quality;
@@ -72,7 +75,7 @@ public class OpenAiImageModel implements ImageModel {
     public Response<Image> generate(String prompt) {
         GenerateImagesRequest request = requestBuilder(prompt).build();
 
-        GenerateImagesResponse response = withRetryMappingExceptions(() -> client.imagesGeneration(request), maxRetries).execute();
+        GenerateImagesResponse response = retryPolicy.withRetryMappingExceptions(() -> client.imagesGeneration(request), maxRetries).execute();
 
         return Response.from(fromImageData(response.data().get(0)));
     }
@@ -81,7 +84,7 @@ public class OpenAiImageModel implements ImageModel {
     public Response<List<Image>> generate(String prompt, int n) {
         GenerateImagesRequest request = requestBuilder(prompt).n(n).build();
 
-        GenerateImagesResponse response = withRetryMappingExceptions(() -> client.imagesGeneration(request), maxRetries).execute();
+        GenerateImagesResponse response = retryPolicy.withRetryMappingExceptions(() -> client.imagesGeneration(request), maxRetries).execute();
 
         return Response.from(
                 response.data().stream().map(OpenAiImageModel::fromImageData).collect(Collectors.toList())
@@ -111,6 +114,7 @@ public class OpenAiImageModel implements ImageModel {
         private String responseFormat;
         private Duration timeout;
         private Integer maxRetries;
+        private RetryUtils.RetryPolicy retryPolicy;
         private Boolean logRequests;
         private Boolean logResponses;
         private Map<String, String> customHeaders;
@@ -189,6 +193,19 @@ public class OpenAiImageModel implements ImageModel {
             return this;
         }
 
+        /**
+         * Sets the policy used to retry failed calls, e.g. one with a {@link dev.langchain4j.internal.RetryBudget}
+         * or a {@link dev.langchain4j.internal.CircuitBreaker} shared by all calls to this model.
+         * The number of retries is still set by {@link #maxRetries(Integer)}.
+         *
+         * @param retryPolicy The retry policy. Default: {@link RetryUtils#DEFAULT_RETRY_POLICY}.
+         * @return {@code this}
+         */
+        public OpenAiImageModelBuilder retryPolicy(RetryUtils.RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            return this;
+        }
+
         public OpenAiImageModelBuilder logRequests(Boolean logRequests) {
             this.logRequests = logRequests;
             return this;
@@ -1,6 +1,7 @@
 package dev.langchain4j.model.openai;
 
 import dev.langchain4j.http.client.HttpClientBuilder;
+import dev.langchain4j.internal.RetryUtils;
 import dev.langchain4j.model.language.LanguageModel;
 import dev.langchain4j.model.openai.internal.OpenAiClient;
 import dev.langchain4j.model.openai.internal.completion.CompletionChoice;
@@ -12,7 +13,7 @@ import dev.langchain4j.model.output.Response;
 import java.time.Duration;
 import java.util.Map;
 
-import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptions;
+import static dev.langchain4j.internal.RetryUtils.DEFAULT_RETRY_POLICY;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.model.openai.internal.OpenAiUtils.DEFAULT_OPENAI_URL;
 import static dev.langchain4j.model.openai.internal.OpenAiUtils.DEFAULT_USER_AGENT;
@@ -32,6 +33,7 @@ public class OpenAiLanguageModel implements LanguageModel {
     private final String modelName;
     private final Double temperature;
     private final Integer maxRetries;
+    private final RetryUtils.RetryPolicy retryPolicy;
 
     public OpenAiLanguageModel(OpenAiLanguageModelBuilder builder) {
         this.client = OpenAiClient.builder()
@@ -50,6 +52,7 @@ public class OpenAiLanguageModel implements LanguageModel {
         this.modelName = builder.modelName;
         this.temperature = builder.temperature;
         this.maxRetries = getOrDefault(builder.maxRetries, 2);
+        this.retryPolicy = getOrDefault(builder.retryPolicy, DEFAULT_RETRY_POLICY);
     }
 
     public String modelName() {
@@ -65,7 +68,7 @@ public class OpenAiLanguageModel implements LanguageModel {
                 .temperature(temperature)
                 .build();
 
-        CompletionResponse response = withRetryMappingExceptions(() -> client.completion(request).execute(), maxRetries);
+        CompletionResponse response = retryPolicy.withRetryMappingExceptions(() -> client.completion(request).execute(), maxRetries);
 
         CompletionChoice completionChoice = response.choices().get(0);
         return Response.from(
@@ -98,6 +101,7 @@ public class OpenAiLanguageModel implements LanguageModel {
         private Double temperature;
         private Duration timeout;
         private Integer maxRetries;
+        private RetryUtils.RetryPolicy retryPolicy;
         private Boolean logRequests;
         private Boolean logResponses;
         private Map<String, String> customHeaders;
@@ -156,6 +160,19 @@ public class OpenAiLanguageModel implements LanguageModel {
             return this;
         }
 
+        /**
+         * Sets the policy used to retry failed calls, e.g. one with a {@link dev.langchain4j.internal.RetryBudget}
+         * or a {@link dev.langchain4j.internal.CircuitBreaker} shared by all calls to this model.
+         * The number of retries is still set by {@link #maxRetries(Integer)}.
+         *
+         * @param retryPolicy The retry policy. Default: {@link RetryUtils#DEFAULT_RETRY_POLICY}.
+         * @return {@code this}
+         */
+        public OpenAiLanguageModelBuilder retryPolicy(RetryUtils.RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            return this;
+        }
+
         public OpenAiLanguageModelBuilder logRequests(Boolean logRequests) {
             this.logRequests = logRequests;
             return this;
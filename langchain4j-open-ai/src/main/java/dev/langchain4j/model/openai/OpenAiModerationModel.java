@@ -6,6 +6,7 @@ import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.ToolExecutionResultMessage;
 import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.http.client.HttpClientBuilder;
+import dev.langchain4j.internal.RetryUtils;
 import dev.langchain4j.model.moderation.Moderation;
 import dev.langchain4j.model.moderation.ModerationModel;
 import dev.langchain4j.model.openai.internal.OpenAiClient;
@@ -20,7 +21,7 @@ import java.util.List;
 import java.util.Map;
 
 import static dev.langchain4j.internal.RetryUtils.withRetry;
-import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptions;
+import static dev.langchain4j.internal.RetryUtils.DEFAULT_RETRY_POLICY;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.model.openai.internal.OpenAiUtils.DEFAULT_OPENAI_URL;
 import static dev.langchain4j.model.openai.internal.OpenAiUtils.DEFAULT_USER_AGENT;
@@ -36,6 +37,7 @@ public class OpenAiModerationModel implements ModerationModel {
     private final OpenAiClient client;
     private final String modelName;
     private final Integer maxRetries;
+    private final RetryUtils.RetryPolicy retryPolicy;
 
     public OpenAiModerationModel(OpenAiModerationModelBuilder builder) {
 
@@ -54,6 +56,7 @@ public class OpenAiModerationModel implements ModerationModel {
                 .build();
         this.modelName = builder.modelName;
         this.maxRetries = getOrDefault(builder.maxRetries, 2);
+        this.retryPolicy = getOrDefault(builder.retryPolicy, DEFAULT_RETRY_POLICY);
     }
 
     public String modelName() {
@@ -72,7 +75,7 @@ public class OpenAiModerationModel implements ModerationModel {
                 .input(inputs)
                 .build();
 
-        ModerationResponse response = withRetryMappingExceptions(() -> client.moderation(request).execute(), maxRetries);
+        ModerationResponse response = retryPolicy.withRetryMappingExceptions(() -> client.moderation(request).execute(), maxRetries);
 
         int i = 0;
         for (ModerationResult moderationResult : response.results()) {
@@ -126,6 +129,7 @@ public class OpenAiModerationModel implements ModerationModel {
         private String modelName;
         private Duration timeout;
         private Integer maxRetries;
+        private RetryUtils.RetryPolicy retryPolicy;
         private Boolean logRequests;
         private Boolean logResponses;
         private Map<String, String> customHeaders;
@@ -179,6 +183,19 @@ public class OpenAiModerationModel implements ModerationModel {
             return this;
         }
 
+        /**
+         * Sets the policy used to retry failed calls, e.g. one with a {@link dev.langchain4j.internal.RetryBudget}
+         * or a {@link dev.langchain4j.internal.CircuitBreaker} shared by all calls to this model.
+         * The number of retries is still set by {@link #maxRetries(Integer)}.
+         *
+         * @param retryPolicy The retry policy. Default: {@link RetryUtils#DEFAULT_RETRY_POLICY}.
+         * @return {@code this}
+         */
+        public OpenAiModerationModelBuilder retryPolicy(RetryUtils.RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            return this;
+        }
+
         public OpenAiModerationModelBuilder logRequests(Boolean logRequests) {
             this.logRequests = logRequests;
             return this;
@@ -0,0 +1,74 @@
+package dev.langchain4j.model.openai.common;
+
+import static dev.langchain4j.model.openai.OpenAiChatModelName.GPT_4_O_MINI;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.exception.HttpException;
+import dev.langchain4j.exception.InternalServerException;
+import dev.langchain4j.exception.LangChain4jException;
+import dev.langchain4j.http.client.HttpClient;
+import dev.langchain4j.http.client.HttpRequest;
+import dev.langchain4j.http.client.SuccessfulHttpResponse;
+import dev.langchain4j.http.client.sse.ServerSentEventListener;
+import dev.langchain4j.http.client.sse.ServerSentEventParser;
+import dev.langchain4j.internal.CircuitBreaker;
+import dev.langchain4j.internal.RetryUtils;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.openai.OpenAiChatModel;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class OpenAiChatModelRetryPolicyTest {
+
+    @Test
+    void should_share_circuit_breaker_of_retry_policy_between_models() {
+
+        // given
+        AtomicInteger requests = new AtomicInteger();
+        HttpClient failingHttpClient = new HttpClient() {
+
+            @Override
+            public SuccessfulHttpResponse execute(HttpRequest request) {
+                requests.incrementAndGet();
+                throw new HttpException(503, "Service Unavailable");
+            }
+
+            @Override
+            public void execute(HttpRequest request, ServerSentEventParser parser, ServerSentEventListener listener) {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        CircuitBreaker circuitBreaker = new CircuitBreaker(2, Duration.ofMinutes(1));
+        RetryUtils.RetryPolicy retryPolicy = RetryUtils.retryPolicyBuilder()
+                .delayMillis(10)
+                .circuitBreaker(circuitBreaker)
+                .build();
+
+        ChatModel model = model(failingHttpClient, retryPolicy);
+        ChatModel otherModel = model(failingHttpClient, retryPolicy);
+
+        // when-then
+        assertThatThrownBy(() -> model.chat("Hi")).isExactlyInstanceOf(InternalServerException.class);
+        assertThat(requests).hasValue(2);
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThatThrownBy(() -> otherModel.chat("Hi"))
+                .isExactlyInstanceOf(LangChain4jException.class)
+                .hasMessage("Circuit breaker is open");
+        assertThat(requests).hasValue(2);
+        assertThat(retryPolicy.metrics().circuitBreakerRejections()).isEqualTo(1);
+    }
+
+    private static ChatModel model(HttpClient httpClient, RetryUtils.RetryPolicy retryPolicy) {
+        return OpenAiChatModel.builder()
+                .httpClientBuilder(new MockHttpClientBuilder(httpClient))
+                .apiKey("banana")
+                .modelName(GPT_4_O_MINI)
+                .maxRetries(1)
+                .retryPolicy(retryPolicy)
+                .build();
+    }
+}
@@ -0,0 +1,132 @@
+package dev.langchain4j.store.embedding.qdrant;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static io.qdrant.client.ValueFactory.value;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.qdrant.client.QdrantClient;
+import io.qdrant.client.QdrantGrpcClient;
+import io.qdrant.client.grpc.Points.BatchResult;
+import io.qdrant.client.grpc.Points.PointId;
+import io.qdrant.client.grpc.Points.ScoredPoint;
+import io.qdrant.client.grpc.Points.SearchBatchPoints;
+import io.qdrant.client.grpc.Points.SearchBatchResponse;
+import io.qdrant.client.grpc.Points.SearchPoints;
+import io.qdrant.client.grpc.Points.VectorOutput;
+import io.qdrant.client.grpc.Points.VectorsOutput;
+import io.qdrant.client.grpc.PointsGrpc;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs {@link QdrantEmbeddingStore#searchAll(List)} against an in-process gRPC server
+ * that answers every search with a point at the query vector and a point orthogonal to it.
+ */
+class QdrantEmbeddingStoreSearchAllTest {
+
+    private final List<SearchBatchPoints> receivedRequests = new CopyOnWriteArrayList<>();
+
+    private Server server;
+    private QdrantClient client;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = NettyServerBuilder.forPort(0)
+                .addService(new PointsGrpc.PointsImplBase() {
+
+                    @Override
+                    public void searchBatch(
+                            SearchBatchPoints request, StreamObserver<SearchBatchResponse> responseObserver) {
+                        receivedRequests.add(request);
+                        SearchBatchResponse.Builder response = SearchBatchResponse.newBuilder();
+                        for (SearchPoints search : request.getSearchPointsList()) {
+                            List<Float> vector = search.getVectorList();
+                            List<Float> orthogonal = asList(-vector.get(1), vector.get(0));
+                            response.addResult(BatchResult.newBuilder()
+                                    .addResult(scoredPoint(vector, "same as " + vector))
+                                    .addResult(scoredPoint(orthogonal, "orthogonal to " + vector)));
+                        }
+                        responseObserver.onNext(response.build());
+                        responseObserver.onCompleted();
+                    }
+                })
+                .build()
+                .start();
+
+        client = new QdrantClient(QdrantGrpcClient.newBuilder("localhost", server.getPort(), false)
+                .build());
+    }
+
+    @AfterEach
+    void stopServer() {
+        client.close();
+        server.shutdownNow();
+    }
+
+    @Test
+    void should_search_all_with_single_batch_request() {
+
+        // given
+        QdrantEmbeddingStore embeddingStore = QdrantEmbeddingStore.builder()
+                .client(client)
+                .collectionName("collection")
+                .build();
+
+        EmbeddingSearchRequest first = EmbeddingSearchRequest.builder()
+                .queryEmbedding(Embedding.from(asList(1f, 0f)))
+                .maxResults(2)
+                .build();
+        EmbeddingSearchRequest second = EmbeddingSearchRequest.builder()
+                .queryEmbedding(Embedding.from(asList(0f, 1f)))
+                .maxResults(3)
+                .minScore(0.6)
+                .filter(metadataKey("key").isEqualTo("value"))
+                .build();
+
+        // when
+        List<EmbeddingSearchResult<TextSegment>> results = embeddingStore.searchAll(asList(first, second));
+
+        // then
+        assertThat(receivedRequests).hasSize(1);
+        SearchBatchPoints request = receivedRequests.get(0);
+        assertThat(request.getCollectionName()).isEqualTo("collection");
+        assertThat(request.hasReadConsistency()).isFalse();
+        assertThat(request.getSearchPointsList()).hasSize(2);
+        assertThat(request.getSearchPoints(0).getLimit()).isEqualTo(2);
+        assertThat(request.getSearchPoints(0).hasFilter()).isFalse();
+        assertThat(request.getSearchPoints(1).getLimit()).isEqualTo(3);
+        assertThat(request.getSearchPoints(1).getFilter().getMustCount()).isEqualTo(1);
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).matches())
+                .extracting(match -> match.embedded().text())
+                .containsExactly("same as [1.0, 0.0]", "orthogonal to [1.0, 0.0]");
+        assertThat(results.get(0).matches()).extracting(EmbeddingMatch::score).containsExactly(1.0, 0.5);
+        assertThat(results.get(1).matches())
+                .extracting(match -> match.embedded().text())
+                .containsExactly("same as [0.0, 1.0]");
+    }
+
+    private static ScoredPoint scoredPoint(List<Float> vector, String text) {
+        return ScoredPoint.newBuilder()
+                .setId(PointId.newBuilder().setUuid(UUID.randomUUID().toString()))
+                .setVectors(VectorsOutput.newBuilder()
+                        .setVector(VectorOutput.newBuilder().addAllData(vector)))
+                .putPayload("text_segment", value(text))
+                .build();
+    }
+}
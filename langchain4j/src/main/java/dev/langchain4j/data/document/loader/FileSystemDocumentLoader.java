@@ -3,23 +3,38 @@ package dev.langchain4j.data.document.loader;
 import static dev.langchain4j.data.document.source.FileSystemSource.from;
 import static dev.langchain4j.internal.Exceptions.illegalArgument;
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.Utils.join;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static java.nio.file.Files.isDirectory;
 import static java.nio.file.Files.isRegularFile;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
 
 import dev.langchain4j.data.document.BlankDocumentException;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentLoader;
 import dev.langchain4j.data.document.DocumentParser;
 import dev.langchain4j.data.document.parser.TextDocumentParser;
+import dev.langchain4j.internal.VirtualThreadUtils;
 import dev.langchain4j.spi.data.document.parser.DocumentParserFactory;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,6 +45,13 @@ public class FileSystemDocumentLoader {
     private static final DocumentParser DEFAULT_DOCUMENT_PARSER =
             getOrDefault(DocumentParserLoader.loadDocumentParser(), TextDocumentParser::new);
 
+    private static final Executor DEFAULT_EXECUTOR =
+            VirtualThreadUtils.createVirtualThreadExecutor(() -> Executors.newCachedThreadPool(r -> {
+                Thread thread = new Thread(r, "langchain4j-document-loader");
+                thread.setDaemon(true);
+                return thread;
+            }));
+
     private FileSystemDocumentLoader() {}
 
     /**
@@ -482,30 +504,185 @@ public class FileSystemDocumentLoader {
         return loadDocumentsRecursively(directoryPath, pathMatcher, DEFAULT_DOCUMENT_PARSER);
     }
 
+    /**
+     * Recursively loads matching {@link Document}s from the specified directory and its subdirectories,
+     * returning them as a lazily populated stream.
+     * <br>
+     * Unlike {@link #loadDocumentsRecursively(Path, PathMatcher, DocumentParser)}, documents are available
+     * as soon as they are parsed, and up to {@code parallelism} files are parsed in parallel using the specified
+     * {@link Executor}, so ingestion can start on the first file while the next ones are still being parsed.
+     * Documents are returned in the same order as {@link #loadDocumentsRecursively(Path, PathMatcher, DocumentParser)}
+     * returns them. The {@link DocumentParser} must be thread-safe.
+     * <br>
+     * Skips any {@code Document}s that fail to load.
+     * <br>
+     * The returned stream must be closed (e.g. using try-with-resources) to release the directory tree walker.
+     *
+     * @param directoryPath  The path to the directory with files.
+     * @param pathMatcher    Only files whose paths match the provided {@link PathMatcher} will be loaded.
+     *                       See {@link #loadDocumentsRecursively(Path, PathMatcher, DocumentParser)} for details.
+     * @param documentParser The parser to be used for parsing text from each file.
+     * @param executor       The executor used to parse files.
+     * @param parallelism    The maximum number of files parsed in parallel.
+     * @return stream of documents
+     * @throws IllegalArgumentException If specified path is not a directory.
+     * @see dev.langchain4j.data.document.source.FileSystemSource FileSystemSource
+     */
+    public static Stream<Document> streamDocumentsRecursively(
+            Path directoryPath,
+            PathMatcher pathMatcher,
+            DocumentParser documentParser,
+            Executor executor,
+            int parallelism) {
+        if (!isDirectory(directoryPath)) {
+            throw illegalArgument("'%s' is not a directory", directoryPath);
+        }
+        ensureNotNull(executor, "executor");
+        ensureGreaterThanZero(parallelism, "parallelism");
+
+        Stream<Path> pathStream;
+        try {
+            pathStream = Files.walk(directoryPath);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        Iterator<Path> files = matchingFiles(pathStream, pathMatcher, directoryPath).iterator();
+        Iterator<Document> documents = new ParallelDocumentIterator(files, documentParser, executor, parallelism);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(documents, ORDERED | NONNULL), false)
+                .onClose(pathStream::close);
+    }
+
+    /**
+     * Recursively loads matching {@link Document}s from the specified directory and its subdirectories,
+     * returning them as a lazily populated stream.
+     * <br>
+     * Up to as many files as there are available processors are parsed in parallel.
+     * See {@link #streamDocumentsRecursively(Path, PathMatcher, DocumentParser, Executor, int)} for details.
+     * <br>
+     * The returned stream must be closed (e.g. using try-with-resources) to release the directory tree walker.
+     *
+     * @param directoryPath  The path to the directory with files.
+     * @param pathMatcher    Only files whose paths match the provided {@link PathMatcher} will be loaded.
+     *                       See {@link #loadDocumentsRecursively(Path, PathMatcher, DocumentParser)} for details.
+     * @param documentParser The parser to be used for parsing text from each file.
+     * @return stream of documents
+     * @throws IllegalArgumentException If specified path is not a directory.
+     * @see dev.langchain4j.data.document.source.FileSystemSource FileSystemSource
+     */
+    public static Stream<Document> streamDocumentsRecursively(
+            Path directoryPath, PathMatcher pathMatcher, DocumentParser documentParser) {
+        return streamDocumentsRecursively(
+                directoryPath,
+                pathMatcher,
+                documentParser,
+                DEFAULT_EXECUTOR,
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Recursively loads {@link Document}s from the specified directory and its subdirectories,
+     * returning them as a lazily populated stream.
+     * <br>
+     * The files are parsed using the default {@link DocumentParser}.
+     * The default {@code DocumentParser} is loaded through SPI (see {@link DocumentParserFactory}).
+     * If no {@code DocumentParserFactory} is available in the classpath, a {@link TextDocumentParser} is used.
+     * <br>
+     * Up to as many files as there are available processors are parsed in parallel.
+     * See {@link #streamDocumentsRecursively(Path, PathMatcher, DocumentParser, Executor, int)} for details.
+     * <br>
+     * The returned stream must be closed (e.g. using try-with-resources) to release the directory tree walker.
+     *
+     * @param directoryPath The path to the directory with files.
+     * @return stream of documents
+     * @throws IllegalArgumentException If specified path is not a directory.
+     * @see dev.langchain4j.data.document.source.FileSystemSource FileSystemSource
+     */
+    public static Stream<Document> streamDocumentsRecursively(Path directoryPath) {
+        return streamDocumentsRecursively(directoryPath, (path) -> true, DEFAULT_DOCUMENT_PARSER);
+    }
+
     private static List<Document> loadDocuments(
             Stream<Path> pathStream, PathMatcher pathMatcher, Path pathMatcherRoot, DocumentParser documentParser) {
         List<Document> documents = new ArrayList<>();
 
-        pathStream
+        matchingFiles(pathStream, pathMatcher, pathMatcherRoot).forEach(file -> {
+            Document document = loadDocumentOrNull(file, documentParser);
+            if (document != null) {
+                documents.add(document);
+            }
+        });
+
+        return documents;
+    }
+
+    private static Stream<Path> matchingFiles(Stream<Path> pathStream, PathMatcher pathMatcher, Path pathMatcherRoot) {
+        return pathStream
                 .filter(Files::isRegularFile)
                 // converting absolute path into relative before using pathMatcher
                 // because patterns defined in pathMatcher are relative to pathMatcherRoot (directoryPath)
                 .map(pathMatcherRoot::relativize)
                 .filter(pathMatcher::matches)
                 // converting relative path back into absolute before loading document
-                .map(pathMatcherRoot::resolve)
-                .forEach(file -> {
-                    try {
-                        Document document = loadDocument(file, documentParser);
-                        documents.add(document);
-                    } catch (BlankDocumentException ignored) {
-                        // blank/empty documents are ignored
-                    } catch (Exception e) {
-                        String message = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
-                        log.warn("Failed to load '{}': {}", file, message);
-                    }
-                });
+                .map(pathMatcherRoot::resolve);
+    }
 
-        return documents;
+    private static Document loadDocumentOrNull(Path file, DocumentParser documentParser) {
+        try {
+            return loadDocument(file, documentParser);
+        } catch (BlankDocumentException ignored) {
+            // blank/empty documents are ignored
+            return null;
+        } catch (Exception e) {
+            String message = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+            log.warn("Failed to load '{}': {}", file, message);
+            return null;
+        }
+    }
+
+    /**
+     * Parses up to {@code parallelism} files ahead of the consumer, returning the documents in the order of the files.
+     */
+    private static class ParallelDocumentIterator implements Iterator<Document> {
+
+        private final Iterator<Path> files;
+        private final DocumentParser documentParser;
+        private final Executor executor;
+        private final int parallelism;
+        private final Deque<CompletableFuture<Document>> inFlight = new ArrayDeque<>();
+        private Document next;
+
+        private ParallelDocumentIterator(
+                Iterator<Path> files, DocumentParser documentParser, Executor executor, int parallelism) {
+            this.files = files;
+            this.documentParser = documentParser;
+            this.executor = executor;
+            this.parallelism = parallelism;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                while (inFlight.size() < parallelism && files.hasNext()) {
+                    Path file = files.next();
+                    inFlight.add(CompletableFuture.supplyAsync(() -> loadDocumentOrNull(file, documentParser), executor));
+                }
+                if (inFlight.isEmpty()) {
+                    return false;
+                }
+                next = join(inFlight.poll());
+            }
+            return true;
+        }
+
+        @Override
+        public Document next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Document document = next;
+            next = null;
+            return document;
+        }
     }
 }
@@ -3,8 +3,10 @@ package dev.langchain4j.data.document.parser;
 import dev.langchain4j.data.document.BlankDocumentException;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
+import dev.langchain4j.data.document.StreamingDocument;
 
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.nio.charset.Charset;
 
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
@@ -36,4 +38,15 @@ public class TextDocumentParser implements DocumentParser {
             throw new RuntimeException(e);
         }
     }
+
+    /**
+     * Returns a {@link StreamingDocument} decoding the text from the provided {@link InputStream} as it is read.
+     * Unlike {@link #parse(InputStream)}, it does not fail on blank input,
+     * as the text is not read upfront.
+     */
+    @Override
+    public StreamingDocument parseStreaming(InputStream inputStream) {
+        ensureNotNull(inputStream, "inputStream");
+        return StreamingDocument.from(new InputStreamReader(inputStream, charset));
+    }
 }
@@ -1,10 +1,14 @@
 package dev.langchain4j.data.document.splitter;
 
 import dev.langchain4j.data.document.DocumentSplitter;
+import dev.langchain4j.model.CachingTokenCountEstimator;
 import dev.langchain4j.model.TokenCountEstimator;
 
 public class DocumentSplitters {
 
+    private static final int MAX_CACHED_TOKEN_COUNTS = 1_000;
+    private static final int MAX_CACHED_TEXT_LENGTH = 1_000;
+
     /**
      * This is a recommended {@link DocumentSplitter} for generic text.
      * It tries to split the document into paragraphs first and fits
@@ -16,11 +20,18 @@ public class DocumentSplitters {
      * @param maxOverlapSizeInTokens The maximum size of the overlap, defined in tokens.
      *                               Only full sentences are considered for the overlap.
      * @param tokenCountEstimator    The {@code TokenCountEstimator} that is used to count tokens in the text.
+     *                               The splitters share a {@link CachingTokenCountEstimator} wrapping it
+     *                               (caching up to 1,000 texts of up to 1,000 characters), as the same short texts
+     *                               (e.g. the sentences of the overlap) are estimated repeatedly.
      * @return recursive document splitter
      */
     public static DocumentSplitter recursive(int maxSegmentSizeInTokens,
                                              int maxOverlapSizeInTokens,
                                              TokenCountEstimator tokenCountEstimator) {
+        if (tokenCountEstimator != null && !(tokenCountEstimator instanceof CachingTokenCountEstimator)) {
+            tokenCountEstimator = new CachingTokenCountEstimator(
+                    tokenCountEstimator, MAX_CACHED_TOKEN_COUNTS, MAX_CACHED_TEXT_LENGTH);
+        }
         return new DocumentByParagraphSplitter(maxSegmentSizeInTokens, maxOverlapSizeInTokens, tokenCountEstimator,
                 new DocumentByLineSplitter(maxSegmentSizeInTokens, maxOverlapSizeInTokens, tokenCountEstimator,
                         new DocumentBySentenceSplitter(maxSegmentSizeInTokens, maxOverlapSizeInTokens, tokenCountEstimator,
@@ -3,19 +3,31 @@ package dev.langchain4j.data.document.splitter;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentSplitter;
 import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.document.StreamingDocument;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.TokenCountEstimator;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.NoSuchElementException;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static dev.langchain4j.internal.Utils.firstChars;
 import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
 import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
 
 /**
  * Base class for hierarchical document splitters.
@@ -24,16 +36,21 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
  * when a single segment is too long.
  */
 public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
-    private HierarchicalDocumentSplitter overlapSentenceSplitter;
+    // volatile, as documents can be split concurrently (see DocumentSplitter.splitAll(List, Executor))
+    private volatile HierarchicalDocumentSplitter overlapSentenceSplitter;
 
     private HierarchicalDocumentSplitter getOverlapSentenceSplitter() {
-        if (overlapSentenceSplitter == null) {
-            overlapSentenceSplitter = new DocumentBySentenceSplitter(1, 0, null, null);
+        HierarchicalDocumentSplitter splitter = overlapSentenceSplitter;
+        if (splitter == null) {
+            splitter = new DocumentBySentenceSplitter(1, 0, null, null);
+            overlapSentenceSplitter = splitter;
         }
-        return overlapSentenceSplitter;
+        return splitter;
     }
 
     private static final String INDEX = "index";
+    private static final int MIN_STREAMING_BLOCK_SIZE = 64 * 1024;
+    private static final int MAX_STREAMING_BLOCKS = 4;
 
     protected final int maxSegmentSize;
     protected final int maxOverlapSize;
@@ -122,25 +139,68 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
         ensureNotNull(document, "document");
 
         List<TextSegment> segments = new ArrayList<>();
-        SegmentBuilder segmentBuilder = new SegmentBuilder(maxSegmentSize, this::estimateSize, joinDelimiter());
-        AtomicInteger index = new AtomicInteger(0);
+        SegmentCollector collector = new SegmentCollector(document.metadata(), segments::add);
+        for (String part : split(document.text())) {
+            collector.add(part);
+        }
+        collector.finish();
+
+        return segments;
+    }
+
+    /**
+     * Splits the provided {@link StreamingDocument} incrementally: its text is read in blocks,
+     * and the segments are emitted as soon as the parts they consist of have been read.
+     * Only the current block and the last, possibly incomplete, part of the previous block are held in memory.
+     * <p>
+     * The segments are the same as the ones {@link #split(Document)} returns,
+     * as long as the parts {@link #split(String)} returns do not depend on the text following them
+     * (which is the case for paragraphs, lines and words).
+     * A single part longer than several blocks is cut at a whitespace, so that memory stays bounded.
+     *
+     * @param document The StreamingDocument to be split.
+     * @return A lazily populated stream of segments.
+     */
+    @Override
+    public Stream<TextSegment> splitStreaming(StreamingDocument document) {
+        ensureNotNull(document, "document");
+
+        Iterator<TextSegment> segments = new StreamingSegmentIterator(document);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(segments, ORDERED | NONNULL), false);
+    }
+
+    /**
+     * Builds segments from the parts it is fed one by one, and passes them to a consumer.
+     */
+    private class SegmentCollector {
+
+        private final Metadata metadata;
+        private final Consumer<TextSegment> consumer;
+        private final SegmentBuilder segmentBuilder =
+                new SegmentBuilder(maxSegmentSize, HierarchicalDocumentSplitter.this::estimateSize, joinDelimiter());
+        private int index;
+        private String overlap;
+        private String lastSegmentText;
+
+        private SegmentCollector(Metadata metadata, Consumer<TextSegment> consumer) {
+            this.metadata = metadata;
+            this.consumer = consumer;
+        }
 
-        String[] parts = split(document.text());
-        String overlap = null;
-        for (String part : parts) {
+        private void add(String part) {
             int partSize = segmentBuilder.sizeOf(part);
 
             if (segmentBuilder.hasSpaceFor(partSize)) {
                 // The part fits in the current segment, so we append it.
-                segmentBuilder.append(part);
-                continue;
+                segmentBuilder.append(part, partSize);
+                return;
             }
 
             if (segmentBuilder.isNotEmpty()) {
                 // The part won't fit in the current segment, so we flush the current segment.
                 String segmentText = segmentBuilder.toString();
                 if (!segmentText.equals(overlap)) {
-                    segments.add(createSegment(segmentText, document, index.getAndIncrement()));
+                    emit(segmentText);
 
                     overlap = overlapFrom(segmentText);
 
@@ -149,8 +209,8 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
 
                     if (segmentBuilder.hasSpaceFor(partSize)) {
                         // The part fits in the current segment, so we append it.
-                        segmentBuilder.append(part);
-                        continue;
+                        segmentBuilder.append(part, partSize);
+                        return;
                     }
                 }
             }
@@ -168,23 +228,156 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
             }
 
             // Delegate the splitting of the part to the sub-splitter.
-            segmentBuilder.append(part);
+            segmentBuilder.append(part, partSize);
             for (TextSegment segment : subSplitter.split(Document.from(segmentBuilder.toString()))) {
-                segments.add(createSegment(segment.text(), document, index.getAndIncrement()));
+                emit(segment.text());
             }
 
-            TextSegment lastSegment = segments.get(segments.size() - 1);
-            overlap = overlapFrom(lastSegment.text());
+            overlap = overlapFrom(lastSegmentText);
 
             segmentBuilder.reset();
             segmentBuilder.append(overlap);
         }
 
-        if (segmentBuilder.isNotEmpty() && !segmentBuilder.toString().equals(overlap)) {
-            segments.add(createSegment(segmentBuilder.toString(), document, index.getAndIncrement()));
+        private void finish() {
+            if (segmentBuilder.isNotEmpty() && !segmentBuilder.toString().equals(overlap)) {
+                emit(segmentBuilder.toString());
+            }
         }
 
-        return segments;
+        private void emit(String segmentText) {
+            lastSegmentText = segmentText;
+            consumer.accept(createSegment(segmentText, metadata, index++));
+        }
+    }
+
+    /**
+     * Reads the text of a {@link StreamingDocument} block by block and splits it into segments on demand.
+     */
+    private class StreamingSegmentIterator implements Iterator<TextSegment> {
+
+        private final Reader reader;
+        private final Deque<TextSegment> segments = new ArrayDeque<>();
+        private final SegmentCollector collector;
+        private final StringBuilder buffer = new StringBuilder();
+        private final char[] chars = new char[8192];
+        private final int blockSize;
+        private boolean finished;
+
+        private StreamingSegmentIterator(StreamingDocument document) {
+            this.reader = document.reader();
+            this.collector = new SegmentCollector(document.metadata(), segments::add);
+            this.blockSize = Math.max(MIN_STREAMING_BLOCK_SIZE, 8 * maxSegmentSize);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (segments.isEmpty() && !finished) {
+                readBlock();
+            }
+            return !segments.isEmpty();
+        }
+
+        @Override
+        public TextSegment next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return segments.poll();
+        }
+
+        private void readBlock() {
+            boolean endOfText = false;
+            int minLength = buffer.length() + blockSize;
+            try {
+                while (buffer.length() < minLength) {
+                    int read = reader.read(chars);
+                    if (read == -1) {
+                        endOfText = true;
+                        break;
+                    }
+                    buffer.append(chars, 0, read);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+
+            String text = buffer.toString();
+            buffer.setLength(0);
+            String[] parts = split(text);
+
+            if (endOfText) {
+                for (String part : parts) {
+                    add(part);
+                }
+                collector.finish();
+                finished = true;
+                return;
+            }
+
+            // the last part might continue in the next block, so it is kept until more text is read
+            int lastPartStart = lastPartStart(text, parts);
+            if (parts.length == 1 && text.length() >= MAX_STREAMING_BLOCKS * blockSize) {
+                // a single huge part, cut it at the last whitespace
+                lastPartStart = lastWhitespace(text) + 1;
+                add(text.substring(0, lastPartStart).trim());
+            } else if (lastPartStart < 0) {
+                // the parts are not substrings of the text, so we cannot tell where the last one starts,
+                // the last part itself is kept instead (with the whitespace separating it from the next block)
+                for (int i = 0; i < parts.length - 1; i++) {
+                    add(parts[i]);
+                }
+                buffer.append(parts[parts.length - 1]).append(text, trailingWhitespaceStart(text), text.length());
+                return;
+            } else {
+                for (int i = 0; i < parts.length - 1; i++) {
+                    add(parts[i]);
+                }
+            }
+            buffer.append(text, lastPartStart, text.length());
+        }
+
+        private void add(String part) {
+            // unlike a Document, a StreamingDocument can be blank
+            if (!part.isBlank()) {
+                collector.add(part);
+            }
+        }
+
+        /**
+         * Returns where the last part starts in the text, or -1 if the parts are not substrings of the text
+         * (e.g. because {@link #split(String)} normalizes them).
+         * The parts are located one after the other, so that a part is not mistaken for an earlier, similar text.
+         */
+        private int lastPartStart(String text, String[] parts) {
+            int partStart = text.length();
+            int from = 0;
+            for (String part : parts) {
+                partStart = text.indexOf(part, from);
+                if (partStart < 0) {
+                    return -1;
+                }
+                from = partStart + part.length();
+            }
+            return partStart;
+        }
+
+        private int trailingWhitespaceStart(String text) {
+            int start = text.length();
+            while (start > 0 && Character.isWhitespace(text.charAt(start - 1))) {
+                start--;
+            }
+            return start;
+        }
+
+        private int lastWhitespace(String text) {
+            for (int i = text.length() - 1; i > 0; i--) {
+                if (Character.isWhitespace(text.charAt(i))) {
+                    return i;
+                }
+            }
+            return text.length() - 1;
+        }
     }
 
     /**
@@ -241,7 +434,11 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
      * @param index    The index of the segment within the document.
      */
     static TextSegment createSegment(String text, Document document, int index) {
-        Metadata metadata = document.metadata().copy().put(INDEX, String.valueOf(index));
+        return createSegment(text, document.metadata(), index);
+    }
+
+    private static TextSegment createSegment(String text, Metadata documentMetadata, int index) {
+        Metadata metadata = documentMetadata.copy().put(INDEX, String.valueOf(index));
         return TextSegment.from(text, metadata);
     }
 }
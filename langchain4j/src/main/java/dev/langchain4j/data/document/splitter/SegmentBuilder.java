@@ -2,6 +2,8 @@ package dev.langchain4j.data.document.splitter;
 
 import dev.langchain4j.Internal;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.function.Function;
 
 import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
@@ -17,8 +19,10 @@ class SegmentBuilder {
     private final Function<String, Integer> sizeFunction;
     private final String joinSeparator;
     private final int joinSeparatorSize;
-    private String segment = "";
+    private final Deque<String> parts = new ArrayDeque<>();
+    private int segmentLength = 0;
     private int segmentSize = 0;
+    private boolean segmentSizeExact = true;
 
     /**
      * Creates a new instance of {@link SegmentBuilder}.
@@ -40,6 +44,10 @@ class SegmentBuilder {
      * @return The current size of the segment.
      */
     public int getSize() {
+        if (!segmentSizeExact) {
+            segmentSize = sizeOf(segment());
+            segmentSizeExact = true;
+        }
         return segmentSize;
     }
 
@@ -50,25 +58,29 @@ class SegmentBuilder {
      * @return {@code true} if the provided text can be added to the current segment.
      */
     public boolean hasSpaceFor(String text) {
-        int totalSize = sizeOf(text);
-        if (isNotEmpty()) {
-            totalSize += segmentSize + joinSeparatorSize;
-        }
-        return totalSize <= maxSegmentSize;
+        return hasSpaceFor(sizeOf(text));
     }
 
     /**
      * Returns {@code true} if the provided size can be added to the current segment.
+     * <p>
+     * While texts are added, the size of the segment is tracked as the sum of the sizes of the texts
+     * and of the join separators between them, which is not less than the size of the joined texts
+     * (e.g. a token-based size of a separator and a word can be 2, while the one of both together is 1).
+     * The segment is measured as a whole only when this sum leaves no space for the provided size,
+     * so that the segment is not measured again after every added text.
      *
      * @param size The size to check.
      * @return {@code true} if the provided size can be added to the current segment.
      */
     public boolean hasSpaceFor(int size) {
-        int totalSize = size;
-        if (isNotEmpty()) {
-            totalSize += segmentSize + joinSeparatorSize;
+        if (!isNotEmpty()) {
+            return size <= maxSegmentSize;
+        }
+        if (segmentSize + joinSeparatorSize + size <= maxSegmentSize) {
+            return true;
         }
-        return totalSize <= maxSegmentSize;
+        return getSize() + joinSeparatorSize + size <= maxSegmentSize;
     }
 
     /**
@@ -87,11 +99,22 @@ class SegmentBuilder {
      * @param text The text to append.
      */
     public void append(String text) {
+        append(text, sizeOf(text));
+    }
+
+    /**
+     * Appends the provided text, whose size is already known, to the current segment.
+     *
+     * @param text     The text to append.
+     * @param textSize The size of the text (as returned by the {@code sizeFunction}).
+     */
+    void append(String text, int textSize) {
         if (isNotEmpty()) {
-            segment += joinSeparator;
+            parts.addLast(text);
+            add(text, textSize);
+        } else {
+            start(text, textSize);
         }
-        segment += text;
-        segmentSize = sizeOf(segment);
     }
 
     /**
@@ -101,11 +124,25 @@ class SegmentBuilder {
      */
     public void prepend(String text) {
         if (isNotEmpty()) {
-            segment = text + joinSeparator + segment;
+            parts.addFirst(text);
+            add(text, sizeOf(text));
         } else {
-            segment = text;
+            start(text, sizeOf(text));
         }
-        segmentSize = sizeOf(segment);
+    }
+
+    private void add(String text, int textSize) {
+        segmentLength += joinSeparator.length() + text.length();
+        segmentSize += joinSeparatorSize + textSize;
+        segmentSizeExact = false;
+    }
+
+    private void start(String text, int textSize) {
+        parts.clear();
+        parts.add(text);
+        segmentLength = text.length();
+        segmentSize = textSize;
+        segmentSizeExact = true;
     }
 
     /**
@@ -114,19 +151,25 @@ class SegmentBuilder {
      * @return {@code true} if the current segment is not empty.
      */
     public boolean isNotEmpty() {
-        return !segment.isEmpty();
+        return segmentLength > 0;
     }
 
     @Override
     public String toString() {
-        return segment.trim();
+        return segment().trim();
+    }
+
+    private String segment() {
+        return String.join(joinSeparator, parts);
     }
 
     /**
      * Resets the current segment.
      */
     public void reset() {
-        segment = "";
+        parts.clear();
+        segmentLength = 0;
         segmentSize = 0;
+        segmentSizeExact = true;
     }
 }
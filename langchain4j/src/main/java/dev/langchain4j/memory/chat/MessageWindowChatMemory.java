@@ -32,12 +32,16 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
  * that prohibit sending orphan {@code ToolExecutionResultMessage}(s) in the request.
  * <p>
  * The state of chat memory is stored in {@link ChatMemoryStore} ({@link SingleSlotChatMemoryStore} is used by default).
+ * If the store {@link ChatMemoryStore#supportsIncrementalUpdates() supports incremental updates},
+ * only the added and evicted messages are written, instead of rewriting all messages,
+ * and the messages are read from the store only once, assuming that this memory is the only writer of its ID.
  */
 public class MessageWindowChatMemory implements ChatMemory {
 
     private final Object id;
     private final Integer maxMessages;
     private final ChatMemoryStore store;
+    private volatile List<ChatMessage> storedMessages;
 
     private MessageWindowChatMemory(Builder builder) {
         this.id = ensureNotNull(builder.id, "id");
@@ -52,7 +56,8 @@ public class MessageWindowChatMemory implements ChatMemory {
 
     @Override
     public void add(ChatMessage message) {
-        List<ChatMessage> messages = messages();
+        List<ChatMessage> messages = new LinkedList<>(storedMessages());
+        boolean replacesSystemMessage = false;
         if (message instanceof SystemMessage) {
             Optional<SystemMessage> systemMessage = findSystemMessage(messages);
             if (systemMessage.isPresent()) {
@@ -60,12 +65,24 @@ public class MessageWindowChatMemory implements ChatMemory {
                     return; // do not add the same system message
                 } else {
                     messages.remove(systemMessage.get()); // need to replace existing system message
+                    replacesSystemMessage = true;
                 }
             }
         }
         messages.add(message);
+        int sizeBeforeEviction = messages.size();
         ensureCapacity(messages, maxMessages);
-        store.updateMessages(id, messages);
+        if (store.supportsIncrementalUpdates()) {
+            if (replacesSystemMessage) {
+                store.replaceSystemMessage(id, (SystemMessage) message);
+            } else {
+                store.appendMessages(id, List.of(message));
+            }
+            store.evictOldest(id, sizeBeforeEviction - messages.size());
+            storedMessages = messages;
+        } else {
+            store.updateMessages(id, messages);
+        }
     }
 
     private static Optional<SystemMessage> findSystemMessage(List<ChatMessage> messages) {
@@ -77,11 +94,28 @@ public class MessageWindowChatMemory implements ChatMemory {
 
     @Override
     public List<ChatMessage> messages() {
-        List<ChatMessage> messages = new LinkedList<>(store.getMessages(id));
+        List<ChatMessage> messages = new LinkedList<>(storedMessages());
         ensureCapacity(messages, maxMessages);
         return messages;
     }
 
+    /**
+     * Returns the messages held by the store.
+     * If the store supports incremental updates, this memory is assumed to be the only writer of its ID:
+     * the messages are read from the store only once and then kept in sync with the updates made by this memory.
+     */
+    private List<ChatMessage> storedMessages() {
+        if (!store.supportsIncrementalUpdates()) {
+            return store.getMessages(id);
+        }
+        List<ChatMessage> messages = storedMessages;
+        if (messages == null) {
+            messages = new LinkedList<>(store.getMessages(id));
+            storedMessages = messages;
+        }
+        return messages;
+    }
+
     private static void ensureCapacity(List<ChatMessage> messages, int maxMessages) {
         while (messages.size() > maxMessages) {
 
@@ -105,6 +139,7 @@ public class MessageWindowChatMemory implements ChatMemory {
     @Override
     public void clear() {
         store.deleteMessages(id);
+        storedMessages = null;
     }
 
     public static Builder builder() {
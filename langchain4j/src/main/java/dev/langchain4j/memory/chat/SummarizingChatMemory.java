@@ -0,0 +1,351 @@
+package dev.langchain4j.memory.chat;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.Content;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.TextContent;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.internal.VirtualThreadUtils;
+import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.input.PromptTemplate;
+import dev.langchain4j.service.memory.ChatMemoryService;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * This chat memory compacts the conversation instead of dropping old messages.
+ * When the number of messages exceeds {@link Builder#maxMessages(Integer) maxMessages},
+ * all but the {@link Builder#retainedMessages(Integer) retainedMessages} most recent messages are summarized
+ * by a (preferably cheap) {@link ChatModel}, and replaced by a single {@link UserMessage} holding the summary.
+ * When a conversation is compacted again, the previous summary is merged into the new one.
+ * <p>
+ * The summarization runs asynchronously and never blocks {@link #add(ChatMessage)} or {@link #messages()}:
+ * until it completes, all messages are retained, and once it completes, the compacted messages are swapped in.
+ * If the summarized messages were changed in the meantime (e.g. the memory was cleared), the summary is discarded.
+ * If the summarization fails, it is retried with the next added message.
+ * <p>
+ * An {@link AiMessage} containing {@link ToolExecutionRequest}(s) is always summarized together
+ * with the following {@link ToolExecutionResultMessage}(s), so that no orphan {@code ToolExecutionResultMessage}
+ * is retained.
+ * <p>
+ * Once added, a {@link SystemMessage} is always retained and never summarized.
+ * Only one {@code SystemMessage} can be held at a time.
+ * If a new {@code SystemMessage} with the same content is added, it is ignored.
+ * If a new {@code SystemMessage} with different content is added, the previous {@code SystemMessage} is removed.
+ * <p>
+ * The state of chat memory is stored in {@link ChatMemoryStore} ({@link SingleSlotChatMemoryStore} is used by default).
+ */
+public class SummarizingChatMemory implements ChatMemory {
+
+    private static final Logger log = LoggerFactory.getLogger(SummarizingChatMemory.class);
+
+    static final String SUMMARY_PREFIX = "Summary of the earlier conversation:\n";
+
+    private static final PromptTemplate DEFAULT_SUMMARIZATION_PROMPT_TEMPLATE = PromptTemplate.from(
+            """
+            Summarize the following conversation concisely. \
+            Preserve the facts, decisions, names, numbers and open questions that may be needed to continue it. \
+            If the conversation starts with a summary of an earlier part, merge it into your summary. \
+            Reply with the summary only.
+
+            {{conversation}}""");
+
+    private final Object id;
+    private final int maxMessages;
+    private final int retainedMessages;
+    private final ChatModel chatModel;
+    private final PromptTemplate summarizationPromptTemplate;
+    private final ChatMemoryStore store;
+    private final Executor executor;
+
+    private final Object lock = new Object();
+    private final AtomicBoolean summarizing = new AtomicBoolean();
+
+    private SummarizingChatMemory(Builder builder) {
+        this.id = ensureNotNull(builder.id, "id");
+        this.maxMessages = ensureGreaterThanZero(builder.maxMessages, "maxMessages");
+        this.retainedMessages = getOrDefault(builder.retainedMessages, Math.max(maxMessages / 2, 1));
+        if (retainedMessages < 1 || retainedMessages >= maxMessages) {
+            throw new IllegalArgumentException("retainedMessages must be between 1 and maxMessages - 1, but is: "
+                    + retainedMessages);
+        }
+        this.chatModel = ensureNotNull(builder.chatModel, "chatModel");
+        this.summarizationPromptTemplate =
+                getOrDefault(builder.summarizationPromptTemplate, DEFAULT_SUMMARIZATION_PROMPT_TEMPLATE);
+        this.store = ensureNotNull(builder.store(), "store");
+        this.executor = getOrDefault(builder.executor, SummarizingChatMemory::createDefaultExecutor);
+    }
+
+    private static Executor createDefaultExecutor() {
+        return VirtualThreadUtils.createVirtualThreadExecutor(() -> Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "langchain4j-chat-memory-summarization");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    @Override
+    public Object id() {
+        return id;
+    }
+
+    @Override
+    public void add(ChatMessage message) {
+        List<ChatMessage> prefixToSummarize;
+        synchronized (lock) {
+            List<ChatMessage> messages = new ArrayList<>(store.getMessages(id));
+            if (message instanceof SystemMessage) {
+                SystemMessage systemMessage = findSystemMessage(messages);
+                if (message.equals(systemMessage)) {
+                    return; // do not add the same system message
+                }
+                messages.remove(systemMessage); // need to replace existing system message, if any
+            }
+            messages.add(message);
+            store.updateMessages(id, messages);
+            prefixToSummarize = findPrefixToSummarize(messages);
+        }
+        if (prefixToSummarize != null && summarizing.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> summarize(prefixToSummarize));
+            } catch (RuntimeException e) {
+                summarizing.set(false);
+                log.warn("Failed to schedule the summarization of chat memory '{}'", id, e);
+            }
+        }
+    }
+
+    /**
+     * @return the oldest non-system messages to summarize, or {@code null} if the memory does not need compaction.
+     */
+    private List<ChatMessage> findPrefixToSummarize(List<ChatMessage> messages) {
+        List<ChatMessage> conversation = withoutSystemMessage(messages);
+        if (conversation.size() <= maxMessages) {
+            return null;
+        }
+        int cut = conversation.size() - retainedMessages;
+        while (cut < conversation.size() && conversation.get(cut) instanceof ToolExecutionResultMessage) {
+            // tool results are summarized together with the AiMessage that requested them
+            cut++;
+        }
+        return cut < 2 ? null : List.copyOf(conversation.subList(0, cut));
+    }
+
+    private void summarize(List<ChatMessage> prefix) {
+        try {
+            String conversation = toTranscript(prefix);
+            String prompt = summarizationPromptTemplate
+                    .apply(Map.of("conversation", conversation))
+                    .text();
+            String summary = chatModel.chat(prompt);
+            swapIn(prefix, UserMessage.from(SUMMARY_PREFIX + summary));
+        } catch (Exception e) {
+            log.warn("Failed to summarize chat memory '{}', all messages are retained for now", id, e);
+        } finally {
+            summarizing.set(false);
+        }
+    }
+
+    private void swapIn(List<ChatMessage> prefix, UserMessage summaryMessage) {
+        synchronized (lock) {
+            List<ChatMessage> messages = store.getMessages(id);
+            List<ChatMessage> conversation = withoutSystemMessage(messages);
+            if (conversation.size() < prefix.size() || !conversation.subList(0, prefix.size()).equals(prefix)) {
+                log.debug("Chat memory '{}' was changed during summarization, the summary is discarded", id);
+                return;
+            }
+            List<ChatMessage> compacted = new ArrayList<>(conversation.size() - prefix.size() + 2);
+            SystemMessage systemMessage = findSystemMessage(messages);
+            if (systemMessage != null) {
+                compacted.add(systemMessage);
+            }
+            compacted.add(summaryMessage);
+            compacted.addAll(conversation.subList(prefix.size(), conversation.size()));
+            store.updateMessages(id, compacted);
+        }
+    }
+
+    private static String toTranscript(List<ChatMessage> messages) {
+        StringBuilder transcript = new StringBuilder();
+        for (ChatMessage message : messages) {
+            if (message instanceof UserMessage userMessage) {
+                String text = toText(userMessage);
+                if (text.startsWith(SUMMARY_PREFIX)) {
+                    transcript.append("Summary of the earlier conversation: ").append(text.substring(SUMMARY_PREFIX.length()));
+                } else {
+                    transcript.append("User: ").append(text);
+                }
+            } else if (message instanceof AiMessage aiMessage) {
+                transcript.append("AI: ");
+                if (aiMessage.text() != null) {
+                    transcript.append(aiMessage.text());
+                }
+                for (ToolExecutionRequest toolExecutionRequest : aiMessage.toolExecutionRequests()) {
+                    transcript.append("[called tool ").append(toolExecutionRequest.name())
+                            .append(" with ").append(toolExecutionRequest.arguments()).append(']');
+                }
+            } else if (message instanceof ToolExecutionResultMessage toolExecutionResultMessage) {
+                transcript.append("Tool ").append(toolExecutionResultMessage.toolName())
+                        .append(" returned: ").append(toolExecutionResultMessage.text());
+            } else {
+                transcript.append(message.type()).append(": ").append(message);
+            }
+            transcript.append('\n');
+        }
+        return transcript.toString();
+    }
+
+    private static String toText(UserMessage userMessage) {
+        StringBuilder text = new StringBuilder();
+        for (Content content : userMessage.contents()) {
+            if (!text.isEmpty()) {
+                text.append(' ');
+            }
+            if (content instanceof TextContent textContent) {
+                text.append(textContent.text());
+            } else {
+                text.append('[').append(content.type()).append(']');
+            }
+        }
+        return text.toString();
+    }
+
+    private static SystemMessage findSystemMessage(List<ChatMessage> messages) {
+        for (ChatMessage message : messages) {
+            if (message instanceof SystemMessage systemMessage) {
+                return systemMessage;
+            }
+        }
+        return null;
+    }
+
+    private static List<ChatMessage> withoutSystemMessage(List<ChatMessage> messages) {
+        List<ChatMessage> conversation = new ArrayList<>(messages.size());
+        for (ChatMessage message : messages) {
+            if (!(message instanceof SystemMessage)) {
+                conversation.add(message);
+            }
+        }
+        return conversation;
+    }
+
+    @Override
+    public List<ChatMessage> messages() {
+        return new ArrayList<>(store.getMessages(id));
+    }
+
+    @Override
+    public void clear() {
+        synchronized (lock) {
+            store.deleteMessages(id);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Object id = ChatMemoryService.DEFAULT;
+        private Integer maxMessages;
+        private Integer retainedMessages;
+        private ChatModel chatModel;
+        private PromptTemplate summarizationPromptTemplate;
+        private ChatMemoryStore store;
+        private Executor executor;
+
+        /**
+         * @param id The ID of the {@link ChatMemory}.
+         *           If not provided, a "default" will be used.
+         * @return builder
+         */
+        public Builder id(Object id) {
+            this.id = id;
+            return this;
+        }
+
+        /**
+         * @param maxMessages The number of messages (not counting the {@link SystemMessage})
+         *                    above which the conversation is compacted.
+         * @return builder
+         */
+        public Builder maxMessages(Integer maxMessages) {
+            this.maxMessages = maxMessages;
+            return this;
+        }
+
+        /**
+         * @param retainedMessages The number of most recent messages that are retained as-is when the conversation
+         *                         is compacted. Must be less than {@code maxMessages}. Default: half of {@code maxMessages}.
+         * @return builder
+         */
+        public Builder retainedMessages(Integer retainedMessages) {
+            this.retainedMessages = retainedMessages;
+            return this;
+        }
+
+        /**
+         * @param chatModel The model used to summarize the conversation. A small, cheap model is usually sufficient.
+         * @return builder
+         */
+        public Builder chatModel(ChatModel chatModel) {
+            this.chatModel = chatModel;
+            return this;
+        }
+
+        /**
+         * @param summarizationPromptTemplate The template of the summarization prompt.
+         *                                    It must contain the {@code {{conversation}}} variable.
+         * @return builder
+         */
+        public Builder summarizationPromptTemplate(PromptTemplate summarizationPromptTemplate) {
+            this.summarizationPromptTemplate = summarizationPromptTemplate;
+            return this;
+        }
+
+        /**
+         * @param store The chat memory store responsible for storing the chat memory state.
+         *              If not provided, an {@link SingleSlotChatMemoryStore} will be used.
+         * @return builder
+         */
+        public Builder chatMemoryStore(ChatMemoryStore store) {
+            this.store = store;
+            return this;
+        }
+
+        /**
+         * @param executor The executor used to run the summarization.
+         *                 By default, virtual threads are used when available, otherwise a cached thread pool.
+         * @return builder
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        private ChatMemoryStore store() {
+            return store != null ? store : new SingleSlotChatMemoryStore(id);
+        }
+
+        public SummarizingChatMemory build() {
+            return new SummarizingChatMemory(this);
+        }
+    }
+}
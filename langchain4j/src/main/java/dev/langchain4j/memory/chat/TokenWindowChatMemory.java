@@ -12,7 +12,6 @@ import dev.langchain4j.store.memory.chat.ChatMemoryStore;
 
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Optional;
 
 import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
@@ -34,6 +33,25 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
  * that prohibit sending orphan {@code ToolExecutionResultMessage}(s) in the request.
  * <p>
  * The state of chat memory is stored in {@link ChatMemoryStore} ({@link SingleSlotChatMemoryStore} is used by default).
+ * If the store {@link ChatMemoryStore#supportsIncrementalUpdates() supports incremental updates},
+ * only the added and evicted messages are written, instead of rewriting all messages,
+ * and the messages are read from the store only once, assuming that this memory is the only writer of its ID.
+ * <p>
+ * The token counts of the messages last read from (or written to) the store are kept together
+ * with their running total, which is updated as messages are added and evicted.
+ * The history is not re-tokenized as long as the store returns the same list instance
+ * that was last read from or written to it, or equal messages (e.g. deserialized again);
+ * comparing them takes time proportional to the history, like the deserialization itself.
+ * Otherwise (e.g. when the store was modified by another memory instance sharing the same ID),
+ * {@link TokenCountEstimator#estimateTokenCountInMessage(ChatMessage)} is called once per message,
+ * which is one remote call per message for an estimator backed by a remote service.
+ * <p>
+ * The window holds the sum of the per-message estimates plus the per-request overhead of the
+ * {@link TokenCountEstimator} (e.g. the tokens priming the reply). This overhead is measured once,
+ * on the first non-empty history, as the difference between
+ * {@link TokenCountEstimator#estimateTokenCountInMessages(Iterable)} and the sum of the per-message estimates.
+ * It is exact for estimators adding a constant per request, such as the OpenAI one.
+ * For other estimators, the count may differ from {@code estimateTokenCountInMessages} of the retained messages.
  */
 public class TokenWindowChatMemory implements ChatMemory {
 
@@ -41,6 +59,9 @@ public class TokenWindowChatMemory implements ChatMemory {
     private final Integer maxTokens;
     private final TokenCountEstimator tokenCountEstimator;
     private final ChatMemoryStore store;
+    private volatile CountedMessages countedMessages;
+    private volatile List<ChatMessage> lastStoredMessages;
+    private volatile Integer extraTokensPerRequest;
 
     private TokenWindowChatMemory(Builder builder) {
         this.id = ensureNotNull(builder.id, "id");
@@ -56,47 +77,94 @@ public class TokenWindowChatMemory implements ChatMemory {
 
     @Override
     public void add(ChatMessage message) {
-        List<ChatMessage> messages = messages();
+        CountedMessages messages = storedMessages();
+        countedMessages = null; // until the store is updated
+        boolean replacesSystemMessage = false;
         if (message instanceof SystemMessage) {
-            Optional<SystemMessage> maybeSystemMessage = findSystemMessage(messages);
-            if (maybeSystemMessage.isPresent()) {
-                if (maybeSystemMessage.get().equals(message)) {
+            int systemMessageIndex = indexOfSystemMessage(messages.messages);
+            if (systemMessageIndex >= 0) {
+                if (messages.messages.get(systemMessageIndex).equals(message)) {
+                    countedMessages = messages;
                     return; // do not add the same system message
                 } else {
-                    messages.remove(maybeSystemMessage.get()); // need to replace existing system message
+                    messages.remove(systemMessageIndex); // need to replace existing system message
+                    replacesSystemMessage = true;
                 }
             }
         }
-        messages.add(message);
-        ensureCapacity(messages, maxTokens, tokenCountEstimator);
-        store.updateMessages(id, messages);
+        messages.add(message, tokenCountEstimator.estimateTokenCountInMessage(message));
+        int sizeBeforeEviction = messages.size();
+        ensureCapacity(messages);
+        if (store.supportsIncrementalUpdates()) {
+            if (replacesSystemMessage) {
+                store.replaceSystemMessage(id, (SystemMessage) message);
+            } else {
+                store.appendMessages(id, List.of(message));
+            }
+            store.evictOldest(id, sizeBeforeEviction - messages.size());
+            countedMessages = messages;
+        } else {
+            store.updateMessages(id, messages.messages);
+            lastStoredMessages = messages.messages;
+            countedMessages = messages.copy();
+        }
     }
 
-    private static Optional<SystemMessage> findSystemMessage(List<ChatMessage> messages) {
-        return messages.stream()
-                .filter(message -> message instanceof SystemMessage)
-                .map(message -> (SystemMessage) message)
-                .findAny();
+    private static int indexOfSystemMessage(List<ChatMessage> messages) {
+        for (int i = 0; i < messages.size(); i++) {
+            if (messages.get(i) instanceof SystemMessage) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     @Override
     public List<ChatMessage> messages() {
-        List<ChatMessage> messages = new LinkedList<>(store.getMessages(id));
-        ensureCapacity(messages, maxTokens, tokenCountEstimator);
-        return messages;
+        CountedMessages messages = storedMessages();
+        countedMessages = messages;
+        CountedMessages window = messages.copy();
+        ensureCapacity(window);
+        return window.messages;
     }
 
-    private static void ensureCapacity(List<ChatMessage> messages, int maxTokens, TokenCountEstimator estimator) {
+    /**
+     * Returns the messages held by the store with their token counts.
+     * <p>
+     * If the store supports incremental updates, this memory is assumed to be the only writer of its ID:
+     * the messages are read from the store only once and then kept in sync with the updates made by this memory.
+     * Otherwise, the messages are read from the store, and the token counts of the messages seen last are reused
+     * if the store returns the list last read from or written to it, or equal messages.
+     * They are estimated again if it does not (e.g. when the store was modified by another memory instance
+     * sharing the same ID).
+     */
+    private CountedMessages storedMessages() {
+        CountedMessages counted = countedMessages;
+        if (store.supportsIncrementalUpdates() && counted != null) {
+            return counted;
+        }
+        List<ChatMessage> storedMessages = store.getMessages(id);
+        if (counted == null
+                || (storedMessages != lastStoredMessages && !counted.messages.equals(storedMessages))) {
+            counted = new CountedMessages();
+            for (ChatMessage message : storedMessages) {
+                counted.add(message, tokenCountEstimator.estimateTokenCountInMessage(message));
+            }
+        }
+        lastStoredMessages = storedMessages;
+        return counted;
+    }
 
-        if (messages.isEmpty()) {
+    private void ensureCapacity(CountedMessages messages) {
+
+        if (messages.size() == 0) {
             return;
         }
 
-        int currentTokenCount = estimator.estimateTokenCountInMessages(messages);
-        while (currentTokenCount > maxTokens && !messages.isEmpty()) {
+        while (messages.tokenCount + extraTokensPerRequest(messages) > maxTokens && messages.size() > 0) {
 
             int messageToEvictIndex = 0;
-            if (messages.get(0) instanceof SystemMessage) {
+            if (messages.messages.get(0) instanceof SystemMessage) {
                 if (messages.size() == 1) {
                     return;
                 }
@@ -104,24 +172,33 @@ public class TokenWindowChatMemory implements ChatMemory {
             }
 
             ChatMessage evictedMessage = messages.remove(messageToEvictIndex);
-            int tokenCountOfEvictedMessage = estimator.estimateTokenCountInMessage(evictedMessage);
-            currentTokenCount -= tokenCountOfEvictedMessage;
 
             if (evictedMessage instanceof AiMessage aiMessage && aiMessage.hasToolExecutionRequests()) {
                 while (messages.size() > messageToEvictIndex
-                        && messages.get(messageToEvictIndex) instanceof ToolExecutionResultMessage) {
+                        && messages.messages.get(messageToEvictIndex) instanceof ToolExecutionResultMessage) {
                     // Some LLMs (e.g. OpenAI) prohibit ToolExecutionResultMessage(s) without corresponding AiMessage,
                     // so we have to automatically evict orphan ToolExecutionResultMessage(s) if AiMessage was evicted
-                    ChatMessage orphanToolExecutionResultMessage = messages.remove(messageToEvictIndex);
-                    currentTokenCount -= estimator.estimateTokenCountInMessage(orphanToolExecutionResultMessage);
+                    messages.remove(messageToEvictIndex);
                 }
             }
         }
     }
 
+    private int extraTokensPerRequest(CountedMessages messages) {
+        Integer extraTokens = extraTokensPerRequest;
+        if (extraTokens == null) {
+            // the estimator may add tokens per request (not per message), measure them once
+            extraTokens = tokenCountEstimator.estimateTokenCountInMessages(messages.messages) - messages.tokenCount;
+            extraTokensPerRequest = extraTokens;
+        }
+        return extraTokens;
+    }
+
     @Override
     public void clear() {
         store.deleteMessages(id);
+        countedMessages = null;
+        lastStoredMessages = null;
     }
 
     public static Builder builder() {
@@ -177,6 +254,45 @@ public class TokenWindowChatMemory implements ChatMemory {
         }
     }
 
+    /**
+     * Messages together with their token counts and the running total of those counts.
+     */
+    private static final class CountedMessages {
+
+        private final List<ChatMessage> messages;
+        private final List<Integer> tokenCounts;
+        private int tokenCount;
+
+        private CountedMessages() {
+            this(new LinkedList<>(), new LinkedList<>(), 0);
+        }
+
+        private CountedMessages(List<ChatMessage> messages, List<Integer> tokenCounts, int tokenCount) {
+            this.messages = messages;
+            this.tokenCounts = tokenCounts;
+            this.tokenCount = tokenCount;
+        }
+
+        private int size() {
+            return messages.size();
+        }
+
+        private void add(ChatMessage message, int messageTokenCount) {
+            messages.add(message);
+            tokenCounts.add(messageTokenCount);
+            tokenCount += messageTokenCount;
+        }
+
+        private ChatMessage remove(int index) {
+            tokenCount -= tokenCounts.remove(index);
+            return messages.remove(index);
+        }
+
+        private CountedMessages copy() {
+            return new CountedMessages(new LinkedList<>(messages), new LinkedList<>(tokenCounts), tokenCount);
+        }
+    }
+
     public static TokenWindowChatMemory withMaxTokens(int maxTokens, TokenCountEstimator tokenCountEstimator) {
         return builder().maxTokens(maxTokens, tokenCountEstimator).build();
     }
@@ -0,0 +1,355 @@
+package dev.langchain4j.memory.chat;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * A {@link ChatMemoryStore} decorator that caches chat memories locally and writes them to the delegate store
+ * asynchronously (write-behind).
+ * <p>
+ * Reads are served from the local cache; only cache misses are read from the delegate.
+ * Updates and deletions are applied to the cache immediately and flushed to the delegate in batches:
+ * every {@link Builder#flushInterval(Duration) flushInterval} (the durability window),
+ * as soon as {@link Builder#maxBatchSize(Integer) maxBatchSize} memories are pending,
+ * and on {@link #close()}.
+ * Multiple updates of the same memory within a durability window are coalesced into a single write
+ * of the latest state.
+ * <p>
+ * At most {@link Builder#maxCachedMemories(Integer) maxCachedMemories} memories are cached,
+ * the least recently used ones are evicted first. A memory with pending writes is flushed before it is evicted.
+ * <p>
+ * Updates that were not flushed yet are lost if the application crashes.
+ * If a flush fails, the affected memories stay pending and are retried with the next flush.
+ * <p>
+ * This store must be the only writer of the delegate store for the memories it manages.
+ * This class is thread-safe.
+ */
+public class WriteBehindChatMemoryStore implements ChatMemoryStore, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindChatMemoryStore.class);
+
+    private final ChatMemoryStore delegate;
+    private final int maxBatchSize;
+    private final int maxCachedMemories;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownsScheduler;
+    private final ScheduledFuture<?> flushTask;
+
+    private final Map<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<Object> pending = new LinkedHashSet<>();
+    private final Object flushLock = new Object();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private long generation; // guarded by entries, incremented on each write
+    private volatile boolean closed;
+
+    private WriteBehindChatMemoryStore(Builder builder) {
+        this.delegate = ensureNotNull(builder.delegate, "delegate");
+        this.maxBatchSize = ensureGreaterThanZero(getOrDefault(builder.maxBatchSize, 100), "maxBatchSize");
+        this.maxCachedMemories = ensureGreaterThanZero(getOrDefault(builder.maxCachedMemories, 1000), "maxCachedMemories");
+        long flushIntervalMillis = getOrDefault(builder.flushInterval, Duration.ofSeconds(1)).toMillis();
+        if (flushIntervalMillis <= 0) {
+            throw illegalArgument("flushInterval must be at least 1 millisecond, but is: %s", builder.flushInterval);
+        }
+        this.ownsScheduler = builder.scheduler == null;
+        this.scheduler = ownsScheduler ? createDefaultScheduler() : builder.scheduler;
+        this.flushTask = scheduler.scheduleWithFixedDelay(
+                this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private static ScheduledExecutorService createDefaultScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "langchain4j-chat-memory-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public List<ChatMessage> getMessages(Object memoryId) {
+        long generation;
+        synchronized (entries) {
+            Entry entry = entries.get(memoryId);
+            if (entry != null) {
+                return new ArrayList<>(entry.messages);
+            }
+            generation = this.generation;
+        }
+
+        // memories with pending writes are never evicted, so the delegate is up-to-date for this one
+        List<ChatMessage> messages = delegate.getMessages(memoryId);
+
+        synchronized (entries) {
+            Entry entry = entries.get(memoryId);
+            if (entry != null) {
+                return new ArrayList<>(entry.messages);
+            }
+            // if anything was written during the read, the messages might be stale, so they are not cached
+            if (this.generation == generation) {
+                // cached even after close(), the delegate is only written to through this store
+                entries.put(memoryId, new Entry(new ArrayList<>(messages)));
+                evictIfNeeded();
+            }
+            return new ArrayList<>(messages);
+        }
+    }
+
+    @Override
+    public void updateMessages(Object memoryId, List<ChatMessage> messages) {
+        write(memoryId, new ArrayList<>(messages), false);
+    }
+
+    @Override
+    public void deleteMessages(Object memoryId) {
+        write(memoryId, new ArrayList<>(), true);
+    }
+
+    private void write(Object memoryId, List<ChatMessage> messages, boolean deleted) {
+        if (closed) {
+            // there is no background flush anymore, so the delegate is written synchronously
+            synchronized (flushLock) {
+                synchronized (entries) {
+                    entries.remove(memoryId);
+                    pending.remove(memoryId);
+                    generation++;
+                }
+                writeToDelegate(memoryId, messages, deleted);
+            }
+            return;
+        }
+
+        boolean batchFull;
+        synchronized (entries) {
+            Entry entry = entries.get(memoryId);
+            if (entry == null) {
+                entry = new Entry(messages);
+                entries.put(memoryId, entry);
+            } else {
+                entry.messages = messages;
+            }
+            entry.deleted = deleted;
+            entry.version++;
+            generation++;
+            pending.add(memoryId);
+            batchFull = pending.size() >= maxBatchSize;
+            evictIfNeeded();
+        }
+        if (batchFull) {
+            requestFlush();
+        }
+    }
+
+    /**
+     * Writes all pending updates and deletions to the delegate store and waits until they are written.
+     *
+     * @throws RuntimeException the first failure, if some of the writes failed.
+     *                          All writes are attempted, the failed ones stay pending.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            List<PendingWrite> batch = new ArrayList<>();
+            synchronized (entries) {
+                for (Object memoryId : pending) {
+                    Entry entry = entries.get(memoryId);
+                    batch.add(new PendingWrite(memoryId, entry, entry.version, entry.messages, entry.deleted));
+                }
+            }
+
+            RuntimeException failure = null;
+            for (PendingWrite write : batch) {
+                try {
+                    writeToDelegate(write.memoryId, write.messages, write.deleted);
+                } catch (RuntimeException e) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                    continue;
+                }
+                synchronized (entries) {
+                    // if the memory was updated while it was being written, it stays pending
+                    if (write.entry.version == write.version) {
+                        pending.remove(write.memoryId);
+                    }
+                }
+            }
+
+            synchronized (entries) {
+                evictIfNeeded();
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * Stops the periodic flush and writes all pending updates and deletions to the delegate store.
+     * After the store is closed, updates and deletions are written to the delegate store synchronously.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        flushTask.cancel(false);
+        try {
+            flush();
+        } finally {
+            if (ownsScheduler) {
+                scheduler.shutdown();
+            }
+        }
+    }
+
+    private void writeToDelegate(Object memoryId, List<ChatMessage> messages, boolean deleted) {
+        if (deleted) {
+            delegate.deleteMessages(memoryId);
+        } else {
+            delegate.updateMessages(memoryId, messages);
+        }
+    }
+
+    private void requestFlush() {
+        if (closed || !flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+        scheduler.execute(() -> {
+            flushRequested.set(false);
+            flushQuietly();
+        });
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("Failed to flush chat memories, they will be retried with the next flush", e);
+        }
+    }
+
+    /**
+     * Must be called while holding the lock on {@link #entries}.
+     */
+    private void evictIfNeeded() {
+        if (entries.size() <= maxCachedMemories) {
+            return;
+        }
+        Iterator<Object> iterator = entries.keySet().iterator();
+        while (entries.size() > maxCachedMemories && iterator.hasNext()) {
+            if (!pending.contains(iterator.next())) {
+                iterator.remove();
+            }
+        }
+        if (entries.size() > maxCachedMemories) {
+            // the remaining least recently used memories have pending writes, they are evicted once flushed
+            requestFlush();
+        }
+    }
+
+    /**
+     * @return The number of memories with updates or deletions that were not written to the delegate store yet.
+     */
+    public int pendingCount() {
+        synchronized (entries) {
+            return pending.size();
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private static final class Entry {
+
+        private List<ChatMessage> messages;
+        private boolean deleted;
+        private long version;
+
+        private Entry(List<ChatMessage> messages) {
+            this.messages = messages;
+        }
+    }
+
+    private record PendingWrite(Object memoryId, Entry entry, long version, List<ChatMessage> messages, boolean deleted) {
+    }
+
+    public static class Builder {
+
+        private ChatMemoryStore delegate;
+        private Duration flushInterval;
+        private Integer maxBatchSize;
+        private Integer maxCachedMemories;
+        private ScheduledExecutorService scheduler;
+
+        /**
+         * @param delegate The store the chat memories are persisted to.
+         * @return builder
+         */
+        public Builder delegate(ChatMemoryStore delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * @param flushInterval The durability window: the maximum time an update waits before it is written
+         *                      to the delegate store. Default: 1 second.
+         * @return builder
+         */
+        public Builder flushInterval(Duration flushInterval) {
+            this.flushInterval = flushInterval;
+            return this;
+        }
+
+        /**
+         * @param maxBatchSize The number of memories with pending writes that triggers a flush
+         *                     before the end of the durability window. Default: 100.
+         * @return builder
+         */
+        public Builder maxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * @param maxCachedMemories The maximum number of memories cached locally. Default: 1000.
+         * @return builder
+         */
+        public Builder maxCachedMemories(Integer maxCachedMemories) {
+            this.maxCachedMemories = maxCachedMemories;
+            return this;
+        }
+
+        /**
+         * @param scheduler The scheduler used to flush the pending writes.
+         *                  By default, a dedicated daemon thread is used and shut down on {@link #close()}.
+         *                  A provided scheduler is not shut down.
+         * @return builder
+         */
+        public Builder scheduler(ScheduledExecutorService scheduler) {
+            this.scheduler = scheduler;
+            return this;
+        }
+
+        public WriteBehindChatMemoryStore build() {
+            return new WriteBehindChatMemoryStore(this);
+        }
+    }
+}
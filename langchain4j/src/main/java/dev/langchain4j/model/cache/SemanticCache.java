@@ -0,0 +1,347 @@
+package dev.langchain4j.model.cache;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.request.ChatRequestParameters;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.FinishReason;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.filter.Filter;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static dev.langchain4j.data.message.ChatMessageDeserializer.messageFromJson;
+import static dev.langchain4j.data.message.ChatMessageSerializer.messageToJson;
+import static dev.langchain4j.internal.Utils.generateUUIDFrom;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+
+/**
+ * A cache of {@link ChatResponse}s that is looked up by meaning rather than by exact text.
+ * <p>
+ * The final {@link UserMessage} of a {@link ChatRequest} is normalized (trimmed, lower-cased, whitespace collapsed)
+ * and embedded with the configured {@link EmbeddingModel}. The {@link EmbeddingStore} is then searched for a response
+ * to a previous request whose final user message is at least {@code minScore} similar,
+ * and that was sent with the same system messages, tools and model parameters (the "scope" of the request).
+ * The model parameters are the default parameters of the model (when provided, as {@link SemanticCachingChatModel}
+ * does) overridden by the parameters of the request. Only the common {@link ChatRequestParameters}
+ * are part of the scope: provider-specific parameters (e.g. the OpenAI {@code seed})
+ * are not, so requests that differ only in those share their cached responses.
+ * <p>
+ * Only requests that consist of system messages followed by a single text-only {@link UserMessage} are cached.
+ * Requests that carry a conversation history (previous user, AI or tool messages) bypass the cache,
+ * as their answer depends on that history.
+ * Only responses that do not request tool executions are stored.
+ * A response returned from the cache contains the {@link AiMessage}, model name and finish reason
+ * of the cached response. Its ID and token usage are not replayed, as no tokens were consumed to produce it.
+ * Entries older than the optional time-to-live are ignored and can be removed with {@link #evictExpired()}.
+ * <p>
+ * The {@link EmbeddingStore} should be dedicated to this cache, as {@link #invalidateAll()} removes all its entries.
+ * It must support {@link EmbeddingStore#removeAll(Filter)} for {@link #invalidate(ChatRequest)} and
+ * {@link #evictExpired()}. By default, an {@link InMemoryEmbeddingStore} is used.
+ * Failures of the {@link EmbeddingModel} or of the {@link EmbeddingStore} are logged and treated as cache misses.
+ *
+ * @see SemanticCachingChatModel
+ */
+public class SemanticCache {
+
+    private static final Logger log = LoggerFactory.getLogger(SemanticCache.class);
+
+    static final String SCOPE = "scope";
+    static final String CREATED_AT = "created_at";
+    static final String RESPONSE = "response";
+    static final String MODEL_NAME = "model_name";
+    static final String FINISH_REASON = "finish_reason";
+
+    private final EmbeddingModel embeddingModel;
+    private final EmbeddingStore<TextSegment> embeddingStore;
+    private final double minScore;
+    private final Duration timeToLive;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private SemanticCache(Builder builder) {
+        this.embeddingModel = ensureNotNull(builder.embeddingModel, "embeddingModel");
+        this.embeddingStore = getOrDefault(builder.embeddingStore, InMemoryEmbeddingStore::new);
+        this.minScore = ensureBetween(getOrDefault(builder.minScore, 0.95), 0, 1, "minScore");
+        this.timeToLive = builder.timeToLive;
+    }
+
+    /**
+     * Returns the cached response to a request similar to the provided one,
+     * or calls the provided supplier and caches its response.
+     * Only the parameters of the request are part of its scope.
+     *
+     * @param chatRequest  The request.
+     * @param chatResponse Supplies the response on a cache miss, e.g. by calling a {@code ChatModel}.
+     * @return the cached or supplied response.
+     */
+    public ChatResponse execute(ChatRequest chatRequest, Supplier<ChatResponse> chatResponse) {
+        return execute(chatRequest, null, chatResponse);
+    }
+
+    /**
+     * Returns the cached response to a request similar to the provided one,
+     * or calls the provided supplier and caches its response.
+     *
+     * @param chatRequest       The request.
+     * @param defaultParameters The default parameters of the model answering the request
+     *                          (see {@code ChatModel#defaultRequestParameters()}), overridden by the parameters
+     *                          of the request to determine its scope. Can be {@code null}.
+     * @param chatResponse      Supplies the response on a cache miss, e.g. by calling a {@code ChatModel}.
+     * @return the cached or supplied response.
+     */
+    public ChatResponse execute(ChatRequest chatRequest,
+                                ChatRequestParameters defaultParameters,
+                                Supplier<ChatResponse> chatResponse) {
+        String question = finalUserMessage(chatRequest);
+        if (question == null) {
+            return chatResponse.get();
+        }
+
+        String scope = scopeOf(chatRequest, defaultParameters);
+        Embedding embedding = null;
+        try {
+            embedding = embeddingModel.embed(question).content();
+            ChatResponse cached = find(embedding, scope);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+        } catch (Exception e) {
+            log.warn("Failed to look up the semantic cache", e);
+        }
+        misses.incrementAndGet();
+
+        ChatResponse response = chatResponse.get();
+
+        if (embedding != null && isCacheable(response)) {
+            try {
+                Metadata metadata = new Metadata()
+                        .put(SCOPE, scope)
+                        .put(CREATED_AT, System.currentTimeMillis())
+                        .put(RESPONSE, messageToJson(response.aiMessage()));
+                if (response.modelName() != null) {
+                    metadata.put(MODEL_NAME, response.modelName());
+                }
+                if (response.finishReason() != null) {
+                    metadata.put(FINISH_REASON, response.finishReason().name());
+                }
+                embeddingStore.add(embedding, TextSegment.from(question, metadata));
+            } catch (Exception e) {
+                log.warn("Failed to add a response to the semantic cache", e);
+            }
+        }
+        return response;
+    }
+
+    private ChatResponse find(Embedding embedding, String scope) {
+        Filter filter = metadataKey(SCOPE).isEqualTo(scope);
+        if (timeToLive != null) {
+            filter = filter.and(metadataKey(CREATED_AT).isGreaterThan(expiredBefore()));
+        }
+        List<EmbeddingMatch<TextSegment>> matches = embeddingStore.search(EmbeddingSearchRequest.builder()
+                        .queryEmbedding(embedding)
+                        .maxResults(1)
+                        .minScore(minScore)
+                        .filter(filter)
+                        .build())
+                .matches();
+        if (matches.isEmpty()) {
+            return null;
+        }
+        Metadata metadata = matches.get(0).embedded().metadata();
+        String modelName = metadata.getString(MODEL_NAME);
+        String finishReason = metadata.getString(FINISH_REASON);
+        return ChatResponse.builder()
+                .aiMessage((AiMessage) messageFromJson(metadata.getString(RESPONSE)))
+                .modelName(modelName)
+                .finishReason(finishReason == null ? null : FinishReason.valueOf(finishReason))
+                .build();
+    }
+
+    /**
+     * Removes the cached responses to all requests with the same scope
+     * (system messages, tools and model parameters) as the provided request.
+     *
+     * @param chatRequest The request.
+     */
+    public void invalidate(ChatRequest chatRequest) {
+        invalidate(chatRequest, null);
+    }
+
+    /**
+     * Removes the cached responses to requests with the same scope as the provided one
+     * (regardless of their user message), when answered by a model with the provided default parameters.
+     *
+     * @param chatRequest       The request.
+     * @param defaultParameters The default parameters of the model answering the request. Can be {@code null}.
+     */
+    public void invalidate(ChatRequest chatRequest, ChatRequestParameters defaultParameters) {
+        embeddingStore.removeAll(metadataKey(SCOPE).isEqualTo(scopeOf(chatRequest, defaultParameters)));
+    }
+
+    /**
+     * Removes all cached responses.
+     */
+    public void invalidateAll() {
+        embeddingStore.removeAll();
+    }
+
+    /**
+     * Removes the cached responses older than the time-to-live. Does nothing if no time-to-live is set.
+     */
+    public void evictExpired() {
+        if (timeToLive != null) {
+            embeddingStore.removeAll(metadataKey(CREATED_AT).isLessThanOrEqualTo(expiredBefore()));
+        }
+    }
+
+    /**
+     * @return the number of cacheable requests that were answered from the cache.
+     */
+    public long hitCount() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of cacheable requests that were not answered from the cache.
+     */
+    public long missCount() {
+        return misses.get();
+    }
+
+    /**
+     * @return the ratio of cacheable requests answered from the cache, or 0 if there were none.
+     */
+    public double hitRate() {
+        long hits = this.hits.get();
+        long total = hits + misses.get();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    private long expiredBefore() {
+        return System.currentTimeMillis() - timeToLive.toMillis();
+    }
+
+    private static String finalUserMessage(ChatRequest chatRequest) {
+        List<ChatMessage> messages = chatRequest.messages();
+        if (messages.isEmpty()
+                || !(messages.get(messages.size() - 1) instanceof UserMessage userMessage)
+                || !userMessage.hasSingleText()) {
+            return null;
+        }
+        for (ChatMessage message : messages.subList(0, messages.size() - 1)) {
+            if (!(message instanceof SystemMessage)) {
+                // the answer depends on the conversation history
+                return null;
+            }
+        }
+        String normalized = userMessage.singleText().trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    private static String scopeOf(ChatRequest chatRequest, ChatRequestParameters defaultParameters) {
+        StringBuilder scope = new StringBuilder();
+        for (ChatMessage message : chatRequest.messages()) {
+            if (message instanceof SystemMessage systemMessage) {
+                scope.append(systemMessage.text()).append('\n');
+            }
+        }
+        // the parameters the model actually uses, as ChatModel#chat(ChatRequest) merges them
+        ChatRequestParameters parameters = defaultParameters == null
+                ? chatRequest.parameters()
+                : defaultParameters.overrideWith(chatRequest.parameters());
+        scope.append("modelName=").append(parameters.modelName())
+                .append(", temperature=").append(parameters.temperature())
+                .append(", topP=").append(parameters.topP())
+                .append(", topK=").append(parameters.topK())
+                .append(", frequencyPenalty=").append(parameters.frequencyPenalty())
+                .append(", presencePenalty=").append(parameters.presencePenalty())
+                .append(", maxOutputTokens=").append(parameters.maxOutputTokens())
+                .append(", stopSequences=").append(parameters.stopSequences())
+                .append(", toolSpecifications=").append(parameters.toolSpecifications())
+                .append(", toolChoice=").append(parameters.toolChoice())
+                .append(", responseFormat=").append(parameters.responseFormat());
+        return generateUUIDFrom(scope.toString());
+    }
+
+    private static boolean isCacheable(ChatResponse response) {
+        return response != null
+                && response.aiMessage() != null
+                && !response.aiMessage().hasToolExecutionRequests()
+                && response.aiMessage().text() != null;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private EmbeddingModel embeddingModel;
+        private EmbeddingStore<TextSegment> embeddingStore;
+        private Double minScore;
+        private Duration timeToLive;
+
+        /**
+         * @param embeddingModel The model used to embed the final user message of requests. Mandatory.
+         * @return builder
+         */
+        public Builder embeddingModel(EmbeddingModel embeddingModel) {
+            this.embeddingModel = embeddingModel;
+            return this;
+        }
+
+        /**
+         * @param embeddingStore The store of cached responses. Default: {@link InMemoryEmbeddingStore}
+         * @return builder
+         */
+        public Builder embeddingStore(EmbeddingStore<TextSegment> embeddingStore) {
+            this.embeddingStore = embeddingStore;
+            return this;
+        }
+
+        /**
+         * @param minScore The minimum similarity (between 0 and 1) of a cached request to the current one
+         *                 for its response to be returned. Default: 0.95
+         * @return builder
+         */
+        public Builder minScore(Double minScore) {
+            this.minScore = minScore;
+            return this;
+        }
+
+        /**
+         * @param timeToLive How long a cached response is returned for. Default: forever
+         * @return builder
+         */
+        public Builder timeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        public SemanticCache build() {
+            return new SemanticCache(this);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package dev.langchain4j.model.cache;
+
+import dev.langchain4j.model.ModelProvider;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.request.ChatRequestParameters;
+import dev.langchain4j.model.chat.response.ChatResponse;
+
+import java.util.Set;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * A {@link ChatModel} decorator that answers requests similar to previous ones from a {@link SemanticCache},
+ * without calling the delegate model.
+ * <p>
+ * AI services built with this model send their requests through it,
+ * but only requests without a conversation history are cached.
+ * For an AI service with chat memory, this means only the first message of each conversation.
+ * See {@link SemanticCache} for which requests are cached and how they are matched.
+ */
+public class SemanticCachingChatModel implements ChatModel {
+
+    private final ChatModel delegate;
+    private final SemanticCache cache;
+
+    public SemanticCachingChatModel(ChatModel delegate, SemanticCache cache) {
+        this.delegate = ensureNotNull(delegate, "delegate");
+        this.cache = ensureNotNull(cache, "cache");
+    }
+
+    @Override
+    public ChatResponse chat(ChatRequest chatRequest) {
+        return cache.execute(chatRequest, delegate.defaultRequestParameters(), () -> delegate.chat(chatRequest));
+    }
+
+    @Override
+    public ChatRequestParameters defaultRequestParameters() {
+        return delegate.defaultRequestParameters();
+    }
+
+    @Override
+    public ModelProvider provider() {
+        return delegate.provider();
+    }
+
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        return delegate.supportedCapabilities();
+    }
+}
@@ -0,0 +1,101 @@
+package dev.langchain4j.model.hedging;
+
+import dev.langchain4j.model.ModelProvider;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.request.ChatRequestParameters;
+import dev.langchain4j.model.chat.response.ChatResponse;
+
+import java.util.Set;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * A {@link ChatModel} decorator that hedges slow requests according to a {@link HedgingPolicy}.
+ * <p>
+ * If the delegate has not responded within the hedging delay, the same request is sent again,
+ * either to the same delegate or to the configured {@code fallback} model (e.g. another endpoint or region).
+ * The first response wins and the other request is cancelled.
+ * <p>
+ * Note that hedging increases the load on the provider and the cost, which is why the hedge rate is capped.
+ */
+public class HedgingChatModel implements ChatModel {
+
+    private final ChatModel delegate;
+    private final ChatModel fallback;
+    private final HedgingPolicy policy;
+
+    private HedgingChatModel(Builder builder) {
+        this.delegate = ensureNotNull(builder.delegate, "delegate");
+        this.fallback = getOrDefault(builder.fallback, delegate);
+        this.policy = ensureNotNull(builder.policy, "policy");
+    }
+
+    @Override
+    public ChatResponse chat(ChatRequest chatRequest) {
+        return policy.execute(() -> delegate.chat(chatRequest), () -> fallback.chat(chatRequest));
+    }
+
+    @Override
+    public ChatRequestParameters defaultRequestParameters() {
+        return delegate.defaultRequestParameters();
+    }
+
+    @Override
+    public ModelProvider provider() {
+        return delegate.provider();
+    }
+
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        return delegate.supportedCapabilities();
+    }
+
+    public HedgingPolicy policy() {
+        return policy;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private ChatModel delegate;
+        private ChatModel fallback;
+        private HedgingPolicy policy;
+
+        /**
+         * @param delegate The model that receives the primary request.
+         * @return builder
+         */
+        public Builder delegate(ChatModel delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * @param fallback The model that receives the hedged request. Optional: by default, the delegate is used.
+         * @return builder
+         */
+        public Builder fallback(ChatModel fallback) {
+            this.fallback = fallback;
+            return this;
+        }
+
+        /**
+         * @param policy The hedging policy. It should not be shared with other models.
+         * @return builder
+         */
+        public Builder policy(HedgingPolicy policy) {
+            this.policy = policy;
+            return this;
+        }
+
+        public HedgingChatModel build() {
+            return new HedgingChatModel(this);
+        }
+    }
+}
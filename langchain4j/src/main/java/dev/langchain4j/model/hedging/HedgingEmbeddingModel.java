@@ -0,0 +1,89 @@
+package dev.langchain4j.model.hedging;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+
+import java.util.List;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * An {@link EmbeddingModel} decorator that hedges slow requests according to a {@link HedgingPolicy}.
+ * <p>
+ * If the delegate has not responded within the hedging delay, the same request is sent again,
+ * either to the same delegate or to the configured {@code fallback} model.
+ * The fallback model must produce embeddings in the same vector space as the delegate.
+ *
+ * @see HedgingChatModel
+ */
+public class HedgingEmbeddingModel implements EmbeddingModel {
+
+    private final EmbeddingModel delegate;
+    private final EmbeddingModel fallback;
+    private final HedgingPolicy policy;
+
+    private HedgingEmbeddingModel(Builder builder) {
+        this.delegate = ensureNotNull(builder.delegate, "delegate");
+        this.fallback = getOrDefault(builder.fallback, delegate);
+        this.policy = ensureNotNull(builder.policy, "policy");
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        return policy.execute(() -> delegate.embedAll(textSegments), () -> fallback.embedAll(textSegments));
+    }
+
+    @Override
+    public int dimension() {
+        return delegate.dimension();
+    }
+
+    public HedgingPolicy policy() {
+        return policy;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private EmbeddingModel delegate;
+        private EmbeddingModel fallback;
+        private HedgingPolicy policy;
+
+        /**
+         * @param delegate The model that receives the primary request.
+         * @return builder
+         */
+        public Builder delegate(EmbeddingModel delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * @param fallback The model that receives the hedged request. Optional: by default, the delegate is used.
+         * @return builder
+         */
+        public Builder fallback(EmbeddingModel fallback) {
+            this.fallback = fallback;
+            return this;
+        }
+
+        /**
+         * @param policy The hedging policy. It should not be shared with other models.
+         * @return builder
+         */
+        public Builder policy(HedgingPolicy policy) {
+            this.policy = policy;
+            return this;
+        }
+
+        public HedgingEmbeddingModel build() {
+            return new HedgingEmbeddingModel(this);
+        }
+    }
+}
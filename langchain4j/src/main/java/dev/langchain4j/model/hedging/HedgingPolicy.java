@@ -0,0 +1,258 @@
+package dev.langchain4j.model.hedging;
+
+import dev.langchain4j.exception.LangChain4jException;
+import dev.langchain4j.internal.VirtualThreadUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * Executes calls with request hedging: if the primary call has not completed within the hedging delay,
+ * a second (hedged) call is started, the first successful result is returned and the other call is cancelled.
+ * <p>
+ * The hedging delay is the configured {@link Builder#delay(Duration) delay} until enough latencies have been observed;
+ * after that, if a {@link Builder#percentile(Double) percentile} is configured, the delay is the observed latency
+ * at that percentile. This way, only the slowest calls (e.g. the slowest 5% for the 0.95 percentile) are hedged.
+ * <p>
+ * The number of hedged calls is capped by {@link Builder#maxHedgeRatio(Double) maxHedgeRatio}:
+ * each call earns {@code maxHedgeRatio} of a hedge, and a hedge is only started if a whole one has been earned.
+ * <p>
+ * The latency statistics are specific to the model being called,
+ * so an instance should not be shared between different models.
+ * This class is thread-safe.
+ *
+ * @see HedgingChatModel
+ * @see HedgingEmbeddingModel
+ */
+public class HedgingPolicy {
+
+    private static final int MAX_SAVED_HEDGES = 10;
+
+    private final Duration delay;
+    private final Double percentile;
+    private final int minSamples;
+    private final double maxHedgeRatio;
+    private final Executor executor;
+    private final LatencyHistogram latencies;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder hedgedCalls = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private double hedgeBudget;
+
+    private HedgingPolicy(Builder builder) {
+        this.delay = ensureNotNull(builder.delay, "delay");
+        this.percentile = builder.percentile == null ? null : ensureBetween(builder.percentile, 0, 1, "percentile");
+        this.minSamples = ensureGreaterThanZero(getOrDefault(builder.minSamples, 100), "minSamples");
+        this.maxHedgeRatio = ensureBetween(getOrDefault(builder.maxHedgeRatio, 0.1), 0, 1, "maxHedgeRatio");
+        this.executor = getOrDefault(builder.executor, HedgingPolicy::createDefaultExecutor);
+        this.latencies = new LatencyHistogram(getOrDefault(builder.windowSize, 1000));
+    }
+
+    private static Executor createDefaultExecutor() {
+        return VirtualThreadUtils.createVirtualThreadExecutor(() -> Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "langchain4j-hedging");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Executes the primary call and, if it is slow, the hedged call.
+     *
+     * @param primary The primary call.
+     * @param hedge   The hedged call. It can call the same model as the primary call or a fallback one.
+     * @param <T>     The type of the result.
+     * @return The result of the first call that completed successfully.
+     * @throws RuntimeException the failure of the primary call, if all started calls failed.
+     */
+    public <T> T execute(Callable<T> primary, Callable<T> hedge) {
+        calls.increment();
+        earnHedge();
+
+        ExecutorCompletionService<T> completionService = new ExecutorCompletionService<>(executor);
+        List<Future<T>> futures = new ArrayList<>(2);
+        long start = System.nanoTime();
+        Future<T> primaryFuture = completionService.submit(primary);
+        futures.add(primaryFuture);
+        Future<T> hedgeFuture = null;
+
+        try {
+            Future<T> completed = completionService.poll(currentDelay().toNanos(), TimeUnit.NANOSECONDS);
+            if (completed == null && trySpendHedge()) {
+                hedgedCalls.increment();
+                hedgeFuture = completionService.submit(hedge);
+                futures.add(hedgeFuture);
+            }
+
+            Throwable primaryFailure = null;
+            Throwable hedgeFailure = null;
+            for (int pending = futures.size(); pending > 0; pending--) {
+                if (completed == null) {
+                    completed = completionService.take();
+                }
+                try {
+                    T result = completed.get();
+                    if (completed == hedgeFuture) {
+                        hedgeWins.increment();
+                    }
+                    // when the hedge wins, this is a lower bound of the primary latency
+                    latencies.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                    return result;
+                } catch (ExecutionException e) {
+                    if (completed == primaryFuture) {
+                        primaryFailure = e.getCause();
+                    } else {
+                        hedgeFailure = e.getCause();
+                    }
+                }
+                completed = null;
+            }
+            Throwable failure = primaryFailure != null ? primaryFailure : hedgeFailure;
+            throw failure instanceof RuntimeException re ? re : new LangChain4jException(failure);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LangChain4jException("Interrupted while waiting for a hedged call", e);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * @return The delay after which a call is hedged.
+     */
+    public Duration currentDelay() {
+        if (percentile != null && latencies.count() >= minSamples) {
+            long millis = latencies.percentileMillis(percentile);
+            if (millis >= 0) {
+                return Duration.ofMillis(millis);
+            }
+        }
+        return delay;
+    }
+
+    /**
+     * @return The total number of calls.
+     */
+    public long calls() {
+        return calls.sum();
+    }
+
+    /**
+     * @return The number of calls for which a hedged call was started.
+     */
+    public long hedgedCalls() {
+        return hedgedCalls.sum();
+    }
+
+    /**
+     * @return The number of calls for which the hedged call won.
+     */
+    public long hedgeWins() {
+        return hedgeWins.sum();
+    }
+
+    private synchronized void earnHedge() {
+        hedgeBudget = Math.min(MAX_SAVED_HEDGES, hedgeBudget + maxHedgeRatio);
+    }
+
+    private synchronized boolean trySpendHedge() {
+        if (hedgeBudget >= 1) {
+            hedgeBudget -= 1;
+            return true;
+        }
+        return false;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Duration delay;
+        private Double percentile;
+        private Integer minSamples;
+        private Integer windowSize;
+        private Double maxHedgeRatio;
+        private Executor executor;
+
+        /**
+         * @param delay The delay after which a call is hedged.
+         *              When a {@link #percentile(Double)} is configured, this delay is only used until
+         *              {@link #minSamples(Integer)} latencies have been observed.
+         * @return builder
+         */
+        public Builder delay(Duration delay) {
+            this.delay = delay;
+            return this;
+        }
+
+        /**
+         * @param percentile The latency percentile (between 0 and 1, e.g. 0.95) used as the hedging delay,
+         *                   learned from the observed latencies. Optional: by default, the fixed {@link #delay(Duration)} is used.
+         * @return builder
+         */
+        public Builder percentile(Double percentile) {
+            this.percentile = percentile;
+            return this;
+        }
+
+        /**
+         * @param minSamples The number of latencies that must be observed before the learned delay is used.
+         *                   Default: 100.
+         * @return builder
+         */
+        public Builder minSamples(Integer minSamples) {
+            this.minSamples = minSamples;
+            return this;
+        }
+
+        /**
+         * @param windowSize The approximate number of recent latencies the learned delay is based on.
+         *                   Default: 1000.
+         * @return builder
+         */
+        public Builder windowSize(Integer windowSize) {
+            this.windowSize = windowSize;
+            return this;
+        }
+
+        /**
+         * @param maxHedgeRatio The maximum ratio of hedged calls to all calls (between 0 and 1). Default: 0.1.
+         * @return builder
+         */
+        public Builder maxHedgeRatio(Double maxHedgeRatio) {
+            this.maxHedgeRatio = maxHedgeRatio;
+            return this;
+        }
+
+        /**
+         * @param executor The executor used to run the calls.
+         *                 By default, virtual threads are used when available, otherwise a cached thread pool.
+         * @return builder
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public HedgingPolicy build() {
+            return new HedgingPolicy(this);
+        }
+    }
+}
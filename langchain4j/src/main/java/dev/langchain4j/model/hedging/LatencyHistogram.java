@@ -0,0 +1,74 @@
+package dev.langchain4j.model.hedging;
+
+/**
+ * A compact, decaying histogram of latencies with logarithmically sized buckets.
+ * <p>
+ * Bucket {@code i} covers latencies up to {@code MIN_MILLIS * GROWTH^i}, so 64 buckets cover the range
+ * from 1 ms to roughly 20 minutes with a relative error of about 12%.
+ * Once {@code windowSize} samples have been recorded, all counts are halved, so that the histogram
+ * follows changes in the latency distribution.
+ * <p>
+ * This class is thread-safe.
+ */
+class LatencyHistogram {
+
+    private static final double MIN_MILLIS = 1;
+    private static final double GROWTH = 1.25;
+    private static final int BUCKETS = 64;
+
+    private final long[] counts = new long[BUCKETS];
+    private final int windowSize;
+    private long total;
+
+    LatencyHistogram(int windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    synchronized void record(long latencyMillis) {
+        counts[bucketOf(latencyMillis)]++;
+        total++;
+        if (total >= windowSize) {
+            total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] >>= 1;
+                total += counts[i];
+            }
+        }
+    }
+
+    synchronized long count() {
+        return total;
+    }
+
+    /**
+     * @param percentile A value between 0 and 1.
+     * @return The upper bound (in milliseconds) of the bucket containing the given percentile,
+     * or -1 if nothing has been recorded yet.
+     */
+    synchronized long percentileMillis(double percentile) {
+        if (total == 0) {
+            return -1;
+        }
+        long threshold = (long) Math.ceil(total * percentile);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= threshold && counts[i] > 0) {
+                return upperBoundMillis(i);
+            }
+        }
+        return upperBoundMillis(BUCKETS - 1);
+    }
+
+    private static int bucketOf(long latencyMillis) {
+        if (latencyMillis <= MIN_MILLIS) {
+            return 0;
+        }
+        int bucket = (int) Math.ceil(Math.log(latencyMillis / MIN_MILLIS) / Math.log(GROWTH));
+        return Math.min(bucket, BUCKETS - 1);
+    }
+
+    private static long upperBoundMillis(int bucket) {
+        return (long) Math.ceil(MIN_MILLIS * Math.pow(GROWTH, bucket));
+    }
+}
@@ -0,0 +1,143 @@
+package dev.langchain4j.model.ratelimit;
+
+import dev.langchain4j.model.ModelProvider;
+import dev.langchain4j.model.TokenCountEstimator;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.request.ChatRequestParameters;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.output.TokenUsage;
+
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * A {@link ChatModel} decorator that admits requests through a {@link RateLimiter} before sending them
+ * to the delegate model.
+ * <p>
+ * Before each request, the number of tokens is estimated using the configured {@link TokenCountEstimator}
+ * (input messages plus {@code maxOutputTokens}, if set). Once the response is received,
+ * the estimate is reconciled with the actual {@link TokenUsage} reported by the provider.
+ * If no {@link TokenCountEstimator} is configured, the estimate is 0 and tokens are only accounted for
+ * after the response is received.
+ * <p>
+ * Listeners and default request parameters of the delegate model are applied by the delegate itself.
+ */
+public class RateLimitedChatModel implements ChatModel {
+
+    private final ChatModel delegate;
+    private final RateLimiter rateLimiter;
+    private final TokenCountEstimator tokenCountEstimator;
+    private final Supplier<Object> tenantIdSupplier;
+
+    private RateLimitedChatModel(Builder builder) {
+        this.delegate = ensureNotNull(builder.delegate, "delegate");
+        this.rateLimiter = ensureNotNull(builder.rateLimiter, "rateLimiter");
+        this.tokenCountEstimator = builder.tokenCountEstimator;
+        this.tenantIdSupplier = builder.tenantIdSupplier != null ? builder.tenantIdSupplier : () -> null;
+    }
+
+    @Override
+    public ChatResponse chat(ChatRequest chatRequest) {
+        int estimatedTokens = estimateTokens(chatRequest, delegate.defaultRequestParameters(), tokenCountEstimator);
+        RateLimiter.Permit permit = rateLimiter.acquire(tenantIdSupplier.get(), estimatedTokens);
+        ChatResponse chatResponse = delegate.chat(chatRequest);
+        reconcile(rateLimiter, permit, chatResponse.tokenUsage());
+        return chatResponse;
+    }
+
+    @Override
+    public ChatRequestParameters defaultRequestParameters() {
+        return delegate.defaultRequestParameters();
+    }
+
+    @Override
+    public ModelProvider provider() {
+        return delegate.provider();
+    }
+
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        return delegate.supportedCapabilities();
+    }
+
+    static int estimateTokens(ChatRequest chatRequest,
+                              ChatRequestParameters defaultParameters,
+                              TokenCountEstimator tokenCountEstimator) {
+        if (tokenCountEstimator == null) {
+            return 0;
+        }
+        int tokens = tokenCountEstimator.estimateTokenCountInMessages(chatRequest.messages());
+        Integer maxOutputTokens = chatRequest.maxOutputTokens() != null
+                ? chatRequest.maxOutputTokens()
+                : defaultParameters == null ? null : defaultParameters.maxOutputTokens();
+        if (maxOutputTokens != null) {
+            tokens += maxOutputTokens;
+        }
+        return tokens;
+    }
+
+    static void reconcile(RateLimiter rateLimiter, RateLimiter.Permit permit, TokenUsage tokenUsage) {
+        if (tokenUsage != null && tokenUsage.totalTokenCount() != null) {
+            rateLimiter.reconcile(permit, tokenUsage.totalTokenCount());
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private ChatModel delegate;
+        private RateLimiter rateLimiter;
+        private TokenCountEstimator tokenCountEstimator;
+        private Supplier<Object> tenantIdSupplier;
+
+        /**
+         * @param delegate The model to send admitted requests to.
+         * @return builder
+         */
+        public Builder delegate(ChatModel delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * @param rateLimiter The rate limiter. Can be shared with other models that draw from the same quota.
+         * @return builder
+         */
+        public Builder rateLimiter(RateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
+        /**
+         * @param tokenCountEstimator The estimator used to estimate the number of tokens before sending a request.
+         *                            Optional.
+         * @return builder
+         */
+        public Builder tokenCountEstimator(TokenCountEstimator tokenCountEstimator) {
+            this.tokenCountEstimator = tokenCountEstimator;
+            return this;
+        }
+
+        /**
+         * @param tenantIdSupplier Supplies the ID of the tenant on whose behalf the current request is made
+         *                         (e.g. from a request-scoped context). Used for fair queuing across tenants.
+         *                         Optional: by default, all requests belong to the same tenant.
+         * @return builder
+         */
+        public Builder tenantIdSupplier(Supplier<Object> tenantIdSupplier) {
+            this.tenantIdSupplier = tenantIdSupplier;
+            return this;
+        }
+
+        public RateLimitedChatModel build() {
+            return new RateLimitedChatModel(this);
+        }
+    }
+}
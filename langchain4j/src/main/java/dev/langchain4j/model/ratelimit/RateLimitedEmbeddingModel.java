@@ -0,0 +1,115 @@
+package dev.langchain4j.model.ratelimit;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.TokenCountEstimator;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.model.ratelimit.RateLimitedChatModel.reconcile;
+
+/**
+ * An {@link EmbeddingModel} decorator that admits requests through a {@link RateLimiter} before sending them
+ * to the delegate model.
+ * <p>
+ * The number of tokens is estimated with the configured {@link TokenCountEstimator} as the sum of tokens in all
+ * text segments and reconciled with the actual token usage once the response is received.
+ *
+ * @see RateLimitedChatModel
+ */
+public class RateLimitedEmbeddingModel implements EmbeddingModel {
+
+    private final EmbeddingModel delegate;
+    private final RateLimiter rateLimiter;
+    private final TokenCountEstimator tokenCountEstimator;
+    private final Supplier<Object> tenantIdSupplier;
+
+    private RateLimitedEmbeddingModel(Builder builder) {
+        this.delegate = ensureNotNull(builder.delegate, "delegate");
+        this.rateLimiter = ensureNotNull(builder.rateLimiter, "rateLimiter");
+        this.tokenCountEstimator = builder.tokenCountEstimator;
+        this.tenantIdSupplier = builder.tenantIdSupplier != null ? builder.tenantIdSupplier : () -> null;
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        RateLimiter.Permit permit = rateLimiter.acquire(tenantIdSupplier.get(), estimateTokens(textSegments));
+        Response<List<Embedding>> response = delegate.embedAll(textSegments);
+        reconcile(rateLimiter, permit, response.tokenUsage());
+        return response;
+    }
+
+    @Override
+    public int dimension() {
+        return delegate.dimension();
+    }
+
+    private int estimateTokens(List<TextSegment> textSegments) {
+        if (tokenCountEstimator == null) {
+            return 0;
+        }
+        int tokens = 0;
+        for (TextSegment textSegment : textSegments) {
+            tokens += tokenCountEstimator.estimateTokenCountInText(textSegment.text());
+        }
+        return tokens;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private EmbeddingModel delegate;
+        private RateLimiter rateLimiter;
+        private TokenCountEstimator tokenCountEstimator;
+        private Supplier<Object> tenantIdSupplier;
+
+        /**
+         * @param delegate The model to send admitted requests to.
+         * @return builder
+         */
+        public Builder delegate(EmbeddingModel delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * @param rateLimiter The rate limiter. Can be shared with other models that draw from the same quota.
+         * @return builder
+         */
+        public Builder rateLimiter(RateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
+        /**
+         * @param tokenCountEstimator The estimator used to estimate the number of tokens before sending a request.
+         *                            Optional.
+         * @return builder
+         */
+        public Builder tokenCountEstimator(TokenCountEstimator tokenCountEstimator) {
+            this.tokenCountEstimator = tokenCountEstimator;
+            return this;
+        }
+
+        /**
+         * @param tenantIdSupplier Supplies the ID of the tenant on whose behalf the current request is made.
+         *                         Used for fair queuing across tenants. Optional.
+         * @return builder
+         */
+        public Builder tenantIdSupplier(Supplier<Object> tenantIdSupplier) {
+            this.tenantIdSupplier = tenantIdSupplier;
+            return this;
+        }
+
+        public RateLimitedEmbeddingModel build() {
+            return new RateLimitedEmbeddingModel(this);
+        }
+    }
+}
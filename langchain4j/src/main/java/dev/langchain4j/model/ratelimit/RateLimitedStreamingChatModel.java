@@ -0,0 +1,141 @@
+package dev.langchain4j.model.ratelimit;
+
+import dev.langchain4j.model.ModelProvider;
+import dev.langchain4j.model.TokenCountEstimator;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.request.ChatRequestParameters;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.model.ratelimit.RateLimitedChatModel.estimateTokens;
+import static dev.langchain4j.model.ratelimit.RateLimitedChatModel.reconcile;
+
+/**
+ * A {@link StreamingChatModel} decorator that admits requests through a {@link RateLimiter} before sending them
+ * to the delegate model.
+ * <p>
+ * The calling thread blocks until the request is admitted. The token estimate is reconciled with the actual
+ * usage once the complete response is received.
+ *
+ * @see RateLimitedChatModel
+ */
+public class RateLimitedStreamingChatModel implements StreamingChatModel {
+
+    private final StreamingChatModel delegate;
+    private final RateLimiter rateLimiter;
+    private final TokenCountEstimator tokenCountEstimator;
+    private final Supplier<Object> tenantIdSupplier;
+
+    private RateLimitedStreamingChatModel(Builder builder) {
+        this.delegate = ensureNotNull(builder.delegate, "delegate");
+        this.rateLimiter = ensureNotNull(builder.rateLimiter, "rateLimiter");
+        this.tokenCountEstimator = builder.tokenCountEstimator;
+        this.tenantIdSupplier = builder.tenantIdSupplier != null ? builder.tenantIdSupplier : () -> null;
+    }
+
+    @Override
+    public void chat(ChatRequest chatRequest, StreamingChatResponseHandler handler) {
+        int estimatedTokens = estimateTokens(chatRequest, delegate.defaultRequestParameters(), tokenCountEstimator);
+        RateLimiter.Permit permit;
+        try {
+            permit = rateLimiter.acquire(tenantIdSupplier.get(), estimatedTokens);
+        } catch (Exception e) {
+            handler.onError(e);
+            return;
+        }
+
+        delegate.chat(chatRequest, new StreamingChatResponseHandler() {
+
+            @Override
+            public void onPartialResponse(String partialResponse) {
+                handler.onPartialResponse(partialResponse);
+            }
+
+            @Override
+            public void onCompleteResponse(ChatResponse completeResponse) {
+                reconcile(rateLimiter, permit, completeResponse.tokenUsage());
+                handler.onCompleteResponse(completeResponse);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                handler.onError(error);
+            }
+        });
+    }
+
+    @Override
+    public ChatRequestParameters defaultRequestParameters() {
+        return delegate.defaultRequestParameters();
+    }
+
+    @Override
+    public ModelProvider provider() {
+        return delegate.provider();
+    }
+
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        return delegate.supportedCapabilities();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private StreamingChatModel delegate;
+        private RateLimiter rateLimiter;
+        private TokenCountEstimator tokenCountEstimator;
+        private Supplier<Object> tenantIdSupplier;
+
+        /**
+         * @param delegate The model to send admitted requests to.
+         * @return builder
+         */
+        public Builder delegate(StreamingChatModel delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * @param rateLimiter The rate limiter. Can be shared with other models that draw from the same quota.
+         * @return builder
+         */
+        public Builder rateLimiter(RateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
+        /**
+         * @param tokenCountEstimator The estimator used to estimate the number of tokens before sending a request.
+         *                            Optional.
+         * @return builder
+         */
+        public Builder tokenCountEstimator(TokenCountEstimator tokenCountEstimator) {
+            this.tokenCountEstimator = tokenCountEstimator;
+            return this;
+        }
+
+        /**
+         * @param tenantIdSupplier Supplies the ID of the tenant on whose behalf the current request is made.
+         *                         Used for fair queuing across tenants. Optional.
+         * @return builder
+         */
+        public Builder tenantIdSupplier(Supplier<Object> tenantIdSupplier) {
+            this.tenantIdSupplier = tenantIdSupplier;
+            return this;
+        }
+
+        public RateLimitedStreamingChatModel build() {
+            return new RateLimitedStreamingChatModel(this);
+        }
+    }
+}
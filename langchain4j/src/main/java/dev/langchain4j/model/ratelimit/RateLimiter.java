@@ -0,0 +1,288 @@
+package dev.langchain4j.model.ratelimit;
+
+import dev.langchain4j.exception.LangChain4jException;
+import dev.langchain4j.exception.RateLimitException;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+
+/**
+ * A client-side rate limiter that admits requests against a requests-per-minute (RPM)
+ * and/or a tokens-per-minute (TPM) budget.
+ * <p>
+ * Both budgets are token buckets that refill continuously, so a budget of 60 RPM allows one request per second
+ * on average and a burst of up to 60 requests.
+ * <p>
+ * Callers that cannot be admitted immediately are queued per tenant and admitted in round-robin order across tenants,
+ * so that a single busy tenant cannot starve the others. Within a tenant, requests are admitted in FIFO order.
+ * <p>
+ * The number of tokens is not known before the model responds, so callers first {@link #acquire(Object, int) acquire}
+ * a {@link Permit} for an estimated number of tokens and then {@link #reconcile(Permit, int) reconcile}
+ * it with the actual usage.
+ * <p>
+ * A single instance is meant to be shared by all models that draw from the same provider quota.
+ * This class is thread-safe.
+ *
+ * @see RateLimitedChatModel
+ * @see RateLimitedStreamingChatModel
+ * @see RateLimitedEmbeddingModel
+ */
+public class RateLimiter {
+
+    private static final Object DEFAULT_TENANT = new Object();
+
+    private final Bucket requestBucket;
+    private final Bucket tokenBucket;
+    private final Duration maxWait;
+    private final LongSupplier nanoClock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Map<Object, ArrayDeque<Waiter>> waitersByTenant = new HashMap<>();
+    private final ArrayDeque<Object> tenantRotation = new ArrayDeque<>();
+
+    private RateLimiter(Builder builder) {
+        this(builder, System::nanoTime);
+    }
+
+    RateLimiter(Builder builder, LongSupplier nanoClock) {
+        if (builder.requestsPerMinute == null && builder.tokensPerMinute == null) {
+            throw new IllegalArgumentException("At least one of requestsPerMinute and tokensPerMinute must be set");
+        }
+        this.nanoClock = nanoClock;
+        long now = nanoClock.getAsLong();
+        this.requestBucket = builder.requestsPerMinute == null ? null
+                : new Bucket(ensureGreaterThanZero(builder.requestsPerMinute, "requestsPerMinute"), now);
+        this.tokenBucket = builder.tokensPerMinute == null ? null
+                : new Bucket(ensureGreaterThanZero(builder.tokensPerMinute, "tokensPerMinute"), now);
+        this.maxWait = builder.maxWait;
+    }
+
+    /**
+     * Blocks until the request is admitted.
+     *
+     * @param tenantId        The tenant on whose behalf the request is made. Can be {@code null}.
+     * @param estimatedTokens The estimated number of tokens the request will consume.
+     * @return A permit that should be {@link #reconcile(Permit, int) reconciled} once the actual usage is known.
+     * @throws RateLimitException if the request could not be admitted within {@code maxWait}.
+     */
+    public Permit acquire(Object tenantId, int estimatedTokens) {
+        Object tenant = tenantId == null ? DEFAULT_TENANT : tenantId;
+        // a request larger than the whole bucket would never be admitted, so it is capped at the bucket capacity
+        double tokens = tokenBucket == null ? 0 : Math.min(Math.max(estimatedTokens, 0), tokenBucket.capacity);
+        Waiter waiter = new Waiter(tenant);
+
+        lock.lock();
+        try {
+            enqueue(waiter);
+            long deadline = maxWait == null ? Long.MAX_VALUE : nanoClock.getAsLong() + maxWait.toNanos();
+            while (true) {
+                long now = nanoClock.getAsLong();
+                long waitNanos = Long.MAX_VALUE;
+                if (isNext(waiter)) {
+                    waitNanos = Math.max(nanosUntilAvailable(requestBucket, 1, now), nanosUntilAvailable(tokenBucket, tokens, now));
+                    if (waitNanos == 0) {
+                        consume(requestBucket, 1);
+                        consume(tokenBucket, tokens);
+                        dequeue(waiter, true);
+                        return new Permit(tenantId, (int) tokens);
+                    }
+                }
+                if (now >= deadline) {
+                    dequeue(waiter, false);
+                    throw new RateLimitException("Client-side rate limit exceeded: the request was not admitted within " + maxWait);
+                }
+                changed.awaitNanos(Math.min(waitNanos, deadline - now));
+            }
+        } catch (InterruptedException e) {
+            dequeue(waiter, false);
+            Thread.currentThread().interrupt();
+            throw new LangChain4jException("Interrupted while waiting for the rate limiter", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adjusts the token budget once the actual number of consumed tokens is known.
+     * If fewer tokens were consumed than estimated, the difference is returned to the budget;
+     * if more were consumed, the difference is withdrawn (the budget may temporarily go into debt).
+     *
+     * @param permit       The permit returned by {@link #acquire(Object, int)}.
+     * @param actualTokens The actual number of tokens consumed by the request.
+     */
+    public void reconcile(Permit permit, int actualTokens) {
+        if (tokenBucket == null || permit == null) {
+            return;
+        }
+        int difference = actualTokens - permit.estimatedTokens();
+        if (difference == 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            tokenBucket.refill(nanoClock.getAsLong());
+            tokenBucket.available = Math.min(tokenBucket.capacity, tokenBucket.available - difference);
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void enqueue(Waiter waiter) {
+        ArrayDeque<Waiter> waiters = waitersByTenant.computeIfAbsent(waiter.tenant, ignored -> new ArrayDeque<>());
+        if (waiters.isEmpty()) {
+            tenantRotation.addLast(waiter.tenant);
+        }
+        waiters.addLast(waiter);
+    }
+
+    private boolean isNext(Waiter waiter) {
+        return Objects.equals(tenantRotation.peekFirst(), waiter.tenant)
+                && waitersByTenant.get(waiter.tenant).peekFirst() == waiter;
+    }
+
+    private void dequeue(Waiter waiter, boolean admitted) {
+        ArrayDeque<Waiter> waiters = waitersByTenant.get(waiter.tenant);
+        waiters.remove(waiter);
+        if (admitted) {
+            // the tenant had its turn, move it to the back of the rotation
+            tenantRotation.remove(waiter.tenant);
+            if (!waiters.isEmpty()) {
+                tenantRotation.addLast(waiter.tenant);
+            }
+        } else if (waiters.isEmpty()) {
+            tenantRotation.remove(waiter.tenant);
+        }
+        if (waiters.isEmpty()) {
+            waitersByTenant.remove(waiter.tenant);
+        }
+        changed.signalAll();
+    }
+
+    private static long nanosUntilAvailable(Bucket bucket, double amount, long now) {
+        if (bucket == null) {
+            return 0;
+        }
+        bucket.refill(now);
+        if (bucket.available >= amount) {
+            return 0;
+        }
+        return (long) Math.ceil((amount - bucket.available) / bucket.refillPerNano);
+    }
+
+    private static void consume(Bucket bucket, double amount) {
+        if (bucket != null) {
+            bucket.available -= amount;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * A permit to send a single request, returned by {@link #acquire(Object, int)}.
+     */
+    public static final class Permit {
+
+        private final Object tenantId;
+        private final int estimatedTokens;
+
+        Permit(Object tenantId, int estimatedTokens) {
+            this.tenantId = tenantId;
+            this.estimatedTokens = estimatedTokens;
+        }
+
+        public Object tenantId() {
+            return tenantId;
+        }
+
+        public int estimatedTokens() {
+            return estimatedTokens;
+        }
+    }
+
+    private static final class Waiter {
+
+        private final Object tenant;
+
+        private Waiter(Object tenant) {
+            this.tenant = tenant;
+        }
+    }
+
+    private static final class Bucket {
+
+        private final double capacity;
+        private final double refillPerNano;
+        private double available;
+        private long lastRefillNanos;
+
+        private Bucket(int perMinute, long now) {
+            this.capacity = perMinute;
+            this.refillPerNano = perMinute / (double) TimeUnit.MINUTES.toNanos(1);
+            this.available = perMinute;
+            this.lastRefillNanos = now;
+        }
+
+        private void refill(long now) {
+            long elapsed = now - lastRefillNanos;
+            if (elapsed > 0) {
+                available = Math.min(capacity, available + elapsed * refillPerNano);
+                lastRefillNanos = now;
+            }
+        }
+    }
+
+    public static class Builder {
+
+        private Integer requestsPerMinute;
+        private Integer tokensPerMinute;
+        private Duration maxWait;
+
+        /**
+         * @param requestsPerMinute The maximum number of requests per minute.
+         *                          If not set, the number of requests is not limited.
+         * @return builder
+         */
+        public Builder requestsPerMinute(Integer requestsPerMinute) {
+            this.requestsPerMinute = requestsPerMinute;
+            return this;
+        }
+
+        /**
+         * @param tokensPerMinute The maximum number of tokens per minute.
+         *                        If not set, the number of tokens is not limited.
+         * @return builder
+         */
+        public Builder tokensPerMinute(Integer tokensPerMinute) {
+            this.tokensPerMinute = tokensPerMinute;
+            return this;
+        }
+
+        /**
+         * @param maxWait The maximum time a request can wait to be admitted.
+         *                If exceeded, a {@link RateLimitException} is thrown.
+         *                If not set, requests wait until admitted.
+         * @return builder
+         */
+        public Builder maxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+            return this;
+        }
+
+        public RateLimiter build() {
+            return new RateLimiter(this);
+        }
+    }
+}
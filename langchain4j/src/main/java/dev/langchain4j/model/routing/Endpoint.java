@@ -0,0 +1,121 @@
+package dev.langchain4j.model.routing;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One of the models (deployments, regions, providers) a routing model balances requests across,
+ * together with its load and health state.
+ *
+ * @param <M> The type of the model.
+ * @see RoutingChatModel
+ * @see RoutingStreamingChatModel
+ */
+public class Endpoint<M> {
+
+    private static final double LATENCY_SMOOTHING = 0.2;
+
+    private final String name;
+    private final M model;
+    private final AtomicInteger outstandingRequests = new AtomicInteger();
+
+    private double averageLatencyMillis = -1;
+    private int consecutiveFailures;
+    private long ejectedUntilNanos;
+    private boolean ejected;
+
+    Endpoint(String name, M model) {
+        this.name = name;
+        this.model = model;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    M model() {
+        return model;
+    }
+
+    /**
+     * @return The number of requests currently in flight to this endpoint.
+     */
+    public int outstandingRequests() {
+        return outstandingRequests.get();
+    }
+
+    /**
+     * @return The exponentially weighted moving average of successful request latencies,
+     * or {@code null} if no request has succeeded yet.
+     */
+    public synchronized Duration averageLatency() {
+        return averageLatencyMillis < 0 ? null : Duration.ofMillis((long) averageLatencyMillis);
+    }
+
+    /**
+     * @return {@code true} if the endpoint is currently receiving traffic,
+     * {@code false} if it has been ejected because of consecutive failures.
+     */
+    public synchronized boolean isHealthy() {
+        return !isEjected(System.nanoTime());
+    }
+
+    /**
+     * @return The number of consecutive failed requests.
+     */
+    public synchronized int consecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    synchronized boolean isEjected(long nowNanos) {
+        return ejected && nowNanos - ejectedUntilNanos < 0;
+    }
+
+    synchronized double averageLatencyMillis() {
+        return averageLatencyMillis;
+    }
+
+    synchronized long ejectedUntilNanos() {
+        return ejectedUntilNanos;
+    }
+
+    void onStart() {
+        outstandingRequests.incrementAndGet();
+    }
+
+    void onFinish() {
+        outstandingRequests.decrementAndGet();
+    }
+
+    synchronized void onSuccess(long latencyMillis) {
+        consecutiveFailures = 0;
+        ejected = false;
+        averageLatencyMillis = averageLatencyMillis < 0
+                ? latencyMillis
+                : LATENCY_SMOOTHING * latencyMillis + (1 - LATENCY_SMOOTHING) * averageLatencyMillis;
+    }
+
+    /**
+     * @return {@code true} if this failure caused the endpoint to be ejected.
+     */
+    synchronized boolean onFailure(int failureThreshold, Duration ejectionDuration) {
+        consecutiveFailures++;
+        if (consecutiveFailures >= failureThreshold) {
+            boolean wasHealthy = !isEjected(System.nanoTime());
+            ejected = true;
+            ejectedUntilNanos = System.nanoTime() + ejectionDuration.toNanos();
+            return wasHealthy;
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "Endpoint {" +
+                " name = \"" + name + "\"" +
+                ", outstandingRequests = " + outstandingRequests() +
+                ", averageLatency = " + averageLatency() +
+                ", healthy = " + isHealthy() +
+                " }";
+    }
+}
@@ -0,0 +1,126 @@
+package dev.langchain4j.model.routing;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Selects endpoints according to a {@link LoadBalancingStrategy} and tracks their health.
+ */
+class EndpointPool<M> {
+
+    private final List<Endpoint<M>> endpoints;
+    private final LoadBalancingStrategy strategy;
+    private final int failureThreshold;
+    private final Duration ejectionDuration;
+
+    EndpointPool(List<Endpoint<M>> endpoints,
+                 LoadBalancingStrategy strategy,
+                 int failureThreshold,
+                 Duration ejectionDuration) {
+        this.endpoints = List.copyOf(endpoints);
+        this.strategy = strategy;
+        this.failureThreshold = failureThreshold;
+        this.ejectionDuration = ejectionDuration;
+    }
+
+    List<Endpoint<M>> endpoints() {
+        return endpoints;
+    }
+
+    /**
+     * Selects an endpoint that has not been tried yet.
+     * If all untried endpoints are ejected, the one whose ejection expires first is selected,
+     * so that requests are never rejected just because all endpoints are unhealthy.
+     *
+     * @return The selected endpoint, or {@code null} if all endpoints have already been tried.
+     */
+    Endpoint<M> select(Collection<Endpoint<M>> tried) {
+        long now = System.nanoTime();
+        List<Endpoint<M>> candidates = new ArrayList<>(endpoints.size());
+        Endpoint<M> leastEjected = null;
+        for (Endpoint<M> endpoint : endpoints) {
+            if (tried.contains(endpoint)) {
+                continue;
+            }
+            if (endpoint.isEjected(now)) {
+                if (leastEjected == null || endpoint.ejectedUntilNanos() - leastEjected.ejectedUntilNanos() < 0) {
+                    leastEjected = endpoint;
+                }
+            } else {
+                candidates.add(endpoint);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return leastEjected;
+        }
+        return switch (strategy) {
+            case LEAST_OUTSTANDING_REQUESTS -> leastOutstanding(candidates);
+            case LATENCY_WEIGHTED -> latencyWeighted(candidates);
+        };
+    }
+
+    <C> Set<C> commonCapabilities(Function<M, Set<C>> capabilities) {
+        Set<C> common = null;
+        for (Endpoint<M> endpoint : endpoints) {
+            if (common == null) {
+                common = new HashSet<>(capabilities.apply(endpoint.model()));
+            } else {
+                common.retainAll(capabilities.apply(endpoint.model()));
+            }
+        }
+        return common == null ? Set.of() : common;
+    }
+
+    boolean onFailure(Endpoint<M> endpoint) {
+        return endpoint.onFailure(failureThreshold, ejectionDuration);
+    }
+
+    private static <M> Endpoint<M> leastOutstanding(List<Endpoint<M>> candidates) {
+        int offset = ThreadLocalRandom.current().nextInt(candidates.size());
+        Endpoint<M> best = null;
+        for (int i = 0; i < candidates.size(); i++) {
+            Endpoint<M> candidate = candidates.get((i + offset) % candidates.size());
+            if (best == null || candidate.outstandingRequests() < best.outstandingRequests()) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    private static <M> Endpoint<M> latencyWeighted(List<Endpoint<M>> candidates) {
+        double fastest = Double.MAX_VALUE;
+        for (Endpoint<M> candidate : candidates) {
+            double latency = candidate.averageLatencyMillis();
+            if (latency >= 0) {
+                fastest = Math.min(fastest, latency);
+            }
+        }
+        if (fastest == Double.MAX_VALUE) {
+            return leastOutstanding(candidates);
+        }
+
+        double[] weights = new double[candidates.size()];
+        double totalWeight = 0;
+        for (int i = 0; i < candidates.size(); i++) {
+            Endpoint<M> candidate = candidates.get(i);
+            double latency = candidate.averageLatencyMillis() < 0 ? fastest : candidate.averageLatencyMillis();
+            weights[i] = 1.0 / (Math.max(latency, 1.0) * (candidate.outstandingRequests() + 1));
+            totalWeight += weights[i];
+        }
+
+        double random = ThreadLocalRandom.current().nextDouble(totalWeight);
+        for (int i = 0; i < weights.length; i++) {
+            random -= weights[i];
+            if (random < 0) {
+                return candidates.get(i);
+            }
+        }
+        return candidates.get(candidates.size() - 1);
+    }
+}
@@ -0,0 +1,20 @@
+package dev.langchain4j.model.routing;
+
+/**
+ * The strategy used by a routing model to select an endpoint for each request.
+ */
+public enum LoadBalancingStrategy {
+
+    /**
+     * Selects the healthy endpoint with the fewest requests in flight.
+     * Ties are broken randomly.
+     */
+    LEAST_OUTSTANDING_REQUESTS,
+
+    /**
+     * Selects a healthy endpoint randomly, with a probability inversely proportional to its
+     * average latency (divided by the number of requests in flight + 1).
+     * Endpoints without latency measurements are treated as being as fast as the fastest measured endpoint.
+     */
+    LATENCY_WEIGHTED
+}
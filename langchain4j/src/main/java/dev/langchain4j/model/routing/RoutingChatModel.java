@@ -0,0 +1,217 @@
+package dev.langchain4j.model.routing;
+
+import dev.langchain4j.exception.InvalidRequestException;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.listener.ChatModelListener;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static dev.langchain4j.internal.Utils.copy;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.model.routing.RoutingListenerUtils.onError;
+import static dev.langchain4j.model.routing.RoutingListenerUtils.onRequest;
+import static dev.langchain4j.model.routing.RoutingListenerUtils.onResponse;
+
+/**
+ * A {@link ChatModel} that balances requests across several endpoints serving the same model
+ * (e.g. multiple Azure OpenAI regions and OpenAI directly).
+ * <p>
+ * For each request, an endpoint is selected according to the {@link LoadBalancingStrategy}.
+ * If the request fails, it is retried on another endpoint, up to {@code maxAttempts} endpoints in total.
+ * An {@link InvalidRequestException} is not retried, since it would fail on any endpoint.
+ * <p>
+ * After {@code failureThreshold} consecutive failures, an endpoint is ejected and receives no traffic
+ * for {@code ejectionDuration}. If all endpoints are ejected, the one whose ejection expires first is still used.
+ * <p>
+ * The configured {@link ChatModelListener}s are notified about every attempt. The attributes of the listener contexts
+ * contain the selected {@link Endpoint} (under {@link #ENDPOINT_ATTRIBUTE}), the attempt number
+ * (under {@link #ATTEMPT_ATTRIBUTE}) and, in case of an error, whether the failure caused the endpoint
+ * to be ejected (under {@link #ENDPOINT_EJECTED_ATTRIBUTE}).
+ * Listeners of the endpoint models themselves are notified by those models as usual.
+ * <p>
+ * Default request parameters of the endpoint models are applied by the endpoint models themselves.
+ */
+public class RoutingChatModel implements ChatModel {
+
+    /**
+     * The key of the listener context attribute that holds the {@link Endpoint} selected for the attempt.
+     */
+    public static final String ENDPOINT_ATTRIBUTE = "langchain4j.routing.endpoint";
+
+    /**
+     * The key of the listener context attribute that holds the attempt number (starting with 1).
+     */
+    public static final String ATTEMPT_ATTRIBUTE = "langchain4j.routing.attempt";
+
+    /**
+     * The key of the listener context attribute that is set to {@code true} on an error
+     * if the failure caused the endpoint to be ejected.
+     */
+    public static final String ENDPOINT_EJECTED_ATTRIBUTE = "langchain4j.routing.endpoint.ejected";
+
+    private final EndpointPool<ChatModel> pool;
+    private final int maxAttempts;
+    private final List<ChatModelListener> listeners;
+
+    private RoutingChatModel(Builder builder) {
+        ensureNotEmpty(builder.endpoints, "endpoints");
+        this.pool = new EndpointPool<>(
+                builder.endpoints,
+                getOrDefault(builder.strategy, LoadBalancingStrategy.LEAST_OUTSTANDING_REQUESTS),
+                ensureGreaterThanZero(getOrDefault(builder.failureThreshold, 3), "failureThreshold"),
+                getOrDefault(builder.ejectionDuration, Duration.ofSeconds(30)));
+        this.maxAttempts = ensureGreaterThanZero(getOrDefault(builder.maxAttempts, builder.endpoints.size()), "maxAttempts");
+        this.listeners = copy(builder.listeners);
+    }
+
+    @Override
+    public ChatResponse chat(ChatRequest chatRequest) {
+        List<Endpoint<ChatModel>> tried = new ArrayList<>();
+        RuntimeException lastError = null;
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            Endpoint<ChatModel> endpoint = pool.select(tried);
+            if (endpoint == null) {
+                break;
+            }
+            tried.add(endpoint);
+
+            Map<Object, Object> attributes = new ConcurrentHashMap<>();
+            attributes.put(ENDPOINT_ATTRIBUTE, endpoint);
+            attributes.put(ATTEMPT_ATTRIBUTE, attempt);
+            ChatModel model = endpoint.model();
+
+            onRequest(chatRequest, model.provider(), attributes, listeners);
+            endpoint.onStart();
+            long start = System.nanoTime();
+            try {
+                ChatResponse chatResponse = model.chat(chatRequest);
+                endpoint.onSuccess(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                onResponse(chatResponse, chatRequest, model.provider(), attributes, listeners);
+                return chatResponse;
+            } catch (InvalidRequestException e) {
+                onError(e, chatRequest, model.provider(), attributes, listeners);
+                throw e;
+            } catch (RuntimeException e) {
+                attributes.put(ENDPOINT_EJECTED_ATTRIBUTE, pool.onFailure(endpoint));
+                onError(e, chatRequest, model.provider(), attributes, listeners);
+                if (lastError != null) {
+                    e.addSuppressed(lastError);
+                }
+                lastError = e;
+            } finally {
+                endpoint.onFinish();
+            }
+        }
+
+        throw lastError;
+    }
+
+    /**
+     * @return The endpoints this model balances requests across, with their current load and health.
+     */
+    public List<Endpoint<ChatModel>> endpoints() {
+        return pool.endpoints();
+    }
+
+    @Override
+    public List<ChatModelListener> listeners() {
+        return listeners;
+    }
+
+    /**
+     * @return The capabilities supported by all endpoints.
+     */
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        return pool.commonCapabilities(ChatModel::supportedCapabilities);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private final List<Endpoint<ChatModel>> endpoints = new ArrayList<>();
+        private LoadBalancingStrategy strategy;
+        private Integer maxAttempts;
+        private Integer failureThreshold;
+        private Duration ejectionDuration;
+        private List<ChatModelListener> listeners;
+
+        /**
+         * Adds an endpoint.
+         *
+         * @param name  The name of the endpoint (e.g. the region), used for observability.
+         * @param model The model serving this endpoint.
+         * @return builder
+         */
+        public Builder endpoint(String name, ChatModel model) {
+            this.endpoints.add(new Endpoint<>(ensureNotBlank(name, "name"), ensureNotNull(model, "model")));
+            return this;
+        }
+
+        /**
+         * @param strategy The load balancing strategy. Default: {@link LoadBalancingStrategy#LEAST_OUTSTANDING_REQUESTS}.
+         * @return builder
+         */
+        public Builder strategy(LoadBalancingStrategy strategy) {
+            this.strategy = strategy;
+            return this;
+        }
+
+        /**
+         * @param maxAttempts The maximum number of endpoints a request is sent to. Default: the number of endpoints.
+         * @return builder
+         */
+        public Builder maxAttempts(Integer maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * @param failureThreshold The number of consecutive failures after which an endpoint is ejected. Default: 3.
+         * @return builder
+         */
+        public Builder failureThreshold(Integer failureThreshold) {
+            this.failureThreshold = failureThreshold;
+            return this;
+        }
+
+        /**
+         * @param ejectionDuration How long an ejected endpoint receives no traffic. Default: 30 seconds.
+         * @return builder
+         */
+        public Builder ejectionDuration(Duration ejectionDuration) {
+            this.ejectionDuration = ejectionDuration;
+            return this;
+        }
+
+        /**
+         * @param listeners The listeners notified about every attempt.
+         * @return builder
+         */
+        public Builder listeners(List<ChatModelListener> listeners) {
+            this.listeners = listeners;
+            return this;
+        }
+
+        public RoutingChatModel build() {
+            return new RoutingChatModel(this);
+        }
+    }
+}
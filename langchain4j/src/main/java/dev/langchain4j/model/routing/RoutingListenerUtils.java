@@ -0,0 +1,61 @@
+package dev.langchain4j.model.routing;
+
+import dev.langchain4j.model.ModelProvider;
+import dev.langchain4j.model.chat.listener.ChatModelErrorContext;
+import dev.langchain4j.model.chat.listener.ChatModelListener;
+import dev.langchain4j.model.chat.listener.ChatModelRequestContext;
+import dev.langchain4j.model.chat.listener.ChatModelResponseContext;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+class RoutingListenerUtils {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RoutingListenerUtils.class);
+
+    private RoutingListenerUtils() {
+    }
+
+    static void onRequest(ChatRequest chatRequest,
+                          ModelProvider modelProvider,
+                          Map<Object, Object> attributes,
+                          List<ChatModelListener> listeners) {
+        ChatModelRequestContext requestContext = new ChatModelRequestContext(chatRequest, modelProvider, attributes);
+        notify(listeners, listener -> listener.onRequest(requestContext));
+    }
+
+    static void onResponse(ChatResponse chatResponse,
+                           ChatRequest chatRequest,
+                           ModelProvider modelProvider,
+                           Map<Object, Object> attributes,
+                           List<ChatModelListener> listeners) {
+        ChatModelResponseContext responseContext =
+                new ChatModelResponseContext(chatResponse, chatRequest, modelProvider, attributes);
+        notify(listeners, listener -> listener.onResponse(responseContext));
+    }
+
+    static void onError(Throwable error,
+                        ChatRequest chatRequest,
+                        ModelProvider modelProvider,
+                        Map<Object, Object> attributes,
+                        List<ChatModelListener> listeners) {
+        ChatModelErrorContext errorContext = new ChatModelErrorContext(error, chatRequest, modelProvider, attributes);
+        notify(listeners, listener -> listener.onError(errorContext));
+    }
+
+    private static void notify(List<ChatModelListener> listeners, Consumer<ChatModelListener> action) {
+        for (ChatModelListener listener : listeners) {
+            try {
+                action.accept(listener);
+            } catch (Exception e) {
+                LOG.warn("An exception occurred during the invocation of the chat model listener. " +
+                        "This exception has been ignored.", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package dev.langchain4j.model.routing;
+
+import dev.langchain4j.exception.InvalidRequestException;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.chat.listener.ChatModelListener;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static dev.langchain4j.internal.Utils.copy;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.model.routing.RoutingChatModel.ATTEMPT_ATTRIBUTE;
+import static dev.langchain4j.model.routing.RoutingChatModel.ENDPOINT_ATTRIBUTE;
+import static dev.langchain4j.model.routing.RoutingChatModel.ENDPOINT_EJECTED_ATTRIBUTE;
+import static dev.langchain4j.model.routing.RoutingListenerUtils.onRequest;
+import static dev.langchain4j.model.routing.RoutingListenerUtils.onResponse;
+
+/**
+ * A {@link StreamingChatModel} that balances requests across several endpoints serving the same model.
+ * <p>
+ * It behaves like {@link RoutingChatModel}, with one difference: a failed request is only retried on another
+ * endpoint if no partial response has been received yet, since partial responses cannot be taken back.
+ *
+ * @see RoutingChatModel
+ */
+public class RoutingStreamingChatModel implements StreamingChatModel {
+
+    private final EndpointPool<StreamingChatModel> pool;
+    private final int maxAttempts;
+    private final List<ChatModelListener> listeners;
+
+    private RoutingStreamingChatModel(Builder builder) {
+        ensureNotEmpty(builder.endpoints, "endpoints");
+        this.pool = new EndpointPool<>(
+                builder.endpoints,
+                getOrDefault(builder.strategy, LoadBalancingStrategy.LEAST_OUTSTANDING_REQUESTS),
+                ensureGreaterThanZero(getOrDefault(builder.failureThreshold, 3), "failureThreshold"),
+                getOrDefault(builder.ejectionDuration, Duration.ofSeconds(30)));
+        this.maxAttempts = ensureGreaterThanZero(getOrDefault(builder.maxAttempts, builder.endpoints.size()), "maxAttempts");
+        this.listeners = copy(builder.listeners);
+    }
+
+    @Override
+    public void chat(ChatRequest chatRequest, StreamingChatResponseHandler handler) {
+        attempt(chatRequest, handler, new ArrayList<>(), null);
+    }
+
+    private void attempt(ChatRequest chatRequest,
+                         StreamingChatResponseHandler handler,
+                         List<Endpoint<StreamingChatModel>> tried,
+                         Throwable previousError) {
+        Endpoint<StreamingChatModel> endpoint = tried.size() < maxAttempts ? pool.select(tried) : null;
+        if (endpoint == null) {
+            handler.onError(previousError);
+            return;
+        }
+        tried.add(endpoint);
+
+        Map<Object, Object> attributes = new ConcurrentHashMap<>();
+        attributes.put(ENDPOINT_ATTRIBUTE, endpoint);
+        attributes.put(ATTEMPT_ATTRIBUTE, tried.size());
+        StreamingChatModel model = endpoint.model();
+
+        AtomicBoolean receivedPartialResponse = new AtomicBoolean();
+        AtomicBoolean finished = new AtomicBoolean();
+        long start = System.nanoTime();
+
+        StreamingChatResponseHandler routingHandler = new StreamingChatResponseHandler() {
+
+            @Override
+            public void onPartialResponse(String partialResponse) {
+                receivedPartialResponse.set(true);
+                handler.onPartialResponse(partialResponse);
+            }
+
+            @Override
+            public void onCompleteResponse(ChatResponse completeResponse) {
+                if (finished.compareAndSet(false, true)) {
+                    endpoint.onFinish();
+                    endpoint.onSuccess(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                    onResponse(completeResponse, chatRequest, model.provider(), attributes, listeners);
+                }
+                handler.onCompleteResponse(completeResponse);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                if (!finished.compareAndSet(false, true)) {
+                    handler.onError(error);
+                    return;
+                }
+                endpoint.onFinish();
+                if (error instanceof InvalidRequestException) {
+                    RoutingListenerUtils.onError(error, chatRequest, model.provider(), attributes, listeners);
+                    handler.onError(error);
+                    return;
+                }
+                attributes.put(ENDPOINT_EJECTED_ATTRIBUTE, pool.onFailure(endpoint));
+                RoutingListenerUtils.onError(error, chatRequest, model.provider(), attributes, listeners);
+                if (previousError != null) {
+                    error.addSuppressed(previousError);
+                }
+                if (receivedPartialResponse.get()) {
+                    handler.onError(error);
+                } else {
+                    attempt(chatRequest, handler, tried, error);
+                }
+            }
+        };
+
+        onRequest(chatRequest, model.provider(), attributes, listeners);
+        endpoint.onStart();
+        try {
+            model.chat(chatRequest, routingHandler);
+        } catch (RuntimeException e) {
+            routingHandler.onError(e);
+        }
+    }
+
+    /**
+     * @return The endpoints this model balances requests across, with their current load and health.
+     */
+    public List<Endpoint<StreamingChatModel>> endpoints() {
+        return pool.endpoints();
+    }
+
+    @Override
+    public List<ChatModelListener> listeners() {
+        return listeners;
+    }
+
+    /**
+     * @return The capabilities supported by all endpoints.
+     */
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        return pool.commonCapabilities(StreamingChatModel::supportedCapabilities);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private final List<Endpoint<StreamingChatModel>> endpoints = new ArrayList<>();
+        private LoadBalancingStrategy strategy;
+        private Integer maxAttempts;
+        private Integer failureThreshold;
+        private Duration ejectionDuration;
+        private List<ChatModelListener> listeners;
+
+        /**
+         * Adds an endpoint.
+         *
+         * @param name  The name of the endpoint (e.g. the region), used for observability.
+         * @param model The model serving this endpoint.
+         * @return builder
+         */
+        public Builder endpoint(String name, StreamingChatModel model) {
+            this.endpoints.add(new Endpoint<>(ensureNotBlank(name, "name"), ensureNotNull(model, "model")));
+            return this;
+        }
+
+        /**
+         * @param strategy The load balancing strategy. Default: {@link LoadBalancingStrategy#LEAST_OUTSTANDING_REQUESTS}.
+         * @return builder
+         */
+        public Builder strategy(LoadBalancingStrategy strategy) {
+            this.strategy = strategy;
+            return this;
+        }
+
+        /**
+         * @param maxAttempts The maximum number of endpoints a request is sent to. Default: the number of endpoints.
+         * @return builder
+         */
+        public Builder maxAttempts(Integer maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * @param failureThreshold The number of consecutive failures after which an endpoint is ejected. Default: 3.
+         * @return builder
+         */
+        public Builder failureThreshold(Integer failureThreshold) {
+            this.failureThreshold = failureThreshold;
+            return this;
+        }
+
+        /**
+         * @param ejectionDuration How long an ejected endpoint receives no traffic. Default: 30 seconds.
+         * @return builder
+         */
+        public Builder ejectionDuration(Duration ejectionDuration) {
+            this.ejectionDuration = ejectionDuration;
+            return this;
+        }
+
+        /**
+         * @param listeners The listeners notified about every attempt.
+         * @return builder
+         */
+        public Builder listeners(List<ChatModelListener> listeners) {
+            this.listeners = listeners;
+            return this;
+        }
+
+        public RoutingStreamingChatModel build() {
+            return new RoutingStreamingChatModel(this);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package dev.langchain4j.model.singleflight;
+
+import dev.langchain4j.exception.LangChain4jException;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Deduplicates concurrent calls with equal keys: while a call for a key is in flight,
+ * further calls for an equal key wait for it and share its result (or failure) instead of executing again.
+ * <p>
+ * Results are not cached: once the call completes, the next call for the same key executes again.
+ * This class is thread-safe.
+ *
+ * @param <K> The type of the key. It must implement {@code equals} and {@code hashCode} consistently.
+ * @param <V> The type of the result.
+ */
+class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            waiting.incrementAndGet();
+            try {
+                return join(existing);
+            } finally {
+                waiting.decrementAndGet();
+            }
+        }
+
+        try {
+            V result = call.get();
+            future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    int inFlight() {
+        return inFlight.size();
+    }
+
+    /**
+     * @return The number of calls waiting for an in-flight call with an equal key.
+     */
+    int waiting() {
+        return waiting.get();
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new LangChain4jException(cause);
+        }
+    }
+}
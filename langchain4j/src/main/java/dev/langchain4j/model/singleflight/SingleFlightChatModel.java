@@ -0,0 +1,57 @@
+package dev.langchain4j.model.singleflight;
+
+import dev.langchain4j.model.ModelProvider;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.request.ChatRequestParameters;
+import dev.langchain4j.model.chat.response.ChatResponse;
+
+import java.util.Set;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * A {@link ChatModel} decorator that coalesces concurrent identical requests ("single-flight").
+ * <p>
+ * While a request is in flight, any other request that is {@link ChatRequest#equals(Object) equal} to it
+ * (same messages and same parameters) does not reach the delegate model; instead, it waits for the
+ * in-flight request and receives the same {@link ChatResponse} (or the same exception).
+ * <p>
+ * Responses are not cached: once a request completes, the next identical request is sent to the model again.
+ * Note that with a non-zero temperature, callers that would otherwise have received different answers
+ * receive the same one.
+ */
+public class SingleFlightChatModel implements ChatModel {
+
+    private final ChatModel delegate;
+    private final SingleFlight<ChatRequest, ChatResponse> singleFlight = new SingleFlight<>();
+
+    public SingleFlightChatModel(ChatModel delegate) {
+        this.delegate = ensureNotNull(delegate, "delegate");
+    }
+
+    @Override
+    public ChatResponse chat(ChatRequest chatRequest) {
+        return singleFlight.execute(chatRequest, () -> delegate.chat(chatRequest));
+    }
+
+    int waiting() {
+        return singleFlight.waiting();
+    }
+
+    @Override
+    public ChatRequestParameters defaultRequestParameters() {
+        return delegate.defaultRequestParameters();
+    }
+
+    @Override
+    public ModelProvider provider() {
+        return delegate.provider();
+    }
+
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        return delegate.supportedCapabilities();
+    }
+}
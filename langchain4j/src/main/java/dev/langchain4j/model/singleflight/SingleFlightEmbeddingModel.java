@@ -0,0 +1,42 @@
+package dev.langchain4j.model.singleflight;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+
+import java.util.List;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * An {@link EmbeddingModel} decorator that coalesces concurrent identical requests ("single-flight").
+ * <p>
+ * While a request is in flight, any other request with equal text segments (same texts and metadata,
+ * in the same order) does not reach the delegate model; instead, it waits for the in-flight request
+ * and receives the same embeddings.
+ * The {@link Embedding} instances are shared between callers, so they must not be modified
+ * (e.g. via {@link Embedding#normalize()}).
+ *
+ * @see SingleFlightChatModel
+ */
+public class SingleFlightEmbeddingModel implements EmbeddingModel {
+
+    private final EmbeddingModel delegate;
+    private final SingleFlight<List<TextSegment>, Response<List<Embedding>>> singleFlight = new SingleFlight<>();
+
+    public SingleFlightEmbeddingModel(EmbeddingModel delegate) {
+        this.delegate = ensureNotNull(delegate, "delegate");
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        List<TextSegment> key = List.copyOf(textSegments);
+        return singleFlight.execute(key, () -> delegate.embedAll(textSegments));
+    }
+
+    @Override
+    public int dimension() {
+        return delegate.dimension();
+    }
+}
@@ -0,0 +1,220 @@
+package dev.langchain4j.model.singleflight;
+
+import dev.langchain4j.model.ModelProvider;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.request.ChatRequestParameters;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * A {@link StreamingChatModel} decorator that multiplexes concurrent identical requests onto a single
+ * upstream stream ("single-flight").
+ * <p>
+ * While a request is being streamed, any other request that is {@link ChatRequest#equals(Object) equal} to it
+ * does not reach the delegate model; instead, its handler is subscribed to the in-flight stream.
+ * A late subscriber first receives all partial responses streamed so far, and then the remaining ones
+ * as they arrive, so every subscriber observes the complete stream.
+ * <p>
+ * Each handler receives its events in order and one at a time, without any lock held,
+ * so a slow handler does not block new subscribers. Events are delivered on the thread that delivers
+ * the upstream events, except for the partial responses replayed to a late subscriber,
+ * which are delivered on the subscribing thread, together with any events arriving during the replay.
+ * An exception thrown by one handler is logged and does not affect the other subscribers.
+ *
+ * @see SingleFlightChatModel
+ */
+public class SingleFlightStreamingChatModel implements StreamingChatModel {
+
+    private static final Logger log = LoggerFactory.getLogger(SingleFlightStreamingChatModel.class);
+
+    private final StreamingChatModel delegate;
+    private final Map<ChatRequest, Flight> inFlight = new ConcurrentHashMap<>();
+
+    public SingleFlightStreamingChatModel(StreamingChatModel delegate) {
+        this.delegate = ensureNotNull(delegate, "delegate");
+    }
+
+    @Override
+    public void chat(ChatRequest chatRequest, StreamingChatResponseHandler handler) {
+        while (true) {
+            Flight flight = inFlight.computeIfAbsent(chatRequest, ignored -> new Flight());
+            if (flight.subscribe(handler)) {
+                if (flight.startIfNotStarted()) {
+                    start(chatRequest, flight);
+                }
+                return;
+            }
+            // the flight has just finished, remove it (if it is still there) and try again
+            inFlight.remove(chatRequest, flight);
+        }
+    }
+
+    private void start(ChatRequest chatRequest, Flight flight) {
+        StreamingChatResponseHandler upstreamHandler = new StreamingChatResponseHandler() {
+
+            @Override
+            public void onPartialResponse(String partialResponse) {
+                flight.onPartialResponse(partialResponse);
+            }
+
+            @Override
+            public void onCompleteResponse(ChatResponse completeResponse) {
+                inFlight.remove(chatRequest, flight);
+                flight.finish(handler -> handler.onCompleteResponse(completeResponse));
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                inFlight.remove(chatRequest, flight);
+                flight.finish(handler -> handler.onError(error));
+            }
+        };
+
+        try {
+            delegate.chat(chatRequest, upstreamHandler);
+        } catch (RuntimeException e) {
+            upstreamHandler.onError(e);
+        }
+    }
+
+    int inFlight() {
+        return inFlight.size();
+    }
+
+    @Override
+    public ChatRequestParameters defaultRequestParameters() {
+        return delegate.defaultRequestParameters();
+    }
+
+    @Override
+    public ModelProvider provider() {
+        return delegate.provider();
+    }
+
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        return delegate.supportedCapabilities();
+    }
+
+    private static class Flight {
+
+        private final List<String> partialResponses = new ArrayList<>();
+        private final List<Subscriber> subscribers = new ArrayList<>();
+        private boolean started;
+        private boolean finished;
+
+        boolean subscribe(StreamingChatResponseHandler handler) {
+            Subscriber subscriber = new Subscriber(handler);
+            synchronized (this) {
+                if (finished) {
+                    return false;
+                }
+                subscribers.add(subscriber);
+                for (String partialResponse : partialResponses) {
+                    subscriber.enqueue(h -> h.onPartialResponse(partialResponse));
+                }
+            }
+            subscriber.drain();
+            return true;
+        }
+
+        synchronized boolean startIfNotStarted() {
+            if (started) {
+                return false;
+            }
+            started = true;
+            return true;
+        }
+
+        void onPartialResponse(String partialResponse) {
+            List<Subscriber> subscribers;
+            synchronized (this) {
+                partialResponses.add(partialResponse);
+                subscribers = enqueue(h -> h.onPartialResponse(partialResponse));
+            }
+            subscribers.forEach(Subscriber::drain);
+        }
+
+        void finish(Consumer<StreamingChatResponseHandler> event) {
+            List<Subscriber> subscribers;
+            synchronized (this) {
+                finished = true;
+                subscribers = enqueue(event);
+            }
+            subscribers.forEach(Subscriber::drain);
+        }
+
+        /**
+         * Enqueues the event for all current subscribers, and returns a snapshot of them.
+         * Must be called while holding the lock of this flight, so that all subscribers observe the same order.
+         */
+        private List<Subscriber> enqueue(Consumer<StreamingChatResponseHandler> event) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.enqueue(event);
+            }
+            return new ArrayList<>(subscribers);
+        }
+    }
+
+    /**
+     * Delivers the events of a flight to a handler in order, one at a time, on whichever thread drains it.
+     */
+    private static class Subscriber {
+
+        private final StreamingChatResponseHandler handler;
+        private final Queue<Consumer<StreamingChatResponseHandler>> pendingEvents = new ArrayDeque<>();
+        private boolean draining;
+
+        Subscriber(StreamingChatResponseHandler handler) {
+            this.handler = handler;
+        }
+
+        synchronized void enqueue(Consumer<StreamingChatResponseHandler> event) {
+            pendingEvents.add(event);
+        }
+
+        void drain() {
+            synchronized (this) {
+                if (draining) {
+                    // the thread already draining delivers the new events as well
+                    return;
+                }
+                draining = true;
+            }
+            while (true) {
+                Consumer<StreamingChatResponseHandler> event;
+                synchronized (this) {
+                    event = pendingEvents.poll();
+                    if (event == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                deliver(event);
+            }
+        }
+
+        private void deliver(Consumer<StreamingChatResponseHandler> event) {
+            try {
+                event.accept(handler);
+            } catch (Exception e) {
+                log.warn("An exception occurred in a streaming response handler. This exception has been ignored.", e);
+            }
+        }
+    }
+}
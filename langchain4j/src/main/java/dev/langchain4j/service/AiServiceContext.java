@@ -9,6 +9,7 @@ import dev.langchain4j.model.chat.StreamingChatModel;
 import dev.langchain4j.model.moderation.ModerationModel;
 import dev.langchain4j.rag.RetrievalAugmentor;
 import dev.langchain4j.service.tool.ToolService;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -30,6 +31,8 @@ public class AiServiceContext {
 
     public RetrievalAugmentor retrievalAugmentor;
 
+    public Duration streamingRetrievalTimeout;
+
     public Function<Object, Optional<String>> systemMessageProvider = DEFAULT_MESSAGE_PROVIDER;
 
     public AiServiceContext(Class<?> aiServiceClass) {
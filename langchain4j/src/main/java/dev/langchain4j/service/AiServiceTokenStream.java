@@ -10,10 +10,13 @@ import dev.langchain4j.model.output.TokenUsage;
 import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.service.tool.ToolExecution;
 import dev.langchain4j.service.tool.ToolExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import static dev.langchain4j.internal.Utils.copy;
@@ -24,15 +27,19 @@ import static java.util.Collections.emptyList;
 @Internal
 public class AiServiceTokenStream implements TokenStream {
 
+    private static final Logger log = LoggerFactory.getLogger(AiServiceTokenStream.class);
+
     private final List<ChatMessage> messages;
     private final List<ToolSpecification> toolSpecifications;
     private final Map<String, ToolExecutor> toolExecutors;
     private final List<Content> retrievedContents;
+    private final CompletableFuture<List<Content>> lateRetrievedContents;
     private final AiServiceContext context;
     private final Object memoryId;
 
     private Consumer<String> partialResponseHandler;
     private Consumer<List<Content>> contentsHandler;
+    private Consumer<List<Content>> lateContentsHandler;
     private Consumer<ToolExecution> toolExecutionHandler;
     private Consumer<ChatResponse> completeResponseHandler;
     private Consumer<Throwable> errorHandler;
@@ -40,6 +47,7 @@ public class AiServiceTokenStream implements TokenStream {
     private int onPartialResponseInvoked;
     private int onCompleteResponseInvoked;
     private int onRetrievedInvoked;
+    private int onLateRetrievedInvoked;
     private int onToolExecutedInvoked;
     private int onErrorInvoked;
     private int ignoreErrorsInvoked;
@@ -54,6 +62,7 @@ public class AiServiceTokenStream implements TokenStream {
         this.toolSpecifications = copy(parameters.toolSpecifications());
         this.toolExecutors = copy(parameters.toolExecutors());
         this.retrievedContents = copy(parameters.gretrievedContents());
+        this.lateRetrievedContents = parameters.lateRetrievedContents();
         this.context = ensureNotNull(parameters.context(), "context");
         ensureNotNull(this.context.streamingChatModel, "streamingChatModel");
         this.memoryId = ensureNotNull(parameters.memoryId(), "memoryId");
@@ -73,6 +82,13 @@ public class AiServiceTokenStream implements TokenStream {
         return this;
     }
 
+    @Override
+    public TokenStream onLateRetrieved(Consumer<List<Content>> lateContentsHandler) {
+        this.lateContentsHandler = lateContentsHandler;
+        this.onLateRetrievedInvoked++;
+        return this;
+    }
+
     @Override
     public TokenStream onToolExecuted(Consumer<ToolExecution> toolExecutionHandler) {
         this.toolExecutionHandler = toolExecutionHandler;
@@ -127,6 +143,26 @@ public class AiServiceTokenStream implements TokenStream {
         }
 
         context.streamingChatModel.chat(chatRequest, handler);
+
+        if (lateRetrievedContents != null) {
+            if (lateContentsHandler == null) {
+                // nobody is interested in the late contents, so the retrievals still running are not needed anymore
+                lateRetrievedContents.cancel(true);
+            } else {
+                lateRetrievedContents.whenComplete((lateContents, error) -> {
+                    if (error != null) {
+                        log.warn("Failed to retrieve late contents", error);
+                    } else if (!lateContents.isEmpty()) {
+                        try {
+                            lateContentsHandler.accept(lateContents);
+                        } catch (Exception e) {
+                            // the late contents are not part of the response, so this does not fail the stream
+                            log.warn("Exception while handling late retrieved contents", e);
+                        }
+                    }
+                });
+            }
+        }
     }
 
     private void validateConfiguration() {
@@ -139,6 +175,9 @@ public class AiServiceTokenStream implements TokenStream {
         if (onRetrievedInvoked > 1) {
             throw new IllegalConfigurationException("onRetrieved can be invoked on TokenStream at most 1 time");
         }
+        if (onLateRetrievedInvoked > 1) {
+            throw new IllegalConfigurationException("onLateRetrieved can be invoked on TokenStream at most 1 time");
+        }
         if (onToolExecutedInvoked > 1) {
             throw new IllegalConfigurationException("onToolExecuted can be invoked on TokenStream at most 1 time");
         }
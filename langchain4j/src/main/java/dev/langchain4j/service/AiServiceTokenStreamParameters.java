@@ -8,6 +8,7 @@ import dev.langchain4j.service.tool.ToolExecutor;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Parameters for creating an {@link AiServiceTokenStream}.
@@ -19,6 +20,7 @@ public class AiServiceTokenStreamParameters {
     private final List<ToolSpecification> toolSpecifications;
     private final Map<String, ToolExecutor> toolExecutors;
     private final List<Content> retrievedContents;
+    private final CompletableFuture<List<Content>> lateRetrievedContents;
     private final AiServiceContext context;
     private final Object memoryId;
 
@@ -27,6 +29,7 @@ public class AiServiceTokenStreamParameters {
         this.toolSpecifications = builder.toolSpecifications;
         this.toolExecutors = builder.toolExecutors;
         this.retrievedContents = builder.retrievedContents;
+        this.lateRetrievedContents = builder.lateRetrievedContents;
         this.context = builder.context;
         this.memoryId = builder.memoryId;
     }
@@ -59,6 +62,13 @@ public class AiServiceTokenStreamParameters {
         return retrievedContents;
     }
 
+    /**
+     * @return the contents retrieved after the request was sent to the model
+     */
+    public CompletableFuture<List<Content>> lateRetrievedContents() {
+        return lateRetrievedContents;
+    }
+
     /**
      * @return the AI service context
      */
@@ -91,6 +101,7 @@ public class AiServiceTokenStreamParameters {
         private List<ToolSpecification> toolSpecifications;
         private Map<String, ToolExecutor> toolExecutors;
         private List<Content> retrievedContents;
+        private CompletableFuture<List<Content>> lateRetrievedContents;
         private AiServiceContext context;
         private Object memoryId;
 
@@ -141,6 +152,17 @@ public class AiServiceTokenStreamParameters {
             return this;
         }
 
+        /**
+         * Sets the contents retrieved after the request was sent to the model.
+         *
+         * @param lateRetrievedContents the late retrieved contents
+         * @return this builder
+         */
+        public Builder lateRetrievedContents(CompletableFuture<List<Content>> lateRetrievedContents) {
+            this.lateRetrievedContents = lateRetrievedContents;
+            return this;
+        }
+
         /**
          * Sets the AI service context.
          *
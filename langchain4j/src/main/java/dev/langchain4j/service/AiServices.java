@@ -28,6 +28,7 @@ import dev.langchain4j.rag.content.retriever.EmbeddingStoreContentRetriever;
 import dev.langchain4j.service.tool.ToolExecutor;
 import dev.langchain4j.service.tool.ToolProvider;
 import dev.langchain4j.spi.services.AiServicesFactory;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -398,6 +399,29 @@ public abstract class AiServices<T> {
         return this;
     }
 
+    /**
+     * Configures how long methods returning a {@link TokenStream} wait for retrieval augmentation
+     * before sending the request to the streaming chat model.
+     * <br>
+     * When the timeout elapses, the user message is augmented with the contents retrieved so far,
+     * and the model starts streaming without waiting for the slower {@link ContentRetriever}s.
+     * The contents they retrieve later are passed to {@link TokenStream#onLateRetrieved(java.util.function.Consumer)}.
+     * This trades the completeness of the augmentation for a shorter time to the first token.
+     * <br>
+     * It is supported by the {@link DefaultRetrievalAugmentor}. By default, there is no timeout.
+     *
+     * @param streamingRetrievalTimeout The maximum time to wait for retrieval augmentation in streaming methods.
+     * @return builder
+     */
+    public AiServices<T> streamingRetrievalTimeout(Duration streamingRetrievalTimeout) {
+        if (streamingRetrievalTimeout != null
+                && (streamingRetrievalTimeout.isNegative() || streamingRetrievalTimeout.isZero())) {
+            throw illegalConfiguration("streamingRetrievalTimeout must be positive, but is: %s", streamingRetrievalTimeout);
+        }
+        context.streamingRetrievalTimeout = streamingRetrievalTimeout;
+        return this;
+    }
+
     /**
      * Constructs and returns the AI Service.
      *
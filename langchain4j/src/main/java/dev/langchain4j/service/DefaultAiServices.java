@@ -149,17 +149,18 @@ class DefaultAiServices<T> extends AiServices<T> {
 
                         Optional<SystemMessage> systemMessage = prepareSystemMessage(memoryId, method, args);
                         UserMessage userMessage = prepareUserMessage(method, args);
+                        Type returnType = method.getGenericReturnType();
+                        boolean streaming = returnType == TokenStream.class || canAdaptTokenStreamTo(returnType);
+
                         AugmentationResult augmentationResult = null;
                         if (context.retrievalAugmentor != null) {
                             List<ChatMessage> chatMemoryMessages = chatMemory != null ? chatMemory.messages() : null;
                             Metadata metadata = Metadata.from(userMessage, memoryId, chatMemoryMessages);
-                            AugmentationRequest augmentationRequest = new AugmentationRequest(userMessage, metadata);
+                            AugmentationRequest augmentationRequest = new AugmentationRequest(
+                                    userMessage, metadata, streaming ? context.streamingRetrievalTimeout : null);
                             augmentationResult = context.retrievalAugmentor.augment(augmentationRequest);
                             userMessage = (UserMessage) augmentationResult.chatMessage();
                         }
-
-                        Type returnType = method.getGenericReturnType();
-                        boolean streaming = returnType == TokenStream.class || canAdaptTokenStreamTo(returnType);
                         boolean supportsJsonSchema = supportsJsonSchema();
                         Optional<JsonSchema> jsonSchema = Optional.empty();
                         if (supportsJsonSchema && !streaming) {
@@ -192,6 +193,8 @@ class DefaultAiServices<T> extends AiServices<T> {
                                     .toolExecutors(toolServiceContext.toolExecutors())
                                     .retrievedContents(
                                             augmentationResult != null ? augmentationResult.contents() : null)
+                                    .lateRetrievedContents(
+                                            augmentationResult != null ? augmentationResult.lateContents() : null)
                                     .context(context)
                                     .memoryId(memoryId)
                                     .build());
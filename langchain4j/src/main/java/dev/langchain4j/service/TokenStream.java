@@ -34,6 +34,23 @@ public interface TokenStream {
      */
     TokenStream onRetrieved(Consumer<List<Content>> contentHandler);
 
+    /**
+     * The provided consumer will be invoked if any {@link Content}s are retrieved using {@link RetrievalAugmentor}
+     * after the request was sent to the language model, and were therefore not included in it.
+     * <p>
+     * This can only happen when a streaming retrieval timeout is configured for the AI Service.
+     * The invocation happens once all late retrievals finish, possibly while the response is still streaming.
+     * Exceptions thrown by the consumer are logged and do not fail the stream.
+     *
+     * By default, the late contents are ignored and the retrievals still running when the stream starts are cancelled.
+     *
+     * @param lateContentHandler lambda that consumes the contents retrieved too late to be sent to the language model
+     * @return token stream instance used to configure or start stream processing
+     */
+    default TokenStream onLateRetrieved(Consumer<List<Content>> lateContentHandler) {
+        return this;
+    }
+
     /**
      * The provided consumer will be invoked if any tool is executed.
      * <p>
@@ -25,6 +25,7 @@ import java.util.Objects;
 import java.util.PriorityQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
 
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
 import static dev.langchain4j.internal.Utils.randomUUID;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
@@ -33,6 +34,7 @@ import static dev.langchain4j.spi.ServiceHelper.loadFactories;
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static java.util.Comparator.comparingDouble;
 import static java.util.stream.Collectors.toList;
 
@@ -50,6 +52,11 @@ import static java.util.stream.Collectors.toList;
  */
 public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded> {
 
+    /**
+     * The number of stored embeddings compared with all query embeddings at a time in {@link #searchAll(List)}.
+     */
+    private static final int SEARCH_BLOCK_SIZE = 64;
+
     final CopyOnWriteArrayList<Entry<Embedded>> entries;
 
     public InMemoryEmbeddingStore() {
@@ -145,36 +152,112 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
 
     @Override
     public EmbeddingSearchResult<Embedded> search(EmbeddingSearchRequest embeddingSearchRequest) {
+        return searchAll(singletonList(embeddingSearchRequest)).get(0);
+    }
+
+    /**
+     * Performs all searches in a single pass over the stored embeddings.
+     * The stored embeddings are processed in blocks, and each block is compared with all query embeddings
+     * before moving on to the next one, so each stored embedding is read from memory once
+     * regardless of the number of requests.
+     */
+    @Override
+    public List<EmbeddingSearchResult<Embedded>> searchAll(List<EmbeddingSearchRequest> embeddingSearchRequests) {
 
         Comparator<EmbeddingMatch<Embedded>> comparator = comparingDouble(EmbeddingMatch::score);
-        PriorityQueue<EmbeddingMatch<Embedded>> matches = new PriorityQueue<>(comparator);
 
-        Filter filter = embeddingSearchRequest.filter();
+        int requestCount = embeddingSearchRequests.size();
+        float[][] queryVectors = new float[requestCount][];
+        double[] queryNorms = new double[requestCount];
+        List<PriorityQueue<EmbeddingMatch<Embedded>>> matches = new ArrayList<>(requestCount);
+        for (int q = 0; q < requestCount; q++) {
+            queryVectors[q] = embeddingSearchRequests.get(q).queryEmbedding().vector();
+            queryNorms[q] = norm(queryVectors[q]);
+            matches.add(new PriorityQueue<>(comparator));
+        }
 
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Entry<Embedded>[] block = new Entry[SEARCH_BLOCK_SIZE];
+        double[] blockNorms = new double[SEARCH_BLOCK_SIZE];
+        int blockSize = 0;
         for (Entry<Embedded> entry : entries) {
+            block[blockSize++] = entry;
+            if (blockSize == SEARCH_BLOCK_SIZE) {
+                searchBlock(block, blockNorms, blockSize, embeddingSearchRequests, queryVectors, queryNorms, matches);
+                blockSize = 0;
+            }
+        }
+        searchBlock(block, blockNorms, blockSize, embeddingSearchRequests, queryVectors, queryNorms, matches);
+
+        List<EmbeddingSearchResult<Embedded>> results = new ArrayList<>(requestCount);
+        for (PriorityQueue<EmbeddingMatch<Embedded>> requestMatches : matches) {
+            List<EmbeddingMatch<Embedded>> result = new ArrayList<>(requestMatches);
+            result.sort(comparator);
+            Collections.reverse(result);
+            results.add(new EmbeddingSearchResult<>(result));
+        }
+        return results;
+    }
+
+    private void searchBlock(Entry<Embedded>[] block,
+                             double[] blockNorms,
+                             int blockSize,
+                             List<EmbeddingSearchRequest> embeddingSearchRequests,
+                             float[][] queryVectors,
+                             double[] queryNorms,
+                             List<PriorityQueue<EmbeddingMatch<Embedded>>> matches) {
+
+        for (int i = 0; i < blockSize; i++) {
+            blockNorms[i] = norm(block[i].embedding.vector());
+        }
+
+        for (int q = 0; q < queryVectors.length; q++) {
+            EmbeddingSearchRequest embeddingSearchRequest = embeddingSearchRequests.get(q);
+            Filter filter = embeddingSearchRequest.filter();
+            PriorityQueue<EmbeddingMatch<Embedded>> requestMatches = matches.get(q);
+
+            for (int i = 0; i < blockSize; i++) {
+                Entry<Embedded> entry = block[i];
 
-            if (filter != null && entry.embedded instanceof TextSegment) {
-                Metadata metadata = ((TextSegment) entry.embedded).metadata();
-                if (!filter.test(metadata)) {
-                    continue;
+                if (filter != null && entry.embedded instanceof TextSegment) {
+                    Metadata metadata = ((TextSegment) entry.embedded).metadata();
+                    if (!filter.test(metadata)) {
+                        continue;
+                    }
                 }
-            }
 
-            double cosineSimilarity = CosineSimilarity.between(entry.embedding, embeddingSearchRequest.queryEmbedding());
-            double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
-            if (score >= embeddingSearchRequest.minScore()) {
-                matches.add(new EmbeddingMatch<>(score, entry.id, entry.embedding, entry.embedded));
-                if (matches.size() > embeddingSearchRequest.maxResults()) {
-                    matches.poll();
+                // same computation as CosineSimilarity.between(), with the norms computed once per vector
+                double dotProduct = dotProduct(entry.embedding.vector(), queryVectors[q]);
+                double cosineSimilarity = dotProduct / Math.max(blockNorms[i] * queryNorms[q], CosineSimilarity.EPSILON);
+                double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
+                if (score >= embeddingSearchRequest.minScore()) {
+                    requestMatches.add(new EmbeddingMatch<>(score, entry.id, entry.embedding, entry.embedded));
+                    if (requestMatches.size() > embeddingSearchRequest.maxResults()) {
+                        requestMatches.poll();
+                    }
                 }
             }
         }
+    }
 
-        List<EmbeddingMatch<Embedded>> result = new ArrayList<>(matches);
-        result.sort(comparator);
-        Collections.reverse(result);
+    private static double norm(float[] vector) {
+        double norm = 0.0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        return Math.sqrt(norm);
+    }
 
-        return new EmbeddingSearchResult<>(result);
+    private static double dotProduct(float[] vectorA, float[] vectorB) {
+        if (vectorA.length != vectorB.length) {
+            throw illegalArgument("Length of vector a (%s) must be equal to the length of vector b (%s)",
+                    vectorA.length, vectorB.length);
+        }
+        double dotProduct = 0.0;
+        for (int i = 0; i < vectorA.length; i++) {
+            dotProduct += vectorA[i] * vectorB[i];
+        }
+        return dotProduct;
     }
 
     public String serializeToJson() {
@@ -15,7 +15,6 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
@@ -44,7 +43,7 @@ class ConversationalChainTest {
         assertThat(response).isEqualTo(aiMessage);
 
         verify(chatMemory).add(UserMessage.from(userMessage));
-        verify(chatMemory, times(3)).messages();
+        verify(chatMemory).messages();
         verify(chatMemory).add(AiMessage.from(aiMessage));
         verifyNoMoreInteractions(chatMemory);
 
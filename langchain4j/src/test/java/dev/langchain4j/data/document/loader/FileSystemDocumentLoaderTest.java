@@ -3,6 +3,7 @@ package dev.langchain4j.data.document.loader;
 import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.loadDocument;
 import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.loadDocuments;
 import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.loadDocumentsRecursively;
+import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.streamDocumentsRecursively;
 
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
@@ -16,6 +17,9 @@ import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -191,6 +195,35 @@ class FileSystemDocumentLoaderTest implements WithAssertions {
         assertThat(loadDocumentsRecursively(resourceDirectory.toString())).isEqualTo(documents);
     }
 
+    @Test
+    void should_recursively_stream_documents_in_parallel() {
+
+        // given
+        Path resourceDirectory = resourceDirectory();
+        PathMatcher pathMatcher = FileSystems.getDefault().getPathMatcher("glob:**.txt");
+        List<Document> expected = loadDocumentsRecursively(resourceDirectory, pathMatcher, new TextDocumentParser());
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // when
+            List<Document> documents;
+            try (Stream<Document> stream = streamDocumentsRecursively(
+                    resourceDirectory, pathMatcher, new TextDocumentParser(), executor, 2)) {
+                documents = stream.toList();
+            }
+
+            // then
+            assertThat(documents).isNotEmpty().isEqualTo(expected);
+        } finally {
+            executor.shutdown();
+        }
+
+        // when-then
+        try (Stream<Document> stream = streamDocumentsRecursively(resourceDirectory)) {
+            assertThat(stream.toList()).isEqualTo(loadDocumentsRecursively(resourceDirectory));
+        }
+    }
+
     @Test
     void should_recursively_load_matching_documents() {
 
@@ -3,6 +3,7 @@ package dev.langchain4j.data.document.parser;
 import dev.langchain4j.data.document.BlankDocumentException;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
+import dev.langchain4j.data.document.StreamingDocument;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -39,6 +40,17 @@ class TextDocumentParserTest {
         assertThat(document.text()).isEqualToIgnoringWhitespace("test content");
     }
 
+    @Test
+    void should_parse_streaming_with_specified_charset() {
+
+        TextDocumentParser parser = new TextDocumentParser(ISO_8859_1);
+        InputStream inputStream = getClass().getClassLoader().getResourceAsStream("test-file-iso-8859-1.txt");
+
+        StreamingDocument document = parser.parseStreaming(inputStream);
+
+        assertThat(document.toDocument().text()).isEqualToIgnoringWhitespace("test content");
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {
             "empty-file.txt",
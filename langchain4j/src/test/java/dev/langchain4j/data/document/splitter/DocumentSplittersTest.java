@@ -0,0 +1,148 @@
+package dev.langchain4j.data.document.splitter;
+
+import static dev.langchain4j.data.document.Metadata.metadata;
+import static dev.langchain4j.model.openai.OpenAiChatModelName.GPT_4_O_MINI;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentSplitter;
+import dev.langchain4j.data.document.StreamingDocument;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.TokenCountEstimator;
+import dev.langchain4j.model.openai.OpenAiTokenCountEstimator;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+class DocumentSplittersTest {
+
+    @Test
+    void should_split_all_in_parallel_with_same_segments_and_indexes() {
+
+        DocumentSplitter splitter = DocumentSplitters.recursive(50, 10, new OpenAiTokenCountEstimator(GPT_4_O_MINI));
+        List<Document> documents = corpus(20, 10);
+
+        List<TextSegment> sequential = splitter.splitAll(documents);
+        List<TextSegment> parallel = splitter.splitAll(documents, ForkJoinPool.commonPool());
+
+        assertThat(parallel).containsExactlyElementsOf(sequential);
+        assertThat(parallel.get(0).metadata().getString("document")).isEqualTo("0");
+        assertThat(parallel.get(0).metadata().getInteger("index")).isZero();
+    }
+
+    @Test
+    void should_split_streaming_document_with_same_segments() {
+
+        DocumentSplitter splitter = DocumentSplitters.recursive(300, 30);
+        // several blocks of text
+        Document document = corpus(1, 300).get(0);
+        assertThat(document.text()).hasSizeGreaterThan(200_000);
+
+        List<TextSegment> segments;
+        try (StreamingDocument streamingDocument =
+                StreamingDocument.from(new StringReader(document.text()), document.metadata())) {
+            segments = splitter.splitStreaming(streamingDocument).collect(toList());
+        }
+
+        assertThat(segments).containsExactlyElementsOf(splitter.split(document));
+    }
+
+    @Test
+    void should_estimate_each_short_text_only_once() {
+
+        OpenAiTokenCountEstimator openAiTokenCountEstimator = new OpenAiTokenCountEstimator(GPT_4_O_MINI);
+        Map<String, Integer> estimations = new ConcurrentHashMap<>();
+        TokenCountEstimator countingTokenCountEstimator = new TokenCountEstimator() {
+
+            @Override
+            public int estimateTokenCountInText(String text) {
+                estimations.merge(text, 1, Integer::sum);
+                return openAiTokenCountEstimator.estimateTokenCountInText(text);
+            }
+
+            @Override
+            public int estimateTokenCountInMessage(ChatMessage message) {
+                return openAiTokenCountEstimator.estimateTokenCountInMessage(message);
+            }
+
+            @Override
+            public int estimateTokenCountInMessages(Iterable<ChatMessage> messages) {
+                return openAiTokenCountEstimator.estimateTokenCountInMessages(messages);
+            }
+        };
+        Document document = corpus(1, 20).get(0);
+
+        List<TextSegment> segments = DocumentSplitters.recursive(50, 10, countingTokenCountEstimator).split(document);
+
+        assertThat(segments).isEqualTo(DocumentSplitters.recursive(50, 10, openAiTokenCountEstimator).split(document));
+        estimations.forEach((text, count) -> {
+            if (text.length() <= 1_000) {
+                assertThat(count).as(text).isEqualTo(1);
+            }
+        });
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmark_recursive_splitter_throughput() {
+
+        DocumentSplitter splitter = DocumentSplitters.recursive(300, 30, new OpenAiTokenCountEstimator(GPT_4_O_MINI));
+        List<Document> documents = corpus(200, 50);
+        long chars = documents.stream().mapToLong(document -> document.text().length()).sum();
+
+        for (int round = 0; round < 5; round++) {
+
+            long start = System.nanoTime();
+            int sequentialSegments = splitter.splitAll(documents).size();
+            long sequentialNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            int parallelSegments = splitter.splitAll(documents, ForkJoinPool.commonPool()).size();
+            long parallelNanos = System.nanoTime() - start;
+
+            assertThat(parallelSegments).isEqualTo(sequentialSegments);
+            System.out.printf(
+                    "round %d: %d segments, sequential %.1f MB/s, parallel (%d threads) %.1f MB/s%n",
+                    round,
+                    sequentialSegments,
+                    chars * 1e3 / sequentialNanos,
+                    ForkJoinPool.commonPool().getParallelism(),
+                    chars * 1e3 / parallelNanos);
+        }
+    }
+
+    /**
+     * {@code documents} documents of {@code paragraphs} paragraphs of 5 to 15 random sentences each.
+     */
+    private static List<Document> corpus(int documents, int paragraphs) {
+        String[] words = "the quick brown fox jumps over lazy dog while a curious cat watches from an old wooden fence"
+                .split(" ");
+        Random random = new Random(42);
+        List<Document> corpus = new ArrayList<>();
+        for (int d = 0; d < documents; d++) {
+            StringBuilder text = new StringBuilder();
+            for (int p = 0; p < paragraphs; p++) {
+                int sentences = 5 + random.nextInt(11);
+                for (int s = 0; s < sentences; s++) {
+                    int length = 5 + random.nextInt(20);
+                    for (int w = 0; w < length; w++) {
+                        String word = words[random.nextInt(words.length)];
+                        text.append(w == 0 ? Character.toUpperCase(word.charAt(0)) + word.substring(1) : word);
+                        text.append(w == length - 1 ? ". " : " ");
+                    }
+                }
+                text.append("\n\n");
+            }
+            corpus.add(Document.from(text.toString(), metadata("document", String.valueOf(d))));
+        }
+        return corpus;
+    }
+}
@@ -1,8 +1,21 @@
 package dev.langchain4j.data.document.splitter;
 
+import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentSplitter;
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.document.StreamingDocument;
+import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.ExampleTestTokenCountEstimator;
 import dev.langchain4j.model.TokenCountEstimator;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
@@ -88,4 +101,47 @@ class HierarchicalDocumentSplitterTest implements WithAssertions {
             assertThat(splitter.estimateSize("abc def")).isEqualTo(2);
         }
     }
+
+    @Test
+    void should_split_streaming_document_incrementally_when_parts_are_not_substrings_of_the_text() {
+
+        // given
+        // collapses whitespace, so the parts are not substrings of the text
+        HierarchicalDocumentSplitter splitter = new ExampleImpl(100, 0) {
+
+            @Override
+            protected String[] split(String text) {
+                return Arrays.stream(super.split(text))
+                        .map(part -> part.replaceAll("\\s+", " "))
+                        .toArray(String[]::new);
+            }
+        };
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 50_000; i++) {
+            text.append("Sentence  number  ").append(i).append(". ");
+        }
+        Document document = Document.from(text.toString());
+        AtomicInteger charsRead = new AtomicInteger();
+        Reader reader = new FilterReader(new StringReader(text.toString())) {
+
+            @Override
+            public int read(char[] chars, int offset, int length) throws IOException {
+                int read = super.read(chars, offset, length);
+                charsRead.addAndGet(Math.max(read, 0));
+                return read;
+            }
+        };
+
+        // when
+        Iterator<TextSegment> segments = splitter.splitStreaming(StreamingDocument.from(reader, new Metadata())).iterator();
+        TextSegment first = segments.next();
+
+        // then
+        assertThat(text.length()).isGreaterThan(1_000_000);
+        assertThat(charsRead.get()).isLessThan(text.length() / 4);
+
+        List<TextSegment> all = new ArrayList<>(List.of(first));
+        segments.forEachRemaining(all::add);
+        assertThat(all).containsExactlyElementsOf(splitter.split(document));
+    }
 }
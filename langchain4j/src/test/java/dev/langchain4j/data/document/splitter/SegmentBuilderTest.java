@@ -1,5 +1,7 @@
 package dev.langchain4j.data.document.splitter;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
@@ -65,4 +67,33 @@ class SegmentBuilderTest implements WithAssertions {
             assertThat(builder.toString()).isEqualTo("Hello world");
         }
     }
+
+    @Test
+    void should_measure_whole_segment_only_when_sum_of_sizes_does_not_fit() {
+        List<String> measured = new ArrayList<>();
+        // the size of " ; " is 2 ("" and ";"), but 1 in a joined text
+        SegmentBuilder builder = new SegmentBuilder(20, text -> {
+            measured.add(text);
+            return text.split(" ").length;
+        }, " ; ");
+
+        builder.append("one fish", 2);
+        builder.append("two fish", 2);
+        builder.prepend("red fish");
+
+        assertThat(builder.toString()).isEqualTo("red fish ; one fish ; two fish");
+        assertThat(measured).containsExactly(" ; ", "red fish");
+
+        // the sum of sizes is 10
+        assertThat(builder.hasSpaceFor(8)).isTrue();
+        assertThat(measured).containsExactly(" ; ", "red fish");
+
+        // the whole segment is 8
+        assertThat(builder.hasSpaceFor(10)).isTrue();
+        assertThat(measured).containsExactly(" ; ", "red fish", "red fish ; one fish ; two fish");
+
+        assertThat(builder.hasSpaceFor(11)).isFalse();
+        assertThat(builder.getSize()).isEqualTo(8);
+        assertThat(measured).hasSize(3);
+    }
 }
@@ -3,6 +3,11 @@ package dev.langchain4j.memory.chat;
 import static dev.langchain4j.data.message.AiMessage.aiMessage;
 import static dev.langchain4j.data.message.SystemMessage.systemMessage;
 import static dev.langchain4j.data.message.UserMessage.userMessage;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
 import dev.langchain4j.data.message.AiMessage;
@@ -10,6 +15,9 @@ import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.ToolExecutionResultMessage;
 import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
+import java.util.List;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
@@ -408,4 +416,35 @@ class MessageWindowChatMemoryTest implements WithAssertions {
         // then orphan toolExecutionResultMessage1 and toolExecutionResultMessage2 are evicted together with aiMessage
         assertThat(chatMemory.messages()).containsExactly(systemMessage, aiMessage2);
     }
+
+    @Test
+    void should_use_incremental_updates_when_store_supports_them() {
+
+        ChatMemoryStore store = spy(new InMemoryChatMemoryStore());
+        ChatMemory chatMemory = MessageWindowChatMemory.builder()
+                .maxMessages(3)
+                .chatMemoryStore(store)
+                .build();
+
+        SystemMessage firstSystemMessage = systemMessage("You are a helpful assistant");
+        chatMemory.add(firstSystemMessage);
+        chatMemory.add(userMessage("hello"));
+        chatMemory.add(aiMessage("hi"));
+        chatMemory.add(userMessage("sup"));
+
+        assertThat(chatMemory.messages()).containsExactly(firstSystemMessage, aiMessage("hi"), userMessage("sup"));
+        verify(store).appendMessages("default", List.of(userMessage("sup")));
+        verify(store).evictOldest("default", 1);
+
+        SystemMessage secondSystemMessage = systemMessage("You are an unhelpful assistant");
+        chatMemory.add(secondSystemMessage);
+
+        assertThat(chatMemory.messages()).containsExactly(aiMessage("hi"), userMessage("sup"), secondSystemMessage);
+        verify(store).replaceSystemMessage("default", secondSystemMessage);
+
+        // the messages are read only once, and never rewritten
+        verify(store, times(1)).getMessages("default");
+        verify(store, never()).updateMessages(any(), any());
+        assertThat(store.getMessages("default")).containsExactly(aiMessage("hi"), userMessage("sup"), secondSystemMessage);
+    }
 }
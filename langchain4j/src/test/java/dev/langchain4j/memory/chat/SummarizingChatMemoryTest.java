@@ -0,0 +1,153 @@
+package dev.langchain4j.memory.chat;
+
+import static dev.langchain4j.data.message.AiMessage.aiMessage;
+import static dev.langchain4j.data.message.SystemMessage.systemMessage;
+import static dev.langchain4j.data.message.UserMessage.userMessage;
+import static dev.langchain4j.memory.chat.SummarizingChatMemory.SUMMARY_PREFIX;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.model.chat.mock.ChatModelMock;
+import java.util.ArrayList;
+import java.util.List;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+class SummarizingChatMemoryTest implements WithAssertions {
+
+    @Test
+    void should_summarize_oldest_messages() {
+
+        SummarizingChatMemory chatMemory = SummarizingChatMemory.builder()
+                .maxMessages(4)
+                .retainedMessages(2)
+                .chatModel(ChatModelMock.thatAlwaysResponds("They greeted each other."))
+                .executor(Runnable::run)
+                .build();
+
+        chatMemory.add(systemMessage("Be polite"));
+        chatMemory.add(userMessage("hello"));
+        chatMemory.add(aiMessage("hi"));
+        chatMemory.add(userMessage("how are you?"));
+        chatMemory.add(aiMessage("fine"));
+        assertThat(chatMemory.messages()).hasSize(5);
+
+        chatMemory.add(userMessage("what's up?"));
+
+        assertThat(chatMemory.messages())
+                .containsExactly(
+                        systemMessage("Be polite"),
+                        userMessage(SUMMARY_PREFIX + "They greeted each other."),
+                        aiMessage("fine"),
+                        userMessage("what's up?"));
+    }
+
+    @Test
+    void should_not_block_while_summarizing() {
+
+        List<Runnable> pendingTasks = new ArrayList<>();
+        SummarizingChatMemory chatMemory = SummarizingChatMemory.builder()
+                .maxMessages(2)
+                .retainedMessages(1)
+                .chatModel(ChatModelMock.thatAlwaysResponds("summary"))
+                .executor(pendingTasks::add)
+                .build();
+
+        chatMemory.add(userMessage("1"));
+        chatMemory.add(aiMessage("2"));
+        chatMemory.add(userMessage("3"));
+        chatMemory.add(aiMessage("4"));
+
+        // summarization has not run yet, so all messages are retained, and only one summarization is in flight
+        assertThat(chatMemory.messages()).containsExactly(userMessage("1"), aiMessage("2"), userMessage("3"), aiMessage("4"));
+        assertThat(pendingTasks).hasSize(1);
+
+        pendingTasks.get(0).run();
+
+        // messages added during summarization are kept
+        assertThat(chatMemory.messages())
+                .containsExactly(userMessage(SUMMARY_PREFIX + "summary"), userMessage("3"), aiMessage("4"));
+    }
+
+    @Test
+    void should_discard_summary_if_memory_was_cleared() {
+
+        List<Runnable> pendingTasks = new ArrayList<>();
+        SummarizingChatMemory chatMemory = SummarizingChatMemory.builder()
+                .maxMessages(2)
+                .retainedMessages(1)
+                .chatModel(ChatModelMock.thatAlwaysResponds("summary"))
+                .executor(pendingTasks::add)
+                .build();
+
+        chatMemory.add(userMessage("1"));
+        chatMemory.add(aiMessage("2"));
+        chatMemory.add(userMessage("3"));
+        chatMemory.clear();
+        chatMemory.add(userMessage("4"));
+
+        pendingTasks.get(0).run();
+
+        assertThat(chatMemory.messages()).containsExactly(userMessage("4"));
+    }
+
+    @Test
+    void should_summarize_tool_results_together_with_tool_requests() {
+
+        SummarizingChatMemory chatMemory = SummarizingChatMemory.builder()
+                .maxMessages(4)
+                .retainedMessages(2)
+                .chatModel(ChatModelMock.thatAlwaysResponds("summary"))
+                .executor(Runnable::run)
+                .build();
+
+        ToolExecutionRequest request = ToolExecutionRequest.builder()
+                .id("1")
+                .name("weather")
+                .arguments("{}")
+                .build();
+        chatMemory.add(userMessage("hello"));
+        chatMemory.add(userMessage("what is the weather?"));
+        chatMemory.add(AiMessage.from(request));
+        chatMemory.add(ToolExecutionResultMessage.from(request, "sunny"));
+        chatMemory.add(aiMessage("it is sunny"));
+
+        List<ChatMessage> messages = chatMemory.messages();
+        assertThat(messages).containsExactly(userMessage(SUMMARY_PREFIX + "summary"), aiMessage("it is sunny"));
+    }
+
+    @Test
+    void should_keep_all_messages_if_summarization_fails() {
+
+        SummarizingChatMemory chatMemory = SummarizingChatMemory.builder()
+                .maxMessages(2)
+                .retainedMessages(1)
+                .chatModel(new ChatModelMock(new RuntimeException("model is down")))
+                .executor(Runnable::run)
+                .build();
+
+        chatMemory.add(userMessage("1"));
+        chatMemory.add(aiMessage("2"));
+        chatMemory.add(userMessage("3"));
+
+        assertThat(chatMemory.messages()).containsExactly(userMessage("1"), aiMessage("2"), userMessage("3"));
+    }
+
+    @Test
+    void should_replace_system_message() {
+
+        SummarizingChatMemory chatMemory = SummarizingChatMemory.builder()
+                .maxMessages(10)
+                .chatModel(ChatModelMock.thatAlwaysResponds("summary"))
+                .build();
+
+        chatMemory.add(systemMessage("Be polite"));
+        chatMemory.add(userMessage("hello"));
+        chatMemory.add(systemMessage("Be polite"));
+        chatMemory.add(systemMessage("Be rude"));
+
+        assertThat(chatMemory.messages()).containsExactly(userMessage("hello"), systemMessage("Be rude"));
+    }
+}
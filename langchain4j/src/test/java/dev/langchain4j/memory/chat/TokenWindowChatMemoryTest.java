@@ -1,12 +1,20 @@
 package dev.langchain4j.memory.chat;
 
+import static dev.langchain4j.data.message.ChatMessageDeserializer.messagesFromJson;
+import static dev.langchain4j.data.message.ChatMessageSerializer.messagesToJson;
 import static dev.langchain4j.data.message.SystemMessage.systemMessage;
 import static dev.langchain4j.data.message.UserMessage.userMessage;
 import static dev.langchain4j.internal.TestUtils.aiMessageWithTokens;
 import static dev.langchain4j.internal.TestUtils.systemMessageWithTokens;
 import static dev.langchain4j.internal.TestUtils.userMessageWithTokens;
 import static dev.langchain4j.model.openai.OpenAiChatModelName.GPT_4_O_MINI;
+import static dev.langchain4j.model.openai.OpenAiChatModelName.O1_MINI;
 import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
 import dev.langchain4j.data.message.AiMessage;
@@ -18,6 +26,10 @@ import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.model.TokenCountEstimator;
 import dev.langchain4j.model.openai.OpenAiChatModelName;
 import dev.langchain4j.model.openai.OpenAiTokenCountEstimator;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
@@ -611,4 +623,195 @@ class TokenWindowChatMemoryTest implements WithAssertions {
                 OpenAiTokenCountEstimator(OpenAiChatModelName.GPT_3_5_TURBO));
         chatMemory.add(systemMessageWithTokens(10));
     }
+
+    @Test
+    void should_estimate_token_count_of_each_message_only_once() {
+
+        AtomicInteger messageEstimations = new AtomicInteger();
+        AtomicInteger messagesEstimations = new AtomicInteger();
+        TokenCountEstimator countingEstimator = countingEstimator(messageEstimations, messagesEstimations);
+
+        UserMessage userMessage1 = userMessageWithTokens(10);
+        AiMessage aiMessage1 = aiMessageWithTokens(10);
+        UserMessage userMessage2 = userMessageWithTokens(5);
+        int maxTokens = EXTRA_TOKENS_PER_REQUEST + 15;
+        ChatMemory chatMemory = TokenWindowChatMemory.withMaxTokens(maxTokens, countingEstimator);
+
+        chatMemory.add(userMessage1);
+        chatMemory.add(aiMessage1);
+        chatMemory.add(userMessage2);
+        for (int i = 0; i < 10; i++) {
+            assertThat(chatMemory.messages()).containsExactly(aiMessage1, userMessage2);
+        }
+
+        assertThat(messageEstimations).hasValue(3);
+        assertThat(messagesEstimations).hasValue(1);
+        assertThat(TOKEN_COUNT_ESTIMATOR.estimateTokenCountInMessages(chatMemory.messages()))
+                .isEqualTo(maxTokens);
+    }
+
+    @Test
+    void should_not_re_estimate_token_counts_when_store_returns_deserialized_messages() {
+
+        AtomicInteger messageEstimations = new AtomicInteger();
+        AtomicInteger messagesEstimations = new AtomicInteger();
+        TokenCountEstimator countingEstimator = countingEstimator(messageEstimations, messagesEstimations);
+
+        ChatMemoryStore deserializingStore = new ChatMemoryStore() {
+
+            private String json = messagesToJson(List.of());
+
+            @Override
+            public List<ChatMessage> getMessages(Object memoryId) {
+                return messagesFromJson(json);
+            }
+
+            @Override
+            public void updateMessages(Object memoryId, List<ChatMessage> messages) {
+                json = messagesToJson(messages);
+            }
+
+            @Override
+            public void deleteMessages(Object memoryId) {
+                json = messagesToJson(List.of());
+            }
+        };
+
+        UserMessage userMessage1 = userMessageWithTokens(10);
+        AiMessage aiMessage1 = aiMessageWithTokens(10);
+        UserMessage userMessage2 = userMessageWithTokens(5);
+        ChatMemory chatMemory = TokenWindowChatMemory.builder()
+                .maxTokens(EXTRA_TOKENS_PER_REQUEST + 15, countingEstimator)
+                .chatMemoryStore(deserializingStore)
+                .build();
+
+        chatMemory.add(userMessage1);
+        chatMemory.add(aiMessage1);
+        chatMemory.add(userMessage2);
+        for (int i = 0; i < 10; i++) {
+            assertThat(chatMemory.messages()).containsExactly(aiMessage1, userMessage2);
+        }
+
+        assertThat(messageEstimations).hasValue(3);
+        assertThat(messagesEstimations).hasValue(1);
+    }
+
+    @Test
+    void should_re_estimate_token_counts_when_store_is_modified_by_another_memory() {
+
+        // without incremental updates, memories read the store on every access and may share an ID
+        ChatMemoryStore store = new InMemoryChatMemoryStore() {
+
+            @Override
+            public boolean supportsIncrementalUpdates() {
+                return false;
+            }
+        };
+        int maxTokens = EXTRA_TOKENS_PER_REQUEST + 20;
+        ChatMemory chatMemory = TokenWindowChatMemory.builder()
+                .maxTokens(maxTokens, TOKEN_COUNT_ESTIMATOR)
+                .chatMemoryStore(store)
+                .build();
+        ChatMemory otherChatMemory = TokenWindowChatMemory.builder()
+                .maxTokens(maxTokens, TOKEN_COUNT_ESTIMATOR)
+                .chatMemoryStore(store)
+                .build();
+
+        UserMessage userMessage1 = userMessageWithTokens(10);
+        AiMessage aiMessage1 = aiMessageWithTokens(10);
+        UserMessage userMessage2 = userMessageWithTokens(5);
+
+        chatMemory.add(userMessage1);
+        assertThat(chatMemory.messages()).containsExactly(userMessage1);
+
+        otherChatMemory.add(aiMessage1);
+        chatMemory.add(userMessage2);
+
+        assertThat(chatMemory.messages()).containsExactly(aiMessage1, userMessage2);
+        assertThat(otherChatMemory.messages()).containsExactly(aiMessage1, userMessage2);
+    }
+
+    @Test
+    void should_count_per_request_overhead_of_estimator() {
+
+        // o-series models add 2 tokens per request instead of 3
+        TokenCountEstimator tokenCountEstimator = new OpenAiTokenCountEstimator(O1_MINI);
+
+        UserMessage userMessage1 = userMessage("What is the capital of Germany?");
+        AiMessage aiMessage1 = AiMessage.from("The capital of Germany is Berlin.");
+        UserMessage userMessage2 = userMessage("And of France?");
+        int maxTokens = tokenCountEstimator.estimateTokenCountInMessages(List.of(aiMessage1, userMessage2));
+
+        ChatMemory chatMemory = TokenWindowChatMemory.withMaxTokens(maxTokens, tokenCountEstimator);
+
+        chatMemory.add(userMessage1);
+        chatMemory.add(aiMessage1);
+        chatMemory.add(userMessage2);
+
+        assertThat(chatMemory.messages()).containsExactly(aiMessage1, userMessage2);
+        assertThat(tokenCountEstimator.estimateTokenCountInMessages(chatMemory.messages())).isEqualTo(maxTokens);
+    }
+
+    @Test
+    void should_use_incremental_updates_when_store_supports_them() {
+
+        AtomicInteger messageEstimations = new AtomicInteger();
+        AtomicInteger messagesEstimations = new AtomicInteger();
+        TokenCountEstimator countingEstimator = countingEstimator(messageEstimations, messagesEstimations);
+
+        ChatMemoryStore store = spy(new InMemoryChatMemoryStore());
+        ChatMemory chatMemory = TokenWindowChatMemory.builder()
+                .maxTokens(EXTRA_TOKENS_PER_REQUEST + 25, countingEstimator)
+                .chatMemoryStore(store)
+                .build();
+
+        SystemMessage firstSystemMessage = systemMessageWithTokens(10);
+        UserMessage userMessage1 = userMessageWithTokens(5);
+        AiMessage aiMessage1 = aiMessageWithTokens(5);
+        UserMessage userMessage2 = userMessageWithTokens(10);
+
+        chatMemory.add(firstSystemMessage);
+        chatMemory.add(userMessage1);
+        chatMemory.add(aiMessage1);
+        chatMemory.add(userMessage2);
+
+        assertThat(chatMemory.messages()).containsExactly(firstSystemMessage, aiMessage1, userMessage2);
+        verify(store).appendMessages("default", List.of(userMessage2));
+        verify(store).evictOldest("default", 1);
+
+        SystemMessage secondSystemMessage = systemMessageWithTokens(5);
+        chatMemory.add(secondSystemMessage);
+
+        assertThat(chatMemory.messages()).containsExactly(aiMessage1, userMessage2, secondSystemMessage);
+        verify(store).replaceSystemMessage("default", secondSystemMessage);
+
+        // the messages are read only once, never rewritten, and each of them is estimated only once
+        verify(store, times(1)).getMessages("default");
+        verify(store, never()).updateMessages(any(), any());
+        assertThat(messageEstimations).hasValue(5);
+        assertThat(store.getMessages("default")).containsExactly(aiMessage1, userMessage2, secondSystemMessage);
+    }
+
+    private static TokenCountEstimator countingEstimator(AtomicInteger messageEstimations,
+                                                        AtomicInteger messagesEstimations) {
+        return new TokenCountEstimator() {
+
+            @Override
+            public int estimateTokenCountInText(String text) {
+                return TOKEN_COUNT_ESTIMATOR.estimateTokenCountInText(text);
+            }
+
+            @Override
+            public int estimateTokenCountInMessage(ChatMessage message) {
+                messageEstimations.incrementAndGet();
+                return TOKEN_COUNT_ESTIMATOR.estimateTokenCountInMessage(message);
+            }
+
+            @Override
+            public int estimateTokenCountInMessages(Iterable<ChatMessage> messages) {
+                messagesEstimations.incrementAndGet();
+                return TOKEN_COUNT_ESTIMATOR.estimateTokenCountInMessages(messages);
+            }
+        };
+    }
 }
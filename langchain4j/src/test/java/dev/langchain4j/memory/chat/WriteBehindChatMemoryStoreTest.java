@@ -0,0 +1,222 @@
+package dev.langchain4j.memory.chat;
+
+import static dev.langchain4j.data.message.AiMessage.aiMessage;
+import static dev.langchain4j.data.message.UserMessage.userMessage;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+class WriteBehindChatMemoryStoreTest implements WithAssertions {
+
+    private static final Duration NEVER = Duration.ofHours(1);
+
+    @Test
+    void should_coalesce_updates_until_flushed() {
+
+        ChatMemoryStore delegate = spy(new InMemoryChatMemoryStore());
+        try (WriteBehindChatMemoryStore store = WriteBehindChatMemoryStore.builder()
+                .delegate(delegate)
+                .flushInterval(NEVER)
+                .build()) {
+
+            ChatMemory chatMemory = MessageWindowChatMemory.builder()
+                    .id("user")
+                    .maxMessages(10)
+                    .chatMemoryStore(store)
+                    .build();
+
+            chatMemory.add(userMessage("hello"));
+            chatMemory.add(aiMessage("hi"));
+            chatMemory.add(userMessage("sup"));
+
+            assertThat(chatMemory.messages()).containsExactly(userMessage("hello"), aiMessage("hi"), userMessage("sup"));
+            assertThat(store.pendingCount()).isEqualTo(1);
+            verify(delegate, never()).updateMessages(any(), any());
+
+            store.flush();
+
+            assertThat(store.pendingCount()).isZero();
+            verify(delegate, times(1)).updateMessages(any(), any());
+            assertThat(delegate.getMessages("user"))
+                    .containsExactly(userMessage("hello"), aiMessage("hi"), userMessage("sup"));
+        }
+    }
+
+    @Test
+    void should_read_from_delegate_only_once() {
+
+        ChatMemoryStore delegate = spy(new InMemoryChatMemoryStore());
+        delegate.updateMessages("user", List.of(userMessage("hello")));
+
+        try (WriteBehindChatMemoryStore store = WriteBehindChatMemoryStore.builder()
+                .delegate(delegate)
+                .flushInterval(NEVER)
+                .build()) {
+
+            for (int i = 0; i < 3; i++) {
+                assertThat(store.getMessages("user")).containsExactly(userMessage("hello"));
+            }
+            verify(delegate, times(1)).getMessages("user");
+        }
+    }
+
+    @Test
+    void should_flush_on_close() {
+
+        ChatMemoryStore delegate = new InMemoryChatMemoryStore();
+        delegate.updateMessages("deleted", List.of(userMessage("bye")));
+
+        WriteBehindChatMemoryStore store = WriteBehindChatMemoryStore.builder()
+                .delegate(delegate)
+                .flushInterval(NEVER)
+                .build();
+        store.updateMessages("user", List.of(userMessage("hello")));
+        store.deleteMessages("deleted");
+
+        store.close();
+
+        assertThat(delegate.getMessages("user")).containsExactly(userMessage("hello"));
+        assertThat(delegate.getMessages("deleted")).isEmpty();
+
+        // after close, writes go straight to the delegate
+        store.updateMessages("user", List.of(userMessage("hello"), aiMessage("hi")));
+        assertThat(delegate.getMessages("user")).containsExactly(userMessage("hello"), aiMessage("hi"));
+    }
+
+    @Test
+    void should_flush_periodically() {
+
+        ChatMemoryStore delegate = new InMemoryChatMemoryStore();
+        try (WriteBehindChatMemoryStore store = WriteBehindChatMemoryStore.builder()
+                .delegate(delegate)
+                .flushInterval(Duration.ofMillis(10))
+                .build()) {
+
+            store.updateMessages("user", List.of(userMessage("hello")));
+
+            await().atMost(Duration.ofSeconds(5)).until(() -> !delegate.getMessages("user").isEmpty());
+            assertThat(delegate.getMessages("user")).containsExactly(userMessage("hello"));
+        }
+    }
+
+    @Test
+    void should_flush_when_batch_is_full() {
+
+        ChatMemoryStore delegate = new InMemoryChatMemoryStore();
+        try (WriteBehindChatMemoryStore store = WriteBehindChatMemoryStore.builder()
+                .delegate(delegate)
+                .flushInterval(NEVER)
+                .maxBatchSize(2)
+                .build()) {
+
+            store.updateMessages("user1", List.of(userMessage("hello")));
+            store.updateMessages("user2", List.of(userMessage("hi")));
+
+            await().atMost(Duration.ofSeconds(5)).until(() -> store.pendingCount() == 0);
+            assertThat(delegate.getMessages("user1")).containsExactly(userMessage("hello"));
+            assertThat(delegate.getMessages("user2")).containsExactly(userMessage("hi"));
+        }
+    }
+
+    @Test
+    void should_flush_before_evicting() {
+
+        ChatMemoryStore delegate = spy(new InMemoryChatMemoryStore());
+        try (WriteBehindChatMemoryStore store = WriteBehindChatMemoryStore.builder()
+                .delegate(delegate)
+                .flushInterval(NEVER)
+                .maxCachedMemories(1)
+                .build()) {
+
+            store.updateMessages("user1", List.of(userMessage("hello")));
+            store.updateMessages("user2", List.of(userMessage("hi")));
+
+            // waits for the flush triggered by the eviction, if still running
+            store.flush();
+            assertThat(delegate.getMessages("user1")).containsExactly(userMessage("hello"));
+
+            // user1 was evicted once flushed, so it is read from the delegate again
+            assertThat(store.getMessages("user1")).containsExactly(userMessage("hello"));
+            verify(delegate, times(2)).getMessages("user1");
+        }
+    }
+
+    @Test
+    void should_keep_failed_writes_pending() {
+
+        ChatMemoryStore delegate = spy(new InMemoryChatMemoryStore());
+        doThrow(new RuntimeException("store is down"))
+                .doCallRealMethod()
+                .when(delegate)
+                .updateMessages(eq("user"), any());
+
+        try (WriteBehindChatMemoryStore store = WriteBehindChatMemoryStore.builder()
+                .delegate(delegate)
+                .flushInterval(NEVER)
+                .build()) {
+
+            store.updateMessages("user", List.of(userMessage("hello")));
+
+            assertThatThrownBy(store::flush).hasMessage("store is down");
+            assertThat(store.pendingCount()).isEqualTo(1);
+
+            store.flush();
+            assertThat(store.pendingCount()).isZero();
+            assertThat(delegate.getMessages("user")).containsExactly(userMessage("hello"));
+        }
+    }
+    @Test
+    void should_not_cache_messages_read_from_delegate_during_write() throws Exception {
+
+        // given
+        CountDownLatch readStarted = new CountDownLatch(1);
+        CountDownLatch writeDone = new CountDownLatch(1);
+        ChatMemoryStore delegate = new InMemoryChatMemoryStore() {
+
+            @Override
+            public List<ChatMessage> getMessages(Object memoryId) {
+                List<ChatMessage> messages = super.getMessages(memoryId);
+                if (readStarted.getCount() > 0) {
+                    readStarted.countDown();
+                    try {
+                        writeDone.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return messages;
+            }
+        };
+        WriteBehindChatMemoryStore store = WriteBehindChatMemoryStore.builder()
+                .delegate(delegate)
+                .flushInterval(NEVER)
+                .build();
+        store.close(); // writes go to the delegate synchronously and are not cached
+
+        // when
+        CompletableFuture<List<ChatMessage>> staleRead = CompletableFuture.supplyAsync(() -> store.getMessages("user"));
+        readStarted.await();
+        store.updateMessages("user", List.of(userMessage("hello")));
+        writeDone.countDown();
+
+        // then
+        assertThat(staleRead.get()).isEmpty();
+        assertThat(store.getMessages("user")).containsExactly(userMessage("hello"));
+    }
+}
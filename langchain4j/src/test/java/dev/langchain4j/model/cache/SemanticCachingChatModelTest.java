@@ -0,0 +1,257 @@
+package dev.langchain4j.model.cache;
+
+import static dev.langchain4j.data.message.AiMessage.aiMessage;
+import static dev.langchain4j.data.message.SystemMessage.systemMessage;
+import static dev.langchain4j.data.message.UserMessage.userMessage;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.request.ChatRequestParameters;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.FinishReason;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SemanticCachingChatModelTest {
+
+    /**
+     * Embeds a text as the set of its words, so that texts sharing most of their words are similar.
+     */
+    private static final EmbeddingModel BAG_OF_WORDS_EMBEDDING_MODEL = new EmbeddingModel() {
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            return Response.from(textSegments.stream()
+                    .map(segment -> {
+                        float[] vector = new float[1024];
+                        for (String word : segment.text().split("\\W+")) {
+                            vector[Math.floorMod(word.hashCode(), vector.length)] = 1;
+                        }
+                        return Embedding.from(vector);
+                    })
+                    .collect(toList()));
+        }
+    };
+
+    AtomicInteger calls = new AtomicInteger();
+
+    ChatModel delegate = new ChatModel() {
+
+        @Override
+        public ChatResponse doChat(ChatRequest chatRequest) {
+            return ChatResponse.builder()
+                    .aiMessage(AiMessage.from("answer " + calls.incrementAndGet()))
+                    .id("id-" + calls.get())
+                    .tokenUsage(new TokenUsage(10, 5))
+                    .modelName("test-model")
+                    .finishReason(FinishReason.STOP)
+                    .build();
+        }
+    };
+
+    @Test
+    void should_answer_similar_questions_from_cache() {
+
+        // given
+        SemanticCache cache = SemanticCache.builder()
+                .embeddingModel(BAG_OF_WORDS_EMBEDDING_MODEL)
+                .minScore(0.8)
+                .build();
+        ChatModel model = new SemanticCachingChatModel(delegate, cache);
+
+        // when
+        ChatResponse first = model.chat(userMessage("What is the capital of France?"));
+        ChatResponse same = model.chat(userMessage("  what is the CAPITAL of   France? "));
+        ChatResponse similar = model.chat(userMessage("What is the capital city of France?"));
+        ChatResponse different = model.chat(userMessage("How is the weather in Munich?"));
+
+        // then
+        assertThat(first.aiMessage().text()).isEqualTo("answer 1");
+        assertThat(same.aiMessage()).isEqualTo(first.aiMessage());
+        assertThat(same.modelName()).isEqualTo("test-model");
+        assertThat(same.finishReason()).isEqualTo(FinishReason.STOP);
+        // no tokens were consumed to produce a cached response
+        assertThat(same.id()).isNull();
+        assertThat(same.tokenUsage()).isNull();
+        assertThat(similar.aiMessage().text()).isEqualTo("answer 1");
+        assertThat(different.aiMessage().text()).isEqualTo("answer 2");
+        assertThat(calls).hasValue(2);
+        assertThat(cache.hitCount()).isEqualTo(2);
+        assertThat(cache.missCount()).isEqualTo(2);
+        assertThat(cache.hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void should_scope_cache_by_system_message() {
+
+        // given
+        ChatModel model = new SemanticCachingChatModel(
+                delegate, SemanticCache.builder().embeddingModel(BAG_OF_WORDS_EMBEDDING_MODEL).build());
+
+        // when
+        model.chat(systemMessage("Answer in English"), userMessage("hello"));
+        model.chat(systemMessage("Answer in German"), userMessage("hello"));
+        model.chat(systemMessage("Answer in English"), userMessage("hello"));
+
+        // then
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void should_scope_cache_by_parameters() {
+
+        // given
+        ChatModel model = new SemanticCachingChatModel(
+                delegate, SemanticCache.builder().embeddingModel(BAG_OF_WORDS_EMBEDDING_MODEL).build());
+
+        // when
+        model.chat(ChatRequest.builder().messages(userMessage("hello")).temperature(0.0).build());
+        model.chat(ChatRequest.builder().messages(userMessage("hello")).temperature(1.0).build());
+        model.chat(ChatRequest.builder().messages(userMessage("hello")).temperature(0.0).build());
+
+        // then
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void should_scope_cache_by_default_parameters_of_model() {
+
+        // given
+        SemanticCache cache = SemanticCache.builder().embeddingModel(BAG_OF_WORDS_EMBEDDING_MODEL).build();
+        ChatModel deterministicModel = new SemanticCachingChatModel(withDefaultTemperature(0.0), cache);
+        ChatModel creativeModel = new SemanticCachingChatModel(withDefaultTemperature(1.0), cache);
+
+        // when
+        deterministicModel.chat("hello");
+        creativeModel.chat("hello");
+        // the same parameters as the defaults of the deterministic model
+        creativeModel.chat(ChatRequest.builder().messages(userMessage("hello")).temperature(0.0).build());
+
+        // then
+        assertThat(calls).hasValue(2);
+        assertThat(cache.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void should_bypass_cache_when_request_has_conversation_history() {
+
+        // given
+        SemanticCache cache = SemanticCache.builder()
+                .embeddingModel(BAG_OF_WORDS_EMBEDDING_MODEL)
+                .build();
+        ChatModel model = new SemanticCachingChatModel(delegate, cache);
+        model.chat(userMessage("What does it cost?"));
+
+        // when
+        ChatResponse response = model.chat(
+                userMessage("Tell me about the blue bike"), aiMessage("It is a city bike"), userMessage("What does it cost?"));
+
+        // then
+        assertThat(response.aiMessage().text()).isEqualTo("answer 2");
+        assertThat(cache.hitCount()).isZero();
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void should_not_return_expired_responses() throws InterruptedException {
+
+        // given
+        SemanticCache cache = SemanticCache.builder()
+                .embeddingModel(BAG_OF_WORDS_EMBEDDING_MODEL)
+                .timeToLive(Duration.ofMillis(50))
+                .build();
+        ChatModel model = new SemanticCachingChatModel(delegate, cache);
+        model.chat(userMessage("hello"));
+
+        // when
+        Thread.sleep(100);
+        cache.evictExpired();
+        String answer = model.chat("hello");
+
+        // then
+        assertThat(answer).isEqualTo("answer 2");
+    }
+
+    @Test
+    void should_invalidate_responses() {
+
+        // given
+        SemanticCache cache = SemanticCache.builder()
+                .embeddingModel(BAG_OF_WORDS_EMBEDDING_MODEL)
+                .build();
+        ChatModel model = new SemanticCachingChatModel(delegate, cache);
+        ChatRequest request = ChatRequest.builder()
+                .messages(systemMessage("Be brief"), userMessage("hello"))
+                .build();
+        model.chat(request);
+        model.chat(userMessage("hello"));
+
+        // when
+        cache.invalidate(request);
+
+        // then
+        assertThat(model.chat(request).aiMessage().text()).isEqualTo("answer 3");
+        assertThat(model.chat("hello")).isEqualTo("answer 2");
+
+        // when
+        cache.invalidateAll();
+
+        // then
+        assertThat(model.chat("hello")).isEqualTo("answer 4");
+    }
+
+    private ChatModel withDefaultTemperature(double temperature) {
+        return new ChatModel() {
+
+            @Override
+            public ChatResponse doChat(ChatRequest chatRequest) {
+                return delegate.doChat(chatRequest);
+            }
+
+            @Override
+            public ChatRequestParameters defaultRequestParameters() {
+                return ChatRequestParameters.builder().temperature(temperature).build();
+            }
+        };
+    }
+
+    @Test
+    void should_not_cache_tool_execution_requests() {
+
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        ChatModel delegate = new ChatModel() {
+
+            @Override
+            public ChatResponse doChat(ChatRequest chatRequest) {
+                calls.incrementAndGet();
+                return ChatResponse.builder()
+                        .aiMessage(AiMessage.from(ToolExecutionRequest.builder()
+                                .name("weather")
+                                .arguments("{}")
+                                .build()))
+                        .build();
+            }
+        };
+        ChatModel model = new SemanticCachingChatModel(
+                delegate, SemanticCache.builder().embeddingModel(BAG_OF_WORDS_EMBEDDING_MODEL).build());
+
+        // when
+        model.chat(userMessage("How is the weather?"));
+        model.chat(userMessage("How is the weather?"));
+
+        // then
+        assertThat(calls).hasValue(2);
+    }
+}
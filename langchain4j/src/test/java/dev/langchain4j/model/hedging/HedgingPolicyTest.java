@@ -0,0 +1,143 @@
+package dev.langchain4j.model.hedging;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HedgingPolicyTest {
+
+    @Test
+    void should_not_hedge_fast_calls() {
+
+        HedgingPolicy policy = HedgingPolicy.builder()
+                .delay(Duration.ofSeconds(5))
+                .maxHedgeRatio(1.0)
+                .build();
+
+        String result = policy.execute(() -> "primary", () -> "hedge");
+
+        assertThat(result).isEqualTo("primary");
+        assertThat(policy.hedgedCalls()).isZero();
+    }
+
+    @Test
+    void should_hedge_slow_calls_and_cancel_the_loser() throws Exception {
+
+        HedgingPolicy policy = HedgingPolicy.builder()
+                .delay(Duration.ofMillis(50))
+                .maxHedgeRatio(1.0)
+                .build();
+
+        AtomicBoolean primaryInterrupted = new AtomicBoolean();
+        CountDownLatch primaryFinished = new CountDownLatch(1);
+
+        String result = policy.execute(() -> {
+            try {
+                Thread.sleep(10_000);
+                return "primary";
+            } catch (InterruptedException e) {
+                primaryInterrupted.set(true);
+                throw e;
+            } finally {
+                primaryFinished.countDown();
+            }
+        }, () -> "hedge");
+
+        assertThat(result).isEqualTo("hedge");
+        assertThat(policy.hedgedCalls()).isEqualTo(1);
+        assertThat(policy.hedgeWins()).isEqualTo(1);
+        assertThat(primaryFinished.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(primaryInterrupted).isTrue();
+    }
+
+    @Test
+    void should_return_primary_result_when_hedge_fails() {
+
+        HedgingPolicy policy = HedgingPolicy.builder()
+                .delay(Duration.ofMillis(10))
+                .maxHedgeRatio(1.0)
+                .build();
+
+        String result = policy.execute(() -> {
+            Thread.sleep(200);
+            return "primary";
+        }, () -> {
+            throw new RuntimeException("hedge failed");
+        });
+
+        assertThat(result).isEqualTo("primary");
+    }
+
+    @Test
+    void should_rethrow_primary_failure() {
+
+        HedgingPolicy policy = HedgingPolicy.builder()
+                .delay(Duration.ofSeconds(5))
+                .build();
+
+        assertThatThrownBy(() -> policy.execute(() -> {
+            throw new IllegalStateException("primary failed");
+        }, () -> "hedge"))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("primary failed");
+    }
+
+    @Test
+    void should_cap_hedge_rate() {
+
+        HedgingPolicy policy = HedgingPolicy.builder()
+                .delay(Duration.ZERO)
+                .maxHedgeRatio(0.5)
+                .build();
+
+        for (int i = 0; i < 10; i++) {
+            policy.execute(() -> {
+                Thread.sleep(20);
+                return "primary";
+            }, () -> {
+                Thread.sleep(20);
+                return "hedge";
+            });
+        }
+
+        assertThat(policy.calls()).isEqualTo(10);
+        assertThat(policy.hedgedCalls()).isEqualTo(5);
+    }
+
+    @Test
+    void should_learn_delay_from_observed_latencies() {
+
+        HedgingPolicy policy = HedgingPolicy.builder()
+                .delay(Duration.ofSeconds(10))
+                .percentile(0.9)
+                .minSamples(10)
+                .build();
+
+        assertThat(policy.currentDelay()).isEqualTo(Duration.ofSeconds(10));
+
+        for (int i = 0; i < 10; i++) {
+            policy.execute(() -> "primary", () -> "hedge");
+        }
+
+        assertThat(policy.currentDelay()).isLessThan(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void histogram_percentiles() {
+
+        LatencyHistogram histogram = new LatencyHistogram(1000);
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 10L);
+        }
+
+        assertThat(histogram.count()).isEqualTo(100);
+        assertThat(histogram.percentileMillis(0.5)).isBetween(500L, 625L);
+        assertThat(histogram.percentileMillis(0.99)).isBetween(990L, 1240L);
+    }
+}
@@ -0,0 +1,82 @@
+package dev.langchain4j.model.ratelimit;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.exception.RateLimitException;
+import dev.langchain4j.model.TokenCountEstimator;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.output.TokenUsage;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimitedChatModelTest {
+
+    @Test
+    void should_estimate_and_reconcile_tokens() {
+
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        ChatModel delegate = new ChatModel() {
+
+            @Override
+            public ChatResponse doChat(ChatRequest chatRequest) {
+                calls.incrementAndGet();
+                return ChatResponse.builder()
+                        .aiMessage(AiMessage.from("hi"))
+                        .tokenUsage(new TokenUsage(10, 10))
+                        .build();
+            }
+        };
+
+        RateLimiter rateLimiter = RateLimiter.builder()
+                .tokensPerMinute(100)
+                .maxWait(Duration.ZERO)
+                .build();
+
+        ChatModel model = RateLimitedChatModel.builder()
+                .delegate(delegate)
+                .rateLimiter(rateLimiter)
+                .tokenCountEstimator(new FixedTokenCountEstimator(50))
+                .build();
+
+        // when-then: 50 tokens are estimated, but only 20 are used, so 3 requests fit into the budget instead of 2
+        for (int i = 0; i < 3; i++) {
+            assertThat(model.chat("hello")).isEqualTo("hi");
+        }
+
+        assertThatThrownBy(() -> model.chat("hello"))
+                .isExactlyInstanceOf(RateLimitException.class);
+        assertThat(calls).hasValue(3);
+    }
+
+    static class FixedTokenCountEstimator implements TokenCountEstimator {
+
+        private final int tokens;
+
+        FixedTokenCountEstimator(int tokens) {
+            this.tokens = tokens;
+        }
+
+        @Override
+        public int estimateTokenCountInText(String text) {
+            return tokens;
+        }
+
+        @Override
+        public int estimateTokenCountInMessage(ChatMessage message) {
+            return tokens;
+        }
+
+        @Override
+        public int estimateTokenCountInMessages(Iterable<ChatMessage> messages) {
+            return tokens;
+        }
+    }
+}
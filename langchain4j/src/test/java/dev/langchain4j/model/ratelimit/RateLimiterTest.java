@@ -0,0 +1,114 @@
+package dev.langchain4j.model.ratelimit;
+
+import dev.langchain4j.exception.RateLimitException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimiterTest {
+
+    AtomicLong now = new AtomicLong();
+
+    @Test
+    void should_admit_requests_within_request_budget() {
+
+        RateLimiter rateLimiter = new RateLimiter(
+                RateLimiter.builder().requestsPerMinute(2).maxWait(Duration.ZERO), now::get);
+
+        rateLimiter.acquire("tenant", 0);
+        rateLimiter.acquire("tenant", 0);
+
+        assertThatThrownBy(() -> rateLimiter.acquire("tenant", 0))
+                .isExactlyInstanceOf(RateLimitException.class);
+
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        rateLimiter.acquire("tenant", 0);
+        assertThatThrownBy(() -> rateLimiter.acquire("tenant", 0))
+                .isExactlyInstanceOf(RateLimitException.class);
+    }
+
+    @Test
+    void should_admit_requests_within_token_budget() {
+
+        RateLimiter rateLimiter = new RateLimiter(
+                RateLimiter.builder().tokensPerMinute(100).maxWait(Duration.ZERO), now::get);
+
+        RateLimiter.Permit permit = rateLimiter.acquire(null, 80);
+        assertThat(permit.estimatedTokens()).isEqualTo(80);
+
+        assertThatThrownBy(() -> rateLimiter.acquire(null, 30))
+                .isExactlyInstanceOf(RateLimitException.class);
+
+        rateLimiter.acquire(null, 20);
+    }
+
+    @Test
+    void should_return_unused_tokens_on_reconcile() {
+
+        RateLimiter rateLimiter = new RateLimiter(
+                RateLimiter.builder().tokensPerMinute(100).maxWait(Duration.ZERO), now::get);
+
+        RateLimiter.Permit permit = rateLimiter.acquire(null, 100);
+        rateLimiter.reconcile(permit, 40);
+
+        rateLimiter.acquire(null, 60);
+        assertThatThrownBy(() -> rateLimiter.acquire(null, 1))
+                .isExactlyInstanceOf(RateLimitException.class);
+    }
+
+    @Test
+    void should_withdraw_extra_tokens_on_reconcile() {
+
+        RateLimiter rateLimiter = new RateLimiter(
+                RateLimiter.builder().tokensPerMinute(100).maxWait(Duration.ZERO), now::get);
+
+        RateLimiter.Permit permit = rateLimiter.acquire(null, 10);
+        rateLimiter.reconcile(permit, 150);
+
+        assertThatThrownBy(() -> rateLimiter.acquire(null, 1))
+                .isExactlyInstanceOf(RateLimitException.class);
+
+        now.addAndGet(Duration.ofSeconds(40).toNanos());
+
+        rateLimiter.acquire(null, 10);
+    }
+
+    @Test
+    void should_cap_requests_larger_than_token_budget() {
+
+        RateLimiter rateLimiter = new RateLimiter(
+                RateLimiter.builder().tokensPerMinute(100).maxWait(Duration.ZERO), now::get);
+
+        RateLimiter.Permit permit = rateLimiter.acquire(null, 1000);
+
+        assertThat(permit.estimatedTokens()).isEqualTo(100);
+    }
+
+    @Test
+    void should_wait_until_budget_is_refilled() {
+
+        RateLimiter rateLimiter = RateLimiter.builder()
+                .requestsPerMinute(60) // one request per second
+                .build();
+        for (int i = 0; i < 60; i++) {
+            rateLimiter.acquire(null, 0);
+        }
+
+        long start = System.nanoTime();
+        rateLimiter.acquire(null, 0);
+
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(Duration.ofMillis(500).toNanos());
+    }
+
+    @Test
+    void should_fail_when_no_budget_is_configured() {
+
+        assertThatThrownBy(() -> RateLimiter.builder().build())
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
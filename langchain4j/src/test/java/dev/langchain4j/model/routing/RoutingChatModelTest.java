@@ -0,0 +1,140 @@
+package dev.langchain4j.model.routing;
+
+import dev.langchain4j.exception.InternalServerException;
+import dev.langchain4j.exception.InvalidRequestException;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.listener.ChatModelErrorContext;
+import dev.langchain4j.model.chat.listener.ChatModelListener;
+import dev.langchain4j.model.chat.listener.ChatModelResponseContext;
+import dev.langchain4j.model.chat.mock.ChatModelMock;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class RoutingChatModelTest {
+
+    @Test
+    void should_fail_over_to_another_endpoint() {
+
+        // given
+        ChatModel failing = spy(new ChatModelMock(new InternalServerException("boom")));
+        ChatModel healthy = spy(ChatModelMock.thatAlwaysResponds("hi"));
+
+        RoutingChatModel model = RoutingChatModel.builder()
+                .endpoint("failing", failing)
+                .endpoint("healthy", healthy)
+                .build();
+
+        // when-then
+        for (int i = 0; i < 10; i++) {
+            assertThat(model.chat("hello")).isEqualTo("hi");
+        }
+        verify(healthy, times(10)).chat(any(ChatRequest.class));
+    }
+
+    @Test
+    void should_eject_failing_endpoint() {
+
+        // given
+        ChatModel failing = spy(new ChatModelMock(new InternalServerException("boom")));
+        ChatModel healthy = spy(ChatModelMock.thatAlwaysResponds("hi"));
+
+        RoutingChatModel model = RoutingChatModel.builder()
+                .endpoint("failing", failing)
+                .endpoint("healthy", healthy)
+                .failureThreshold(1)
+                .ejectionDuration(Duration.ofMinutes(1))
+                .build();
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            model.chat("hello");
+        }
+
+        // then
+        verify(failing, times(1)).chat(any(ChatRequest.class));
+        Endpoint<ChatModel> failingEndpoint = model.endpoints().get(0);
+        assertThat(failingEndpoint.isHealthy()).isFalse();
+        assertThat(model.endpoints().get(1).isHealthy()).isTrue();
+    }
+
+    @Test
+    void should_not_retry_invalid_request() {
+
+        // given
+        ChatModel invalid = spy(new ChatModelMock(new InvalidRequestException("bad request")));
+
+        RoutingChatModel model = RoutingChatModel.builder()
+                .endpoint("first", invalid)
+                .endpoint("second", invalid)
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> model.chat("hello")).isExactlyInstanceOf(InvalidRequestException.class);
+        verify(invalid, times(1)).chat(any(ChatRequest.class));
+    }
+
+    @Test
+    void should_throw_last_error_when_all_endpoints_fail() {
+
+        // given
+        RoutingChatModel model = RoutingChatModel.builder()
+                .endpoint("first", new ChatModelMock(new InternalServerException("first")))
+                .endpoint("second", new ChatModelMock(new InternalServerException("second")))
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> model.chat("hello"))
+                .isExactlyInstanceOf(InternalServerException.class)
+                .satisfies(e -> assertThat(e.getSuppressed()).hasSize(1));
+    }
+
+    @Test
+    void should_notify_listeners_about_endpoint_health() {
+
+        // given
+        List<Object> events = new ArrayList<>();
+        ChatModelListener listener = new ChatModelListener() {
+
+            @Override
+            public void onResponse(ChatModelResponseContext responseContext) {
+                Endpoint<?> endpoint = (Endpoint<?>) responseContext.attributes().get(RoutingChatModel.ENDPOINT_ATTRIBUTE);
+                events.add("response from " + endpoint.name());
+            }
+
+            @Override
+            public void onError(ChatModelErrorContext errorContext) {
+                Endpoint<?> endpoint = (Endpoint<?>) errorContext.attributes().get(RoutingChatModel.ENDPOINT_ATTRIBUTE);
+                events.add("error from " + endpoint.name()
+                        + ", ejected: " + errorContext.attributes().get(RoutingChatModel.ENDPOINT_EJECTED_ATTRIBUTE));
+            }
+        };
+
+        RoutingChatModel model = RoutingChatModel.builder()
+                .endpoint("failing", new ChatModelMock(new InternalServerException("boom")))
+                .endpoint("healthy", ChatModelMock.thatAlwaysResponds("hi"))
+                .strategy(LoadBalancingStrategy.LATENCY_WEIGHTED)
+                .failureThreshold(1)
+                .listeners(List.of(listener))
+                .build();
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            model.chat("hello");
+        }
+
+        // then
+        assertThat(events).containsOnlyOnce("error from failing, ejected: true");
+        assertThat(events).filteredOn("response from healthy"::equals).hasSize(50);
+    }
+}
@@ -0,0 +1,107 @@
+package dev.langchain4j.model.singleflight;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class SingleFlightChatModelTest {
+
+    @Test
+    void should_coalesce_concurrent_identical_requests() throws Exception {
+
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ChatModel delegate = new ChatModel() {
+
+            @Override
+            public ChatResponse doChat(ChatRequest chatRequest) {
+                calls.incrementAndGet();
+                entered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                return ChatResponse.builder().aiMessage(AiMessage.from("hi")).build();
+            }
+        };
+        SingleFlightChatModel model = new SingleFlightChatModel(delegate);
+
+        ConcurrentLinkedQueue<String> answers = new ConcurrentLinkedQueue<>();
+        Thread leader = new Thread(() -> answers.add(model.chat("hello")));
+        leader.start();
+        entered.await();
+
+        List<Thread> followers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Thread follower = new Thread(() -> answers.add(model.chat("hello")));
+            follower.start();
+            followers.add(follower);
+        }
+
+        // when
+        await().atMost(Duration.ofSeconds(5)).until(() -> model.waiting() == followers.size());
+        release.countDown();
+        leader.join();
+        for (Thread follower : followers) {
+            follower.join();
+        }
+
+        // then
+        assertThat(calls).hasValue(1);
+        assertThat(answers).hasSize(6).containsOnly("hi");
+    }
+
+    @Test
+    void should_not_cache_completed_requests() {
+
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        ChatModel delegate = new ChatModel() {
+
+            @Override
+            public ChatResponse doChat(ChatRequest chatRequest) {
+                return ChatResponse.builder().aiMessage(AiMessage.from("hi " + calls.incrementAndGet())).build();
+            }
+        };
+        ChatModel model = new SingleFlightChatModel(delegate);
+
+        // when-then
+        assertThat(model.chat("hello")).isEqualTo("hi 1");
+        assertThat(model.chat("hello")).isEqualTo("hi 2");
+    }
+
+    @Test
+    void should_propagate_failure() {
+
+        // given
+        ChatModel delegate = new ChatModel() {
+
+            @Override
+            public ChatResponse doChat(ChatRequest chatRequest) {
+                throw new IllegalStateException("boom");
+            }
+        };
+        ChatModel model = new SingleFlightChatModel(delegate);
+
+        // when-then
+        assertThatThrownBy(() -> model.chat("hello"))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("boom");
+    }
+}
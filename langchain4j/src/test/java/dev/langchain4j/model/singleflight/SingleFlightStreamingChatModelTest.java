@@ -0,0 +1,153 @@
+package dev.langchain4j.model.singleflight;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SingleFlightStreamingChatModelTest {
+
+    @Test
+    void should_multiplex_identical_requests_onto_single_stream() {
+
+        // given
+        List<StreamingChatResponseHandler> upstreams = new ArrayList<>();
+        StreamingChatModel delegate = new StreamingChatModel() {
+
+            @Override
+            public void doChat(ChatRequest chatRequest, StreamingChatResponseHandler handler) {
+                upstreams.add(handler);
+            }
+        };
+        SingleFlightStreamingChatModel model = new SingleFlightStreamingChatModel(delegate);
+
+        RecordingHandler first = new RecordingHandler();
+        RecordingHandler second = new RecordingHandler();
+        RecordingHandler late = new RecordingHandler();
+
+        // when
+        model.chat("hello", first);
+        model.chat("hello", second);
+
+        StreamingChatResponseHandler upstream = upstreams.get(0);
+        upstream.onPartialResponse("Hel");
+        model.chat("hello", late);
+        upstream.onPartialResponse("lo");
+        upstream.onCompleteResponse(ChatResponse.builder().aiMessage(AiMessage.from("Hello")).build());
+
+        // then
+        assertThat(upstreams).hasSize(1);
+        for (RecordingHandler handler : List.of(first, second, late)) {
+            assertThat(handler.partialResponses).containsExactly("Hel", "lo");
+            assertThat(handler.completeResponse.aiMessage().text()).isEqualTo("Hello");
+        }
+        assertThat(model.inFlight()).isZero();
+    }
+
+    @Test
+    void should_start_new_stream_after_previous_one_completed() {
+
+        // given
+        List<StreamingChatResponseHandler> upstreams = new ArrayList<>();
+        StreamingChatModel delegate = new StreamingChatModel() {
+
+            @Override
+            public void doChat(ChatRequest chatRequest, StreamingChatResponseHandler handler) {
+                upstreams.add(handler);
+            }
+        };
+        SingleFlightStreamingChatModel model = new SingleFlightStreamingChatModel(delegate);
+
+        // when
+        model.chat("hello", new RecordingHandler());
+        upstreams.get(0).onError(new RuntimeException("boom"));
+        model.chat("hello", new RecordingHandler());
+
+        // then
+        assertThat(upstreams).hasSize(2);
+    }
+
+    @Test
+    void should_not_block_late_subscribers_while_a_handler_is_busy() throws Exception {
+
+        // given
+        List<StreamingChatResponseHandler> upstreams = new ArrayList<>();
+        StreamingChatModel delegate = new StreamingChatModel() {
+
+            @Override
+            public void doChat(ChatRequest chatRequest, StreamingChatResponseHandler handler) {
+                upstreams.add(handler);
+            }
+        };
+        SingleFlightStreamingChatModel model = new SingleFlightStreamingChatModel(delegate);
+
+        CountDownLatch handlerEntered = new CountDownLatch(1);
+        CountDownLatch handlerReleased = new CountDownLatch(1);
+        RecordingHandler slow = new RecordingHandler() {
+
+            @Override
+            public void onPartialResponse(String partialResponse) {
+                super.onPartialResponse(partialResponse);
+                handlerEntered.countDown();
+                try {
+                    handlerReleased.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        model.chat("hello", slow);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> streaming = executor.submit(() -> upstreams.get(0).onPartialResponse("Hel"));
+            assertThat(handlerEntered.await(5, SECONDS)).isTrue();
+
+            // when
+            RecordingHandler late = new RecordingHandler();
+            model.chat("hello", late);
+
+            // then
+            assertThat(late.partialResponses).containsExactly("Hel");
+
+            handlerReleased.countDown();
+            streaming.get(5, SECONDS);
+            assertThat(slow.partialResponses).containsExactly("Hel");
+        } finally {
+            handlerReleased.countDown();
+            executor.shutdown();
+        }
+    }
+
+    static class RecordingHandler implements StreamingChatResponseHandler {
+
+        final List<String> partialResponses = new ArrayList<>();
+        ChatResponse completeResponse;
+
+        @Override
+        public void onPartialResponse(String partialResponse) {
+            partialResponses.add(partialResponse);
+        }
+
+        @Override
+        public void onCompleteResponse(ChatResponse completeResponse) {
+            this.completeResponse = completeResponse;
+        }
+
+        @Override
+        public void onError(Throwable error) {
+        }
+    }
+}
@@ -1,15 +1,20 @@
 package dev.langchain4j.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
 import dev.langchain4j.model.chat.response.ChatResponse;
 import dev.langchain4j.rag.content.Content;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,6 +31,8 @@ class AiServiceTokenStreamTest {
 
     static Consumer<ChatResponse> DUMMY_CHAT_RESPONSE_HANDLER = (chatResponse) -> {};
 
+    static Consumer<List<Content>> DUMMY_CONTENTS_HANDLER = (contents) -> {};
+
     List<ChatMessage> messages = new ArrayList<>();
 
     @Mock
@@ -104,6 +111,102 @@ class AiServiceTokenStreamTest {
                 .hasMessage("onCompleteResponse can be invoked on TokenStream at most 1 time");
     }
 
+    @Test
+    void start_onLateRetrievedInvokedMultipleTimes_shouldThrowException() {
+        tokenStream
+                .onPartialResponse(DUMMY_PARTIAL_RESPONSE_HANDLER)
+                .ignoreErrors()
+                .onLateRetrieved(DUMMY_CONTENTS_HANDLER)
+                .onLateRetrieved(DUMMY_CONTENTS_HANDLER);
+
+        assertThatThrownBy(() -> tokenStream.start())
+                .isExactlyInstanceOf(IllegalConfigurationException.class)
+                .hasMessage("onLateRetrieved can be invoked on TokenStream at most 1 time");
+    }
+
+    @Test
+    void start_withLateRetrievedContents_shouldInvokeOnLateRetrievedWhenTheyArrive() {
+        // given
+        CompletableFuture<List<Content>> lateRetrievedContents = new CompletableFuture<>();
+        StreamingChatModel model = mock(StreamingChatModel.class);
+        AiServiceContext context = new AiServiceContext(getClass());
+        context.streamingChatModel = model;
+        TokenStream tokenStream = new AiServiceTokenStream(AiServiceTokenStreamParameters.builder()
+                .messages(messages)
+                .lateRetrievedContents(lateRetrievedContents)
+                .context(context)
+                .memoryId(memoryId)
+                .build());
+        List<Content> received = new ArrayList<>();
+        tokenStream.onPartialResponse(DUMMY_PARTIAL_RESPONSE_HANDLER)
+                .onLateRetrieved(received::addAll)
+                .ignoreErrors();
+
+        // when
+        tokenStream.start();
+
+        // then
+        verify(model).chat(any(ChatRequest.class), any());
+        assertThat(received).isEmpty();
+
+        // when
+        Content lateContent = Content.from("late content");
+        lateRetrievedContents.complete(List.of(lateContent));
+
+        // then
+        assertThat(received).containsExactly(lateContent);
+    }
+
+    @Test
+    void start_withFailingOnLateRetrieved_shouldNotInvokeOnError() {
+        // given
+        CompletableFuture<List<Content>> lateRetrievedContents = new CompletableFuture<>();
+        StreamingChatModel model = mock(StreamingChatModel.class);
+        AiServiceContext context = new AiServiceContext(getClass());
+        context.streamingChatModel = model;
+        TokenStream tokenStream = new AiServiceTokenStream(AiServiceTokenStreamParameters.builder()
+                .messages(messages)
+                .lateRetrievedContents(lateRetrievedContents)
+                .context(context)
+                .memoryId(memoryId)
+                .build());
+        List<Throwable> errors = new ArrayList<>();
+        tokenStream.onPartialResponse(DUMMY_PARTIAL_RESPONSE_HANDLER)
+                .onLateRetrieved(contents -> {
+                    throw new RuntimeException("late contents handler failed");
+                })
+                .onError(errors::add);
+        tokenStream.start();
+
+        // when
+        lateRetrievedContents.complete(List.of(Content.from("late content")));
+
+        // then
+        assertThat(errors).isEmpty();
+    }
+
+    @Test
+    void start_withoutOnLateRetrieved_shouldCancelLateRetrievedContents() {
+        // given
+        CompletableFuture<List<Content>> lateRetrievedContents = new CompletableFuture<>();
+        StreamingChatModel model = mock(StreamingChatModel.class);
+        AiServiceContext context = new AiServiceContext(getClass());
+        context.streamingChatModel = model;
+        TokenStream tokenStream = new AiServiceTokenStream(AiServiceTokenStreamParameters.builder()
+                .messages(messages)
+                .lateRetrievedContents(lateRetrievedContents)
+                .context(context)
+                .memoryId(memoryId)
+                .build());
+        tokenStream.onPartialResponse(DUMMY_PARTIAL_RESPONSE_HANDLER).ignoreErrors();
+
+        // when
+        tokenStream.start();
+
+        // then
+        assertThat(lateRetrievedContents).isCancelled();
+    }
+
     private AiServiceTokenStream setupAiServiceTokenStream() {
         StreamingChatModel model = mock(StreamingChatModel.class);
         AiServiceContext context = new AiServiceContext(getClass());
@@ -0,0 +1,116 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static java.util.Comparator.comparingDouble;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.RelevanceScore;
+import dev.langchain4j.store.embedding.filter.Filter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class InMemoryEmbeddingStoreSearchAllTest {
+
+    private static final int DIMENSION = 16;
+
+    private final Random random = new Random(42);
+
+    @Test
+    void should_return_same_results_as_individual_searches() {
+
+        // given
+        // more entries than fit in a single search block
+        InMemoryEmbeddingStore<TextSegment> embeddingStore = new InMemoryEmbeddingStore<>();
+        List<String> ids = new ArrayList<>();
+        List<Embedding> embeddings = new ArrayList<>();
+        List<TextSegment> segments = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            ids.add("id-" + i);
+            embeddings.add(randomEmbedding());
+            segments.add(TextSegment.from("segment " + i, new Metadata().put("group", i % 3)));
+        }
+        embeddingStore.addAll(ids, embeddings, segments);
+
+        List<EmbeddingSearchRequest> requests = List.of(
+                request(10, 0.0, null),
+                request(3, 0.5, null),
+                request(200, 0.0, metadataKey("group").isEqualTo(1)),
+                request(5, 0.55, metadataKey("group").isNotEqualTo(2)),
+                request(7, 0.99, null));
+
+        // when
+        List<EmbeddingSearchResult<TextSegment>> results = embeddingStore.searchAll(requests);
+
+        // then
+        assertThat(results).hasSize(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            EmbeddingSearchRequest request = requests.get(i);
+            List<EmbeddingMatch<TextSegment>> matches = results.get(i).matches();
+            assertThat(matches).isEqualTo(embeddingStore.search(request).matches());
+            assertThat(matches).isEqualTo(bruteForceSearch(ids, embeddings, segments, request));
+        }
+        assertThat(results.get(2).matches())
+                .hasSize(50)
+                .allMatch(match -> match.embedded().metadata().getInteger("group") == 1);
+        assertThat(results.get(4).matches()).isEmpty();
+    }
+
+    @Test
+    void should_return_no_results_for_no_requests() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> embeddingStore = new InMemoryEmbeddingStore<>();
+        embeddingStore.add(randomEmbedding(), TextSegment.from("segment"));
+
+        // when-then
+        assertThat(embeddingStore.searchAll(List.of())).isEmpty();
+    }
+
+    private EmbeddingSearchRequest request(int maxResults, double minScore, Filter filter) {
+        return EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding())
+                .maxResults(maxResults)
+                .minScore(minScore)
+                .filter(filter)
+                .build();
+    }
+
+    private static List<EmbeddingMatch<TextSegment>> bruteForceSearch(List<String> ids,
+                                                                      List<Embedding> embeddings,
+                                                                      List<TextSegment> segments,
+                                                                      EmbeddingSearchRequest request) {
+        List<EmbeddingMatch<TextSegment>> matches = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (request.filter() != null && !request.filter().test(segments.get(i).metadata())) {
+                continue;
+            }
+            double cosineSimilarity = CosineSimilarity.between(embeddings.get(i), request.queryEmbedding());
+            double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
+            if (score >= request.minScore()) {
+                matches.add(new EmbeddingMatch<>(score, ids.get(i), embeddings.get(i), segments.get(i)));
+            }
+        }
+        return matches.stream()
+                .sorted(comparingDouble(EmbeddingMatch<TextSegment>::score).reversed())
+                .limit(request.maxResults())
+                .collect(toList());
+    }
+
+    private Embedding randomEmbedding() {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = random.nextFloat() * 2 - 1;
+        }
+        return Embedding.from(vector);
+    }
+}